@@ -0,0 +1,85 @@
+package battleship.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import battleship.engine.FleetRules;
+import battleship.engine.ai.TargetingMode;
+import battleship.factorys.player.IPlayer;
+import battleship.managers.BattleshipAI;
+
+/**
+ * @class BattleshipAIBenchmark
+ *        Measures the latency of a single move of the computer player for
+ *        every targeting mode. A move is measured at every stage of a game; a
+ *        new game starts, outside the measurement, once the computer has hit
+ *        every ship cell.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BattleshipAIBenchmark {
+
+    @Param({ "HUNT_SINK", "PROBABILITY_DENSITY", "MONTE_CARLO" })
+    public String mode; /**< The targeting mode, HUNT_SINK for the built-in behaviour */
+
+    private final SplittableRandom random = new SplittableRandom(42); /**< Places the fleets */
+    private IPlayer player; /**< The human player the computer shoots at */
+    private IPlayer computer; /**< The computer player */
+    private BattleshipAI ai; /**< The AI under test */
+
+    /**
+     * Creates the players for the first game.
+     */
+    @Setup
+    public void setUp() {
+        newGame();
+    }
+
+    /**
+     * Starts a new game once the computer has hit every ship cell.
+     */
+    @Setup(Level.Invocation)
+    public void nextMove() {
+        // Counted without allocating, the GC profiler also sees this setup
+        int hits = 0;
+        for (int y = 0; y < 10; y++) {
+            for (int x = 0; x < 10; x++) {
+                hits += computer.getTargetingBoard().isHit(x, y) ? 1 : 0;
+            }
+        }
+        if (hits == FleetRules.STANDARD.getTotalCells()) {
+            newGame();
+        }
+    }
+
+    /**
+     * Chooses a target and shoots at it.
+     */
+    @Benchmark
+    public void makeNextMove() {
+        ai.makeNextMove();
+    }
+
+    /**
+     * Creates new players and a new AI.
+     */
+    private void newGame() {
+        player = Players.local(true, random);
+        computer = Players.computer(true, random);
+        ai = new BattleshipAI(player, computer);
+        if (!"HUNT_SINK".equals(mode)) {
+            ai.setTargetingStrategy(TargetingMode.valueOf(mode).create(FleetRules.STANDARD, random.split()));
+        }
+    }
+}
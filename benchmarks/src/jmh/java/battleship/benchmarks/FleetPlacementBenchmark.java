@@ -0,0 +1,63 @@
+package battleship.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import battleship.engine.Fleet;
+import battleship.engine.FleetGenerator;
+import battleship.factorys.player.IPlayer;
+import battleship.managers.BattleshipAI;
+
+/**
+ * @class FleetPlacementBenchmark
+ *        Measures placing the computer's fleet, on its own and including the
+ *        copy onto the computer's game board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FleetPlacementBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean bitboard; /**< True for the bitset backed boards */
+
+    private final SplittableRandom random = new SplittableRandom(42); /**< Draws the fleets */
+    private BattleshipAI ai; /**< The AI under test */
+
+    /**
+     * Creates the players.
+     */
+    @Setup
+    public void setUp() {
+        IPlayer player = Players.local(bitboard, random);
+        IPlayer computer = Players.computer(bitboard, random);
+        ai = new BattleshipAI(player, computer);
+    }
+
+    /**
+     * Places the computer's fleet on its game board.
+     */
+    @Benchmark
+    public void placeAllShips() {
+        ai.placeAllShips();
+    }
+
+    /**
+     * Generates a fleet without a game board.
+     *
+     * @return The fleet.
+     */
+    @Benchmark
+    public Fleet generate() {
+        return FleetGenerator.STANDARD.generate(random);
+    }
+}
@@ -0,0 +1,93 @@
+package battleship.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import battleship.factorys.gameboard.IGameBoard;
+import battleship.factorys.gameboard.PlayerBoardFactory;
+import battleship.factorys.ships.IShip;
+import battleship.factorys.ships.KreuzerFactory;
+import battleship.managers.EngineBridge;
+
+/**
+ * @class PlayerBoardBenchmark
+ *        Measures placing ships on and probing a player's game board, for the
+ *        bitset backed and the map backed board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayerBoardBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean bitboard; /**< True for the bitset backed board */
+
+    private IGameBoard emptyBoard; /**< Board the ship is placed on */
+    private IGameBoard fullBoard; /**< Board holding a complete fleet */
+    private IShip ship; /**< The ship that is placed */
+
+    /**
+     * Creates the boards.
+     */
+    @Setup
+    public void setUp() {
+        PlayerBoardFactory factory = new PlayerBoardFactory(bitboard);
+        emptyBoard = factory.createGameBoard();
+        fullBoard = factory.createGameBoard();
+        EngineBridge.placeRandomFleet(fullBoard, new SplittableRandom(42));
+        ship = new KreuzerFactory().createShip();
+    }
+
+    /**
+     * Places a ship and removes it again.
+     */
+    @Benchmark
+    public void placeShip() {
+        emptyBoard.placeShip(3, 4, ship, true);
+        emptyBoard.removeShip(ship);
+    }
+
+    /**
+     * Probes every cell of a board holding a complete fleet.
+     *
+     * @return The number of cells occupied by a ship.
+     */
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public int isShipHit() {
+        int occupied = 0;
+        for (int y = 0; y < 10; y++) {
+            for (int x = 0; x < 10; x++) {
+                occupied += fullBoard.isShipHit(x, y) ? 1 : 0;
+            }
+        }
+        return occupied;
+    }
+
+    /**
+     * Looks up the ship on every cell of a board holding a complete fleet.
+     *
+     * @return The number of cells occupied by a ship.
+     */
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public int shipAt() {
+        int occupied = 0;
+        for (int y = 0; y < 10; y++) {
+            for (int x = 0; x < 10; x++) {
+                occupied += fullBoard.shipAt(x, y) != null ? 1 : 0;
+            }
+        }
+        return occupied;
+    }
+}
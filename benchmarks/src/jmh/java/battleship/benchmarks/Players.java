@@ -0,0 +1,63 @@
+package battleship.benchmarks;
+
+import java.util.random.RandomGenerator;
+
+import battleship.factorys.gameboard.PlayerBoardFactory;
+import battleship.factorys.gameboard.TargetingBoardFactory;
+import battleship.factorys.player.ComputerPlayerFactory;
+import battleship.factorys.player.IPlayer;
+import battleship.factorys.player.LocalPlayerFactory;
+import battleship.managers.EngineBridge;
+
+/**
+ * @class Players
+ *        Creates the players the benchmarks play with.
+ */
+final class Players {
+
+    /**
+     * Private constructor, only static methods.
+     */
+    private Players() {
+    }
+
+    /**
+     * Creates a human player with a random fleet.
+     *
+     * @param useBitboards True for the bitset backed boards, false for the
+     *                     map backed boards.
+     * @param random       The random generator placing the fleet.
+     * @return The new player.
+     */
+    static IPlayer local(boolean useBitboards, RandomGenerator random) {
+        return withBoards(new LocalPlayerFactory().createPlayer("Spieler"), useBitboards, random);
+    }
+
+    /**
+     * Creates a computer player with a random fleet.
+     *
+     * @param useBitboards True for the bitset backed boards, false for the
+     *                     map backed boards.
+     * @param random       The random generator placing the fleet.
+     * @return The new player.
+     */
+    static IPlayer computer(boolean useBitboards, RandomGenerator random) {
+        return withBoards(new ComputerPlayerFactory().createPlayer("Computer"), useBitboards, random);
+    }
+
+    /**
+     * Gives a player a game board with a random fleet and an empty targeting
+     * board.
+     *
+     * @param player       The player.
+     * @param useBitboards True for the bitset backed boards.
+     * @param random       The random generator placing the fleet.
+     * @return The player.
+     */
+    private static IPlayer withBoards(IPlayer player, boolean useBitboards, RandomGenerator random) {
+        player.setGameBoard(new PlayerBoardFactory(useBitboards).createGameBoard());
+        player.setTargetingBoard(new TargetingBoardFactory(useBitboards).createGameBoard());
+        EngineBridge.placeRandomFleet(player.getGameBoard(), random);
+        return player;
+    }
+}
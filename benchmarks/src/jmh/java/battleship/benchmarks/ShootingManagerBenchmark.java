@@ -0,0 +1,122 @@
+package battleship.benchmarks;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import battleship.engine.Fleet;
+import battleship.engine.GameState;
+import battleship.factorys.player.IPlayer;
+import battleship.managers.ShootingManager;
+
+/**
+ * @class ShootingManagerBenchmark
+ *        Measures the game over and sunk ship checks of the shooting manager
+ *        in the middle of a game: the current player has sunk one ship and
+ *        hit another.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ShootingManagerBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean bitboard; /**< True for the bitset backed boards */
+
+    private ShootingManager manager; /**< The manager under test */
+    private int sunkX; /**< Column of a cell of the sunk ship */
+    private int sunkY; /**< Row of a cell of the sunk ship */
+    private int hitX; /**< Column of a hit on a ship afloat */
+    private int hitY; /**< Row of a hit on a ship afloat */
+
+    /**
+     * Creates the players and fires the shots.
+     */
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        IPlayer one = Players.local(bitboard, random);
+        IPlayer two = Players.local(bitboard, random);
+        manager = new ShootingManager(one, two);
+        Fleet fleet = manager.getEngine().getState()
+                .getFleet(manager.opponentPlayer == one ? GameState.PLAYER_ONE : GameState.PLAYER_TWO);
+
+        int sunkId = nextShip(fleet, 1);
+        int hitId = nextShip(fleet, sunkId + 1);
+        sunkX = fleet.getShipX(sunkId);
+        sunkY = fleet.getShipY(sunkId);
+        for (int i = 0; i < fleet.getShipLength(sunkId); i++) {
+            shoot(fleet, sunkId, i);
+        }
+        hitX = fleet.getShipX(hitId);
+        hitY = fleet.getShipY(hitId);
+        shoot(fleet, hitId, 0);
+    }
+
+    /**
+     * Checks if the current player has won.
+     *
+     * @return True if the game is over.
+     */
+    @Benchmark
+    public boolean isGameOver() {
+        return manager.isGameOver();
+    }
+
+    /**
+     * Looks up the cells of a sunk ship.
+     *
+     * @return The cells of the ship.
+     */
+    @Benchmark
+    public List<Point> isShipSunk() {
+        return manager.isShipSunk(sunkX, sunkY);
+    }
+
+    /**
+     * Looks up a hit ship that is still afloat.
+     *
+     * @return An empty list.
+     */
+    @Benchmark
+    public List<Point> isShipSunkAfloat() {
+        return manager.isShipSunk(hitX, hitY);
+    }
+
+    /**
+     * Shoots at one cell of a ship for the current player.
+     *
+     * @param fleet The opponent's fleet.
+     * @param id    The id of the ship.
+     * @param index The index of the cell along the ship.
+     */
+    private void shoot(Fleet fleet, int id, int index) {
+        boolean isHorizontal = fleet.isShipHorizontal(id);
+        manager.addHitToTargetBoard(fleet.getShipX(id) + (isHorizontal ? index : 0),
+                fleet.getShipY(id) + (isHorizontal ? 0 : index));
+    }
+
+    /**
+     * Finds the next ship of a fleet.
+     *
+     * @param fleet The fleet to search.
+     * @param id    The lowest id to consider.
+     * @return The id of the ship.
+     */
+    private static int nextShip(Fleet fleet, int id) {
+        while (!fleet.isShip(id)) {
+            id++;
+        }
+        return id;
+    }
+}
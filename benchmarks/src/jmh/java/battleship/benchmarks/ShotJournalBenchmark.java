@@ -0,0 +1,111 @@
+package battleship.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import battleship.engine.ShotResult;
+import battleship.engine.journal.ShotJournal;
+
+/**
+ * @class ShotJournalBenchmark
+ *        Measures the ingest rate of the shot journal, one record per
+ *        operation, appended directly or through a batching writer. Every
+ *        iteration writes a new journal file, so the file does not grow
+ *        across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShotJournalBenchmark {
+
+    private static final int BATCH = 1_024; /**< Records a writer reserves at once */
+
+    private Path path; /**< The journal file of the iteration */
+    private ShotJournal journal; /**< The journal under test */
+
+    /**
+     * Opens a new journal.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        path = Files.createTempFile("shots", ".bsj");
+        Files.delete(path);
+        journal = ShotJournal.open(path);
+    }
+
+    /**
+     * Closes and deletes the journal.
+     *
+     * @throws IOException if the file cannot be deleted.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.delete(path);
+    }
+
+    /**
+     * @class Shooter
+     *        The shots and the writer of one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Shooter {
+
+        private ShotJournal.Writer writer; /**< Batches the records of this thread */
+        private int shot; /**< Counts the shots of this thread */
+
+        /**
+         * Creates the writer for the journal of the iteration.
+         *
+         * @param benchmark The benchmark holding the journal.
+         */
+        @Setup(Level.Iteration)
+        public void setUp(ShotJournalBenchmark benchmark) {
+            writer = benchmark.journal.newWriter(BATCH);
+        }
+
+        /**
+         * Appends the records still pending in the writer.
+         */
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Appends a record with one slot reservation per record.
+     *
+     * @param shooter The state of this thread.
+     */
+    @Benchmark
+    public void append(Shooter shooter) {
+        int shot = shooter.shot++;
+        journal.append(shot >>> 7, shot & 1, shot % 10, shot / 10 % 10, ShotResult.MISS);
+    }
+
+    /**
+     * Appends a record through the writer of this thread.
+     *
+     * @param shooter The state of this thread.
+     */
+    @Benchmark
+    public void appendBatched(Shooter shooter) {
+        int shot = shooter.shot++;
+        shooter.writer.append(shot >>> 7, shot & 1, shot % 10, shot / 10 % 10, ShotResult.MISS);
+    }
+}
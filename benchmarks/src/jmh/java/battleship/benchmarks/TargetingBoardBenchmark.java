@@ -0,0 +1,111 @@
+package battleship.benchmarks;
+
+import java.awt.Point;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import battleship.factorys.gameboard.BoardSnapshot;
+import battleship.factorys.gameboard.IGameBoard;
+import battleship.factorys.gameboard.TargetingBoardFactory;
+import battleship.factorys.hits.IHits;
+import battleship.factorys.hits.ShipHitFactory;
+
+/**
+ * @class TargetingBoardBenchmark
+ *        Measures recording shots on and reading the shots of a targeting
+ *        board, through the map view, the visitor and a snapshot, for the
+ *        bitset backed and the map backed board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TargetingBoardBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean bitset; /**< True for the bitset backed board */
+
+    private TargetingBoardFactory factory; /**< Creates the boards */
+    private IGameBoard halfBoard; /**< Board with a shot on every other cell */
+    private IHits hit; /**< A hit */
+    private IHits miss; /**< A miss */
+
+    /**
+     * Creates the boards.
+     */
+    @Setup
+    public void setUp() {
+        factory = new TargetingBoardFactory(bitset);
+        ShipHitFactory hitFactory = new ShipHitFactory();
+        hit = hitFactory.createHit(true);
+        miss = hitFactory.createHit(false);
+        halfBoard = factory.createGameBoard();
+        for (int cell = 0; cell < 100; cell += 2) {
+            halfBoard.placeHit(cell % 10, cell / 10, cell % 3 == 0 ? hit : miss);
+        }
+    }
+
+    /**
+     * Shoots at every cell of a new board.
+     *
+     * @return The filled board.
+     */
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public IGameBoard placeHit() {
+        IGameBoard board = factory.createGameBoard();
+        for (int y = 0; y < 10; y++) {
+            for (int x = 0; x < 10; x++) {
+                board.placeHit(x, y, (x + y) % 3 == 0 ? hit : miss);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Reads the shots of a board and counts the hits among them.
+     *
+     * @return The number of hits.
+     */
+    @Benchmark
+    public int getHits() {
+        int hits = 0;
+        for (Map.Entry<Point, IHits> entry : halfBoard.getHits().entrySet()) {
+            hits += entry.getValue().isHit() ? 1 : 0;
+        }
+        return hits;
+    }
+
+    /**
+     * Visits the shots of a board and counts the hits among them.
+     *
+     * @return The number of hits.
+     */
+    @Benchmark
+    public int forEachHit() {
+        int[] hits = new int[1];
+        halfBoard.forEachHit((x, y, isHit) -> hits[0] += isHit ? 1 : 0);
+        return hits[0];
+    }
+
+    /**
+     * Takes a snapshot after one more shot, as a reader on another thread
+     * would after every turn.
+     *
+     * @return The snapshot.
+     */
+    @Benchmark
+    public BoardSnapshot snapshot() {
+        halfBoard.placeHit(1, 1, miss);
+        return halfBoard.snapshot();
+    }
+}
@@ -8,8 +8,12 @@ import battleship.factorys.gameboard.TargetingBoardFactory;
 import battleship.factorys.player.ComputerPlayerFactory;
 import battleship.factorys.player.IPlayer;
 import battleship.factorys.player.LocalPlayerFactory;
-import battleship.factorys.ships.*;
-import battleship.managers.BattleshipAI;
+import battleship.engine.FleetGenerator;
+import battleship.engine.FleetPool;
+import battleship.engine.FleetRules;
+import battleship.engine.ai.TargetingMode;
+import battleship.managers.EngineBridge;
+import battleship.managers.ViewManager;
 import battleship.views.MainMenuView;
 import battleship.views.PlacementView;
 import battleship.views.ShootingView;
@@ -18,10 +22,7 @@ import battleship.views.ComputerDebugView;
 import battleship.views.ComputerShootingView;
 
 import java.awt.*;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * @class BattleshipGUI
@@ -37,6 +38,7 @@ public class BattleshipGUI extends JFrame {
 	private static final long serialVersionUID = 6478487785876189474L;
 	private final CardLayout cardLayout; /**< The CardLayout used to switch between different game views. */
     private final JPanel panelCont; /**< The main JPanel that acts as a container for the different views. */
+    private final ViewManager viewManager; /**< Adds, replaces and releases the views of panelCont. */
 
     private IGameBoard player1Board; /**< The game board for Player 1. */
     private IGameBoard player1TargetingBoard; /**< The targeting board for Player 1. */
@@ -45,13 +47,97 @@ public class BattleshipGUI extends JFrame {
     private IPlayer player1; /**< The IPlayer object representing Player 1. */
     private IPlayer player2; /**< The IPlayer object representing Player 2. */
     private IPlayer computer; /**< The IPlayer object representing the computer opponent. */
+    private final FleetRules rules; /**< The board size and fleet of every game. */
+    private final int boardSize; /**< The width and height of the boards of every game. */
+    private final FleetGenerator generator; /**< Generates the fleets of the rules. */
+    private final FleetPool fleetPool; /**< Ready-made fleets for the computer and the debug games, not started if seeded. */
+    private final SplittableRandom seeds; /**< Splits off the random generator of every game. */
+    private final boolean isSeeded; /**< True if the games are reproduced from a seed. */
+    private SplittableRandom gameRandom; /**< The random generator of the current game. */
+    private TargetingMode targetingMode = TargetingMode.HUNT_SINK; /**< How the computer opponent chooses its targets. */
+
+    /**
+     * Number of fleets kept ready; a game takes at most two.
+     */
+    private static final int FLEET_POOL_CAPACITY = 8;
 
     /**
      * Constructor for BattleshipGUI.
      * Initializes the JFrame, sets up the CardLayout, and adds the MainMenuView as the starting view.
+     * The games are random and take their fleets from the background pool.
      */
     public BattleshipGUI() {
+        this(FleetRules.STANDARD.getBoardSize());
+    }
+
+    /**
+     * Constructor for BattleshipGUI.
+     * The games are played on boards of the given size, the fleet is scaled to it
+     * by {@link FleetRules#forBoardSize(int)}.
+     * 
+     * @param boardSize The width and height of the boards.
+     * @throws IllegalArgumentException if the board size is not supported.
+     */
+    public BattleshipGUI(int boardSize) {
+        this(FleetRules.forBoardSize(boardSize));
+    }
+
+    /**
+     * Constructor for BattleshipGUI.
+     * Every game gets a generator split off from the seed and generates its fleets
+     * from it instead of taking them from the background pool, so the same seed and
+     * the same moves of the players replay the same games.
+     * 
+     * @param boardSize The width and height of the boards.
+     * @param seed      The seed of all games of this window.
+     * @throws IllegalArgumentException if the board size is not supported.
+     */
+    public BattleshipGUI(int boardSize, long seed) {
+        this(FleetRules.forBoardSize(boardSize), seed);
+    }
+
+    /**
+     * Constructor for BattleshipGUI.
+     * The games are played with the board size and fleet of the given rules,
+     * for example read by {@link battleship.factorys.ships.FleetConfig}.
+     * 
+     * @param rules The board size and the fleet of every game.
+     */
+    public BattleshipGUI(FleetRules rules) {
+        this(rules, new SplittableRandom(), false);
+    }
+
+    /**
+     * Constructor for BattleshipGUI.
+     * The games are played with the given rules and reproduced from the seed.
+     * 
+     * @param rules The board size and the fleet of every game.
+     * @param seed  The seed of all games of this window.
+     */
+    public BattleshipGUI(FleetRules rules, long seed) {
+        this(rules, new SplittableRandom(seed), true);
+    }
+
+    /**
+     * Constructor for BattleshipGUI.
+     * 
+     * @param rules    The board size and the fleet of every game.
+     * @param seeds    Splits off the random generator of every game.
+     * @param isSeeded True if the games are reproduced from a seed.
+     */
+    private BattleshipGUI(FleetRules rules, SplittableRandom seeds, boolean isSeeded) {
         super("Battleship Game");
+        this.rules = rules;
+        this.boardSize = rules.getBoardSize();
+        this.seeds = seeds;
+        this.isSeeded = isSeeded;
+        this.gameRandom = seeds.split();
+        generator = EngineBridge.generatorFor(rules);
+        fleetPool = new FleetPool(generator, FLEET_POOL_CAPACITY);
+        if (!isSeeded) {
+            // Seeded games generate their fleets from the game random
+            fleetPool.start();
+        }
         try {
             // Set System L&F
             UIManager.setLookAndFeel(
@@ -68,7 +154,8 @@ public class BattleshipGUI extends JFrame {
         cardLayout = new CardLayout();
         panelCont = new JPanel(cardLayout);
 
-        panelCont.add(new MainMenuView(panelCont), "MainMenuView");
+        viewManager = new ViewManager(panelCont, cardLayout);
+        viewManager.addPermanentView("MainMenuView", new MainMenuView(panelCont));
 
         add(panelCont);
 
@@ -78,6 +165,15 @@ public class BattleshipGUI extends JFrame {
         setVisible(true);
     }
 
+    /**
+     * Stops the fleet pool's background thread and releases the window.
+     */
+    @Override
+    public void dispose() {
+        fleetPool.close();
+        super.dispose();
+    }
+
     /**
      * Switches to the PlacementView, where players place their ships on their boards.
      * Ensures that player objects are initialized before displaying the view.
@@ -96,8 +192,7 @@ public class BattleshipGUI extends JFrame {
                 player1,
                 player2,
                 this);
-        panelCont.add(placementView, "PlacementView");
-        cardLayout.show(panelCont, "PlacementView");
+        viewManager.show("PlacementView", placementView);
     }
 
     /**
@@ -113,18 +208,89 @@ public class BattleshipGUI extends JFrame {
         }
 
         ShootingView shootingView = new ShootingView(player1, player2, isOnePlayerDebug, this);
-        panelCont.add(shootingView, "ShootingView");
-        cardLayout.show(panelCont, "ShootingView");
+        viewManager.show("ShootingView", shootingView);
+    }
+
+    /**
+     * Gets the pool of ready-made fleets.
+     * 
+     * @return The fleet pool, exposing its depth and refill rate.
+     */
+    public FleetPool getFleetPool() {
+        return fleetPool;
+    }
+
+    /**
+     * Gets the random generator of the current game. It is used on the event
+     * dispatch thread only; a component drawing on another thread splits off
+     * its own generator.
+     * 
+     * @return The random generator of the game.
+     */
+    public SplittableRandom getGameRandom() {
+        return gameRandom;
+    }
+
+    /**
+     * Gets how the computer opponent chooses its targets.
+     * 
+     * @return The targeting mode of the computer opponent.
+     */
+    public TargetingMode getTargetingMode() {
+        return targetingMode;
+    }
+
+    /**
+     * Selects how the computer opponent chooses its targets in the next game.
+     * 
+     * @param targetingMode The targeting mode of the computer opponent.
+     */
+    public void setTargetingMode(TargetingMode targetingMode) {
+        this.targetingMode = targetingMode;
+    }
+
+    /**
+     * Gets the width and height of the boards of every game.
+     * 
+     * @return The board size.
+     */
+    public int getBoardSize() {
+        return boardSize;
     }
 
     /**
-     * Returns to the main menu (MainMenuView) and resets player objects. 
+     * Gets the board size and the fleet of every game.
+     * 
+     * @return The fleet rules.
+     */
+    public FleetRules getFleetRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the manager of the views.
+     * 
+     * @return The view manager, exposing the number of live views and components.
+     */
+    public ViewManager getViewManager() {
+        return viewManager;
+    }
+
+    /**
+     * Returns to the main menu (MainMenuView) and resets player objects and boards. 
+     * Releases the views of the game that was left, cancelling the computer's move
+     * if it is still being chosen.
      */
     public void showMainMenuView() {
+        viewManager.show("MainMenuView");
+        viewManager.closeViews();
         player1 = null;
         player2 = null;
         computer = null;
-        cardLayout.show(panelCont, "MainMenuView");
+        player1Board = null;
+        player1TargetingBoard = null;
+        player2Board = null;
+        player2TargetingBoard = null;
     }
 
     /**
@@ -142,8 +308,7 @@ public class BattleshipGUI extends JFrame {
                 player1,
                 computer,
                 this);
-        panelCont.add(singlePlacementView, "SinglePlacementView");
-        cardLayout.show(panelCont, "SinglePlacementView");
+        viewManager.show("SinglePlacementView", singlePlacementView);
     }
 
     /**
@@ -163,8 +328,7 @@ public class BattleshipGUI extends JFrame {
                 player1,
                 computer,
                 this);
-        panelCont.add(computerDebugView, "ComputerDebugView");
-        cardLayout.show(panelCont, "ComputerDebugView");
+        viewManager.show("ComputerDebugView", computerDebugView);
     }
 
     /**
@@ -178,8 +342,7 @@ public class BattleshipGUI extends JFrame {
         }
 
         ComputerShootingView computerShootingView = new ComputerShootingView(player1, computer, false, this);
-        panelCont.add(computerShootingView, "ComputerShootingView");
-        cardLayout.show(panelCont, "ComputerShootingView");
+        viewManager.show("ComputerShootingView", computerShootingView);
     }
 
     /**
@@ -194,9 +357,8 @@ public class BattleshipGUI extends JFrame {
             return;
         }
 
-        ComputerShootingView computerDebugShootingView = new ComputerShootingView(player1, computer, isOnePlayerDebug, this);
-        panelCont.add(computerDebugShootingView, "ComputerDebugShootingView");
-        cardLayout.show(panelCont, "ComputerDebugShootingView");
+        ComputerShootingView computerShootingView = new ComputerShootingView(player1, computer, isOnePlayerDebug, this);
+        viewManager.show("ComputerDebugShootingView", computerShootingView);
     }
 
     /**
@@ -204,13 +366,14 @@ public class BattleshipGUI extends JFrame {
      * Creates player objects, game boards, and targeting boards.
      */
     public void initializeLocalCoopGame() {
+        gameRandom = seeds.split();
         player1 = new LocalPlayerFactory().createPlayer("Spieler 1");
         player2 = new LocalPlayerFactory().createPlayer("Spieler 2");
 
-        player1Board = new PlayerBoardFactory().createGameBoard();
-        player1TargetingBoard = new TargetingBoardFactory().createGameBoard();
-        player2Board = new PlayerBoardFactory().createGameBoard();
-        player2TargetingBoard = new TargetingBoardFactory().createGameBoard();
+        player1Board = new PlayerBoardFactory(boardSize).createGameBoard();
+        player1TargetingBoard = new TargetingBoardFactory(boardSize).createGameBoard();
+        player2Board = new PlayerBoardFactory(boardSize).createGameBoard();
+        player2TargetingBoard = new TargetingBoardFactory(boardSize).createGameBoard();
 
         player1.setGameBoard(player1Board);
         player2.setGameBoard(player2Board);
@@ -223,13 +386,14 @@ public class BattleshipGUI extends JFrame {
      * Places ships randomly on the boards for both players. 
      */
     public void initializeDebugGame() {
+        gameRandom = seeds.split();
         player1 = new LocalPlayerFactory().createPlayer("Spieler 1");
         player2 = new LocalPlayerFactory().createPlayer("Spieler 2");
 
-        player1Board = new PlayerBoardFactory().createGameBoard();
-        player1TargetingBoard = new TargetingBoardFactory().createGameBoard();
-        player2Board = new PlayerBoardFactory().createGameBoard();
-        player2TargetingBoard = new TargetingBoardFactory().createGameBoard();
+        player1Board = new PlayerBoardFactory(boardSize).createGameBoard();
+        player1TargetingBoard = new TargetingBoardFactory(boardSize).createGameBoard();
+        player2Board = new PlayerBoardFactory(boardSize).createGameBoard();
+        player2TargetingBoard = new TargetingBoardFactory(boardSize).createGameBoard();
 
         player1.setGameBoard(player1Board);
         player2.setGameBoard(player2Board);
@@ -242,24 +406,24 @@ public class BattleshipGUI extends JFrame {
 
     /**
      * Initializes the game for single-player mode against a computer opponent.
-     * Sets up player and computer objects, boards, and uses the BattleshipAI to place ships for the computer. 
+     * Sets up player and computer objects, boards, and takes a ready-made fleet for the computer. 
      */
     public void initializeComputerOpponentGame() {
+        gameRandom = seeds.split();
         player1 = new LocalPlayerFactory().createPlayer("Spieler 1");
         computer = new ComputerPlayerFactory().createPlayer("Computer");
 
-        player1Board = new PlayerBoardFactory().createGameBoard();
-        player1TargetingBoard = new TargetingBoardFactory().createGameBoard();
-        player2Board = new PlayerBoardFactory().createGameBoard();
-        player2TargetingBoard = new TargetingBoardFactory().createGameBoard();
+        player1Board = new PlayerBoardFactory(boardSize).createGameBoard();
+        player1TargetingBoard = new TargetingBoardFactory(boardSize).createGameBoard();
+        player2Board = new PlayerBoardFactory(boardSize).createGameBoard();
+        player2TargetingBoard = new TargetingBoardFactory(boardSize).createGameBoard();
 
         player1.setGameBoard(player1Board);
         computer.setGameBoard(player2Board);
         player1.setTargetingBoard(player1TargetingBoard);
         computer.setTargetingBoard(player2TargetingBoard);
         
-        BattleshipAI battleshipAI = new BattleshipAI(player1, computer);
-        battleshipAI.placeAllShips();
+        placeAllShips(computer);
     }
 
     /**
@@ -267,185 +431,35 @@ public class BattleshipGUI extends JFrame {
      * Places ships randomly for both the human player and the computer.
      */
     public void initializeComputerOpponentGameDebug() {
+        gameRandom = seeds.split();
         player1 = new LocalPlayerFactory().createPlayer("Spieler 1");
         computer = new ComputerPlayerFactory().createPlayer("Computer");
 
-        player1Board = new PlayerBoardFactory().createGameBoard();
-        player1TargetingBoard = new TargetingBoardFactory().createGameBoard();
-        player2Board = new PlayerBoardFactory().createGameBoard();
-        player2TargetingBoard = new TargetingBoardFactory().createGameBoard();
+        player1Board = new PlayerBoardFactory(boardSize).createGameBoard();
+        player1TargetingBoard = new TargetingBoardFactory(boardSize).createGameBoard();
+        player2Board = new PlayerBoardFactory(boardSize).createGameBoard();
+        player2TargetingBoard = new TargetingBoardFactory(boardSize).createGameBoard();
 
         player1.setGameBoard(player1Board);
         computer.setGameBoard(player2Board);
         player1.setTargetingBoard(player1TargetingBoard);
         computer.setTargetingBoard(player2TargetingBoard);
 
-        BattleshipAI battleshipAI = new BattleshipAI(player1, computer);
-        battleshipAI.placeAllShips();
+        placeAllShips(computer);
 
         placeAllShips(player1);
     }
 
     /**
-     * Maximum number of attempts to place a single ship randomly.
-     */
-    private static final int MAX_ATTEMPTS_PER_SHIP = 100;
-
-    /**
-     * Places all ships randomly on the game board for the specified player.
+     * Places all ships randomly on the game board for the specified player,
+     * using a fleet from the background pool, or one generated from the game's
+     * generator if the games are seeded.
      * 
      * @param playerToPlace The IPlayer object for whom to place the ships.
      */
     private void placeAllShips(IPlayer playerToPlace) {
-        boolean allShipsPlaced = false;
-
-        while (!allShipsPlaced) {
-            // Clear the board before trying to place ships
-            clearBoard(playerToPlace); 
-            try {
-                placeShip(5, "SchlachtschiffFactory", playerToPlace);
-                placeShip(4, "KreuzerFactory", playerToPlace);
-                placeShip(4, "KreuzerFactory", playerToPlace);
-                placeShip(3, "ZerstörerFactory", playerToPlace);
-                placeShip(3, "ZerstörerFactory", playerToPlace);
-                placeShip(3, "ZerstörerFactory", playerToPlace);
-                placeShip(2, "U_BootFactory", playerToPlace);
-                placeShip(2, "U_BootFactory", playerToPlace);
-                placeShip(2, "U_BootFactory", playerToPlace);
-                placeShip(2, "U_BootFactory", playerToPlace);
-
-                allShipsPlaced = true; // All ships successfully placed 
-            } catch (IllegalStateException e) {
-                // Error placing ships, try again 
-                System.out.println("Keine gültige Platzierung gefunden, Neustart der Platzierung...");
-            }
-        }
-    }
-
-    /**
-     * Places a single ship of the specified size and type on the board for the given player.
-     * 
-     * @param shipSize     The length of the ship to place.
-     * @param factoryType The name of the ship factory class to use (e.g., "SchlachtschiffFactory").
-     * @param playerToPlace The IPlayer object for whom to place the ship. 
-     * @throws IllegalStateException if the ship cannot be placed after MAX_ATTEMPTS_PER_SHIP tries.
-     */
-    private void placeShip(int shipSize, String factoryType, IPlayer playerToPlace) {
-        boolean placed = false;
-        int attempts = 0;
-        Random random = new Random();
-
-        while (!placed && attempts < MAX_ATTEMPTS_PER_SHIP) {
-            int x = random.nextInt(10);
-            int y = random.nextInt(10);
-            boolean isHorizontal = random.nextBoolean();
-
-            if (canPlaceShip(y, x, shipSize, isHorizontal, playerToPlace)) {
-                switch (factoryType) {
-                    case "SchlachtschiffFactory":
-                        SchlachtschiffFactory schlachtschiffFactory = new SchlachtschiffFactory();
-                        playerToPlace.getGameBoard().placeShip(x, y, schlachtschiffFactory.createShip(), isHorizontal);
-                        break;
-                    case "KreuzerFactory":
-                        KreuzerFactory kreuzerFactory = new KreuzerFactory();
-                        playerToPlace.getGameBoard().placeShip(x, y, kreuzerFactory.createShip(), isHorizontal);
-                        break;
-                    case "ZerstörerFactory":
-                        ZerstörerFactory zerstörerFactory = new ZerstörerFactory();
-                        playerToPlace.getGameBoard().placeShip(x, y, zerstörerFactory.createShip(), isHorizontal);
-                        break;
-                    case "U_BootFactory":
-                        U_BootFactory u_BootFactory = new U_BootFactory();
-                        playerToPlace.getGameBoard().placeShip(x, y, u_BootFactory.createShip(), isHorizontal);
-                        break;
-                    default:
-                        break;
-                }
-                placed = true;
-            }
-            attempts++;
-        }
-
-        // If the ship couldn't be placed after many attempts, throw an error
-        if (!placed) {
-            throw new IllegalStateException("Failed to place ship after " + MAX_ATTEMPTS_PER_SHIP + " attempts.");
-        }
-    }
-
-    /**
-     * Checks if it's possible to place a ship at the given coordinates 
-     * on the specified player's game board, without overlapping or touching other ships.
-     * 
-     * @param row          The row coordinate of the ship's starting position.
-     * @param col          The column coordinate of the ship's starting position.
-     * @param shipSize     The length of the ship.
-     * @param isHorizontal True for horizontal placement, false for vertical.
-     * @param playerToPlace The IPlayer object whose board is being checked.
-     * @return True if the ship can be placed at the given location, false otherwise.
-     */
-    private boolean canPlaceShip(int row, int col, int shipSize, boolean isHorizontal, IPlayer playerToPlace) {
-        for (int i = 0; i < shipSize; i++) {
-            int r = isHorizontal ? row : row + i;
-            int c = isHorizontal ? col + i : col;
-
-            if (r >= 10 || c >= 10 || isAdjacentToShip(r, c, playerToPlace)) {
-                return false; 
-            }
-        }
-        return true; 
-    }
-
-    /**
-     * Checks if a cell at the given coordinates is adjacent to any ship on the given player's game board.
-     * 
-     * @param row           The row coordinate.
-     * @param col           The column coordinate.
-     * @param playerToPlace The IPlayer whose game board to check.
-     * @return True if the cell is adjacent to a ship, false otherwise.
-     */
-    private boolean isAdjacentToShip(int row, int col, IPlayer playerToPlace) {
-        Map<Point, IShip> ships = playerToPlace.getGameBoard().getShipLocations();
-        return isAdjacent(row, col, ships);
-    }
-
-    /**
-     * Checks if a cell at the given coordinates is adjacent to any ship in the provided map of ship locations.
-     * 
-     * @param row   The row coordinate.
-     * @param col   The column coordinate.
-     * @param ships The map of ship locations to check against. 
-     * @return True if the cell is adjacent to a ship, false otherwise.
-     */
-    private boolean isAdjacent(int row, int col, Map<Point, IShip> ships) {
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                // Skip the cell itself
-                if (i == 0 && j == 0) {
-                    continue;
-                }
-                int r = row + i;
-                int c = col + j;
-                // Check if the adjacent cell is within bounds and contains a ship
-                if (r >= 0 && r < 10 && c >= 0 && c < 10 && ships.containsKey(new Point(c, r))) {
-                    return true; 
-                }
-            }
-        }
-        return false; 
-    }
-
-    /**
-     * Clears all ships from the game board of the specified player.
-     * 
-     * @param playerToPlace The IPlayer whose board should be cleared. 
-     */
-    private void clearBoard(IPlayer playerToPlace) {
-        Map<Point, IShip> shipLocations = playerToPlace.getGameBoard().getShipLocations();
-        Set<IShip> uniqueShips = new HashSet<>(shipLocations.values());
-        for (IShip ship : uniqueShips) {
-            playerToPlace.getGameBoard().removeShip(ship);
-        }
-        shipLocations.clear();
+        EngineBridge.placeFleet(playerToPlace.getGameBoard(),
+                isSeeded ? generator.generate(gameRandom) : fleetPool.take());
     }
 
 }
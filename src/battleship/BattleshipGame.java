@@ -1,9 +1,21 @@
 package battleship;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
+import battleship.engine.FleetRules;
+import battleship.factorys.ships.FleetConfig;
+import battleship.views.AssetCache;
+
 /**
  * @class BattleshipGame
  *   Main class for the Battleship game.
  * This class contains the main method which starts the game by initializing the GUI.
+ * Usage: {@code BattleshipGame [--size N] [--fleet DATEI] [--seed N]}; the size sets
+ * the width and height of the boards, between {@link FleetRules#MIN_BOARD_SIZE} and
+ * {@link FleetRules#MAX_BOARD_SIZE}. The fleet file sets board size and fleet as
+ * described in {@link FleetConfig}. With a seed the fleets, the starting
+ * players and the computer's shots are drawn from it, so a game can be replayed.
  */
 public class BattleshipGame {
     /**
@@ -11,6 +23,33 @@ public class BattleshipGame {
      * @param args Command line arguments.
      */
     public static void main(String[] args) {
-        new BattleshipGUI();
+        FleetRules rules = FleetRules.STANDARD;
+        Long seed = null;
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Wert fehlt für " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--size" -> rules = FleetRules.forBoardSize(Integer.parseInt(value));
+                    case "--fleet" -> rules = FleetConfig.load(Path.of(value));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unbekannte Option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Aufruf: BattleshipGame [--size N] [--fleet DATEI] [--seed N]");
+            System.exit(2);
+            return;
+        }
+        AssetCache.preload(AssetCache.WATER_TILE);
+        if (seed == null) {
+            new BattleshipGUI(rules);
+        } else {
+            System.out.println("Seed: " + seed);
+            new BattleshipGUI(rules, seed);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,246 @@
+package battleship;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import battleship.engine.FleetRules;
+import battleship.engine.ai.TargetingMode;
+import battleship.factorys.ships.FleetConfig;
+import battleship.network.GameClient;
+import battleship.network.GameServer;
+import battleship.network.LatencyHistogram;
+import battleship.network.ServerStats;
+import battleship.network.Transport;
+
+/**
+ * @class BattleshipServer
+ *   Command line entry point for the headless game server.
+ * Without {@code --clients} the server listens on the given port until it is killed.
+ * With {@code --clients} it runs a load test instead: the server listens on loopback
+ * and the given number of simulated clients play against each other.
+ * Both modes report the concurrent sessions, the messages per second and the p99
+ * turn latency once per second.
+ * The load test can hold additional idle connections open for its whole run, to compare
+ * the memory and threads the transports need per connection.
+ * The board size is limited to 255 by the protocol.
+ * Usage: {@code BattleshipServer [--port N] [--transport blocking|selector] [--reactors N]
+ * [--clients N] [--games N] [--idle N] [--mode MODE] [--seed N] [--size N] [--fleet FILE]};
+ * a fleet file replaces the standard fleet of the size, see {@link FleetConfig}.
+ */
+public class BattleshipServer {
+
+    private static final long REPORT_INTERVAL_MILLIS = 1_000; /**< Time between two status lines */
+    private static final int CONNECTIONS_PER_SOURCE = 20_000; /**< Idle connections per loopback source address */
+
+    /**
+     *   Main method to run the server or the load test.
+     * @param args Command line arguments.
+     * @throws IOException if the server cannot be started.
+     * @throws InterruptedException if the load test is interrupted.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 4711;
+        int clients = 0;
+        int games = 10;
+        int idle = 0;
+        Transport transport = Transport.BLOCKING;
+        int reactors = Runtime.getRuntime().availableProcessors();
+        TargetingMode mode = TargetingMode.PROBABILITY_DENSITY;
+        long seed = System.nanoTime();
+        FleetRules rules = FleetRules.STANDARD;
+        GameServer server;
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Wert fehlt für " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--port" -> port = Integer.parseInt(value);
+                    case "--clients" -> clients = Integer.parseInt(value);
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--idle" -> idle = Integer.parseInt(value);
+                    case "--transport" -> transport = Transport.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--reactors" -> reactors = Integer.parseInt(value);
+                    case "--mode" -> mode = TargetingMode.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--size" -> rules = FleetRules.forBoardSize(Integer.parseInt(value));
+                    case "--fleet" -> rules = FleetConfig.load(Path.of(value));
+                    default -> throw new IllegalArgumentException("Unbekannte Option: " + args[i]);
+                }
+            }
+            if (clients < 0 || clients % 2 != 0 || games <= 0 || idle < 0) {
+                throw new IllegalArgumentException("Die Anzahl der Clients muss gerade sein.");
+            }
+            server = new GameServer(rules, seed, transport, reactors);
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Aufruf: BattleshipServer [--port N] [--transport blocking|selector] [--reactors N]"
+                    + " [--clients N] [--games N] [--idle N] [--mode MODUS] [--seed N] [--size N]"
+                    + " [--fleet DATEI]");
+            System.exit(2);
+            return;
+        }
+
+        if (clients == 0 && idle == 0) {
+            serve(server, port);
+        } else {
+            loadTest(server, clients, games, idle, mode, seed);
+        }
+    }
+
+    /**
+     *   Runs the server until the process is killed.
+     * @param server The server, not started yet.
+     * @param port The port to listen on.
+     * @throws IOException if the port cannot be bound.
+     * @throws InterruptedException if the main thread is interrupted.
+     */
+    private static void serve(GameServer server, int port) throws IOException, InterruptedException {
+        server.start(new InetSocketAddress(port));
+        System.out.println("Server läuft auf " + server.getAddress() + " (" + server.getTransport() + ")");
+        long messages = 0;
+        while (true) {
+            Thread.sleep(REPORT_INTERVAL_MILLIS);
+            messages = report(server.getStats(), messages, REPORT_INTERVAL_MILLIS);
+        }
+    }
+
+    /**
+     *   Runs a load test with simulated clients over loopback.
+     * @param server The server, not started yet.
+     * @param clients The number of playing clients, an even number.
+     * @param games The number of matches per client.
+     * @param idle The number of idle connections held open during the test.
+     * @param mode The targeting strategy of the clients.
+     * @param seed The seed of the clients.
+     * @throws IOException if the server cannot be started.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    private static void loadTest(GameServer server, int clients, int games, int idle, TargetingMode mode,
+            long seed) throws IOException, InterruptedException {
+        System.out.printf(Locale.ROOT, "%s: %d Clients mit je %d Spielen (%s), %d ruhende Verbindungen, Seed %d%n",
+                server.getTransport(), clients, games, mode, idle, seed);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        LatencyHistogram roundTrips = new LatencyHistogram();
+        List<GameClient> players = new ArrayList<>(clients);
+        List<SocketChannel> idleChannels = new ArrayList<>(idle);
+
+        try (server) {
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            InetSocketAddress address = server.getAddress();
+            if (idle > 0) {
+                long heapBefore = usedHeapAfterGc();
+                openIdle(address, idle, idleChannels);
+                while (server.getStats().getActiveSessions() < idle) {
+                    Thread.sleep(10);
+                }
+                long heapPerConnection = (usedHeapAfterGc() - heapBefore) / idle;
+                System.out.printf(Locale.ROOT, "%d ruhende Verbindungen: %d Threads, ca. %d Bytes Heap je Verbindung"
+                        + " (Server und Client), %d Direktpuffer%n",
+                        idle, Thread.activeCount(), heapPerConnection,
+                        server.getAllocatedBufferCount());
+            }
+            ExecutorService executor = GameServer.newConnectionExecutor("game-client");
+            long start = System.nanoTime();
+            for (int i = 0; i < clients; i++) {
+                GameClient client = new GameClient(address, games, mode, seeds.nextLong(), roundTrips);
+                players.add(client);
+                executor.execute(client);
+            }
+            executor.shutdown();
+
+            long messages = 0;
+            while (!executor.awaitTermination(REPORT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                messages = report(server.getStats(), messages, REPORT_INTERVAL_MILLIS);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            ServerStats stats = server.getStats();
+            long played = 0;
+            int failed = 0;
+            for (GameClient client : players) {
+                played += client.getGamesPlayed();
+                if (client.getFailure() != null) {
+                    if (failed++ == 0) {
+                        System.err.println("Client fehlgeschlagen: " + client.getFailure().getMessage());
+                    }
+                }
+            }
+            System.out.printf(Locale.ROOT, "Spiele: %d in %.2f s (%.1f Spiele/s), fehlgeschlagene Clients: %d%n",
+                    stats.getFinishedMatches(), seconds, stats.getFinishedMatches() / seconds, failed);
+            System.out.printf(Locale.ROOT, "Gleichzeitige Sitzungen (max.): %d%n", stats.getPeakSessions());
+            System.out.printf(Locale.ROOT, "Nachrichten/s: %.0f%n", stats.getMessages() / seconds);
+            System.out.printf(Locale.ROOT, "p99 Zuglatenz Server: %.1f µs, p99 Schuss bis Ergebnis Client: %.1f µs%n",
+                    stats.getTurnLatency().getPercentile(99) / 1e3, roundTrips.getPercentile(99) / 1e3);
+            System.out.printf(Locale.ROOT, "Direktpuffer: %d%n", server.getAllocatedBufferCount());
+            if (played != 2 * stats.getFinishedMatches()) {
+                System.err.println("Clients und Server zählen verschieden viele Spiele.");
+            }
+        } finally {
+            for (SocketChannel channel : idleChannels) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     *   Opens connections that never send anything.
+     * Spreads them over several loopback source addresses, since one source address
+     * runs out of ports after some ten thousand connections to the same server port.
+     * @param address The address of the server.
+     * @param count The number of connections.
+     * @param channels Receives the open channels.
+     * @throws IOException if a connection fails.
+     */
+    private static void openIdle(InetSocketAddress address, int count, List<SocketChannel> channels)
+            throws IOException {
+        byte[] source = InetAddress.getLoopbackAddress().getAddress();
+        for (int i = 0; i < count; i++) {
+            SocketChannel channel = SocketChannel.open();
+            channels.add(channel);
+            if (source.length == 4) {
+                source[3] = (byte) (1 + i / CONNECTIONS_PER_SOURCE);
+                channel.bind(new InetSocketAddress(InetAddress.getByAddress(source), 0));
+            }
+            channel.connect(address);
+        }
+    }
+
+    /**
+     *   Measures the used heap after a garbage collection.
+     * @return The used heap in bytes.
+     */
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     *   Prints a status line.
+     * @param stats The counters of the server.
+     * @param previousMessages The message count of the previous line.
+     * @param intervalMillis The time since the previous line.
+     * @return The current message count.
+     */
+    private static long report(ServerStats stats, long previousMessages, long intervalMillis) {
+        long messages = stats.getMessages();
+        System.out.printf(Locale.ROOT, "Sitzungen: %d, Spiele: %d laufend / %d beendet, Nachrichten/s: %.0f,"
+                + " p99 Zuglatenz: %.1f µs%n",
+                stats.getActiveSessions(), stats.getActiveMatches(), stats.getFinishedMatches(),
+                (messages - previousMessages) * 1000.0 / intervalMillis,
+                stats.getTurnLatency().getPercentile(99) / 1e3);
+        return messages;
+    }
+}
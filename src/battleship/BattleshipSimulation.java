@@ -0,0 +1,123 @@
+package battleship;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import battleship.engine.FleetRules;
+import battleship.engine.GameState;
+import battleship.engine.ai.SelfPlay;
+import battleship.engine.ai.SelfPlayReport;
+import battleship.engine.ai.TargetingMode;
+import battleship.engine.journal.ShotJournal;
+import battleship.factorys.ships.FleetConfig;
+
+/**
+ * @class BattleshipSimulation
+ *   Command line entry point that lets two computer players play against each
+ *   other without the GUI.
+ * Reports the throughput, the win rate and the shots needed per strategy, and the
+ * distribution of the shots needed to win.
+ * With {@code --journal} every shot is appended to a shot journal file, see {@link ShotJournal}.
+ * Usage: {@code BattleshipSimulation [--games N] [--threads N] [--one MODE]
+ * [--two MODE] [--seed N] [--samples N] [--size N] [--fleet FILE] [--journal FILE]};
+ * a fleet file replaces the standard fleet of the size, see {@link FleetConfig}.
+ * A mode is the name of a {@link TargetingMode}; {@code HUNT_SINK} plays like the
+ * original computer player and serves as the baseline.
+ */
+public class BattleshipSimulation {
+
+    private static final int HISTOGRAM_WIDTH = 50; /**< Length of the longest histogram bar */
+
+    /**
+     *   Main method to run the simulation.
+     * @param args Command line arguments.
+     * @throws InterruptedException if the simulation is interrupted.
+     * @throws IOException if the journal cannot be opened.
+     */
+    public static void main(String[] args) throws InterruptedException, IOException {
+        long games = 10_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        TargetingMode one = TargetingMode.PROBABILITY_DENSITY;
+        TargetingMode two = TargetingMode.PROBABILITY_DENSITY;
+        long seed = System.nanoTime();
+        int samples = SelfPlay.DEFAULT_MONTE_CARLO_SAMPLES;
+        FleetRules rules = FleetRules.STANDARD;
+        Path journalPath = null;
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Wert fehlt für " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--games" -> games = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--one" -> one = TargetingMode.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--two" -> two = TargetingMode.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--samples" -> samples = Integer.parseInt(value);
+                    case "--size" -> rules = FleetRules.forBoardSize(Integer.parseInt(value));
+                    case "--fleet" -> rules = FleetConfig.load(Path.of(value));
+                    case "--journal" -> journalPath = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unbekannte Option: " + args[i]);
+                }
+            }
+            if (journalPath != null && rules.getBoardSize() > ShotJournal.MAX_BOARD_SIZE) {
+                throw new IllegalArgumentException("Das Journal speichert höchstens Spielfelder der Größe "
+                        + ShotJournal.MAX_BOARD_SIZE + ".");
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Aufruf: BattleshipSimulation [--games N] [--threads N] [--one MODUS] [--two MODUS]"
+                    + " [--seed N] [--samples N] [--size N] [--fleet DATEI] [--journal DATEI]");
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf(Locale.ROOT, "%d Spiele %s gegen %s auf %dx%d mit %d Schiffen, %d Threads, Seed %d%n",
+                games, one, two, rules.getBoardSize(), rules.getBoardSize(), rules.getTotalShips(), threads, seed);
+        SelfPlay selfPlay = new SelfPlay(rules, one, two, samples);
+        if (journalPath == null) {
+            print(selfPlay.run(games, threads, seed));
+            return;
+        }
+        try (ShotJournal journal = ShotJournal.open(journalPath)) {
+            long before = journal.getRecordCount();
+            SelfPlayReport report = selfPlay.run(games, threads, seed, journal);
+            print(report);
+            long records = journal.getRecordCount() - before;
+            System.out.printf(Locale.ROOT, "Journal %s: %d Schüsse (%.0f Schüsse/s), %d insgesamt%n",
+                    journalPath, records, records * 1e9 / report.getElapsedNanos(), journal.getRecordCount());
+        }
+    }
+
+    /**
+     *   Prints a report to standard output.
+     * @param report The results of the simulation.
+     */
+    private static void print(SelfPlayReport report) {
+        System.out.printf(Locale.ROOT, "Spiele/s: %.1f (%.2f s)%n",
+                report.getGamesPerSecond(), report.getElapsedNanos() / 1e9);
+        System.out.printf(Locale.ROOT, "Schüsse bis zum Sieg: %.2f%n", report.getAverageShots());
+        for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+            System.out.printf(Locale.ROOT, "Spieler %d (%s): %.2f %% Siege, %.2f Schüsse bis zum Sieg%n",
+                    player + 1, report.getMode(player), 100 * report.getWinRate(player),
+                    report.getAverageShots(player));
+        }
+
+        long[] distribution = report.getShotDistribution();
+        long max = 1;
+        for (long count : distribution) {
+            max = Math.max(max, count);
+        }
+        System.out.println("Verteilung der Schüsse bis zum Sieg:");
+        for (int shots = 0; shots < distribution.length; shots++) {
+            if (distribution[shots] > 0) {
+                int bar = (int) Math.max(1, distribution[shots] * HISTOGRAM_WIDTH / max);
+                System.out.printf(Locale.ROOT, "%4d %10d %s%n", shots, distribution[shots], "#".repeat(bar));
+            }
+        }
+    }
+}
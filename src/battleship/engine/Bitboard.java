@@ -0,0 +1,169 @@
+package battleship.engine;
+
+/**
+ * @class Bitboard
+ *        Fixed size bitset with one bit per board cell, packed into
+ *        {@code long} words. Cells are numbered row by row, the cell (x, y) of
+ *        a board of size n has the index {@code y * n + x}.
+ */
+public final class Bitboard {
+
+    private final int cells; /**< The number of bits in the set */
+    private final long[] words; /**< The packed bits */
+
+    /**
+     * Constructor for Bitboard.
+     *
+     * @param cells The number of bits in the set.
+     */
+    public Bitboard(int cells) {
+        if (cells < 0) {
+            throw new IllegalArgumentException("Ungültige Anzahl an Feldern: " + cells);
+        }
+        this.cells = cells;
+        this.words = new long[(cells + 63) >>> 6];
+    }
+
+    /**
+     * Gets the number of bits in the set.
+     *
+     * @return The number of cells.
+     */
+    public int size() {
+        return cells;
+    }
+
+    /**
+     * Tests a bit.
+     *
+     * @param index The cell index.
+     * @return True if the bit is set, false otherwise.
+     */
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets a bit.
+     *
+     * @param index The cell index.
+     */
+    public void set(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Clears a bit.
+     *
+     * @param index The cell index.
+     */
+    public void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Clears all bits.
+     */
+    public void clear() {
+        java.util.Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Copies all bits from another bitboard of the same size.
+     *
+     * @param other The bitboard to copy.
+     */
+    public void copyFrom(Bitboard other) {
+        if (other.cells != cells) {
+            throw new IllegalArgumentException("Unterschiedliche Größen: " + other.cells + " != " + cells);
+        }
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Counts the set bits.
+     *
+     * @return The number of set bits.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Checks if any bit of a consecutive run of cells is set.
+     * Works on whole words, a run inside one word costs a single mask test.
+     *
+     * @param start  The index of the first cell of the run.
+     * @param length The number of cells in the run.
+     * @return True if at least one bit of the run is set.
+     */
+    public boolean intersectsRun(int start, int length) {
+        int end = start + length; // exclusive
+        while (start < end) {
+            int bits = Math.min(end - start, 64 - (start & 63));
+            long mask = (bits == 64 ? -1L : (1L << bits) - 1) << start;
+            if ((words[start >>> 6] & mask) != 0) {
+                return true;
+            }
+            start += bits;
+        }
+        return false;
+    }
+
+    /**
+     * Finds the next set bit.
+     *
+     * @param from The index to start searching at.
+     * @return The index of the next set bit, or -1 if there is none.
+     */
+    public int nextSetBit(int from) {
+        if (from >= cells) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return index < cells ? index : -1;
+            }
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+    }
+
+    /**
+     * Gets a packed word of the set.
+     *
+     * @param word The word index.
+     * @return The 64 bits of the word.
+     */
+    public long getWord(int word) {
+        return words[word];
+    }
+
+    /**
+     * Replaces a packed word of the set.
+     *
+     * @param word  The word index.
+     * @param value The new 64 bits of the word.
+     */
+    public void setWord(int word, long value) {
+        words[word] = value;
+    }
+
+    /**
+     * Gets the number of packed words.
+     *
+     * @return The number of words.
+     */
+    public int wordCount() {
+        return words.length;
+    }
+}
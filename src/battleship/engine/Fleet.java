@@ -0,0 +1,421 @@
+package battleship.engine;
+
+/**
+ * @class Fleet
+ *        The ships of one player on a square board.
+ *        Occupancy is kept in a {@link Bitboard}, every occupied cell stores
+ *        the id of its ship in a parallel byte array. Each ship keeps its
+ *        origin, orientation, length and remaining health, so hits, sunk
+ *        detection and defeat detection are constant time.
+ *        Encodes the placement rule of the game: ships must stay on the board
+ *        and must neither overlap nor touch each other, not even diagonally.
+ */
+public final class Fleet {
+
+    /**
+     * Largest ship id, ids have to fit into a byte.
+     */
+    public static final int MAX_SHIPS = Byte.MAX_VALUE;
+
+    private final int boardSize; /**< The width and height of the board */
+    private final Bitboard occupied; /**< One bit per cell, set if a ship occupies the cell */
+    private final byte[] shipIds; /**< Ship id per cell, 0 for water */
+    private final int[] shipX; /**< Starting x-coordinate per ship id */
+    private final int[] shipY; /**< Starting y-coordinate per ship id */
+    private final int[] shipLength; /**< Length per ship id, 0 for unused ids */
+    private final int[] shipHealth; /**< Cells not hit yet per ship id */
+    private final boolean[] shipHorizontal; /**< Orientation per ship id */
+    private int shipCount; /**< Number of ships on the board */
+    private int remainingCells; /**< Ship cells not hit yet */
+
+    /**
+     * Constructor for Fleet.
+     *
+     * @param boardSize The width and height of the board.
+     */
+    public Fleet(int boardSize) {
+        if (boardSize <= 0) {
+            throw new IllegalArgumentException("Ungültige Spielfeldgröße: " + boardSize);
+        }
+        this.boardSize = boardSize;
+        this.occupied = new Bitboard(boardSize * boardSize);
+        this.shipIds = new byte[boardSize * boardSize];
+        this.shipX = new int[MAX_SHIPS + 1];
+        this.shipY = new int[MAX_SHIPS + 1];
+        this.shipLength = new int[MAX_SHIPS + 1];
+        this.shipHealth = new int[MAX_SHIPS + 1];
+        this.shipHorizontal = new boolean[MAX_SHIPS + 1];
+    }
+
+    /**
+     * Creates a copy of this fleet including the remaining health of every
+     * ship.
+     *
+     * @return A new, independent fleet.
+     */
+    public Fleet copy() {
+        Fleet copy = new Fleet(boardSize);
+        copy.occupied.copyFrom(occupied);
+        System.arraycopy(shipIds, 0, copy.shipIds, 0, shipIds.length);
+        System.arraycopy(shipX, 0, copy.shipX, 0, shipX.length);
+        System.arraycopy(shipY, 0, copy.shipY, 0, shipY.length);
+        System.arraycopy(shipLength, 0, copy.shipLength, 0, shipLength.length);
+        System.arraycopy(shipHealth, 0, copy.shipHealth, 0, shipHealth.length);
+        System.arraycopy(shipHorizontal, 0, copy.shipHorizontal, 0, shipHorizontal.length);
+        copy.shipCount = shipCount;
+        copy.remainingCells = remainingCells;
+        return copy;
+    }
+
+    /**
+     * Creates a copy of this fleet with every ship intact, as it was before
+     * the first shot.
+     *
+     * @return A new, independent fleet.
+     */
+    public Fleet copyIntact() {
+        Fleet copy = copy();
+        copy.remainingCells = 0;
+        for (int id = 1; id <= MAX_SHIPS; id++) {
+            copy.shipHealth[id] = copy.shipLength[id];
+            copy.remainingCells += copy.shipLength[id];
+        }
+        return copy;
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The size of the board.
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Checks if the coordinates lie on the board.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return True if the cell exists, false otherwise.
+     */
+    public boolean isOnBoard(int x, int y) {
+        return x >= 0 && y >= 0 && x < boardSize && y < boardSize;
+    }
+
+    /**
+     * Checks if a ship fits on the board without overlapping another ship.
+     * Touching other ships is allowed.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param length       The length of the ship.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @return True if the ship fits, false otherwise.
+     */
+    public boolean fits(int x, int y, int length, boolean isHorizontal) {
+        int endX = isHorizontal ? x + length - 1 : x;
+        int endY = isHorizontal ? y : y + length - 1;
+        if (length <= 0 || !isOnBoard(x, y) || !isOnBoard(endX, endY)) {
+            return false;
+        }
+        if (isHorizontal) {
+            return !occupied.intersectsRun(y * boardSize + x, length);
+        }
+        for (int r = y; r <= endY; r++) {
+            if (occupied.get(r * boardSize + x)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a ship can be placed according to the rules of the game: on
+     * the board, not overlapping and not touching another ship.
+     * Tests the rectangle around the ship row by row against the occupancy
+     * bitset.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param length       The length of the ship.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @return True if the ship can be placed, false otherwise.
+     */
+    public boolean canPlace(int x, int y, int length, boolean isHorizontal) {
+        int endX = isHorizontal ? x + length - 1 : x;
+        int endY = isHorizontal ? y : y + length - 1;
+        if (length <= 0 || !isOnBoard(x, y) || !isOnBoard(endX, endY)) {
+            return false;
+        }
+
+        int x0 = Math.max(0, x - 1);
+        int width = Math.min(boardSize - 1, endX + 1) - x0 + 1;
+        int y1 = Math.min(boardSize - 1, endY + 1);
+        for (int r = Math.max(0, y - 1); r <= y1; r++) {
+            if (occupied.intersectsRun(r * boardSize + x0, width)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if any of the eight neighbouring cells is occupied by a ship.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell is adjacent to a ship, false otherwise.
+     */
+    public boolean isAdjacentToShip(int x, int y) {
+        int x0 = Math.max(0, x - 1);
+        int x1 = Math.min(boardSize - 1, x + 1);
+        for (int r = Math.max(0, y - 1); r <= Math.min(boardSize - 1, y + 1); r++) {
+            if (r != y) {
+                if (x0 <= x1 && occupied.intersectsRun(r * boardSize + x0, x1 - x0 + 1)) {
+                    return true;
+                }
+            } else if ((x - 1 >= 0 && x - 1 < boardSize && occupied.get(r * boardSize + x - 1))
+                    || (x + 1 >= 0 && x + 1 < boardSize && occupied.get(r * boardSize + x + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Places a ship. Only checks that the ship fits, see
+     * {@link #canPlace(int, int, int, boolean)} for the full rule.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param length       The length of the ship.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @return The id of the new ship.
+     * @throws IllegalArgumentException if the ship does not fit.
+     * @throws IllegalStateException    if the fleet is full.
+     */
+    public int place(int x, int y, int length, boolean isHorizontal) {
+        if (!fits(x, y, length, isHorizontal)) {
+            throw new IllegalArgumentException("Ungültige Schiffsplatzierung.");
+        }
+        int id = nextFreeId();
+        shipX[id] = x;
+        shipY[id] = y;
+        shipLength[id] = length;
+        shipHealth[id] = length;
+        shipHorizontal[id] = isHorizontal;
+
+        int index = y * boardSize + x;
+        int step = isHorizontal ? 1 : boardSize;
+        for (int i = 0; i < length; i++, index += step) {
+            occupied.set(index);
+            shipIds[index] = (byte) id;
+        }
+        shipCount++;
+        remainingCells += length;
+        return id;
+    }
+
+    /**
+     * Removes a ship.
+     *
+     * @param id The id of the ship.
+     */
+    public void remove(int id) {
+        if (!isShip(id)) {
+            return;
+        }
+        int index = shipY[id] * boardSize + shipX[id];
+        int step = shipHorizontal[id] ? 1 : boardSize;
+        for (int i = 0; i < shipLength[id]; i++, index += step) {
+            occupied.clear(index);
+            shipIds[index] = 0;
+        }
+        remainingCells -= shipHealth[id];
+        shipLength[id] = 0;
+        shipHealth[id] = 0;
+        shipCount--;
+    }
+
+    /**
+     * Removes all ships.
+     */
+    public void clear() {
+        for (int id = 1; id <= MAX_SHIPS; id++) {
+            remove(id);
+        }
+    }
+
+    /**
+     * Gets the ship occupying a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The id of the ship, or 0 if the cell holds water or lies outside
+     *         the board.
+     */
+    public int shipAt(int x, int y) {
+        return isOnBoard(x, y) ? shipIds[y * boardSize + x] : 0;
+    }
+
+    /**
+     * Checks if a cell is occupied by a ship.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if a ship occupies the cell, false otherwise.
+     */
+    public boolean isOccupied(int x, int y) {
+        return isOnBoard(x, y) && occupied.get(y * boardSize + x);
+    }
+
+    /**
+     * Registers a hit on a cell. Must be called at most once per cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@link ShotResult#MISS} for water, {@link ShotResult#SUNK} if the
+     *         last intact cell of a ship was hit, {@link ShotResult#HIT}
+     *         otherwise.
+     */
+    public ShotResult hit(int x, int y) {
+        int id = shipAt(x, y);
+        if (id == 0) {
+            return ShotResult.MISS;
+        }
+        remainingCells--;
+        return --shipHealth[id] == 0 ? ShotResult.SUNK : ShotResult.HIT;
+    }
+
+    /**
+     * Checks if an id belongs to a ship on the board.
+     *
+     * @param id The ship id.
+     * @return True if the id is in use, false otherwise.
+     */
+    public boolean isShip(int id) {
+        return id > 0 && id <= MAX_SHIPS && shipLength[id] != 0;
+    }
+
+    /**
+     * Gets the starting x-coordinate of a ship.
+     *
+     * @param id The ship id.
+     * @return The x-coordinate of the ship's first cell.
+     */
+    public int getShipX(int id) {
+        return shipX[id];
+    }
+
+    /**
+     * Gets the starting y-coordinate of a ship.
+     *
+     * @param id The ship id.
+     * @return The y-coordinate of the ship's first cell.
+     */
+    public int getShipY(int id) {
+        return shipY[id];
+    }
+
+    /**
+     * Gets the length of a ship.
+     *
+     * @param id The ship id.
+     * @return The length of the ship, or 0 if the id is unused.
+     */
+    public int getShipLength(int id) {
+        return shipLength[id];
+    }
+
+    /**
+     * Gets the orientation of a ship.
+     *
+     * @param id The ship id.
+     * @return True if the ship lies horizontally, false if vertically.
+     */
+    public boolean isShipHorizontal(int id) {
+        return shipHorizontal[id];
+    }
+
+    /**
+     * Gets the number of intact cells of a ship.
+     *
+     * @param id The ship id.
+     * @return The remaining health of the ship.
+     */
+    public int getShipHealth(int id) {
+        return shipHealth[id];
+    }
+
+    /**
+     * Checks if a ship has been sunk.
+     *
+     * @param id The ship id.
+     * @return True if every cell of the ship has been hit.
+     */
+    public boolean isSunk(int id) {
+        return isShip(id) && shipHealth[id] == 0;
+    }
+
+    /**
+     * Gets the number of ships on the board.
+     *
+     * @return The number of ships.
+     */
+    public int getShipCount() {
+        return shipCount;
+    }
+
+    /**
+     * Counts the ships of a given length.
+     *
+     * @param length The ship length.
+     * @return The number of ships with that length.
+     */
+    public int countShipsOfLength(int length) {
+        int count = 0;
+        for (int id = 1; id <= MAX_SHIPS; id++) {
+            if (shipLength[id] == length) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of ship cells that have not been hit.
+     *
+     * @return The remaining ship cells.
+     */
+    public int getRemainingCells() {
+        return remainingCells;
+    }
+
+    /**
+     * Checks if every ship has been sunk.
+     *
+     * @return True if no intact ship cell is left.
+     */
+    public boolean isDefeated() {
+        return remainingCells == 0;
+    }
+
+    /**
+     * Finds the lowest unused ship id.
+     *
+     * @return A free ship id.
+     * @throws IllegalStateException if no more ships fit.
+     */
+    private int nextFreeId() {
+        for (int id = 1; id <= MAX_SHIPS; id++) {
+            if (shipLength[id] == 0) {
+                return id;
+            }
+        }
+        throw new IllegalStateException("Zu viele Schiffe auf dem Spielfeld.");
+    }
+}
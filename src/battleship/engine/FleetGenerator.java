@@ -0,0 +1,360 @@
+package battleship.engine;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * @class FleetGenerator
+ *        Generates random, valid fleets for a set of {@link FleetRules}.
+ *        Every legal (length, origin, orientation) placement on the empty board
+ *        is precomputed once as two bitmasks: the cells of the ship and the
+ *        cells of the ship plus its surroundings. A fleet is built by drawing
+ *        each ship uniformly from the placements that do not intersect the
+ *        surroundings of the ships already placed, backtracking to the
+ *        previous ship if none is left. Every search step counts against a
+ *        budget of {@link #SEARCH_STEPS}; a search that runs out of it is
+ *        started over from scratch, at most {@link #SEARCH_RESTARTS} times,
+ *        so rules that admit no fleet, or only very few, fail in bounded time
+ *        instead of exhausting an exponential search tree.
+ *        A draw first tries a few random placements of the whole table and
+ *        only lists the legal placements if all of them are blocked, or when
+ *        the search backtracks to the ship.
+ *        The tables grow with the square of the board area, so boards larger
+ *        than {@link #MAX_TABLE_BOARD_SIZE} skip them: each ship is placed at
+ *        random positions checked against the fleet, and the fleet is started
+ *        over if a ship finds no room. On these boards a fleet covers only a
+ *        small part of the board, so the cost depends on the number of ships
+ *        and not on the board area.
+ *        Instances are immutable and can be shared between threads.
+ */
+public final class FleetGenerator {
+
+    /**
+     * Generator for the standard rules.
+     */
+    public static final FleetGenerator STANDARD = new FleetGenerator(FleetRules.STANDARD);
+
+    /**
+     * Largest board size for which the placements are precomputed.
+     */
+    public static final int MAX_TABLE_BOARD_SIZE = 32;
+
+    private static final int SAMPLE_TRIES = 16; /**< Random placements tried before listing the legal ones */
+    private static final int SPARSE_TRIES = 1_000; /**< Random positions tried per ship on large boards */
+    private static final int SPARSE_RESTARTS = 100; /**< Fleets started over on large boards before giving up */
+    private static final int SEARCH_STEPS = 20_000; /**< Placements and backtracks per search before it is started over */
+    private static final int SEARCH_RESTARTS = 25; /**< Searches started over before giving up */
+
+    private final FleetRules rules; /**< The fleet composition and board size */
+    private final int boardSize; /**< The width and height of the board */
+    private final int words; /**< Number of longs per mask */
+    private final int[] shipLengths; /**< The lengths of the ships to place, longest first */
+    private final int[] shipTable; /**< Index of the candidate table per ship */
+    private final int[][] candidates; /**< Encoded placements per table: cell * 2 + (horizontal ? 1 : 0), null on large boards */
+    private final long[][] shipMasks; /**< Cells per placement, words longs each, null on large boards */
+    private final long[][] haloMasks; /**< Cells plus surroundings per placement, words longs each, null on large boards */
+
+    /**
+     * Constructor for FleetGenerator.
+     * Precomputes the placements of every ship length, unless the board is
+     * larger than {@link #MAX_TABLE_BOARD_SIZE}.
+     *
+     * @param rules The fleet composition and board size.
+     */
+    public FleetGenerator(FleetRules rules) {
+        this.rules = rules;
+        this.boardSize = rules.getBoardSize();
+        this.words = (boardSize * boardSize + 63) >>> 6;
+        this.shipLengths = rules.getShipLengths();
+        this.shipTable = new int[shipLengths.length];
+        if (boardSize > MAX_TABLE_BOARD_SIZE) {
+            this.candidates = null;
+            this.shipMasks = null;
+            this.haloMasks = null;
+            return;
+        }
+
+        int tables = 0;
+        for (int i = 0; i < shipLengths.length; i++) {
+            tables += i == 0 || shipLengths[i] != shipLengths[i - 1] ? 1 : 0;
+            shipTable[i] = tables - 1;
+        }
+        this.candidates = new int[tables][];
+        this.shipMasks = new long[tables][];
+        this.haloMasks = new long[tables][];
+        for (int i = 0; i < shipLengths.length; i++) {
+            if (i == 0 || shipTable[i] != shipTable[i - 1]) {
+                buildTable(shipTable[i], shipLengths[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the rules this generator builds fleets for.
+     *
+     * @return The fleet rules.
+     */
+    public FleetRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Generates a random fleet.
+     *
+     * @param random The random generator to draw from.
+     * @return A new fleet holding every ship of the rules.
+     * @throws IllegalStateException if the rules admit no valid fleet, or if
+     *                               none was found within the search budget.
+     */
+    public Fleet generate(RandomGenerator random) {
+        if (candidates == null) {
+            return generateSparse(random);
+        }
+        for (int restart = 0; restart < SEARCH_RESTARTS; restart++) {
+            Fleet fleet = search(random);
+            if (fleet != null) {
+                return fleet;
+            }
+        }
+        throw new IllegalStateException("Keine gültige Flottenaufstellung gefunden.");
+    }
+
+    /**
+     * Searches a fleet with the precomputed placements, giving up after
+     * {@link #SEARCH_STEPS} steps.
+     *
+     * @param random The random generator to draw from.
+     * @return A new fleet holding every ship of the rules, or null if the
+     *         budget ran out.
+     * @throws IllegalStateException if the rules admit no valid fleet.
+     */
+    private Fleet search(RandomGenerator random) {
+        int ships = shipLengths.length;
+        long[] forbidden = new long[(ships + 1) * words]; // One layer per depth
+        int[][] order = new int[ships][];
+        boolean[] listed = new boolean[ships];
+        int[] cursor = new int[ships];
+        int[] count = new int[ships];
+        int[] chosen = new int[ships];
+
+        int depth = 0;
+        boolean forward = true;
+        for (int steps = 0; depth < ships; steps++) {
+            if (steps == SEARCH_STEPS) {
+                return null;
+            }
+            int candidate = forward ? sample(depth, forbidden, random) : -1;
+            if (forward) {
+                listed[depth] = false;
+            }
+            if (candidate < 0) {
+                if (!listed[depth]) {
+                    list(depth, forbidden, order, count);
+                    cursor[depth] = forward ? 0 : exclude(order[depth], count[depth], chosen[depth]);
+                    listed[depth] = true;
+                }
+                if (cursor[depth] == count[depth]) {
+                    if (depth == 0) {
+                        throw new IllegalStateException("Keine gültige Flottenaufstellung möglich.");
+                    }
+                    depth--;
+                    forward = false;
+                    continue;
+                }
+                // Draw uniformly from the candidates not tried yet at this depth
+                int[] open = order[depth];
+                int pick = cursor[depth] + random.nextInt(count[depth] - cursor[depth]);
+                candidate = open[pick];
+                open[pick] = open[cursor[depth]];
+                open[cursor[depth]++] = candidate;
+            }
+
+            chosen[depth] = candidate;
+            long[] halo = haloMasks[shipTable[depth]];
+            int from = depth * words;
+            int to = from + words;
+            for (int w = 0; w < words; w++) {
+                forbidden[to + w] = forbidden[from + w] | halo[candidate * words + w];
+            }
+            depth++;
+            forward = true;
+        }
+
+        Fleet fleet = new Fleet(boardSize);
+        for (int i = 0; i < ships; i++) {
+            int encoded = candidates[shipTable[i]][chosen[i]];
+            int cell = encoded >>> 1;
+            fleet.place(cell % boardSize, cell / boardSize, shipLengths[i], (encoded & 1) != 0);
+        }
+        return fleet;
+    }
+
+    /**
+     * Generates a fleet on a large board by placing the ships, longest first,
+     * at random positions that follow the placement rule.
+     *
+     * @param random The random generator to draw from.
+     * @return A new fleet holding every ship of the rules.
+     * @throws IllegalStateException if no fleet was found.
+     */
+    private Fleet generateSparse(RandomGenerator random) {
+        for (int restart = 0; restart < SPARSE_RESTARTS; restart++) {
+            Fleet fleet = new Fleet(boardSize);
+            boolean isComplete = true;
+            for (int i = 0; i < shipLengths.length && isComplete; i++) {
+                isComplete = placeSparse(fleet, shipLengths[i], random);
+            }
+            if (isComplete) {
+                return fleet;
+            }
+        }
+        throw new IllegalStateException("Keine gültige Flottenaufstellung gefunden.");
+    }
+
+    /**
+     * Places a ship at the first of a number of random positions that
+     * follows the placement rule.
+     *
+     * @param fleet  The fleet to place the ship in.
+     * @param length The length of the ship.
+     * @param random The random generator to draw from.
+     * @return True if the ship was placed, false if every position was
+     *         blocked.
+     */
+    private boolean placeSparse(Fleet fleet, int length, RandomGenerator random) {
+        for (int i = 0; i < SPARSE_TRIES; i++) {
+            boolean isHorizontal = length == 1 || random.nextBoolean();
+            int x = random.nextInt(isHorizontal ? boardSize - length + 1 : boardSize);
+            int y = random.nextInt(isHorizontal ? boardSize : boardSize - length + 1);
+            if (fleet.canPlace(x, y, length, isHorizontal)) {
+                fleet.place(x, y, length, isHorizontal);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tries a few random placements of a ship.
+     *
+     * @param depth     The index of the ship.
+     * @param forbidden The forbidden cells, one layer per depth.
+     * @param random    The random generator to draw from.
+     * @return The index of a legal placement, or -1 if all tries were blocked.
+     */
+    private int sample(int depth, long[] forbidden, RandomGenerator random) {
+        int table = shipTable[depth];
+        for (int i = 0; i < SAMPLE_TRIES; i++) {
+            int candidate = random.nextInt(candidates[table].length);
+            if (isFree(table, candidate, forbidden, depth * words)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Lists the placements of a ship that do not intersect the forbidden
+     * cells of its depth.
+     *
+     * @param depth     The index of the ship.
+     * @param forbidden The forbidden cells, one layer per depth.
+     * @param order     Receives the indices of the legal placements per depth.
+     * @param count     Receives the number of legal placements per depth.
+     */
+    private void list(int depth, long[] forbidden, int[][] order, int[] count) {
+        int table = shipTable[depth];
+        if (order[depth] == null) {
+            order[depth] = new int[candidates[table].length];
+        }
+        int[] open = order[depth];
+        int legal = 0;
+        for (int candidate = 0; candidate < candidates[table].length; candidate++) {
+            if (isFree(table, candidate, forbidden, depth * words)) {
+                open[legal++] = candidate;
+            }
+        }
+        count[depth] = legal;
+    }
+
+    /**
+     * Moves a placement that has already been tried to the front of a list.
+     *
+     * @param open      The legal placements.
+     * @param count     The number of legal placements.
+     * @param candidate The placement that has been tried.
+     * @return The number of tried placements at the front of the list.
+     */
+    private static int exclude(int[] open, int count, int candidate) {
+        for (int i = 0; i < count; i++) {
+            if (open[i] == candidate) {
+                open[i] = open[0];
+                open[0] = candidate;
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks if a placement avoids the forbidden cells.
+     *
+     * @param table     The index of the candidate table.
+     * @param candidate The index of the placement.
+     * @param forbidden The forbidden cells, one layer per depth.
+     * @param layer     The offset of the layer to test against.
+     * @return True if the placement is legal.
+     */
+    private boolean isFree(int table, int candidate, long[] forbidden, int layer) {
+        long[] masks = shipMasks[table];
+        int offset = candidate * words;
+        for (int w = 0; w < words; w++) {
+            if ((masks[offset + w] & forbidden[layer + w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Precomputes the placements and masks of one ship length.
+     *
+     * @param table  The index of the table to fill.
+     * @param length The length of the ship.
+     */
+    private void buildTable(int table, int length) {
+        int horizontal = (boardSize - length + 1) * boardSize;
+        int total = length == 1 ? horizontal : 2 * horizontal;
+        int[] encoded = new int[total];
+        long[] ship = new long[total * words];
+        long[] halo = new long[total * words];
+
+        int candidate = 0;
+        for (int y = 0; y < boardSize; y++) {
+            for (int x = 0; x < boardSize; x++) {
+                for (int orientation = 1; orientation >= 0; orientation--) {
+                    boolean isHorizontal = orientation == 1;
+                    int endX = isHorizontal ? x + length - 1 : x;
+                    int endY = isHorizontal ? y : y + length - 1;
+                    if (endX >= boardSize || endY >= boardSize || (length == 1 && !isHorizontal)) {
+                        continue;
+                    }
+                    encoded[candidate] = (y * boardSize + x) * 2 + orientation;
+                    for (int r = Math.max(0, y - 1); r <= Math.min(boardSize - 1, endY + 1); r++) {
+                        for (int c = Math.max(0, x - 1); c <= Math.min(boardSize - 1, endX + 1); c++) {
+                            int cell = r * boardSize + c;
+                            long bit = 1L << cell;
+                            halo[candidate * words + (cell >>> 6)] |= bit;
+                            if (r >= y && r <= endY && c >= x && c <= endX) {
+                                ship[candidate * words + (cell >>> 6)] |= bit;
+                            }
+                        }
+                    }
+                    candidate++;
+                }
+            }
+        }
+        candidates[table] = encoded;
+        shipMasks[table] = ship;
+        haloMasks[table] = halo;
+    }
+}
@@ -0,0 +1,166 @@
+package battleship.engine;
+
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @class FleetPool
+ *        Bounded pool of ready-made fleets that a background thread keeps
+ *        filled, so starting a game only has to take a fleet instead of
+ *        generating one.
+ *        The pool is lock-free: fleets are kept in a
+ *        {@link ConcurrentLinkedQueue} whose depth is bounded by an atomic
+ *        counter. The producer parks while the pool is full and is woken up
+ *        by {@link #take()}. If the pool is empty, {@link #take()} generates a
+ *        fleet on the calling thread.
+ */
+public final class FleetPool implements AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100); /**< Longest park of an idle producer */
+
+    private final FleetGenerator generator; /**< Generates the fleets */
+    private final int capacity; /**< Maximum number of fleets in the pool */
+    private final Queue<Fleet> fleets = new ConcurrentLinkedQueue<>(); /**< The ready-made fleets */
+    private final AtomicInteger depth = new AtomicInteger(); /**< Number of fleets in the pool */
+    private final AtomicLong produced = new AtomicLong(); /**< Fleets generated by the producer */
+    private final AtomicLong busyNanos = new AtomicLong(); /**< Time the producer spent generating */
+    private final AtomicLong misses = new AtomicLong(); /**< Takes that found the pool empty */
+    private final Thread producer; /**< The background thread refilling the pool */
+    private volatile boolean running; /**< False once the pool is closed */
+
+    /**
+     * Constructor for FleetPool.
+     * The producer is not started, see {@link #start()}.
+     *
+     * @param generator The generator of the fleets.
+     * @param capacity  The maximum number of fleets kept ready.
+     */
+    public FleetPool(FleetGenerator generator, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ungültige Poolgröße: " + capacity);
+        }
+        this.generator = generator;
+        this.capacity = capacity;
+        this.producer = new Thread(this::refill, "fleet-pool");
+        this.producer.setDaemon(true);
+        this.producer.setPriority(Thread.MIN_PRIORITY);
+    }
+
+    /**
+     * Starts the background thread that fills the pool.
+     */
+    public synchronized void start() {
+        if (!running && producer.getState() == Thread.State.NEW) {
+            running = true;
+            producer.start();
+        }
+    }
+
+    /**
+     * Takes a fleet from the pool. Generates one on the calling thread if
+     * the pool is empty.
+     *
+     * @return A new fleet that no one else holds.
+     */
+    public Fleet take() {
+        Fleet fleet = fleets.poll();
+        if (fleet == null) {
+            misses.incrementAndGet();
+            return generator.generate(ThreadLocalRandom.current());
+        }
+        depth.decrementAndGet();
+        LockSupport.unpark(producer);
+        return fleet;
+    }
+
+    /**
+     * Gets the rules of the fleets in the pool.
+     *
+     * @return The fleet rules.
+     */
+    public FleetRules getRules() {
+        return generator.getRules();
+    }
+
+    /**
+     * Gets the number of fleets ready to be taken.
+     *
+     * @return The current depth of the pool.
+     */
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Gets the maximum number of fleets kept ready.
+     *
+     * @return The capacity of the pool.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of fleets the background thread has generated.
+     *
+     * @return The number of fleets produced.
+     */
+    public long getProduced() {
+        return produced.get();
+    }
+
+    /**
+     * Gets the number of takes that found the pool empty.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the rate at which the background thread refills the pool while it
+     * is not full.
+     *
+     * @return The refill rate in fleets per second, 0 before the first fleet.
+     */
+    public double getRefillRate() {
+        long nanos = busyNanos.get();
+        return nanos == 0 ? 0 : produced.get() * 1e9 / nanos;
+    }
+
+    /**
+     * Stops the background thread. Fleets already in the pool can still be
+     * taken.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(producer);
+    }
+
+    /**
+     * Body of the background thread: keeps the pool at its capacity.
+     */
+    private void refill() {
+        SplittableRandom random = new SplittableRandom();
+        while (running) {
+            if (depth.get() >= capacity) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            long start = System.nanoTime();
+            Fleet fleet = generator.generate(random);
+            busyNanos.addAndGet(System.nanoTime() - start);
+            depth.incrementAndGet();
+            fleets.offer(fleet);
+            produced.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package battleship.engine;
+
+import java.util.Arrays;
+
+/**
+ * @class FleetRules
+ *        Describes which ships make up a complete fleet and on which board
+ *        size the game is played.
+ */
+public final class FleetRules {
+
+    /**
+     * The standard rules: a 10x10 board with one Schlachtschiff (5), two
+     * Kreuzer (4), three Zerstörer (3) and four U-Boote (2).
+     */
+    public static final FleetRules STANDARD = new FleetRules(10, new int[] { 5, 4, 4, 3, 3, 3, 2, 2, 2, 2 });
+
+    /**
+     * Smallest board size of {@link #forBoardSize(int)}.
+     */
+    public static final int MIN_BOARD_SIZE = 10;
+
+    /**
+     * Largest board size of {@link #forBoardSize(int)}.
+     */
+    public static final int MAX_BOARD_SIZE = 1000;
+
+    private static final int CELLS_PER_FLEET = 100; /**< Board cells per copy of the standard fleet */
+
+    private final int boardSize; /**< The width and height of the board */
+    private final int[] shipLengths; /**< The ship lengths of a complete fleet, longest first */
+    private final int[] limitByLength; /**< Number of ships per length */
+    private final int totalCells; /**< Sum of all ship lengths */
+
+    /**
+     * Constructor for FleetRules.
+     *
+     * @param boardSize   The width and height of the board.
+     * @param shipLengths The lengths of the ships of a complete fleet.
+     */
+    public FleetRules(int boardSize, int[] shipLengths) {
+        if (boardSize <= 0 || shipLengths.length == 0 || shipLengths.length > Fleet.MAX_SHIPS) {
+            throw new IllegalArgumentException("Ungültige Flottenregeln.");
+        }
+        int[] sorted = shipLengths.clone();
+        Arrays.sort(sorted);
+        this.shipLengths = new int[sorted.length];
+        int cells = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            int length = sorted[sorted.length - 1 - i];
+            if (length <= 0 || length > boardSize) {
+                throw new IllegalArgumentException("Ungültige Schiffslänge: " + length);
+            }
+            this.shipLengths[i] = length;
+            cells += length;
+        }
+        this.boardSize = boardSize;
+        this.totalCells = cells;
+        this.limitByLength = new int[this.shipLengths[0] + 1];
+        for (int length : this.shipLengths) {
+            limitByLength[length]++;
+        }
+    }
+
+    /**
+     * Gets the rules for a board of the given size: the standard fleet once
+     * per 100 cells, so larger boards keep the density of the standard game,
+     * up to the {@link Fleet#MAX_SHIPS} a fleet can hold.
+     *
+     * @param boardSize The width and height of the board, between
+     *                  {@link #MIN_BOARD_SIZE} and {@link #MAX_BOARD_SIZE}.
+     * @return The standard rules for a 10x10 board, scaled rules otherwise.
+     * @throws IllegalArgumentException if the board size is out of range.
+     */
+    public static FleetRules forBoardSize(int boardSize) {
+        if (boardSize < MIN_BOARD_SIZE || boardSize > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Spielfeldgröße muss zwischen " + MIN_BOARD_SIZE + " und "
+                    + MAX_BOARD_SIZE + " liegen: " + boardSize);
+        }
+        if (boardSize == STANDARD.boardSize) {
+            return STANDARD;
+        }
+        int copies = Math.min(boardSize * boardSize / CELLS_PER_FLEET, Fleet.MAX_SHIPS / STANDARD.shipLengths.length);
+        int[] lengths = new int[copies * STANDARD.shipLengths.length];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = STANDARD.shipLengths[i % STANDARD.shipLengths.length];
+        }
+        return new FleetRules(boardSize, lengths);
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The size of the board.
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the ship lengths of a complete fleet, longest first.
+     *
+     * @return A copy of the ship lengths.
+     */
+    public int[] getShipLengths() {
+        return shipLengths.clone();
+    }
+
+    /**
+     * Gets the number of ships of a complete fleet.
+     *
+     * @return The number of ships.
+     */
+    public int getTotalShips() {
+        return shipLengths.length;
+    }
+
+    /**
+     * Gets the number of ship cells of a complete fleet.
+     *
+     * @return The sum of all ship lengths.
+     */
+    public int getTotalCells() {
+        return totalCells;
+    }
+
+    /**
+     * Gets the number of ships of a given length in a complete fleet.
+     *
+     * @param length The ship length.
+     * @return The number of ships allowed with that length.
+     */
+    public int getLimit(int length) {
+        return length > 0 && length < limitByLength.length ? limitByLength[length] : 0;
+    }
+
+    /**
+     * Checks if a fleet is complete according to these rules.
+     *
+     * @param fleet The fleet to check.
+     * @return True if every ship of the fleet has been placed.
+     */
+    public boolean isComplete(Fleet fleet) {
+        if (fleet.getShipCount() != shipLengths.length) {
+            return false;
+        }
+        for (int length = 1; length < limitByLength.length; length++) {
+            if (limitByLength[length] != 0 && fleet.countShipsOfLength(length) != limitByLength[length]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
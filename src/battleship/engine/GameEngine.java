@@ -0,0 +1,249 @@
+package battleship.engine;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * @class GameEngine
+ *        Headless rules engine for one game of Battleship.
+ *        Owns the placement rules, the turn order, shot resolution and sunk and
+ *        win detection on top of a {@link GameState}. Has no dependency on
+ *        Swing or AWT, so it can run on servers and in simulations.
+ */
+public class GameEngine {
+
+    private final FleetRules rules; /**< The fleet composition and board size */
+    private final GameState state; /**< The state of the game */
+
+    /**
+     * Constructor for GameEngine.
+     * Starts a new game with the standard rules.
+     */
+    public GameEngine() {
+        this(FleetRules.STANDARD);
+    }
+
+    /**
+     * Constructor for GameEngine.
+     * Starts a new game with empty fleets.
+     *
+     * @param rules The fleet composition and board size.
+     */
+    public GameEngine(FleetRules rules) {
+        this(rules, new GameState(rules.getBoardSize()));
+    }
+
+    /**
+     * Constructor for GameEngine.
+     * Continues an existing game.
+     *
+     * @param rules The fleet composition and board size.
+     * @param state The state to continue from.
+     */
+    public GameEngine(FleetRules rules, GameState state) {
+        if (rules.getBoardSize() != state.getBoardSize()) {
+            throw new IllegalArgumentException("Spielfeldgröße passt nicht zu den Regeln.");
+        }
+        this.rules = rules;
+        this.state = state;
+    }
+
+    /**
+     * Gets the rules of the game.
+     *
+     * @return The fleet rules.
+     */
+    public FleetRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the state of the game.
+     *
+     * @return The game state.
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * Checks if a player may place a ship: the ship must follow the placement
+     * rule of {@link Fleet#canPlace(int, int, int, boolean)} and the fleet
+     * must not already contain all ships of that length.
+     *
+     * @param player       The player index.
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param length       The length of the ship.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @return True if the ship can be placed, false otherwise.
+     */
+    public boolean canPlaceShip(int player, int x, int y, int length, boolean isHorizontal) {
+        Fleet fleet = state.getFleet(player);
+        return fleet.countShipsOfLength(length) < rules.getLimit(length)
+                && fleet.canPlace(x, y, length, isHorizontal);
+    }
+
+    /**
+     * Places a ship for a player.
+     *
+     * @param player       The player index.
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param length       The length of the ship.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @return The id of the new ship.
+     * @throws IllegalArgumentException if the placement breaks the rules.
+     */
+    public int placeShip(int player, int x, int y, int length, boolean isHorizontal) {
+        if (!canPlaceShip(player, x, y, length, isHorizontal)) {
+            throw new IllegalArgumentException("Platzierung ungültig.");
+        }
+        return state.getFleet(player).place(x, y, length, isHorizontal);
+    }
+
+    /**
+     * Removes a ship of a player.
+     *
+     * @param player The player index.
+     * @param id     The id of the ship.
+     */
+    public void removeShip(int player, int id) {
+        state.getFleet(player).remove(id);
+    }
+
+    /**
+     * Checks if a player has placed the complete fleet.
+     *
+     * @param player The player index.
+     * @return True if every ship has been placed.
+     */
+    public boolean isFleetComplete(int player) {
+        return rules.isComplete(state.getFleet(player));
+    }
+
+    /**
+     * Starts the shooting phase with the given player.
+     *
+     * @param firstPlayer The index of the player who shoots first.
+     */
+    public void start(int firstPlayer) {
+        state.setCurrentPlayer(firstPlayer);
+    }
+
+    /**
+     * Starts the shooting phase with a randomly chosen player.
+     *
+     * @param random The random generator to draw from.
+     * @return The index of the player who shoots first.
+     */
+    public int startRandom(RandomGenerator random) {
+        int firstPlayer = random.nextBoolean() ? GameState.PLAYER_ONE : GameState.PLAYER_TWO;
+        start(firstPlayer);
+        return firstPlayer;
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return The index of the current player.
+     */
+    public int getCurrentPlayer() {
+        return state.getCurrentPlayer();
+    }
+
+    /**
+     * Passes the turn to the other player.
+     */
+    public void endTurn() {
+        state.setCurrentPlayer(GameState.opponentOf(state.getCurrentPlayer()));
+    }
+
+    /**
+     * Fires a shot for the current player.
+     *
+     * @param x The x-coordinate of the target cell.
+     * @param y The y-coordinate of the target cell.
+     * @return The result of the shot.
+     */
+    public ShotResult fire(int x, int y) {
+        return fire(state.getCurrentPlayer(), x, y);
+    }
+
+    /**
+     * Fires a shot for a player at the opponent's fleet.
+     * Does not change the turn, see {@link #endTurn()}.
+     *
+     * @param shooter The index of the shooting player.
+     * @param x       The x-coordinate of the target cell.
+     * @param y       The y-coordinate of the target cell.
+     * @return The result of the shot.
+     * @throws IllegalArgumentException if the cell lies outside the board.
+     * @throws IllegalStateException    if the game is over or the cell has
+     *                                  already been shot at.
+     */
+    public ShotResult fire(int shooter, int x, int y) {
+        int opponent = GameState.opponentOf(shooter);
+        Fleet target = state.getFleet(opponent);
+        if (!target.isOnBoard(x, y)) {
+            throw new IllegalArgumentException("Ungültiges Feld: " + x + "," + y);
+        }
+        if (isGameOver()) {
+            throw new IllegalStateException("Das Spiel ist bereits vorbei.");
+        }
+        int index = y * state.getBoardSize() + x;
+        if (state.getShots(shooter).get(index)) {
+            throw new IllegalStateException("Bereits auf dieses Feld geschossen!");
+        }
+
+        ShotResult result = target.hit(x, y);
+        state.recordShot(shooter, index, result.isHit());
+        if (target.isDefeated()) {
+            state.setWinner(shooter);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if a player has shot at a cell.
+     *
+     * @param shooter The index of the shooting player.
+     * @param x       The x-coordinate of the cell.
+     * @param y       The y-coordinate of the cell.
+     * @return True if the player has shot at the cell.
+     */
+    public boolean isShot(int shooter, int x, int y) {
+        return state.getFleet(shooter).isOnBoard(x, y)
+                && state.getShots(shooter).get(y * state.getBoardSize() + x);
+    }
+
+    /**
+     * Checks if the fleet of a player has been sunk completely.
+     *
+     * @param player The player index.
+     * @return True if every ship of the player has been sunk.
+     */
+    public boolean isDefeated(int player) {
+        return state.getFleet(player).isDefeated();
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return True if one player has sunk the whole fleet of the other.
+     */
+    public boolean isGameOver() {
+        return state.getWinner() != GameState.NO_WINNER;
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return The index of the winner, or {@link GameState#NO_WINNER} while the
+     *         game is running.
+     */
+    public int getWinner() {
+        return state.getWinner();
+    }
+}
@@ -0,0 +1,305 @@
+package battleship.engine;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * @class GameSnapshot
+ *        A complete game in a compact, versioned binary form, for saving and
+ *        resuming games and for handing them between servers.
+ *        Only what cannot be derived is stored: the ships of both fleets, the
+ *        cells each player has shot at, whose turn it is, the winner, which
+ *        targeting strategy a computer player uses and the part of its
+ *        knowledge that depends on the order of its shots. Hits, the health of
+ *        the ships and the rest of the strategy's knowledge follow from
+ *        replaying the shots against the fleets. A standard game of 10x10
+ *        cells with ten ships per fleet takes 74 bytes without strategy state.
+ *        Layout of {@link #VERSION} 2, all values unsigned:
+ *        <ul>
+ *        <li>1 byte version, 1 byte board size</li>
+ *        <li>1 byte flags: bit 0 the current player, bits 1-2 the winner + 1</li>
+ *        <li>1 byte strategy codes: player one in the low, player two in the
+ *        high nibble, {@link #NO_STRATEGY} for human players</li>
+ *        <li>per fleet: 1 byte ship count, per ship the cell index of its
+ *        origin (1 byte up to 256 cells, 2 bytes above) and 1 byte length
+ *        with bit 7 set for horizontal ships</li>
+ *        <li>per player: the shot bitset, one bit per cell, 8 cells per
+ *        byte</li>
+ *        <li>per player: 1 byte length and the bytes of the strategy state,
+ *        see {@link battleship.engine.ai.TargetingStrategy#saveState()}</li>
+ *        </ul>
+ *        Version 1 lacks the strategy states and is still read, with empty
+ *        states.
+ */
+public final class GameSnapshot {
+
+    /**
+     * Version of the format written by {@link #writeTo(ByteBuffer)}.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * Strategy code of a player without a targeting strategy.
+     */
+    public static final int NO_STRATEGY = 0xF;
+
+    private static final int HORIZONTAL = 0x80; /**< Flag in the length byte of horizontal ships */
+    private static final int MAX_BOARD_SIZE = 0xFF; /**< Largest board size that fits the format */
+    private static final int MAX_STATE_LENGTH = 0xFF; /**< Largest strategy state that fits the format */
+    private static final byte[] NO_STATE = new byte[0]; /**< The state of a strategy without one */
+
+    private final GameState state; /**< The game */
+    private final int[] strategies; /**< Strategy code per player index */
+    private final byte[][] strategyStates; /**< Strategy state per player index */
+
+    /**
+     * Constructor for GameSnapshot.
+     * Both players are human.
+     *
+     * @param state The game to capture.
+     */
+    public GameSnapshot(GameState state) {
+        this(state, NO_STRATEGY, NO_STRATEGY);
+    }
+
+    /**
+     * Constructor for GameSnapshot.
+     *
+     * @param state       The game to capture.
+     * @param strategyOne The code of the targeting strategy of player one,
+     *                    between 0 and 14, or {@link #NO_STRATEGY}.
+     * @param strategyTwo The code of the targeting strategy of player two,
+     *                    between 0 and 14, or {@link #NO_STRATEGY}.
+     */
+    public GameSnapshot(GameState state, int strategyOne, int strategyTwo) {
+        this(state, strategyOne, strategyTwo, NO_STATE, NO_STATE);
+    }
+
+    /**
+     * Constructor for GameSnapshot.
+     *
+     * @param state       The game to capture.
+     * @param strategyOne The code of the targeting strategy of player one,
+     *                    between 0 and 14, or {@link #NO_STRATEGY}.
+     * @param strategyTwo The code of the targeting strategy of player two,
+     *                    between 0 and 14, or {@link #NO_STRATEGY}.
+     * @param stateOne    The strategy state of player one, at most 255 bytes.
+     * @param stateTwo    The strategy state of player two, at most 255 bytes.
+     */
+    public GameSnapshot(GameState state, int strategyOne, int strategyTwo, byte[] stateOne, byte[] stateTwo) {
+        if (state.getBoardSize() > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Spielfeld zu groß für einen Spielstand: " + state.getBoardSize());
+        }
+        if ((strategyOne & ~NO_STRATEGY) != 0 || (strategyTwo & ~NO_STRATEGY) != 0) {
+            throw new IllegalArgumentException("Ungültige Strategie.");
+        }
+        if (stateOne.length > MAX_STATE_LENGTH || stateTwo.length > MAX_STATE_LENGTH) {
+            throw new IllegalArgumentException("Strategiezustand zu groß für einen Spielstand.");
+        }
+        this.state = state;
+        this.strategies = new int[] { strategyOne, strategyTwo };
+        this.strategyStates = new byte[][] { stateOne.clone(), stateTwo.clone() };
+    }
+
+    /**
+     * Gets the captured game. A snapshot read with
+     * {@link #readFrom(ByteBuffer)} owns its state, which can be continued with
+     * {@link GameEngine#GameEngine(FleetRules, GameState)}.
+     *
+     * @return The game state.
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the code of the targeting strategy of a player.
+     *
+     * @param player The player index.
+     * @return The strategy code, or {@link #NO_STRATEGY} for a human player.
+     */
+    public int getStrategy(int player) {
+        return strategies[player];
+    }
+
+    /**
+     * Gets the state of the targeting strategy of a player, see
+     * {@link battleship.engine.ai.TargetingStrategy#restoreState(byte[])}.
+     *
+     * @param player The player index.
+     * @return A copy of the strategy state, empty if there is none.
+     */
+    public byte[] getStrategyState(int player) {
+        return strategyStates[player].clone();
+    }
+
+    /**
+     * Gets the number of bytes {@link #writeTo(ByteBuffer)} writes.
+     *
+     * @return The encoded size.
+     */
+    public int size() {
+        int boardSize = state.getBoardSize();
+        int cellBytes = cellBytes(boardSize);
+        int size = 4 + 2 * ((boardSize * boardSize + 7) / 8);
+        for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+            size += 1 + (cellBytes + 1) * state.getFleet(player).getShipCount();
+            size += 1 + strategyStates[player].length;
+        }
+        return size;
+    }
+
+    /**
+     * Encodes the snapshot into a new array.
+     *
+     * @return The encoded snapshot.
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[size()];
+        writeTo(ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Encodes the snapshot at the position of a buffer.
+     *
+     * @param out The buffer, with at least {@link #size()} bytes remaining.
+     */
+    public void writeTo(ByteBuffer out) {
+        int boardSize = state.getBoardSize();
+        int cellBytes = cellBytes(boardSize);
+        out.put((byte) VERSION);
+        out.put((byte) boardSize);
+        out.put((byte) (state.getCurrentPlayer() | (state.getWinner() + 1) << 1));
+        out.put((byte) (strategies[GameState.PLAYER_ONE] | strategies[GameState.PLAYER_TWO] << 4));
+
+        for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+            Fleet fleet = state.getFleet(player);
+            out.put((byte) fleet.getShipCount());
+            for (int id = 1, written = 0; written < fleet.getShipCount(); id++) {
+                if (!fleet.isShip(id)) {
+                    continue;
+                }
+                int cell = fleet.getShipY(id) * boardSize + fleet.getShipX(id);
+                if (cellBytes == 2) {
+                    out.put((byte) (cell >>> 8));
+                }
+                out.put((byte) cell);
+                out.put((byte) (fleet.getShipLength(id) | (fleet.isShipHorizontal(id) ? HORIZONTAL : 0)));
+                written++;
+            }
+        }
+
+        int bitsetBytes = (boardSize * boardSize + 7) / 8;
+        for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+            Bitboard shots = state.getShots(player);
+            for (int i = 0; i < bitsetBytes; i++) {
+                out.put((byte) (shots.getWord(i >>> 3) >>> ((i & 7) << 3)));
+            }
+        }
+
+        for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+            out.put((byte) strategyStates[player].length);
+            out.put(strategyStates[player]);
+        }
+    }
+
+    /**
+     * Decodes a snapshot from an array.
+     *
+     * @param bytes The encoded snapshot.
+     * @return The snapshot, owning a new game state.
+     * @throws IllegalArgumentException if the bytes are no valid snapshot.
+     */
+    public static GameSnapshot fromBytes(byte[] bytes) {
+        return readFrom(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a snapshot at the position of a buffer. Replays the shots of
+     * both players against the fleets, so hits, ship health and shot counts
+     * are restored as well.
+     *
+     * @param in The buffer holding the encoded snapshot.
+     * @return The snapshot, owning a new game state.
+     * @throws IllegalArgumentException if the bytes are no valid snapshot.
+     */
+    public static GameSnapshot readFrom(ByteBuffer in) {
+        try {
+            int version = in.get() & 0xFF;
+            if (version != 1 && version != VERSION) {
+                throw new IllegalArgumentException("Unbekannte Version des Spielstands: " + version);
+            }
+            int boardSize = in.get() & 0xFF;
+            if (boardSize == 0) {
+                throw new IllegalArgumentException("Ungültige Spielfeldgröße: 0");
+            }
+            int flags = in.get() & 0xFF;
+            int strategies = in.get() & 0xFF;
+            int cellBytes = cellBytes(boardSize);
+
+            GameState state = new GameState(boardSize);
+            for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+                Fleet fleet = state.getFleet(player);
+                int count = in.get() & 0xFF;
+                for (int i = 0; i < count; i++) {
+                    int cell = in.get() & 0xFF;
+                    if (cellBytes == 2) {
+                        cell = cell << 8 | in.get() & 0xFF;
+                    }
+                    int length = in.get() & 0xFF;
+                    fleet.place(cell % boardSize, cell / boardSize, length & ~HORIZONTAL,
+                            (length & HORIZONTAL) != 0);
+                }
+            }
+
+            int bitsetBytes = (boardSize * boardSize + 7) / 8;
+            for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+                Fleet target = state.getFleet(GameState.opponentOf(player));
+                for (int i = 0; i < bitsetBytes; i++) {
+                    int bits = in.get() & 0xFF;
+                    while (bits != 0) {
+                        int index = i * 8 + Integer.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                        if (index >= boardSize * boardSize) {
+                            throw new IllegalArgumentException("Schuss außerhalb des Spielfelds.");
+                        }
+                        ShotResult result = target.hit(index % boardSize, index / boardSize);
+                        state.recordShot(player, index, result.isHit());
+                    }
+                }
+            }
+
+            byte[][] strategyStates = { NO_STATE, NO_STATE };
+            if (version >= 2) {
+                for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+                    strategyStates[player] = new byte[in.get() & 0xFF];
+                    in.get(strategyStates[player]);
+                }
+            }
+
+            int winner = (flags >>> 1 & 3) - 1;
+            if (winner > GameState.PLAYER_TWO) {
+                throw new IllegalArgumentException("Ungültiger Gewinner.");
+            }
+            state.setCurrentPlayer(flags & 1);
+            state.setWinner(winner);
+            return new GameSnapshot(state, strategies & NO_STRATEGY, strategies >>> 4,
+                    strategyStates[GameState.PLAYER_ONE], strategyStates[GameState.PLAYER_TWO]);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Spielstand ist unvollständig.", e);
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Spielstand hat zu viele Schiffe.", e);
+        }
+    }
+
+    /**
+     * Gets the number of bytes of a cell index.
+     *
+     * @param boardSize The width and height of the board.
+     * @return 1 if every cell index fits a byte, 2 otherwise.
+     */
+    private static int cellBytes(int boardSize) {
+        return boardSize * boardSize <= 0x100 ? 1 : 2;
+    }
+}
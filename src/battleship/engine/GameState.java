@@ -0,0 +1,174 @@
+package battleship.engine;
+
+/**
+ * @class GameState
+ *        Compact state of one game: both fleets, the cells each player has shot
+ *        at and hit, whose turn it is and who has won.
+ *        Players are identified by the indices {@link #PLAYER_ONE} and
+ *        {@link #PLAYER_TWO}.
+ */
+public final class GameState {
+
+    /**
+     * Index of the first player.
+     */
+    public static final int PLAYER_ONE = 0;
+
+    /**
+     * Index of the second player.
+     */
+    public static final int PLAYER_TWO = 1;
+
+    /**
+     * Value of {@link #getWinner()} while the game is running.
+     */
+    public static final int NO_WINNER = -1;
+
+    private final int boardSize; /**< The width and height of both boards */
+    private final Fleet[] fleets; /**< The fleet of each player */
+    private final Bitboard[] shots; /**< Cells each player has shot at */
+    private final Bitboard[] hits; /**< Cells each player has hit */
+    private final int[] shotCounts; /**< Number of shots per player */
+    private int currentPlayer; /**< Index of the player whose turn it is */
+    private int winner = NO_WINNER; /**< Index of the winner, or NO_WINNER */
+
+    /**
+     * Constructor for GameState.
+     * Creates two empty fleets, no shots and player one to move.
+     *
+     * @param boardSize The width and height of both boards.
+     */
+    public GameState(int boardSize) {
+        this(new Fleet(boardSize), new Fleet(boardSize));
+    }
+
+    /**
+     * Constructor for GameState.
+     * Starts from the given fleets, with no shots and player one to move.
+     *
+     * @param playerOne The fleet of the first player.
+     * @param playerTwo The fleet of the second player.
+     */
+    public GameState(Fleet playerOne, Fleet playerTwo) {
+        if (playerOne.getBoardSize() != playerTwo.getBoardSize()) {
+            throw new IllegalArgumentException("Spielfelder haben unterschiedliche Größen.");
+        }
+        int boardSize = playerOne.getBoardSize();
+        this.boardSize = boardSize;
+        this.fleets = new Fleet[] { playerOne, playerTwo };
+        this.shots = new Bitboard[] { new Bitboard(boardSize * boardSize), new Bitboard(boardSize * boardSize) };
+        this.hits = new Bitboard[] { new Bitboard(boardSize * boardSize), new Bitboard(boardSize * boardSize) };
+        this.shotCounts = new int[2];
+    }
+
+    /**
+     * Gets the index of the other player.
+     *
+     * @param player A player index.
+     * @return The index of the opponent.
+     */
+    public static int opponentOf(int player) {
+        return 1 - player;
+    }
+
+    /**
+     * Gets the width and height of both boards.
+     *
+     * @return The size of the boards.
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the fleet of a player.
+     *
+     * @param player The player index.
+     * @return The player's fleet.
+     */
+    public Fleet getFleet(int player) {
+        return fleets[player];
+    }
+
+    /**
+     * Gets the cells a player has shot at.
+     *
+     * @param player The player index.
+     * @return The shot bitset of the player.
+     */
+    public Bitboard getShots(int player) {
+        return shots[player];
+    }
+
+    /**
+     * Gets the cells a player has hit.
+     *
+     * @param player The player index.
+     * @return The hit bitset of the player.
+     */
+    public Bitboard getHits(int player) {
+        return hits[player];
+    }
+
+    /**
+     * Gets the number of shots a player has fired.
+     *
+     * @param player The player index.
+     * @return The number of shots.
+     */
+    public int getShotCount(int player) {
+        return shotCounts[player];
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return The index of the current player.
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Sets the player whose turn it is.
+     *
+     * @param player The index of the current player.
+     */
+    void setCurrentPlayer(int player) {
+        this.currentPlayer = player;
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return The index of the winner, or {@link #NO_WINNER} while the game
+     *         is running.
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Sets the winner of the game.
+     *
+     * @param winner The index of the winner.
+     */
+    void setWinner(int winner) {
+        this.winner = winner;
+    }
+
+    /**
+     * Records a shot.
+     *
+     * @param player The index of the shooting player.
+     * @param index  The cell index.
+     * @param isHit  True if the shot hit a ship.
+     */
+    void recordShot(int player, int index, boolean isHit) {
+        shots[player].set(index);
+        if (isHit) {
+            hits[player].set(index);
+        }
+        shotCounts[player]++;
+    }
+}
@@ -0,0 +1,18 @@
+package battleship.engine;
+
+/**
+ * @interface ShotResolver
+ *            Resolves a shot at a cell of the opponent's board.
+ */
+@FunctionalInterface
+public interface ShotResolver {
+
+    /**
+     * Resolves a shot.
+     *
+     * @param x The x-coordinate of the target cell.
+     * @param y The y-coordinate of the target cell.
+     * @return The result of the shot.
+     */
+    ShotResult resolve(int x, int y);
+}
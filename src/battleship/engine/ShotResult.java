@@ -0,0 +1,23 @@
+package battleship.engine;
+
+/**
+ * @enum ShotResult
+ *       The outcome of a single shot.
+ */
+public enum ShotResult {
+    /** The shot hit water. */
+    MISS,
+    /** The shot hit a ship that is still afloat. */
+    HIT,
+    /** The shot hit the last intact cell of a ship. */
+    SUNK;
+
+    /**
+     * Checks if the shot hit a ship.
+     *
+     * @return True for {@link #HIT} and {@link #SUNK}, false for {@link #MISS}.
+     */
+    public boolean isHit() {
+        return this != MISS;
+    }
+}
@@ -0,0 +1,221 @@
+package battleship.engine.ai;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import battleship.engine.FleetRules;
+import battleship.engine.ShotResult;
+
+/**
+ * @class AbstractTargetingStrategy
+ *        Base class for targeting strategies that keep track of what is known
+ *        about every cell of the opponent's board and which ships are still
+ *        afloat.
+ *        Applies the rules of the game to the shot results: the diagonal
+ *        neighbours of a hit and the surroundings of a sunk ship are water.
+ *        Subclasses are notified of every change of a cell.
+ */
+abstract class AbstractTargetingStrategy implements TargetingStrategy {
+
+    static final byte UNKNOWN = 0; /**< Not shot at, contents unknown */
+    static final byte MISS = 1; /**< Shot at, water */
+    static final byte WATER = 2; /**< Not shot at, water by the no-touch rule */
+    static final byte HIT = 3; /**< Hit, ship still afloat */
+    static final byte SUNK = 4; /**< Part of a sunk ship */
+
+    final FleetRules rules; /**< The fleet composition and board size */
+    final RandomGenerator random; /**< Breaks ties between equally good cells */
+    final int boardSize; /**< The width and height of the board */
+    final int[] lengths; /**< The distinct ship lengths, longest first */
+    final int[] lengthIndex; /**< Index into lengths per ship length, -1 if unused */
+    final int[] afloat; /**< Number of ships afloat per distinct length */
+    final byte[] state; /**< Knowledge about each cell */
+
+    /**
+     * Constructor for AbstractTargetingStrategy.
+     * Subclasses call {@link #reset()} once their own fields are set up.
+     *
+     * @param rules  The fleet composition and board size of the opponent.
+     * @param random The random generator used to break ties.
+     */
+    AbstractTargetingStrategy(FleetRules rules, RandomGenerator random) {
+        this.rules = rules;
+        this.random = random;
+        this.boardSize = rules.getBoardSize();
+
+        int[] shipLengths = rules.getShipLengths();
+        this.lengthIndex = new int[shipLengths[0] + 1];
+        Arrays.fill(lengthIndex, -1);
+        int distinct = 0;
+        for (int length : shipLengths) {
+            if (lengthIndex[length] < 0) {
+                lengthIndex[length] = distinct++;
+            }
+        }
+        this.lengths = new int[distinct];
+        for (int length = 1; length < lengthIndex.length; length++) {
+            if (lengthIndex[length] >= 0) {
+                lengths[lengthIndex[length]] = length;
+            }
+        }
+        this.afloat = new int[distinct];
+        this.state = new byte[boardSize * boardSize];
+    }
+
+    /**
+     * Forgets all shots and starts over with a full fleet.
+     */
+    @Override
+    public void reset() {
+        Arrays.fill(state, UNKNOWN);
+        for (int i = 0; i < lengths.length; i++) {
+            afloat[i] = rules.getLimit(lengths[i]);
+        }
+    }
+
+    /**
+     * Records the result of a shot.
+     * A sunk ship is identified as the straight line of hits through the
+     * cell; its surroundings are marked as water.
+     *
+     * @param x      The x-coordinate of the cell that was shot at.
+     * @param y      The y-coordinate of the cell that was shot at.
+     * @param result The result of the shot.
+     */
+    @Override
+    public final void onShot(int x, int y, ShotResult result) {
+        int cell = y * boardSize + x;
+        if (!result.isHit()) {
+            setState(cell, MISS);
+            return;
+        }
+        setState(cell, HIT);
+        // Ships are straight and do not touch, so the diagonal neighbours of a hit are water
+        markWater(x - 1, y - 1);
+        markWater(x + 1, y - 1);
+        markWater(x - 1, y + 1);
+        markWater(x + 1, y + 1);
+        if (result == ShotResult.SUNK) {
+            sink(x, y);
+        }
+    }
+
+    /**
+     * Called before the knowledge about a cell changes.
+     *
+     * @param cell     The index of the cell.
+     * @param oldState The previous knowledge about the cell, still stored in
+     *                 {@link #state}.
+     * @param newState The new knowledge about the cell.
+     */
+    abstract void stateChanged(int cell, byte oldState, byte newState);
+
+    /**
+     * Called after a ship has been removed from the ships afloat.
+     *
+     * @param index The index of the ship's length in {@link #lengths}.
+     */
+    abstract void shipSunk(int index);
+
+    /**
+     * Picks the cell with the highest score among the cells in a given state.
+     * Ties are broken at random.
+     *
+     * @param scores         The score per cell.
+     * @param candidateState The state a cell must have to be picked.
+     * @return The index of the picked cell, or -1 if no cell has that state.
+     */
+    final int pickMax(int[] scores, byte candidateState) {
+        int best = -1;
+        int bestScore = Integer.MIN_VALUE;
+        int ties = 0;
+        for (int cell = 0; cell < scores.length; cell++) {
+            if (state[cell] != candidateState) {
+                continue;
+            }
+            if (scores[cell] > bestScore) {
+                best = cell;
+                bestScore = scores[cell];
+                ties = 1;
+            } else if (scores[cell] == bestScore && random.nextInt(++ties) == 0) {
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Checks if a cell holds a hit of a ship that is still afloat.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell is on the board and was hit.
+     */
+    final boolean isHitAt(int x, int y) {
+        return x >= 0 && y >= 0 && x < boardSize && y < boardSize && state[y * boardSize + x] == HIT;
+    }
+
+    /**
+     * Changes the knowledge about a cell.
+     *
+     * @param cell     The index of the cell.
+     * @param newState The new knowledge about the cell.
+     */
+    private void setState(int cell, byte newState) {
+        byte oldState = state[cell];
+        if (oldState != newState) {
+            stateChanged(cell, oldState, newState);
+            state[cell] = newState;
+        }
+    }
+
+    /**
+     * Marks the ship through a sunk cell as sunk, its surroundings as water
+     * and removes one ship of its length from the ships afloat.
+     *
+     * @param x The x-coordinate of the cell that sank the ship.
+     * @param y The y-coordinate of the cell that sank the ship.
+     */
+    private void sink(int x, int y) {
+        boolean isHorizontal = isHitAt(x - 1, y) || isHitAt(x + 1, y);
+        int dx = isHorizontal ? 1 : 0;
+        int dy = isHorizontal ? 0 : 1;
+        int startX = x;
+        int startY = y;
+        while (isHitAt(startX - dx, startY - dy)) {
+            startX -= dx;
+            startY -= dy;
+        }
+        int length = 0;
+        while (isHitAt(startX + length * dx, startY + length * dy)) {
+            length++;
+        }
+
+        for (int i = 0; i < length; i++) {
+            setState((startY + i * dy) * boardSize + startX + i * dx, SUNK);
+        }
+        for (int i = -1; i <= length; i++) {
+            for (int side = -1; side <= 1; side++) {
+                markWater(startX + i * dx + side * dy, startY + i * dy + side * dx);
+            }
+        }
+
+        int index = length < lengthIndex.length ? lengthIndex[length] : -1;
+        if (index >= 0 && afloat[index] > 0) {
+            afloat[index]--;
+            shipSunk(index);
+        }
+    }
+
+    /**
+     * Marks an unknown cell as water.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     */
+    private void markWater(int x, int y) {
+        if (x >= 0 && y >= 0 && x < boardSize && y < boardSize && state[y * boardSize + x] == UNKNOWN) {
+            setState(y * boardSize + x, WATER);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package battleship.engine.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import battleship.engine.Bitboard;
+import battleship.engine.Fleet;
+import battleship.engine.FleetRules;
+import battleship.engine.GameState;
+import battleship.engine.ShotResult;
+
+/**
+ * @class HuntSinkStrategy
+ *        Targeting strategy that plays like the original computer player,
+ *        the built-in hunt and sink behaviour of {@code BattleshipAI}, so the
+ *        newer strategies can be measured against it.
+ *        Shoots at random cells until a hit, then tries the four neighbours
+ *        of the last hit ("hunt"). After the second hit it follows the line
+ *        through the first two hits in both directions ("sink"), and goes
+ *        back to hunting once both ends are blocked. It neither uses the
+ *        no-touch rule nor knows which ships are afloat; like the original,
+ *        it remembers the first two hits of the game for good.
+ *        {@link #nextTarget()} only draws from the random generator; all
+ *        state transitions happen in {@link #onShot(int, int, ShotResult)}.
+ *        The modes and the remembered hits depend on the order of the shots,
+ *        so they are kept by {@link #saveState()}; without a saved state
+ *        {@link #replay(GameState, int)} hunts around a hit of a ship still
+ *        afloat.
+ */
+public final class HuntSinkStrategy implements TargetingStrategy {
+
+    private static final int[][] DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } }; /**< Neighbours tried by the hunt mode */
+    private static final int HUNT_FLAG = 1; /**< Flag of the hunt mode in the saved state */
+    private static final int SINK_FLAG = 2; /**< Flag of the sink mode in the saved state */
+    private static final int STATE_LENGTH = 7; /**< Flags and hit count, first, second and last hit */
+
+    private final RandomGenerator random; /**< Picks the random shots */
+    private final int boardSize; /**< The width and height of the board */
+    private final Bitboard shots; /**< One bit per cell that has been shot at */
+    private final List<int[]> hitPositions = new ArrayList<>(); /**< Every hit in the order it was scored */
+    private int[] lastHit; /**< The most recent hit, null before the first */
+    private boolean inHuntMode; /**< True while the neighbours of the last hit are tried */
+    private boolean inSinkMode; /**< True while the line through the first two hits is followed */
+
+    /**
+     * Constructor for HuntSinkStrategy.
+     *
+     * @param rules  The fleet composition and board size of the opponent.
+     * @param random The random generator that picks the random shots.
+     */
+    public HuntSinkStrategy(FleetRules rules, RandomGenerator random) {
+        this.random = random;
+        this.boardSize = rules.getBoardSize();
+        this.shots = new Bitboard(boardSize * boardSize);
+    }
+
+    /**
+     * Chooses the next target of the sink mode, the hunt mode or a random
+     * cell, in that order.
+     *
+     * @return The index of the chosen cell, or -1 if every cell has been shot
+     *         at.
+     */
+    @Override
+    public int nextTarget() {
+        int cell = aimedTarget();
+        return cell >= 0 ? cell : randomTarget();
+    }
+
+    /**
+     * Records the result of a shot and switches the modes the way the
+     * original computer player does.
+     *
+     * @param x      The x-coordinate of the cell that was shot at.
+     * @param y      The y-coordinate of the cell that was shot at.
+     * @param result The result of the shot.
+     */
+    @Override
+    public void onShot(int x, int y, ShotResult result) {
+        boolean isRandomShot = aimedTarget() < 0;
+        if (inSinkMode && sinkTarget() < 0) {
+            inSinkMode = false;
+        }
+        if (isRandomShot) {
+            inHuntMode = false;
+        }
+
+        shots.set(y * boardSize + x);
+        if (result.isHit()) {
+            lastHit = new int[] { x, y };
+            hitPositions.add(lastHit);
+            if (isRandomShot) {
+                inHuntMode = true;
+            } else if (hitPositions.size() == 2) {
+                inSinkMode = true;
+            }
+        }
+    }
+
+    /**
+     * Forgets all shots and starts over in random mode.
+     */
+    @Override
+    public void reset() {
+        shots.clear();
+        hitPositions.clear();
+        lastHit = null;
+        inHuntMode = false;
+        inSinkMode = false;
+    }
+
+    /**
+     * Rebuilds the shots of a game without depending on their order. Hunts
+     * around the first hit of a ship still afloat; the exact modes and hits
+     * are restored by {@link #restoreState(byte[])}.
+     *
+     * @param state   The game.
+     * @param shooter The index of the player this strategy shoots for.
+     */
+    @Override
+    public void replay(GameState state, int shooter) {
+        reset();
+        Fleet target = state.getFleet(GameState.opponentOf(shooter));
+        Bitboard fired = state.getShots(shooter);
+        for (int index = fired.nextSetBit(0); index >= 0; index = fired.nextSetBit(index + 1)) {
+            shots.set(index);
+            int id = target.shipAt(index % boardSize, index / boardSize);
+            if (lastHit == null && id != 0 && !target.isSunk(id)) {
+                lastHit = new int[] { index % boardSize, index / boardSize };
+                hitPositions.add(lastHit);
+                inHuntMode = true;
+            }
+        }
+    }
+
+    /**
+     * Captures the modes, the number of hits and the first, second and last
+     * hit. Hits beyond the second only count, so a third stands in for them.
+     *
+     * @return The state: 1 byte flags with the hit count up to 3 in bits
+     *         2-3, then the cell indices of the three hits, 2 bytes each.
+     */
+    @Override
+    public byte[] saveState() {
+        byte[] state = new byte[STATE_LENGTH];
+        int count = Math.min(hitPositions.size(), 3);
+        state[0] = (byte) ((inHuntMode ? HUNT_FLAG : 0) | (inSinkMode ? SINK_FLAG : 0) | count << 2);
+        if (count > 0) {
+            putCell(state, 1, hitPositions.get(0));
+            putCell(state, 5, lastHit);
+        }
+        if (count > 1) {
+            putCell(state, 3, hitPositions.get(1));
+        }
+        return state;
+    }
+
+    /**
+     * Restores the modes and hits captured by {@link #saveState()}.
+     *
+     * @param state The saved state; if empty, the guess of
+     *              {@link #replay(GameState, int)} is kept.
+     */
+    @Override
+    public void restoreState(byte[] state) {
+        if (state.length == 0) {
+            return;
+        }
+        if (state.length != STATE_LENGTH) {
+            throw new IllegalArgumentException("Ungültiger Zustand der Strategie.");
+        }
+        int count = state[0] >>> 2 & 3;
+        hitPositions.clear();
+        lastHit = null;
+        if (count > 0) {
+            hitPositions.add(getCell(state, 1));
+            lastHit = getCell(state, 5);
+        }
+        if (count > 1) {
+            hitPositions.add(getCell(state, 3));
+        }
+        if (count > 2) {
+            hitPositions.add(lastHit);
+        }
+        inHuntMode = count > 0 && (state[0] & HUNT_FLAG) != 0;
+        inSinkMode = count > 1 && (state[0] & SINK_FLAG) != 0;
+    }
+
+    /**
+     * Writes the cell index of a hit into a saved state.
+     *
+     * @param state  The saved state.
+     * @param offset The position of the two bytes.
+     * @param hit    The hit.
+     */
+    private void putCell(byte[] state, int offset, int[] hit) {
+        int cell = hit[1] * boardSize + hit[0];
+        state[offset] = (byte) (cell >>> 8);
+        state[offset + 1] = (byte) cell;
+    }
+
+    /**
+     * Reads the cell index of a hit from a saved state.
+     *
+     * @param state  The saved state.
+     * @param offset The position of the two bytes.
+     * @return The hit.
+     * @throws IllegalArgumentException if the cell lies outside the board.
+     */
+    private int[] getCell(byte[] state, int offset) {
+        int cell = (state[offset] & 0xFF) << 8 | state[offset + 1] & 0xFF;
+        if (cell >= boardSize * boardSize) {
+            throw new IllegalArgumentException("Ungültiger Zustand der Strategie.");
+        }
+        return new int[] { cell % boardSize, cell / boardSize };
+    }
+
+    /**
+     * Chooses the target of the sink mode, or of the hunt mode if the sink
+     * mode has no target left or is not active.
+     *
+     * @return The index of the chosen cell, or -1 if a random shot is due.
+     */
+    private int aimedTarget() {
+        if (inSinkMode) {
+            int cell = sinkTarget();
+            if (cell >= 0) {
+                return cell;
+            }
+        }
+        return inSinkMode || inHuntMode ? huntTarget() : -1;
+    }
+
+    /**
+     * Chooses the first neighbour of the last hit that has not been shot at.
+     *
+     * @return The index of the chosen cell, or -1 if every neighbour has been
+     *         shot at.
+     */
+    private int huntTarget() {
+        for (int[] direction : DIRECTIONS) {
+            int cell = openCell(lastHit[0] + direction[0], lastHit[1] + direction[1]);
+            if (cell >= 0) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Chooses the cell beyond the last hit on the line through the first two
+     * hits, or the cell before the first hit if that one is blocked.
+     *
+     * @return The index of the chosen cell, or -1 if both are blocked.
+     */
+    private int sinkTarget() {
+        int[] firstHit = hitPositions.get(0);
+        int[] secondHit = hitPositions.get(1);
+        int dx = secondHit[0] - firstHit[0];
+        int dy = secondHit[1] - firstHit[1];
+
+        int cell = openCell(lastHit[0] + dx, lastHit[1] + dy);
+        return cell >= 0 ? cell : openCell(firstHit[0] - dx, firstHit[1] - dy);
+    }
+
+    /**
+     * Chooses a random cell that has not been shot at.
+     *
+     * @return The index of the chosen cell, or -1 if every cell has been shot
+     *         at.
+     */
+    private int randomTarget() {
+        if (shots.cardinality() >= boardSize * boardSize) {
+            return -1;
+        }
+        int cell;
+        do {
+            cell = random.nextInt(boardSize) + random.nextInt(boardSize) * boardSize;
+        } while (shots.get(cell));
+        return cell;
+    }
+
+    /**
+     * Checks if a cell lies on the board and has not been shot at.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The index of the cell, or -1 if it is off the board or has been
+     *         shot at.
+     */
+    private int openCell(int x, int y) {
+        if (x >= 0 && y >= 0 && x < boardSize && y < boardSize && !shots.get(y * boardSize + x)) {
+            return y * boardSize + x;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,415 @@
+package battleship.engine.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+import battleship.engine.Bitboard;
+import battleship.engine.Fleet;
+import battleship.engine.FleetRules;
+
+/**
+ * @class MonteCarloStrategy
+ *        Targeting strategy that samples complete opponent fleets consistent
+ *        with everything known about the board and shoots at the unknown cell
+ *        covered by the most samples.
+ *        A sample places the ships still afloat with the placement rule of
+ *        {@link Fleet#canPlace(int, int, int, boolean)}, avoids known water and
+ *        must cover every hit of a ship that is still afloat.
+ *        Sampling runs on one worker per core of a {@link ForkJoinPool} until
+ *        the time budget of the move or the worker's sample limit is used up,
+ *        so a move draws more samples the more cores the pool has. Every
+ *        worker counts into its own {@code int[]}, the counts are merged once
+ *        all workers are done.
+ */
+public final class MonteCarloStrategy extends AbstractTargetingStrategy {
+
+    /**
+     * Default time budget per move in nanoseconds.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = 5_000_000L;
+
+    /**
+     * Default maximum number of samples per worker and move.
+     */
+    public static final int DEFAULT_MAX_SAMPLES = 50_000;
+
+    private static final int COVER_ATTEMPTS = 32; /**< Tries to place a ship over an uncovered hit */
+    private static final int PLACE_ATTEMPTS = 64; /**< Tries to place a ship anywhere */
+
+    private final ForkJoinPool pool; /**< The pool running the workers */
+    private final long budgetNanos; /**< Time budget per move */
+    private final int maxSamples; /**< Maximum number of samples per worker and move */
+    private final Bitboard blocked; /**< Cells known to hold water or a sunk ship */
+    private final Bitboard hits; /**< Hits of ships still afloat */
+    private final Worker[] workers; /**< One sampler per worker thread */
+    private final List<Callable<Integer>> tasks; /**< The workers as tasks for the pool */
+    private final int[] counts; /**< Merged sample counts per cell */
+
+    /**
+     * Constructor for MonteCarloStrategy.
+     * Uses the common pool, the default time budget and the default sample
+     * limit.
+     *
+     * @param rules  The fleet composition and board size of the opponent.
+     * @param random The random generator seeding the workers and breaking
+     *               ties.
+     */
+    public MonteCarloStrategy(FleetRules rules, RandomGenerator random) {
+        this(rules, random, ForkJoinPool.commonPool(), DEFAULT_BUDGET_NANOS, DEFAULT_MAX_SAMPLES);
+    }
+
+    /**
+     * Constructor for MonteCarloStrategy.
+     *
+     * @param rules       The fleet composition and board size of the opponent.
+     * @param random      The random generator seeding the workers and breaking
+     *                    ties.
+     * @param pool        The pool running the workers, one worker is created
+     *                    per unit of its parallelism.
+     * @param budgetNanos The time budget per move in nanoseconds.
+     * @param maxSamples  The maximum number of samples per worker and move.
+     */
+    public MonteCarloStrategy(FleetRules rules, RandomGenerator random, ForkJoinPool pool,
+            long budgetNanos, int maxSamples) {
+        super(rules, random);
+        if (budgetNanos <= 0 || maxSamples <= 0) {
+            throw new IllegalArgumentException("Ungültiges Zeitbudget oder Stichprobenlimit.");
+        }
+        this.pool = pool;
+        this.budgetNanos = budgetNanos;
+        this.maxSamples = maxSamples;
+        this.blocked = new Bitboard(boardSize * boardSize);
+        this.hits = new Bitboard(boardSize * boardSize);
+        this.counts = new int[boardSize * boardSize];
+
+        int parallelism = Math.max(1, pool.getParallelism());
+        this.workers = new Worker[parallelism];
+        this.tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(new SplittableRandom(random.nextLong()));
+            tasks.add(workers[i]);
+        }
+        reset();
+    }
+
+    /**
+     * Forgets all shots and starts over with a full fleet.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        blocked.clear();
+        hits.clear();
+    }
+
+    /**
+     * Samples fleets within the time budget and chooses the unknown cell that
+     * holds a ship in the most samples. Ties are broken at random.
+     *
+     * @return The index of the chosen cell, or -1 if every cell has been shot
+     *         at.
+     */
+    @Override
+    public int nextTarget() {
+        return nextTarget(System.nanoTime() + budgetNanos);
+    }
+
+    /**
+     * Samples fleets until the time budget is used up or the deadline has
+     * passed, whichever comes first, and chooses the unknown cell that holds a
+     * ship in the most samples.
+     *
+     * @param deadlineNanos The value of {@link System#nanoTime()} at which the
+     *                      choice must be made.
+     * @return The index of the chosen cell, or -1 if every cell has been shot
+     *         at.
+     */
+    @Override
+    public int nextTarget(long deadlineNanos) {
+        long budgetEnd = System.nanoTime() + budgetNanos;
+        long deadline = deadlineNanos - budgetEnd < 0 ? deadlineNanos : budgetEnd;
+        for (Worker worker : workers) {
+            worker.prepare(deadline, maxSamples);
+        }
+
+        Arrays.fill(counts, 0);
+        int samples = 0;
+        try {
+            for (Future<Integer> result : pool.invokeAll(tasks)) {
+                samples += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Stichprobenziehung fehlgeschlagen.", e.getCause());
+        }
+        for (Worker worker : workers) {
+            int[] workerCounts = worker.sampleCounts;
+            for (int cell = 0; cell < counts.length; cell++) {
+                counts[cell] += workerCounts[cell];
+            }
+        }
+        if (samples == 0) {
+            countHitNeighbours();
+        }
+
+        int best = pickMax(counts, UNKNOWN);
+        // Only reached if the opponent's layout breaks the no-touch rule
+        return best >= 0 ? best : pickMax(counts, WATER);
+    }
+
+    /**
+     * Keeps the bitsets of blocked cells and open hits in sync with the
+     * knowledge about the board.
+     *
+     * @param cell     The index of the cell.
+     * @param oldState The previous knowledge about the cell.
+     * @param newState The new knowledge about the cell.
+     */
+    @Override
+    void stateChanged(int cell, byte oldState, byte newState) {
+        if (newState == HIT) {
+            hits.set(cell);
+        } else {
+            hits.clear(cell);
+        }
+        if (newState == MISS || newState == WATER || newState == SUNK) {
+            blocked.set(cell);
+        } else {
+            blocked.clear(cell);
+        }
+    }
+
+    /**
+     * Sunk ships are already excluded from sampling by the afloat counts.
+     *
+     * @param index The index of the ship's length.
+     */
+    @Override
+    void shipSunk(int index) {
+        // Nothing to update
+    }
+
+    /**
+     * Scores the unknown neighbours of open hits. Used when no consistent
+     * fleet could be sampled within the budget.
+     */
+    private void countHitNeighbours() {
+        for (int cell = hits.nextSetBit(0); cell >= 0; cell = hits.nextSetBit(cell + 1)) {
+            int x = cell % boardSize;
+            if (x > 0) {
+                counts[cell - 1]++;
+            }
+            if (x < boardSize - 1) {
+                counts[cell + 1]++;
+            }
+            if (cell >= boardSize) {
+                counts[cell - boardSize]++;
+            }
+            if (cell + boardSize < counts.length) {
+                counts[cell + boardSize]++;
+            }
+        }
+    }
+
+    /**
+     * @class Worker
+     *        Samples fleets on one thread and counts the unknown cells they
+     *        cover. Keeps its fleet, counters and random generator between
+     *        moves.
+     */
+    private final class Worker implements Callable<Integer> {
+        private final SplittableRandom workerRandom; /**< Random generator of this worker */
+        private final Fleet fleet; /**< The fleet of the current sample */
+        private final int[] sampleCounts; /**< Sample counts per cell */
+        private final int[] remaining; /**< Ships still to place per distinct length */
+        private final int[] placed; /**< Ids of the ships placed in the current sample */
+        private int placedCount; /**< Number of ships placed in the current sample */
+        private long deadline; /**< Time at which sampling stops */
+        private int quota; /**< Maximum number of samples of this worker */
+
+        /**
+         * Constructor for Worker.
+         *
+         * @param workerRandom The random generator of this worker.
+         */
+        Worker(SplittableRandom workerRandom) {
+            this.workerRandom = workerRandom;
+            this.fleet = new Fleet(boardSize);
+            this.sampleCounts = new int[boardSize * boardSize];
+            this.remaining = new int[lengths.length];
+            this.placed = new int[rules.getTotalShips()];
+        }
+
+        /**
+         * Prepares the worker for the next move.
+         *
+         * @param deadline The time at which sampling stops.
+         * @param quota    The maximum number of samples.
+         */
+        void prepare(long deadline, int quota) {
+            this.deadline = deadline;
+            this.quota = quota;
+        }
+
+        /**
+         * Samples fleets until the deadline or the quota is reached.
+         *
+         * @return The number of consistent samples counted.
+         */
+        @Override
+        public Integer call() {
+            Arrays.fill(sampleCounts, 0);
+            int samples = 0;
+            for (int attempt = 0; attempt < quota && System.nanoTime() < deadline; attempt++) {
+                if (sample()) {
+                    for (int i = 0; i < placedCount; i++) {
+                        countShip(placed[i]);
+                    }
+                    samples++;
+                }
+                for (int i = 0; i < placedCount; i++) {
+                    fleet.remove(placed[i]);
+                }
+                placedCount = 0;
+            }
+            return samples;
+        }
+
+        /**
+         * Places the ships afloat so that every open hit is covered.
+         *
+         * @return True if a consistent fleet was placed, false otherwise.
+         */
+        private boolean sample() {
+            System.arraycopy(afloat, 0, remaining, 0, remaining.length);
+            for (int cell = hits.nextSetBit(0); cell >= 0; cell = hits.nextSetBit(cell + 1)) {
+                if (!fleet.isOccupied(cell % boardSize, cell / boardSize) && !coverHit(cell)) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < remaining.length; i++) {
+                for (; remaining[i] > 0; remaining[i]--) {
+                    if (!placeAnywhere(lengths[i])) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Places one of the remaining ships over a hit.
+         *
+         * @param cell The index of the hit cell.
+         * @return True if a ship was placed, false otherwise.
+         */
+        private boolean coverHit(int cell) {
+            int ships = 0;
+            for (int count : remaining) {
+                ships += count;
+            }
+            if (ships == 0) {
+                return false;
+            }
+            int x = cell % boardSize;
+            int y = cell / boardSize;
+            for (int attempt = 0; attempt < COVER_ATTEMPTS; attempt++) {
+                int index = pickRemaining(workerRandom.nextInt(ships));
+                int length = lengths[index];
+                boolean isHorizontal = workerRandom.nextBoolean();
+                int offset = workerRandom.nextInt(length);
+                if (tryPlace(isHorizontal ? x - offset : x, isHorizontal ? y : y - offset, length, isHorizontal)) {
+                    remaining[index]--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Places a ship at a random legal position.
+         *
+         * @param length The length of the ship.
+         * @return True if the ship was placed, false otherwise.
+         */
+        private boolean placeAnywhere(int length) {
+            for (int attempt = 0; attempt < PLACE_ATTEMPTS; attempt++) {
+                boolean isHorizontal = workerRandom.nextBoolean();
+                int x = workerRandom.nextInt(isHorizontal ? boardSize - length + 1 : boardSize);
+                int y = workerRandom.nextInt(isHorizontal ? boardSize : boardSize - length + 1);
+                if (tryPlace(x, y, length, isHorizontal)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Places a ship if it follows the placement rule and covers no cell
+         * known to be water.
+         *
+         * @param x            The x-coordinate of the starting position.
+         * @param y            The y-coordinate of the starting position.
+         * @param length       The length of the ship.
+         * @param isHorizontal True if the ship is placed horizontally.
+         * @return True if the ship was placed, false otherwise.
+         */
+        private boolean tryPlace(int x, int y, int length, boolean isHorizontal) {
+            if (!fleet.canPlace(x, y, length, isHorizontal)) {
+                return false;
+            }
+            int start = y * boardSize + x;
+            if (isHorizontal) {
+                if (blocked.intersectsRun(start, length)) {
+                    return false;
+                }
+            } else {
+                for (int i = 0, cell = start; i < length; i++, cell += boardSize) {
+                    if (blocked.get(cell)) {
+                        return false;
+                    }
+                }
+            }
+            placed[placedCount++] = fleet.place(x, y, length, isHorizontal);
+            return true;
+        }
+
+        /**
+         * Maps a random ship number to the index of its length.
+         *
+         * @param ship A number below the count of remaining ships.
+         * @return The index of the ship's length.
+         */
+        private int pickRemaining(int ship) {
+            int index = 0;
+            while (ship >= remaining[index]) {
+                ship -= remaining[index];
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * Counts the unknown cells covered by a placed ship.
+         *
+         * @param id The id of the ship.
+         */
+        private void countShip(int id) {
+            int cell = fleet.getShipY(id) * boardSize + fleet.getShipX(id);
+            int step = fleet.isShipHorizontal(id) ? 1 : boardSize;
+            for (int i = 0; i < fleet.getShipLength(id); i++, cell += step) {
+                if (state[cell] == UNKNOWN) {
+                    sampleCounts[cell]++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package battleship.engine.ai;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import battleship.engine.FleetRules;
+
+/**
+ * @class ProbabilityDensityStrategy
+ *        Targeting strategy that counts, for every cell, the legal placements
+ *        of all ships still afloat that cover the cell, and shoots at the cell
+ *        with the highest count.
+ *        A placement is legal if it covers no miss, no sunk ship and no cell
+ *        that the no-touch rule proves to be water. Placements through known
+ *        hits are weighted up, so the strategy finishes damaged ships first.
+ *        The counts are kept per ship length and are updated incrementally:
+ *        a shot only revisits the placements through the changed cells. All
+ *        working arrays are allocated once, choosing a target does not
+ *        allocate.
+ */
+public final class ProbabilityDensityStrategy extends AbstractTargetingStrategy {
+
+    private static final int HIT_WEIGHT = 64; /**< Extra weight per known hit covered by a placement */
+
+    private final int[][] lengthHeat; /**< Weighted placement count per distinct length and cell */
+    private final int[] heat; /**< Weighted placement count of all ships afloat per cell */
+
+    /**
+     * Constructor for ProbabilityDensityStrategy.
+     *
+     * @param rules  The fleet composition and board size of the opponent.
+     * @param random The random generator used to break ties.
+     */
+    public ProbabilityDensityStrategy(FleetRules rules, RandomGenerator random) {
+        super(rules, random);
+        this.lengthHeat = new int[lengths.length][boardSize * boardSize];
+        this.heat = new int[boardSize * boardSize];
+        reset();
+    }
+
+    /**
+     * Forgets all shots and counts the placements of a full fleet on an empty
+     * board.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(heat, 0);
+        for (int i = 0; i < lengths.length; i++) {
+            Arrays.fill(lengthHeat[i], 0);
+            int length = lengths[i];
+            for (int y = 0; y < boardSize; y++) {
+                for (int x = 0; x < boardSize; x++) {
+                    if (x + length <= boardSize) {
+                        addPlacement(i, x, y, true, weight(x, y, length, true));
+                    }
+                    if (length > 1 && y + length <= boardSize) {
+                        addPlacement(i, x, y, false, weight(x, y, length, false));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Chooses the cell with the highest placement count among the cells that
+     * have not been shot at. Ties are broken at random.
+     *
+     * @return The index of the chosen cell, or -1 if every cell has been shot
+     *         at.
+     */
+    @Override
+    public int nextTarget() {
+        int best = pickMax(heat, UNKNOWN);
+        // Only reached if the opponent's layout breaks the no-touch rule
+        return best >= 0 ? best : pickMax(heat, WATER);
+    }
+
+    /**
+     * Gets the weighted placement count of a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The weighted number of placements covering the cell.
+     */
+    public int getHeat(int x, int y) {
+        return heat[y * boardSize + x];
+    }
+
+    /**
+     * Updates the counts of every placement through a changed cell.
+     *
+     * @param cell     The index of the cell.
+     * @param oldState The previous knowledge about the cell.
+     * @param newState The new knowledge about the cell.
+     */
+    @Override
+    void stateChanged(int cell, byte oldState, byte newState) {
+        int x = cell % boardSize;
+        int y = cell / boardSize;
+        for (int i = 0; i < lengths.length; i++) {
+            int length = lengths[i];
+            for (int offset = 0; offset < length; offset++) {
+                if (x - offset >= 0 && x - offset + length <= boardSize) {
+                    updatePlacement(i, cell, oldState, newState, x - offset, y, true);
+                }
+                if (length > 1 && y - offset >= 0 && y - offset + length <= boardSize) {
+                    updatePlacement(i, cell, oldState, newState, x, y - offset, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the counts of one ship of the sunk length.
+     *
+     * @param index The index of the ship's length.
+     */
+    @Override
+    void shipSunk(int index) {
+        int[] counts = lengthHeat[index];
+        for (int cell = 0; cell < heat.length; cell++) {
+            heat[cell] -= counts[cell];
+        }
+    }
+
+    /**
+     * Replaces the weight of one placement after a cell of it changed.
+     *
+     * @param index        The index of the ship length.
+     * @param cell         The index of the changed cell.
+     * @param oldState     The previous knowledge about the cell.
+     * @param newState     The new knowledge about the cell.
+     * @param x            The x-coordinate of the placement's start.
+     * @param y            The y-coordinate of the placement's start.
+     * @param isHorizontal True for a horizontal placement.
+     */
+    private void updatePlacement(int index, int cell, byte oldState, byte newState,
+            int x, int y, boolean isHorizontal) {
+        int length = lengths[index];
+        int oldWeight = weight(x, y, length, isHorizontal);
+        state[cell] = newState;
+        int newWeight = weight(x, y, length, isHorizontal);
+        state[cell] = oldState;
+        if (oldWeight != newWeight) {
+            addPlacement(index, x, y, isHorizontal, newWeight - oldWeight);
+        }
+    }
+
+    /**
+     * Computes the weight of a placement from the current knowledge.
+     *
+     * @param x            The x-coordinate of the placement's start.
+     * @param y            The y-coordinate of the placement's start.
+     * @param length       The length of the ship.
+     * @param isHorizontal True for a horizontal placement.
+     * @return 0 if the placement is impossible, otherwise 1 plus a bonus for
+     *         every known hit it covers.
+     */
+    private int weight(int x, int y, int length, boolean isHorizontal) {
+        int step = isHorizontal ? 1 : boardSize;
+        int cell = y * boardSize + x;
+        int hits = 0;
+        for (int i = 0; i < length; i++, cell += step) {
+            byte cellState = state[cell];
+            if (cellState == HIT) {
+                hits++;
+            } else if (cellState != UNKNOWN) {
+                return 0;
+            }
+        }
+        return 1 + HIT_WEIGHT * hits;
+    }
+
+    /**
+     * Adds a weight to every cell of a placement.
+     *
+     * @param index        The index of the ship length.
+     * @param x            The x-coordinate of the placement's start.
+     * @param y            The y-coordinate of the placement's start.
+     * @param isHorizontal True for a horizontal placement.
+     * @param delta        The weight to add, may be negative.
+     */
+    private void addPlacement(int index, int x, int y, boolean isHorizontal, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        int[] counts = lengthHeat[index];
+        int weighted = afloat[index] * delta;
+        int step = isHorizontal ? 1 : boardSize;
+        int cell = y * boardSize + x;
+        for (int i = 0; i < lengths[index]; i++, cell += step) {
+            counts[cell] += delta;
+            heat[cell] += weighted;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package battleship.engine.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import battleship.engine.FleetGenerator;
+import battleship.engine.FleetRules;
+import battleship.engine.GameEngine;
+import battleship.engine.GameState;
+import battleship.engine.ShotResult;
+import battleship.engine.journal.ShotJournal;
+
+/**
+ * @class SelfPlay
+ *        Plays complete games between two targeting strategies on the headless
+ *        {@link GameEngine}, without any board of the GUI.
+ *        The games are spread over a fixed number of threads. Every thread
+ *        has its own random generator, strategies and counters, so the
+ *        threads share nothing but the immutable {@link FleetGenerator}; the
+ *        counters are merged into a {@link SelfPlayReport} once all threads are
+ *        done. Both fleets of a game are generated at random and the starting
+ *        player is drawn at random.
+ *        The shots can be recorded in a {@link ShotJournal}; every thread
+ *        then batches its records in its own {@link ShotJournal.Writer}.
+ */
+public final class SelfPlay {
+
+    /**
+     * Default maximum number of samples per move of a Monte Carlo player.
+     */
+    public static final int DEFAULT_MONTE_CARLO_SAMPLES = 1_000;
+
+    private static final int JOURNAL_BATCH = 1_024; /**< Records a thread reserves in the journal at once */
+    private static final long MONTE_CARLO_BUDGET_NANOS = 1_000_000_000L; /**< Budget large enough for the sample limit to decide */
+
+    private final FleetGenerator generator; /**< Generates the fleets of both players */
+    private final TargetingMode[] modes; /**< The strategy per player index */
+    private final int monteCarloSamples; /**< Sample limit per move of a Monte Carlo player */
+
+    /**
+     * Constructor for SelfPlay.
+     *
+     * @param rules             The fleet composition and board size.
+     * @param playerOne         The strategy of player one.
+     * @param playerTwo         The strategy of player two.
+     * @param monteCarloSamples The maximum number of samples per move of a
+     *                          Monte Carlo player.
+     */
+    public SelfPlay(FleetRules rules, TargetingMode playerOne, TargetingMode playerTwo, int monteCarloSamples) {
+        if (monteCarloSamples <= 0) {
+            throw new IllegalArgumentException("Ungültiges Stichprobenlimit: " + monteCarloSamples);
+        }
+        this.generator = new FleetGenerator(rules);
+        this.modes = new TargetingMode[] { playerOne, playerTwo };
+        this.monteCarloSamples = monteCarloSamples;
+    }
+
+    /**
+     * Plays a number of games.
+     *
+     * @param games   The number of games to play.
+     * @param threads The number of threads to play on.
+     * @param seed    The seed of the random generators; the same seed, games
+     *                and threads play the same games.
+     * @return The merged results of all games.
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              the games are played.
+     */
+    public SelfPlayReport run(long games, int threads, long seed) throws InterruptedException {
+        return run(games, threads, seed, null);
+    }
+
+    /**
+     * Plays a number of games and records their shots in a journal. Every
+     * game gets its own id from {@link ShotJournal#nextGameId()}.
+     *
+     * @param games   The number of games to play.
+     * @param threads The number of threads to play on.
+     * @param seed    The seed of the random generators; the same seed, games
+     *                and threads play the same games.
+     * @param journal The journal to record the shots in, or null.
+     * @return The merged results of all games.
+     * @throws IllegalArgumentException if the board is larger than
+     *                                  {@link ShotJournal#MAX_BOARD_SIZE}.
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              the games are played.
+     */
+    public SelfPlayReport run(long games, int threads, long seed, ShotJournal journal) throws InterruptedException {
+        if (games <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Ungültige Anzahl von Spielen oder Threads.");
+        }
+        if (journal != null && generator.getRules().getBoardSize() > ShotJournal.MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Spielfeld zu groß für das Journal: "
+                    + generator.getRules().getBoardSize());
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Callable<SelfPlayReport.Tally>> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            long share = games / threads + (i < games % threads ? 1 : 0);
+            SplittableRandom random = root.split();
+            tasks.add(() -> play(share, random, journal));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "self-play");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        try {
+            SelfPlayReport.Tally total = new SelfPlayReport.Tally(generator.getRules());
+            for (Future<SelfPlayReport.Tally> result : executor.invokeAll(tasks)) {
+                total.add(result.get());
+            }
+            return new SelfPlayReport(modes[GameState.PLAYER_ONE], modes[GameState.PLAYER_TWO],
+                    total, System.nanoTime() - start);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation fehlgeschlagen.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a share of the games on the calling thread.
+     *
+     * @param games   The number of games to play.
+     * @param random  The random generator of this thread.
+     * @param journal The journal to record the shots in, or null.
+     * @return The counters of the games played.
+     */
+    private SelfPlayReport.Tally play(long games, SplittableRandom random, ShotJournal journal) {
+        FleetRules rules = generator.getRules();
+        int boardSize = rules.getBoardSize();
+        SelfPlayReport.Tally tally = new SelfPlayReport.Tally(rules);
+        ForkJoinPool pool = null;
+        TargetingStrategy[] strategies = new TargetingStrategy[modes.length];
+        for (int player = 0; player < modes.length; player++) {
+            if (modes[player] == TargetingMode.MONTE_CARLO) {
+                // One sampler on this thread, so the games do not compete for the common pool
+                pool = pool != null ? pool : new ForkJoinPool(1);
+                strategies[player] = new MonteCarloStrategy(rules, random.split(), pool,
+                        MONTE_CARLO_BUDGET_NANOS, monteCarloSamples);
+            } else {
+                strategies[player] = modes[player].create(rules, random.split());
+            }
+        }
+
+        ShotJournal.Writer writer = journal == null ? null : journal.newWriter(JOURNAL_BATCH);
+        try {
+            for (long game = 0; game < games; game++) {
+                long gameId = writer == null ? 0 : journal.nextGameId();
+                GameEngine engine = new GameEngine(rules,
+                        new GameState(generator.generate(random), generator.generate(random)));
+                for (TargetingStrategy strategy : strategies) {
+                    strategy.reset();
+                }
+                engine.startRandom(random);
+                while (true) {
+                    int shooter = engine.getCurrentPlayer();
+                    int cell = strategies[shooter].nextTarget();
+                    int x = cell % boardSize;
+                    int y = cell / boardSize;
+                    ShotResult result = engine.fire(shooter, x, y);
+                    strategies[shooter].onShot(x, y, result);
+                    if (writer != null) {
+                        writer.append(gameId, shooter, x, y, result);
+                    }
+                    if (engine.isGameOver()) {
+                        break;
+                    }
+                    engine.endTurn();
+                }
+                int winner = engine.getWinner();
+                tally.record(winner, engine.getState().getShotCount(winner));
+            }
+        } finally {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+        return tally;
+    }
+}
@@ -0,0 +1,194 @@
+package battleship.engine.ai;
+
+import battleship.engine.FleetRules;
+
+/**
+ * @class SelfPlayReport
+ *        The results of a run of {@link SelfPlay}: throughput, wins per player
+ *        and the distribution of the shots the winners needed.
+ *        Instances are immutable.
+ */
+public final class SelfPlayReport {
+
+    private final TargetingMode[] modes; /**< The strategy per player index */
+    private final long games; /**< Number of games played */
+    private final long elapsedNanos; /**< Wall clock time of the run */
+    private final long[] wins; /**< Games won per player */
+    private final long[][] shotCounts; /**< Games won per player and number of shots */
+
+    /**
+     * Constructor for SelfPlayReport.
+     *
+     * @param playerOne    The strategy of player one.
+     * @param playerTwo    The strategy of player two.
+     * @param tally        The merged counters of all games.
+     * @param elapsedNanos The wall clock time of the run in nanoseconds.
+     */
+    SelfPlayReport(TargetingMode playerOne, TargetingMode playerTwo, Tally tally, long elapsedNanos) {
+        this.modes = new TargetingMode[] { playerOne, playerTwo };
+        this.games = tally.wins[0] + tally.wins[1];
+        this.elapsedNanos = elapsedNanos;
+        this.wins = tally.wins.clone();
+        this.shotCounts = new long[][] { tally.shotCounts[0].clone(), tally.shotCounts[1].clone() };
+    }
+
+    /**
+     * Gets the strategy of a player.
+     *
+     * @param player The player index.
+     * @return The targeting mode of the player.
+     */
+    public TargetingMode getMode(int player) {
+        return modes[player];
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return The number of games.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the wall clock time of the run.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput of the run.
+     *
+     * @return The number of games played per second.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games a player won.
+     *
+     * @param player The player index.
+     * @return The number of wins.
+     */
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    /**
+     * Gets the share of the games a player won.
+     *
+     * @param player The player index.
+     * @return The win rate between 0 and 1.
+     */
+    public double getWinRate(int player) {
+        return games == 0 ? 0 : (double) wins[player] / games;
+    }
+
+    /**
+     * Gets the average number of shots a player needed to win.
+     *
+     * @param player The player index.
+     * @return The average over the games the player won, 0 if none.
+     */
+    public double getAverageShots(int player) {
+        return average(shotCounts[player]);
+    }
+
+    /**
+     * Gets the average number of shots the winner needed.
+     *
+     * @return The average over all games, 0 if none.
+     */
+    public double getAverageShots() {
+        return average(getShotDistribution());
+    }
+
+    /**
+     * Gets the distribution of the shots the winner needed.
+     *
+     * @return The number of games per shot count, indexed by the shot count.
+     */
+    public long[] getShotDistribution() {
+        long[] distribution = shotCounts[0].clone();
+        for (int shots = 0; shots < distribution.length; shots++) {
+            distribution[shots] += shotCounts[1][shots];
+        }
+        return distribution;
+    }
+
+    /**
+     * Gets the distribution of the shots a player needed to win.
+     *
+     * @param player The player index.
+     * @return The number of games won per shot count, indexed by the shot
+     *         count.
+     */
+    public long[] getShotDistribution(int player) {
+        return shotCounts[player].clone();
+    }
+
+    /**
+     * Computes the average index of a distribution.
+     *
+     * @param distribution The number of games per shot count.
+     * @return The average shot count, 0 for an empty distribution.
+     */
+    private static double average(long[] distribution) {
+        long count = 0;
+        long sum = 0;
+        for (int shots = 0; shots < distribution.length; shots++) {
+            count += distribution[shots];
+            sum += shots * distribution[shots];
+        }
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * @class Tally
+     *        Counters of the games played on one thread.
+     */
+    static final class Tally {
+        private final long[] wins = new long[2]; /**< Games won per player */
+        private final long[][] shotCounts; /**< Games won per player and number of shots */
+
+        /**
+         * Constructor for Tally.
+         *
+         * @param rules The rules of the games, bounding the number of shots.
+         */
+        Tally(FleetRules rules) {
+            int cells = rules.getBoardSize() * rules.getBoardSize();
+            this.shotCounts = new long[2][cells + 1];
+        }
+
+        /**
+         * Records a finished game.
+         *
+         * @param winner The index of the winner.
+         * @param shots  The number of shots the winner fired.
+         */
+        void record(int winner, int shots) {
+            wins[winner]++;
+            shotCounts[winner][shots]++;
+        }
+
+        /**
+         * Adds the counters of another thread.
+         *
+         * @param other The counters to add.
+         */
+        void add(Tally other) {
+            for (int player = 0; player < wins.length; player++) {
+                wins[player] += other.wins[player];
+                for (int shots = 0; shots < shotCounts[player].length; shots++) {
+                    shotCounts[player][shots] += other.shotCounts[player][shots];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package battleship.engine.ai;
+
+import java.util.random.RandomGenerator;
+
+import battleship.engine.FleetRules;
+import battleship.engine.GameSnapshot;
+
+/**
+ * @enum TargetingMode
+ *       The targeting strategies a computer player can use.
+ *       The ordinals are stored in saved games, new modes are added at the end.
+ */
+public enum TargetingMode {
+    /** Shoots at the cell covered by the most legal placements. */
+    PROBABILITY_DENSITY("Wahrscheinlichkeitsdichte") {
+        @Override
+        public TargetingStrategy create(FleetRules rules, RandomGenerator random) {
+            return new ProbabilityDensityStrategy(rules, random);
+        }
+    },
+    /** Shoots at the cell covered by the most sampled fleets; time-bound, so a seed does not replay its moves. */
+    MONTE_CARLO("Monte Carlo") {
+        @Override
+        public TargetingStrategy create(FleetRules rules, RandomGenerator random) {
+            return new MonteCarloStrategy(rules, random);
+        }
+    },
+    /** Shoots at random until a hit, then at its neighbours, like the original computer player. */
+    HUNT_SINK("Jagen und Versenken") {
+        @Override
+        public TargetingStrategy create(FleetRules rules, RandomGenerator random) {
+            return new HuntSinkStrategy(rules, random);
+        }
+    };
+
+    private final String name; /**< The name shown to the player */
+
+    /**
+     * Constructor for TargetingMode.
+     *
+     * @param name The name shown to the player.
+     */
+    TargetingMode(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the mode shown to the player.
+     *
+     * @return The name of the mode.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a new strategy of this mode.
+     *
+     * @param rules  The fleet composition and board size of the opponent.
+     * @param random The random generator of the strategy.
+     * @return A new targeting strategy.
+     */
+    public abstract TargetingStrategy create(FleetRules rules, RandomGenerator random);
+
+    /**
+     * Creates a strategy of this mode that continues a saved game.
+     *
+     * @param rules    The fleet composition and board size of the opponent.
+     * @param random   The random generator of the strategy.
+     * @param snapshot The saved game.
+     * @param shooter  The index of the player the strategy shoots for.
+     * @return A strategy knowing every shot the player has fired and the
+     *         state it saved.
+     */
+    public TargetingStrategy restore(FleetRules rules, RandomGenerator random, GameSnapshot snapshot, int shooter) {
+        TargetingStrategy strategy = create(rules, random);
+        strategy.replay(snapshot.getState(), shooter);
+        strategy.restoreState(snapshot.getStrategyState(shooter));
+        return strategy;
+    }
+
+    /**
+     * Gets the mode a player of a saved game used.
+     *
+     * @param snapshot The saved game.
+     * @param player   The player index.
+     * @return The mode, or null for a human player.
+     */
+    public static TargetingMode of(GameSnapshot snapshot, int player) {
+        int code = snapshot.getStrategy(player);
+        return code == GameSnapshot.NO_STRATEGY ? null : values()[code];
+    }
+}
@@ -0,0 +1,92 @@
+package battleship.engine.ai;
+
+import battleship.engine.Bitboard;
+import battleship.engine.Fleet;
+import battleship.engine.GameState;
+import battleship.engine.ShotResult;
+
+/**
+ * @interface TargetingStrategy
+ *            Chooses the cells a computer player shoots at.
+ *            The strategy is told the result of every shot it requested, so it
+ *            can keep its own picture of the opponent's board.
+ */
+public interface TargetingStrategy {
+
+    /**
+     * Chooses the next cell to shoot at.
+     *
+     * @return The index {@code y * boardSize + x} of the cell, or -1 if every
+     *         cell has been shot at.
+     */
+    int nextTarget();
+
+    /**
+     * Chooses the next cell to shoot at, returning the best cell found so far
+     * once the deadline has passed.
+     * Strategies that choose in bounded time ignore the deadline.
+     *
+     * @param deadlineNanos The value of {@link System#nanoTime()} at which the
+     *                      choice must be made.
+     * @return The index {@code y * boardSize + x} of the cell, or -1 if every
+     *         cell has been shot at.
+     */
+    default int nextTarget(long deadlineNanos) {
+        return nextTarget();
+    }
+
+    /**
+     * Informs the strategy about the result of a shot.
+     *
+     * @param x      The x-coordinate of the cell that was shot at.
+     * @param y      The y-coordinate of the cell that was shot at.
+     * @param result The result of the shot.
+     */
+    void onShot(int x, int y, ShotResult result);
+
+    /**
+     * Forgets all shots and starts over with a full fleet.
+     */
+    void reset();
+
+    /**
+     * Captures the knowledge of the strategy that {@link #replay} cannot
+     * rebuild, because it depends on the order of the shots.
+     * Strategies whose knowledge follows from the shots alone keep nothing.
+     *
+     * @return The state, at most 255 bytes, empty if there is none.
+     */
+    default byte[] saveState() {
+        return new byte[0];
+    }
+
+    /**
+     * Restores the knowledge captured by {@link #saveState()}, after the shots
+     * of the saved game have been replayed.
+     *
+     * @param state The state; empty if none was saved.
+     */
+    default void restoreState(byte[] state) {
+        // Nothing beyond the shots to restore
+    }
+
+    /**
+     * Rebuilds the knowledge of the strategy from a game, by replaying the
+     * shots of a player against an intact copy of the opponent's fleet.
+     * Used to continue a saved game.
+     *
+     * @param state   The game.
+     * @param shooter The index of the player this strategy shoots for.
+     */
+    default void replay(GameState state, int shooter) {
+        reset();
+        Fleet target = state.getFleet(GameState.opponentOf(shooter)).copyIntact();
+        int boardSize = state.getBoardSize();
+        Bitboard shots = state.getShots(shooter);
+        for (int index = shots.nextSetBit(0); index >= 0; index = shots.nextSetBit(index + 1)) {
+            int x = index % boardSize;
+            int y = index / boardSize;
+            onShot(x, y, target.hit(x, y));
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package battleship.engine.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import battleship.engine.ShotResult;
+
+/**
+ * @class ShotJournal
+ *        Append-only journal of resolved shots in a memory-mapped file.
+ *        Every shot is a record of {@link #RECORD_SIZE} bytes: game id,
+ *        timestamp, shooter, cell and result. Writers reserve slots with a
+ *        single atomic increment and fill them directly in the mapping, so
+ *        any number of threads append without locks; a {@link Writer} batches
+ *        the records of one thread and reserves a whole batch at once.
+ *        A record only counts once its last byte, the commit marker, has been
+ *        written, so a record torn by a crash is recognised. Since the
+ *        mapping lives in the page cache, the records survive a crash of the
+ *        JVM; {@link #force()} also protects them against a crash of the
+ *        machine. Records are read back with {@link ShotJournalReader}.
+ *        The file is grown in segments of {@link #SEGMENT_RECORDS} records,
+ *        the next segment is mapped ahead of time.
+ */
+public final class ShotJournal implements Closeable {
+
+    /**
+     * Size of a record in bytes. Slot 0 of the file holds the header.
+     */
+    public static final int RECORD_SIZE = 24;
+
+    /**
+     * Number of records per mapped segment.
+     */
+    public static final int SEGMENT_RECORDS = 1 << 21;
+
+    /**
+     * Largest board size whose coordinates fit into the two bytes a record
+     * keeps per coordinate.
+     */
+    public static final int MAX_BOARD_SIZE = 0xFFFF;
+
+    static final int MAGIC = 0x42534A31; /**< "BSJ1", the first bytes of a journal */
+    static final int VERSION = 2; /**< Version of the record layout, 2 since coordinates take two bytes */
+    static final byte COMMITTED = 0x5A; /**< Last byte of a completely written record */
+    static final int OFFSET_GAME = 0; /**< Offset of the game id in a record */
+    static final int OFFSET_TIME = 8; /**< Offset of the timestamp in a record */
+    static final int OFFSET_SHOOTER = 16; /**< Offset of the shooter in a record */
+    static final int OFFSET_X = 17; /**< Offset of the x-coordinate in a record, two bytes */
+    static final int OFFSET_Y = 19; /**< Offset of the y-coordinate in a record, two bytes */
+    static final int OFFSET_RESULT = 21; /**< Offset of the result in a record */
+    static final int OFFSET_MARKER = RECORD_SIZE - 1; /**< Offset of the commit marker in a record */
+    static final int SEGMENT_SHIFT = 21; /**< log2 of SEGMENT_RECORDS */
+    static final long SEGMENT_BYTES = (long) SEGMENT_RECORDS * RECORD_SIZE; /**< Size of a mapped segment */
+
+    private static final int MAX_SEGMENTS = 1 << 12; /**< Largest number of segments, 192 GiB */
+    private static final int SCAN_RECORDS = 1 << 12; /**< Records read at once while opening */
+
+    private final FileChannel channel; /**< The journal file */
+    private final AtomicReferenceArray<MappedByteBuffer> segments = new AtomicReferenceArray<>(MAX_SEGMENTS); /**< Mapped segments, null until needed */
+    private final AtomicLong nextSlot; /**< The next slot to reserve */
+    private final AtomicLong nextGameId; /**< The next game id to hand out */
+
+    /**
+     * Constructor for ShotJournal.
+     *
+     * @param channel  The journal file.
+     * @param nextSlot The first free slot.
+     * @param nextGame The next game id to hand out.
+     */
+    private ShotJournal(FileChannel channel, long nextSlot, long nextGame) {
+        this.channel = channel;
+        this.nextSlot = new AtomicLong(nextSlot);
+        this.nextGameId = new AtomicLong(nextGame);
+    }
+
+    /**
+     * Opens a journal for appending, creating the file if it does not exist.
+     * The records of an existing file are kept up to the first one that was
+     * not completely written; everything after it is cut off, since a crash
+     * may have left older records behind an unfinished one.
+     *
+     * @param path The journal file.
+     * @return The open journal.
+     * @throws IOException if the file cannot be opened or is no journal.
+     */
+    public static ShotJournal open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long nextSlot = 1;
+            long maxGameId = -1;
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE);
+                header.put(OFFSET_MARKER, COMMITTED).clear();
+                channel.write(header, 0);
+            } else {
+                ShotJournalReader.checkHeader(channel);
+                ByteBuffer chunk = ByteBuffer.allocate(SCAN_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                scan: while (true) {
+                    chunk.clear();
+                    int read = channel.read(chunk, nextSlot * RECORD_SIZE);
+                    for (int offset = 0; offset + RECORD_SIZE <= read; offset += RECORD_SIZE) {
+                        if (chunk.get(offset + OFFSET_MARKER) != COMMITTED) {
+                            break scan;
+                        }
+                        maxGameId = Math.max(maxGameId, chunk.getLong(offset + OFFSET_GAME));
+                        nextSlot++;
+                    }
+                    if (read < chunk.capacity()) {
+                        break;
+                    }
+                }
+                channel.truncate(nextSlot * RECORD_SIZE);
+            }
+            ShotJournal journal = new ShotJournal(channel, nextSlot, maxGameId + 1);
+            journal.segment((int) (nextSlot >>> SEGMENT_SHIFT));
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Hands out a game id that no other game of this journal uses, also
+     * after reopening it.
+     *
+     * @return The new game id.
+     */
+    public long nextGameId() {
+        return nextGameId.getAndIncrement();
+    }
+
+    /**
+     * Appends a single record. Safe to call from any thread.
+     *
+     * @param gameId  The id of the game.
+     * @param shooter The index of the shooting player.
+     * @param x       The x-coordinate of the target cell.
+     * @param y       The y-coordinate of the target cell.
+     * @param result  The result of the shot.
+     * @throws IllegalArgumentException if a coordinate does not fit into a
+     *                                  record.
+     */
+    public void append(long gameId, int shooter, int x, int y, ShotResult result) {
+        long shot = pack(shooter, x, y, result);
+        long slot = nextSlot.getAndIncrement();
+        write(slot, gameId, System.currentTimeMillis(), shot);
+    }
+
+    /**
+     * Creates a writer batching the records of one thread.
+     *
+     * @param batchSize The number of records reserved at once.
+     * @return The new writer.
+     */
+    public Writer newWriter(int batchSize) {
+        return new Writer(this, batchSize);
+    }
+
+    /**
+     * Gets the number of records reserved so far, written or not.
+     *
+     * @return The number of records.
+     */
+    public long getRecordCount() {
+        return nextSlot.get() - 1;
+    }
+
+    /**
+     * Writes the mapped records through to the storage device.
+     */
+    public void force() {
+        for (int i = 0; i < MAX_SEGMENTS; i++) {
+            MappedByteBuffer segment = segments.get(i);
+            if (segment == null) {
+                break;
+            }
+            segment.force();
+        }
+    }
+
+    /**
+     * Closes the file. Records must not be appended afterwards; the mappings
+     * stay valid until they are collected.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Writes a record into its slot and commits it.
+     *
+     * @param slot      The reserved slot.
+     * @param gameId    The id of the game.
+     * @param timestamp The time of the shot in milliseconds since the epoch.
+     * @param shot      Shooter, x, y and result ordinal as packed by
+     *                  {@link #pack(int, int, int, ShotResult)}.
+     */
+    void write(long slot, long gameId, long timestamp, long shot) {
+        MappedByteBuffer segment = segment((int) (slot >>> SEGMENT_SHIFT));
+        int offset = (int) (slot & (SEGMENT_RECORDS - 1)) * RECORD_SIZE;
+        segment.putLong(offset + OFFSET_GAME, gameId);
+        segment.putLong(offset + OFFSET_TIME, timestamp);
+        segment.put(offset + OFFSET_SHOOTER, (byte) shot);
+        segment.putShort(offset + OFFSET_X, (short) (shot >>> 8));
+        segment.putShort(offset + OFFSET_Y, (short) (shot >>> 24));
+        segment.put(offset + OFFSET_RESULT, (byte) (shot >>> 40));
+        // the marker must not become visible before the rest of the record
+        VarHandle.releaseFence();
+        segment.put(offset + OFFSET_MARKER, COMMITTED);
+    }
+
+    /**
+     * Packs the fields of a shot into the layout {@link #write} expects:
+     * shooter in the lowest byte, then two bytes each for x and y, then the
+     * result ordinal.
+     *
+     * @param shooter The index of the shooting player.
+     * @param x       The x-coordinate of the target cell.
+     * @param y       The y-coordinate of the target cell.
+     * @param result  The result of the shot.
+     * @return The packed shot.
+     * @throws IllegalArgumentException if a coordinate does not fit into a
+     *                                  record.
+     */
+    static long pack(int shooter, int x, int y, ShotResult result) {
+        if (x < 0 || y < 0 || x > MAX_BOARD_SIZE || y > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Feld passt nicht ins Journal: " + x + "," + y);
+        }
+        return shooter | (long) x << 8 | (long) y << 24 | (long) result.ordinal() << 40;
+    }
+
+    /**
+     * Reserves consecutive slots.
+     *
+     * @param count The number of slots.
+     * @return The first reserved slot.
+     */
+    long reserve(int count) {
+        return nextSlot.getAndAdd(count);
+    }
+
+    /**
+     * Gets a mapped segment, mapping it and the one after it if needed.
+     *
+     * @param index The segment index.
+     * @return The mapped segment.
+     */
+    private MappedByteBuffer segment(int index) {
+        MappedByteBuffer segment = segments.get(index);
+        if (segment == null) {
+            segment = map(index);
+            if (index + 1 < MAX_SEGMENTS) {
+                map(index + 1);
+            }
+        }
+        return segment;
+    }
+
+    /**
+     * Maps a segment unless another thread has done so, growing the file.
+     *
+     * @param index The segment index.
+     * @return The mapped segment.
+     */
+    private synchronized MappedByteBuffer map(int index) {
+        MappedByteBuffer segment = segments.get(index);
+        if (segment == null) {
+            try {
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, index * SEGMENT_BYTES, SEGMENT_BYTES);
+            } catch (IOException e) {
+                throw new IllegalStateException("Journal konnte nicht erweitert werden.", e);
+            }
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+            segments.set(index, segment);
+        }
+        return segment;
+    }
+
+    /**
+     * @class Writer
+     *        Collects the records of one thread and appends them in batches,
+     *        one slot reservation per batch. Not thread-safe; records become
+     *        visible in the journal when the batch is full or on
+     *        {@link #flush()}.
+     */
+    public static final class Writer {
+
+        private final ShotJournal journal; /**< The journal appended to */
+        private final long[] gameIds; /**< Game id per pending record */
+        private final long[] timestamps; /**< Timestamp per pending record */
+        private final long[] shots; /**< Packed shooter, cell and result per pending record */
+        private int pending; /**< Number of pending records */
+
+        /**
+         * Constructor for Writer.
+         *
+         * @param journal   The journal to append to.
+         * @param batchSize The number of records reserved at once.
+         */
+        private Writer(ShotJournal journal, int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Ungültige Blockgröße: " + batchSize);
+            }
+            this.journal = journal;
+            this.gameIds = new long[batchSize];
+            this.timestamps = new long[batchSize];
+            this.shots = new long[batchSize];
+        }
+
+        /**
+         * Adds a record to the batch, appending the batch once it is full.
+         *
+         * @param gameId  The id of the game.
+         * @param shooter The index of the shooting player.
+         * @param x       The x-coordinate of the target cell.
+         * @param y       The y-coordinate of the target cell.
+         * @param result  The result of the shot.
+         * @throws IllegalArgumentException if a coordinate does not fit into a
+         *                                  record.
+         */
+        public void append(long gameId, int shooter, int x, int y, ShotResult result) {
+            shots[pending] = pack(shooter, x, y, result);
+            gameIds[pending] = gameId;
+            timestamps[pending] = System.currentTimeMillis();
+            if (++pending == shots.length) {
+                flush();
+            }
+        }
+
+        /**
+         * Appends the pending records to the journal.
+         */
+        public void flush() {
+            if (pending == 0) {
+                return;
+            }
+            long first = journal.reserve(pending);
+            for (int i = 0; i < pending; i++) {
+                journal.write(first + i, gameIds[i], timestamps[i], shots[i]);
+            }
+            pending = 0;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package battleship.engine.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import battleship.engine.GameEngine;
+import battleship.engine.ShotResult;
+
+/**
+ * @class ShotJournalReader
+ *        Reads the records of a {@link ShotJournal} file, also while another
+ *        process still appends to it. Reading stops at the first record that
+ *        has not been completely written, so the records seen are exactly the
+ *        ones a crash would keep.
+ *        The journal holds the shots, not the fleets: to replay or recover a
+ *        game, start an engine from the fleets of the game, for example a
+ *        {@link battleship.engine.GameSnapshot} taken when it started, and
+ *        hand it to {@link #replay(long, GameEngine)}.
+ */
+public final class ShotJournalReader implements Closeable {
+
+    private static final ShotResult[] RESULTS = ShotResult.values(); /**< Results by ordinal */
+
+    private final FileChannel channel; /**< The journal file */
+
+    /**
+     * Constructor for ShotJournalReader.
+     *
+     * @param path The journal file.
+     * @throws IOException if the file cannot be opened or is no journal.
+     */
+    public ShotJournalReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            checkHeader(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Hands every committed record to a visitor, in the order of the file.
+     *
+     * @param visitor Receives the records.
+     * @return The number of records visited.
+     * @throws IOException if the file cannot be read or holds an invalid
+     *                     record.
+     */
+    public long forEach(ShotRecordVisitor visitor) throws IOException {
+        long size = channel.size();
+        long slot = 1;
+        while (slot * ShotJournal.RECORD_SIZE < size) {
+            long start = (slot >>> ShotJournal.SEGMENT_SHIFT) * ShotJournal.SEGMENT_BYTES;
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                    Math.min(ShotJournal.SEGMENT_BYTES, size - start));
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+            int offset = (int) (slot * ShotJournal.RECORD_SIZE - start);
+            for (; offset + ShotJournal.RECORD_SIZE <= segment.limit(); offset += ShotJournal.RECORD_SIZE) {
+                if (segment.get(offset + ShotJournal.OFFSET_MARKER) != ShotJournal.COMMITTED) {
+                    return slot - 1;
+                }
+                int result = segment.get(offset + ShotJournal.OFFSET_RESULT);
+                if (result < 0 || result >= RESULTS.length) {
+                    throw new IOException("Ungültiger Eintrag im Journal: " + slot);
+                }
+                visitor.visit(segment.getLong(offset + ShotJournal.OFFSET_GAME),
+                        segment.get(offset + ShotJournal.OFFSET_SHOOTER) & 0xFF,
+                        segment.getShort(offset + ShotJournal.OFFSET_X) & 0xFFFF,
+                        segment.getShort(offset + ShotJournal.OFFSET_Y) & 0xFFFF,
+                        RESULTS[result],
+                        segment.getLong(offset + ShotJournal.OFFSET_TIME));
+                slot++;
+            }
+            if (offset < segment.limit()) {
+                break;
+            }
+        }
+        return slot - 1;
+    }
+
+    /**
+     * Replays the shots of one game on an engine, in the order they were
+     * fired. The engine must hold the fleets the game was played with and
+     * no shots that are not in the journal; the turn order is left to the
+     * caller. Every shot must come out as recorded, so a replay is
+     * deterministic or fails.
+     *
+     * @param gameId The id of the game.
+     * @param engine The engine to fire the shots on.
+     * @return The number of shots fired.
+     * @throws IOException           if the file cannot be read.
+     * @throws IllegalStateException if a shot does not come out as recorded, so
+     *                               the engine does not hold the fleets of the
+     *                               game.
+     */
+    public long replay(long gameId, GameEngine engine) throws IOException {
+        long[] shots = new long[1];
+        forEach((game, shooter, x, y, result, timestampMillis) -> {
+            if (game != gameId) {
+                return;
+            }
+            ShotResult actual = engine.fire(shooter, x, y);
+            if (actual != result) {
+                throw new IllegalStateException("Schuss auf " + x + "," + y + " ergibt " + actual
+                        + " statt " + result + ".");
+            }
+            shots[0]++;
+        });
+        return shots[0];
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Checks that a file starts with the header of a journal.
+     *
+     * @param channel The file.
+     * @throws IOException if the file cannot be read or is no journal.
+     */
+    static void checkHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ShotJournal.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.read(header, 0) < ShotJournal.RECORD_SIZE
+                || header.getInt(0) != ShotJournal.MAGIC
+                || header.getInt(8) != ShotJournal.RECORD_SIZE
+                || header.get(ShotJournal.OFFSET_MARKER) != ShotJournal.COMMITTED) {
+            throw new IOException("Datei ist kein Schussjournal.");
+        }
+        if (header.getInt(4) != ShotJournal.VERSION) {
+            throw new IOException("Unbekannte Version des Schussjournals: " + header.getInt(4));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package battleship.engine.journal;
+
+import battleship.engine.ShotResult;
+
+/**
+ * @interface ShotRecordVisitor
+ *            Receives the records of a {@link ShotJournal} in the order they
+ *            were reserved.
+ */
+@FunctionalInterface
+public interface ShotRecordVisitor {
+
+    /**
+     * Receives one record.
+     *
+     * @param gameId          The id of the game the shot belongs to.
+     * @param shooter         The index of the shooting player.
+     * @param x               The x-coordinate of the target cell.
+     * @param y               The y-coordinate of the target cell.
+     * @param result          The result of the shot.
+     * @param timestampMillis The time of the shot in milliseconds since the
+     *                        epoch.
+     */
+    void visit(long gameId, int shooter, int x, int y, ShotResult result, long timestampMillis);
+}
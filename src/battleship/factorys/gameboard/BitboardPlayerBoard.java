@@ -0,0 +1,255 @@
+/**
+ * @file BitboardPlayerBoard.java
+ *   Bitset backed implementation of a player's game board in the Battleship game.
+ */
+
+package battleship.factorys.gameboard;
+
+import java.awt.Point;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import battleship.engine.Fleet;
+import battleship.factorys.hits.IHits;
+import battleship.factorys.ships.IShip;
+
+/**
+ * @class BitboardPlayerBoard
+ *        Represents a player's game board whose occupancy is stored in packed
+ *        {@code long} bitsets (two words for a 10x10 board) and a parallel
+ *        byte array of ship ids, kept by an engine {@link Fleet}.
+ *        Placement validation, hit tests and the adjacency check are answered
+ *        with word level mask operations and do not allocate.
+ *        {@link #shipAt(int, int)} and the visitors read the fleet directly.
+ *        The {@code Map<Point, IShip>} view required by {@link IGameBoard} and
+ *        the {@link BoardSnapshot} are built lazily and cached until the next
+ *        modification.
+ *        Implements the {@link IGameBoard} interface.
+ */
+public class BitboardPlayerBoard implements IGameBoard {
+    private static final int DEFAULT_BOARD_SIZE = 10; /**< The default size of the game board */
+
+    private final Fleet fleet; /**< Occupancy, ship ids and ship geometry */
+    private final IShip[] ships; /**< Ships indexed by their fleet id, index 0 is unused */
+    private Map<Point, IShip> shipLocationView; /**< Lazily built map view, null if outdated */
+    private BoardSnapshot snapshot; /**< Lazily taken snapshot, null if outdated */
+
+    /**
+     * Constructor for BitboardPlayerBoard.
+     * Creates an empty board of the default size.
+     */
+    public BitboardPlayerBoard() {
+        this(DEFAULT_BOARD_SIZE);
+    }
+
+    /**
+     * Constructor for BitboardPlayerBoard.
+     *
+     * @param boardSize The width and height of the board.
+     */
+    public BitboardPlayerBoard(int boardSize) {
+        this.fleet = new Fleet(boardSize);
+        this.ships = new IShip[Fleet.MAX_SHIPS + 1];
+    }
+
+    /**
+     * Places a ship on the game board.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param ship         The ship to be placed.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @throws IllegalArgumentException if the ship placement is invalid.
+     */
+    @Override
+    public void placeShip(int x, int y, IShip ship, boolean isHorizontal) {
+        int id = fleet.place(x, y, ship.getShipSize(), isHorizontal);
+        ships[id] = ship;
+        shipLocationView = null;
+        snapshot = null;
+    }
+
+    /**
+     * Gets the locations of all ships on the board.
+     * The returned map is a read-only view that is built on first access and
+     * reused until the board changes.
+     *
+     * @return A map of ship locations.
+     */
+    @Override
+    public Map<Point, IShip> getShipLocations() {
+        if (shipLocationView == null) {
+            Map<Point, IShip> locations = new HashMap<>();
+            for (int id = 1; id <= Fleet.MAX_SHIPS; id++) {
+                if (fleet.isShip(id)) {
+                    int x = fleet.getShipX(id);
+                    int y = fleet.getShipY(id);
+                    boolean isHorizontal = fleet.isShipHorizontal(id);
+                    for (int i = 0; i < fleet.getShipLength(id); i++) {
+                        locations.put(new Point(isHorizontal ? x + i : x, isHorizontal ? y : y + i), ships[id]);
+                    }
+                }
+            }
+            shipLocationView = Collections.unmodifiableMap(locations);
+        }
+        return shipLocationView;
+    }
+
+    /**
+     * Gets the ship covering a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The ship on the cell, or null if the cell holds water or lies
+     *         outside the board.
+     */
+    @Override
+    public IShip shipAt(int x, int y) {
+        return ships[fleet.shipAt(x, y)];
+    }
+
+    /**
+     * Calls the visitor for every ship, in the order of their fleet ids.
+     *
+     * @param visitor The visitor to call.
+     */
+    @Override
+    public void forEachShip(ShipVisitor visitor) {
+        for (int id = 1; id <= Fleet.MAX_SHIPS; id++) {
+            if (fleet.isShip(id)) {
+                visitor.visit(fleet.getShipX(id), fleet.getShipY(id), fleet.getShipLength(id),
+                        fleet.isShipHorizontal(id), ships[id]);
+            }
+        }
+    }
+
+    /**
+     * Calls the visitor for every cell covered by a ship.
+     *
+     * @param visitor The visitor to call.
+     */
+    @Override
+    public void forEachShipCell(ShipCellVisitor visitor) {
+        forEachShip((x, y, length, isHorizontal, ship) -> {
+            for (int i = 0; i < length; i++) {
+                visitor.visit(isHorizontal ? x + i : x, isHorizontal ? y : y + i, ship);
+            }
+        });
+    }
+
+    /**
+     * Takes an immutable snapshot of the ships on the board.
+     * The same snapshot is returned until the board changes.
+     *
+     * @return A snapshot of the board.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new BoardSnapshot(getBoardSize(), BoardSnapshot.ShipLayer.of(this));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks if a ship is hit at the given coordinates.
+     *
+     * @param x The x-coordinate to check.
+     * @param y The y-coordinate to check.
+     * @return True if a ship is hit, false otherwise.
+     */
+    @Override
+    public boolean isShipHit(int x, int y) {
+        return fleet.isOccupied(x, y);
+    }
+
+    /**
+     * Checks if any of the eight neighbouring cells is occupied by a ship.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell is adjacent to a ship, false otherwise.
+     */
+    @Override
+    public boolean isAdjacentToShip(int x, int y) {
+        return fleet.isAdjacentToShip(x, y);
+    }
+
+    /**
+     * Checks if a ship can be placed without leaving the board and without
+     * overlapping or touching another ship.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param shipSize     The size of the ship.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @return True if the ship can be placed, false otherwise.
+     */
+    @Override
+    public boolean canPlaceShip(int x, int y, int shipSize, boolean isHorizontal) {
+        return fleet.canPlace(x, y, shipSize, isHorizontal);
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The size of the board.
+     */
+    @Override
+    public int getBoardSize() {
+        return fleet.getBoardSize();
+    }
+
+    /**
+     * Gets the engine fleet backing this board.
+     *
+     * @return The fleet holding the ship geometry of this board.
+     */
+    public Fleet getFleet() {
+        return fleet;
+    }
+
+    /**
+     * Removes a ship from the game board.
+     *
+     * @param ship The ship to be removed.
+     */
+    @Override
+    public void removeShip(IShip ship) {
+        for (int id = 1; id <= Fleet.MAX_SHIPS; id++) {
+            if (ships[id] != null && ships[id].equals(ship)) {
+                fleet.remove(id);
+                ships[id] = null;
+                shipLocationView = null;
+                snapshot = null;
+            }
+        }
+    }
+
+    /**
+     * Places a hit on the game board.
+     * The player board does not track hits.
+     *
+     * @param x   The x-coordinate where the hit will be placed.
+     * @param y   The y-coordinate where the hit will be placed.
+     * @param hit The hit to be placed.
+     */
+    @Override
+    public void placeHit(int x, int y, IHits hit) {
+        // Hits are tracked on the targeting board
+    }
+
+    /**
+     * Gets the hits on the game board.
+     * The player board does not track hits.
+     *
+     * @return An empty map.
+     */
+    @Override
+    public Map<Point, IHits> getHits() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,361 @@
+/**
+ * @file BitsetTargetingBoard.java
+ *   Bitset backed implementation of a targeting board in the Battleship game.
+ */
+
+package battleship.factorys.gameboard;
+
+import java.awt.Point;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import battleship.engine.Bitboard;
+import battleship.factorys.hits.IHits;
+import battleship.factorys.hits.ShipHit;
+import battleship.factorys.ships.IShip;
+
+/**
+ * @class BitsetTargetingBoard
+ *        Represents a targeting board that records every shot in two bitsets,
+ *        one for "shot" and one for "hit".
+ *        Recording a shot and the primitive queries {@link #isShot(int, int)},
+ *        {@link #isHit(int, int)} and {@link #shotCount()} do not allocate.
+ *        {@link #getHits()} returns a read-only view backed by the bitsets
+ *        instead of a copy.
+ *        The first call of {@link #snapshot()} copies the shots into chunked
+ *        bitmaps that later shots keep up to date; every snapshot shares their
+ *        chunks copy-on-write, so it only costs the chunks shot at since the
+ *        previous one.
+ *        Implements the {@link IGameBoard} interface.
+ */
+public class BitsetTargetingBoard implements IGameBoard {
+    private static final int DEFAULT_BOARD_SIZE = 10; /**< The default size of the game board */
+
+    private final int boardSize; /**< The width and height of the board */
+    private final Bitboard shots; /**< One bit per cell, set if the cell was shot at */
+    private final Bitboard hits; /**< One bit per cell, set if the shot hit a ship */
+    private int shotCount; /**< The number of cells shot at */
+    private final Map<Point, IHits> hitView; /**< Read-only map view on the bitsets */
+    private ChunkedBitmap snapshotShots; /**< The shots in snapshot form, null until the first snapshot */
+    private ChunkedBitmap snapshotHits; /**< The hits in snapshot form, null until the first snapshot */
+    private BoardSnapshot snapshot; /**< Lazily taken snapshot, null if outdated */
+
+    /**
+     * Constructor for BitsetTargetingBoard.
+     * Creates an empty board of the default size.
+     */
+    public BitsetTargetingBoard() {
+        this(DEFAULT_BOARD_SIZE);
+    }
+
+    /**
+     * Constructor for BitsetTargetingBoard.
+     *
+     * @param boardSize The width and height of the board.
+     */
+    public BitsetTargetingBoard(int boardSize) {
+        if (boardSize <= 0) {
+            throw new IllegalArgumentException("Ungültige Spielfeldgröße: " + boardSize);
+        }
+        this.boardSize = boardSize;
+        this.shots = new Bitboard(boardSize * boardSize);
+        this.hits = new Bitboard(boardSize * boardSize);
+        this.hitView = new HitView();
+    }
+
+    /**
+     * Places a hit on the board.
+     * Placing a second hit on the same cell overwrites the first one.
+     *
+     * @param x   The x-coordinate of the hit.
+     * @param y   The y-coordinate of the hit.
+     * @param hit The hit object to be placed.
+     */
+    @Override
+    public void placeHit(int x, int y, IHits hit) {
+        if (x < 0 || y < 0 || x >= boardSize || y >= boardSize) {
+            throw new IllegalArgumentException("Ungültiges Feld: " + x + "," + y);
+        }
+        int index = y * boardSize + x;
+        if (!shots.get(index)) {
+            shots.set(index);
+            shotCount++;
+        }
+        if (hit.isHit()) {
+            hits.set(index);
+        } else {
+            hits.clear(index);
+        }
+        if (snapshotShots != null) {
+            snapshotShots.set(x, y);
+            if (hit.isHit()) {
+                snapshotHits.set(x, y);
+            } else {
+                snapshotHits.clear(x, y);
+            }
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Gets the hits on the board.
+     * The returned map is a read-only view that reflects later shots.
+     *
+     * @return A map of hits on the board.
+     */
+    @Override
+    public Map<Point, IHits> getHits() {
+        return hitView;
+    }
+
+    /**
+     * Calls the visitor for every cell that has been shot at, in row-major
+     * order.
+     *
+     * @param visitor The visitor to call.
+     */
+    @Override
+    public void forEachHit(HitVisitor visitor) {
+        for (int index = shots.nextSetBit(0); index >= 0; index = shots.nextSetBit(index + 1)) {
+            visitor.visit(index % boardSize, index / boardSize, hits.get(index));
+        }
+    }
+
+    /**
+     * Takes an immutable snapshot of the shots on the board.
+     * The same snapshot is returned until the next shot.
+     *
+     * @return A snapshot of the board.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        if (snapshot == null) {
+            if (snapshotShots == null) {
+                snapshotShots = new ChunkedBitmap();
+                snapshotHits = new ChunkedBitmap();
+                forEachHit((x, y, isHit) -> {
+                    snapshotShots.set(x, y);
+                    if (isHit) {
+                        snapshotHits.set(x, y);
+                    }
+                });
+            }
+            snapshot = new BoardSnapshot(boardSize, BoardSnapshot.ShipLayer.EMPTY, snapshotShots.snapshot(),
+                    snapshotHits.snapshot(), shotCount);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks if the given cell has been shot at.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if a shot was placed on the cell, false otherwise.
+     */
+    @Override
+    public boolean isShot(int x, int y) {
+        return test(shots, x, y);
+    }
+
+    /**
+     * Checks if a shot on the given cell hit a ship.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell was hit, false otherwise.
+     */
+    @Override
+    public boolean isHit(int x, int y) {
+        return test(hits, x, y);
+    }
+
+    /**
+     * Gets the number of cells that have been shot at.
+     *
+     * @return The number of shots on the board.
+     */
+    @Override
+    public int shotCount() {
+        return shotCount;
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The size of the board.
+     */
+    @Override
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Places a ship on the game board.
+     * The targeting board does not hold ships.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param ship         The ship to be placed.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     */
+    @Override
+    public void placeShip(int x, int y, IShip ship, boolean isHorizontal) {
+        // The targeting board does not hold ships
+    }
+
+    /**
+     * Gets the locations of all ships on the board.
+     *
+     * @return An empty map, the targeting board does not hold ships.
+     */
+    @Override
+    public Map<Point, IShip> getShipLocations() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Checks if a ship is hit at the given coordinates.
+     *
+     * @param x The x-coordinate to check.
+     * @param y The y-coordinate to check.
+     * @return False as this board does not track ship hits.
+     */
+    @Override
+    public boolean isShipHit(int x, int y) {
+        return false;
+    }
+
+    /**
+     * Removes a ship from the board.
+     * The targeting board does not hold ships.
+     *
+     * @param ship The ship to be removed.
+     */
+    @Override
+    public void removeShip(IShip ship) {
+        // The targeting board does not hold ships
+    }
+
+    /**
+     * Tests the bit of a cell in the given bitset.
+     *
+     * @param bits The bitset to test.
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     * @return True if the bit is set, false otherwise or if the cell is outside
+     *         the board.
+     */
+    private boolean test(Bitboard bits, int x, int y) {
+        if (x < 0 || y < 0 || x >= boardSize || y >= boardSize) {
+            return false;
+        }
+        return bits.get(y * boardSize + x);
+    }
+
+    /**
+     * @class HitView
+     *        Read-only map view on the shot and hit bitsets.
+     */
+    private class HitView extends AbstractMap<Point, IHits> {
+        private final Set<Map.Entry<Point, IHits>> entrySet = new EntrySet(); /**< The entry set view */
+
+        /**
+         * Gets the number of shots on the board.
+         *
+         * @return The number of entries.
+         */
+        @Override
+        public int size() {
+            return shotCount;
+        }
+
+        /**
+         * Checks if a shot was placed on the given point.
+         *
+         * @param key The point to check.
+         * @return True if the point was shot at, false otherwise.
+         */
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Point && isShot(((Point) key).x, ((Point) key).y);
+        }
+
+        /**
+         * Gets the hit placed on the given point.
+         *
+         * @param key The point to look up.
+         * @return The hit on the point, or null if it was not shot at.
+         */
+        @Override
+        public IHits get(Object key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            return isHit(((Point) key).x, ((Point) key).y) ? ShipHit.HIT : ShipHit.MISS;
+        }
+
+        /**
+         * Gets the entries of the view.
+         *
+         * @return A set view of the shots on the board.
+         */
+        @Override
+        public Set<Map.Entry<Point, IHits>> entrySet() {
+            return entrySet;
+        }
+    }
+
+    /**
+     * @class EntrySet
+     *        Set view on the shots, iterating the set bits of the shot bitset.
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<Point, IHits>> {
+
+        /**
+         * Gets the number of shots on the board.
+         *
+         * @return The number of entries.
+         */
+        @Override
+        public int size() {
+            return shotCount;
+        }
+
+        /**
+         * Creates an iterator over the shots in row-major order.
+         *
+         * @return An iterator over the shot entries.
+         */
+        @Override
+        public Iterator<Map.Entry<Point, IHits>> iterator() {
+            return new Iterator<Map.Entry<Point, IHits>>() {
+                private int next = shots.nextSetBit(0); /**< Index of the next shot cell, -1 if none */
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Map.Entry<Point, IHits> next() {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    int index = next;
+                    next = shots.nextSetBit(index + 1);
+                    IHits hit = hits.get(index) ? ShipHit.HIT : ShipHit.MISS;
+                    return new AbstractMap.SimpleImmutableEntry<>(
+                            new Point(index % boardSize, index / boardSize), hit);
+                }
+            };
+        }
+
+    }
+}
@@ -0,0 +1,309 @@
+/**
+ * @file BoardSnapshot.java
+ *   Immutable snapshot of the ships and shots on a game board in the Battleship game.
+ */
+
+package battleship.factorys.gameboard;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import battleship.factorys.ships.IShip;
+
+/**
+ * @class BoardSnapshot
+ *        Immutable view of the ships and shots on a game board at the time it
+ *        was taken, returned by {@link IGameBoard#snapshot()}. Later changes to
+ *        the board do not show up in a snapshot, so it can be read while the
+ *        board is modified, for example by another thread.
+ *        A snapshot consists of two parts: a {@link ShipLayer} with the
+ *        placements of the ships, and two {@link ChunkedBitmap}s with the shot
+ *        and the hit cells. Boards that track their changes keep handing out
+ *        the same ship layer until a ship is placed or removed, and take the
+ *        bitmaps with {@link ChunkedBitmap#snapshot()}, which shares every
+ *        chunk not shot at since the previous snapshot.
+ *        Ships are found by their placements, so {@link #shipAt(int, int)}
+ *        looks at every ship, at most {@link battleship.engine.Fleet#MAX_SHIPS}.
+ */
+public final class BoardSnapshot {
+    private static final ChunkedBitmap NO_SHOTS = new ChunkedBitmap(); /**< Shared by snapshots without shots, never modified */
+
+    private final int boardSize; /**< The width and height of the board */
+    private final ShipLayer ships; /**< The ships on the board */
+    private final ChunkedBitmap shots; /**< One bit per cell shot at, never modified */
+    private final ChunkedBitmap hits; /**< One bit per cell hit, never modified */
+    private final int shotCount; /**< The number of cells shot at */
+
+    /**
+     * Constructor for BoardSnapshot.
+     *
+     * @param boardSize The width and height of the board.
+     * @param ships     The ships on the board.
+     * @param shots     The cells shot at, owned by the snapshot or shared
+     *                  copy-on-write.
+     * @param hits      The cells hit, owned by the snapshot or shared
+     *                  copy-on-write.
+     * @param shotCount The number of cells shot at.
+     */
+    BoardSnapshot(int boardSize, ShipLayer ships, ChunkedBitmap shots, ChunkedBitmap hits, int shotCount) {
+        this.boardSize = boardSize;
+        this.ships = ships;
+        this.shots = shots;
+        this.hits = hits;
+        this.shotCount = shotCount;
+    }
+
+    /**
+     * Constructor for the snapshot of a board without shots.
+     *
+     * @param boardSize The width and height of the board.
+     * @param ships     The ships on the board.
+     */
+    BoardSnapshot(int boardSize, ShipLayer ships) {
+        this(boardSize, ships, NO_SHOTS, NO_SHOTS, 0);
+    }
+
+    /**
+     * Copies the ships and shots of any board into a new snapshot, through
+     * its visitors.
+     *
+     * @param board The board to copy.
+     * @return A snapshot sharing nothing with the board.
+     */
+    static BoardSnapshot of(IGameBoard board) {
+        ChunkedBitmap shots = new ChunkedBitmap();
+        ChunkedBitmap hits = new ChunkedBitmap();
+        int[] shotCount = new int[1];
+        board.forEachHit((x, y, isHit) -> {
+            if (shots.set(x, y)) {
+                shotCount[0]++;
+            }
+            if (isHit) {
+                hits.set(x, y);
+            }
+        });
+        return new BoardSnapshot(board.getBoardSize(), ShipLayer.of(board), shots, hits, shotCount[0]);
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The size of the board.
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the ship covering a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The ship on the cell, or null if the cell holds water.
+     */
+    public IShip shipAt(int x, int y) {
+        return ships.shipAt(x, y);
+    }
+
+    /**
+     * Gets the ships on the board.
+     *
+     * @return A read-only list of the ships.
+     */
+    public List<IShip> getShips() {
+        return ships.getShips();
+    }
+
+    /**
+     * Calls the visitor for every ship.
+     *
+     * @param visitor The visitor to call.
+     */
+    public void forEachShip(IGameBoard.ShipVisitor visitor) {
+        ships.forEachShip(visitor);
+    }
+
+    /**
+     * Calls the visitor for every cell covered by a ship.
+     *
+     * @param visitor The visitor to call.
+     */
+    public void forEachShipCell(IGameBoard.ShipCellVisitor visitor) {
+        ships.forEachShipCell(visitor);
+    }
+
+    /**
+     * Checks if the given cell has been shot at.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if a shot was placed on the cell, false otherwise.
+     */
+    public boolean isShot(int x, int y) {
+        return isOnBoard(x, y) && shots.get(x, y);
+    }
+
+    /**
+     * Checks if a shot on the given cell hit a ship.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell was hit, false otherwise.
+     */
+    public boolean isHit(int x, int y) {
+        return isOnBoard(x, y) && hits.get(x, y);
+    }
+
+    /**
+     * Gets the number of cells that have been shot at.
+     *
+     * @return The number of shots.
+     */
+    public int shotCount() {
+        return shotCount;
+    }
+
+    /**
+     * Calls the visitor for every cell that has been shot at, chunk by chunk.
+     *
+     * @param visitor The visitor to call.
+     */
+    public void forEachHit(IGameBoard.HitVisitor visitor) {
+        for (PrimitiveIterator.OfLong cells = shots.cells(); cells.hasNext();) {
+            long cell = cells.nextLong();
+            int x = ChunkedBitmap.cellX(cell);
+            int y = ChunkedBitmap.cellY(cell);
+            visitor.visit(x, y, hits.get(x, y));
+        }
+    }
+
+    /**
+     * Checks if a cell lies on the board.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell is on the board, false otherwise.
+     */
+    private boolean isOnBoard(int x, int y) {
+        return x >= 0 && y >= 0 && x < boardSize && y < boardSize;
+    }
+
+    /**
+     * @class ShipLayer
+     *        Immutable list of ship placements, shared by every snapshot of a
+     *        board taken while its ships did not change.
+     */
+    static final class ShipLayer {
+        /**
+         * The layer of a board without ships.
+         */
+        static final ShipLayer EMPTY = new ShipLayer(new int[0], new int[0], new int[0], new boolean[0],
+                new IShip[0]);
+
+        private final int[] xs; /**< The x-coordinate of the first cell per ship */
+        private final int[] ys; /**< The y-coordinate of the first cell per ship */
+        private final int[] lengths; /**< The number of cells per ship */
+        private final boolean[] horizontal; /**< True per ship if it extends to the right, false if down */
+        private final IShip[] ships; /**< The ships */
+
+        /**
+         * Constructor for ShipLayer.
+         * Takes ownership of the arrays, which must all have the same length.
+         *
+         * @param xs         The x-coordinate of the first cell per ship.
+         * @param ys         The y-coordinate of the first cell per ship.
+         * @param lengths    The number of cells per ship.
+         * @param horizontal True per ship if it extends to the right.
+         * @param ships      The ships.
+         */
+        private ShipLayer(int[] xs, int[] ys, int[] lengths, boolean[] horizontal, IShip[] ships) {
+            this.xs = xs;
+            this.ys = ys;
+            this.lengths = lengths;
+            this.horizontal = horizontal;
+            this.ships = ships;
+        }
+
+        /**
+         * Collects the ships of a board.
+         *
+         * @param board The board to read.
+         * @return A new layer holding the ships of the board, or {@link #EMPTY}.
+         */
+        static ShipLayer of(IGameBoard board) {
+            int[] count = new int[1];
+            board.forEachShip((x, y, length, isHorizontal, ship) -> count[0]++);
+            if (count[0] == 0) {
+                return EMPTY;
+            }
+            int[] xs = new int[count[0]];
+            int[] ys = new int[count[0]];
+            int[] lengths = new int[count[0]];
+            boolean[] horizontal = new boolean[count[0]];
+            IShip[] ships = new IShip[count[0]];
+            int[] next = new int[1];
+            board.forEachShip((x, y, length, isHorizontal, ship) -> {
+                int i = next[0]++;
+                xs[i] = x;
+                ys[i] = y;
+                lengths[i] = length;
+                horizontal[i] = isHorizontal;
+                ships[i] = ship;
+            });
+            return new ShipLayer(xs, ys, lengths, horizontal, ships);
+        }
+
+        /**
+         * Gets the ship covering a cell.
+         *
+         * @param x The x-coordinate of the cell.
+         * @param y The y-coordinate of the cell.
+         * @return The ship on the cell, or null if the cell holds water.
+         */
+        IShip shipAt(int x, int y) {
+            for (int i = 0; i < ships.length; i++) {
+                int along = horizontal[i] ? x - xs[i] : y - ys[i];
+                int across = horizontal[i] ? y - ys[i] : x - xs[i];
+                if (across == 0 && along >= 0 && along < lengths[i]) {
+                    return ships[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Gets the ships of the layer.
+         *
+         * @return A read-only list of the ships.
+         */
+        List<IShip> getShips() {
+            return Collections.unmodifiableList(Arrays.asList(ships));
+        }
+
+        /**
+         * Calls the visitor for every ship.
+         *
+         * @param visitor The visitor to call.
+         */
+        void forEachShip(IGameBoard.ShipVisitor visitor) {
+            for (int i = 0; i < ships.length; i++) {
+                visitor.visit(xs[i], ys[i], lengths[i], horizontal[i], ships[i]);
+            }
+        }
+
+        /**
+         * Calls the visitor for every cell covered by a ship.
+         *
+         * @param visitor The visitor to call.
+         */
+        void forEachShipCell(IGameBoard.ShipCellVisitor visitor) {
+            for (int i = 0; i < ships.length; i++) {
+                for (int j = 0; j < lengths[i]; j++) {
+                    visitor.visit(horizontal[i] ? xs[i] + j : xs[i], horizontal[i] ? ys[i] : ys[i] + j, ships[i]);
+                }
+            }
+        }
+    }
+}
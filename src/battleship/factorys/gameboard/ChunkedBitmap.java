@@ -0,0 +1,350 @@
+/**
+ * @file ChunkedBitmap.java
+ *   Sparse bitset over the cells of a large board, stored in 64x64 chunks.
+ */
+
+package battleship.factorys.gameboard;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * @class ChunkedBitmap
+ *        Bitset with one bit per board cell that only stores the 64x64 chunks
+ *        of the board in which a bit has ever been set. A chunk is 64 words,
+ *        one per row, bit {@code x & 63} of word {@code y & 63}.
+ *        The chunks are kept in an open addressing hash table keyed by the
+ *        chunk coordinates packed into a {@code long}, so looking up a cell
+ *        neither boxes a key nor allocates. Clearing bits never frees a
+ *        chunk. Memory grows with the number of touched chunks, not with the
+ *        size of the board.
+ *        {@link #snapshot()} returns a frozen copy that shares the chunks with
+ *        this bitmap; a shared chunk is copied only when a bit in it changes,
+ *        so a snapshot costs the table of chunk references plus the chunks
+ *        modified afterwards.
+ *        Cells are handed out packed as {@code (long) y << 32 | x}.
+ */
+final class ChunkedBitmap {
+    /**
+     * log2 of the width and height of a chunk in cells.
+     */
+    static final int CHUNK_SHIFT = 6;
+
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1; /**< Cell coordinate within a chunk */
+    private static final long EMPTY = -1L; /**< Key of a free slot, chunk coordinates are never negative */
+    private static final int INITIAL_CAPACITY = 16; /**< Slots of a new table, a power of two */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L; /**< Spreads the packed chunk coordinates */
+
+    private long[] keys; /**< Packed chunk coordinates per slot, EMPTY if free */
+    private long[][] chunks; /**< The rows of the chunk per slot */
+    private boolean[] shared; /**< Per slot, true if a snapshot references the chunk too */
+    private int chunkCount; /**< The number of allocated chunks */
+
+    /**
+     * Constructor for ChunkedBitmap.
+     * Creates an empty bitmap without any chunk.
+     */
+    ChunkedBitmap() {
+        keys = new long[INITIAL_CAPACITY];
+        Arrays.fill(keys, EMPTY);
+        chunks = new long[INITIAL_CAPACITY][];
+        shared = new boolean[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructor for a snapshot of a bitmap.
+     * Every chunk is shared with the bitmap it was taken from.
+     *
+     * @param keys       The packed chunk coordinates per slot.
+     * @param chunks     The rows of the chunk per slot.
+     * @param chunkCount The number of allocated chunks.
+     */
+    private ChunkedBitmap(long[] keys, long[][] chunks, int chunkCount) {
+        this.keys = keys;
+        this.chunks = chunks;
+        this.shared = new boolean[keys.length];
+        Arrays.fill(shared, true);
+        this.chunkCount = chunkCount;
+    }
+
+    /**
+     * Packs a cell into a long.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The packed cell.
+     */
+    static long cell(int x, int y) {
+        return (long) y << 32 | x;
+    }
+
+    /**
+     * Gets the x-coordinate of a packed cell.
+     *
+     * @param cell The packed cell.
+     * @return The x-coordinate.
+     */
+    static int cellX(long cell) {
+        return (int) cell;
+    }
+
+    /**
+     * Gets the y-coordinate of a packed cell.
+     *
+     * @param cell The packed cell.
+     * @return The y-coordinate.
+     */
+    static int cellY(long cell) {
+        return (int) (cell >>> 32);
+    }
+
+    /**
+     * Tests the bit of a cell.
+     *
+     * @param x The x-coordinate of the cell, not negative.
+     * @param y The y-coordinate of the cell, not negative.
+     * @return True if the bit is set, false otherwise.
+     */
+    boolean get(int x, int y) {
+        long[] chunk = find(x >>> CHUNK_SHIFT, y >>> CHUNK_SHIFT);
+        return chunk != null && (chunk[y & CHUNK_MASK] & 1L << (x & CHUNK_MASK)) != 0;
+    }
+
+    /**
+     * Sets the bit of a cell, allocating its chunk if needed.
+     *
+     * @param x The x-coordinate of the cell, not negative.
+     * @param y The y-coordinate of the cell, not negative.
+     * @return True if the bit was not set before, false otherwise.
+     */
+    boolean set(int x, int y) {
+        int slot = findOrCreate(x >>> CHUNK_SHIFT, y >>> CHUNK_SHIFT);
+        long bit = 1L << (x & CHUNK_MASK);
+        long row = chunks[slot][y & CHUNK_MASK];
+        if ((row & bit) != 0) {
+            return false;
+        }
+        writable(slot)[y & CHUNK_MASK] = row | bit;
+        return true;
+    }
+
+    /**
+     * Clears the bit of a cell.
+     *
+     * @param x The x-coordinate of the cell, not negative.
+     * @param y The y-coordinate of the cell, not negative.
+     */
+    void clear(int x, int y) {
+        int slot = findSlot(x >>> CHUNK_SHIFT, y >>> CHUNK_SHIFT);
+        long bit = 1L << (x & CHUNK_MASK);
+        if (slot >= 0 && (chunks[slot][y & CHUNK_MASK] & bit) != 0) {
+            writable(slot)[y & CHUNK_MASK] &= ~bit;
+        }
+    }
+
+    /**
+     * Tests if any bit of a horizontal run of cells is set, one word per
+     * touched chunk.
+     *
+     * @param x      The x-coordinate of the first cell, not negative.
+     * @param y      The y-coordinate of the cells, not negative.
+     * @param length The number of cells.
+     * @return True if at least one bit of the run is set.
+     */
+    boolean intersectsRun(int x, int y, int length) {
+        int chunkY = y >>> CHUNK_SHIFT;
+        int row = y & CHUNK_MASK;
+        long end = (long) x + length;
+        for (long from = x; from < end; from = (from | CHUNK_MASK) + 1) {
+            int to = (int) Math.min(end, (from | CHUNK_MASK) + 1);
+            long[] chunk = find((int) (from >>> CHUNK_SHIFT), chunkY);
+            if (chunk != null) {
+                int first = (int) from & CHUNK_MASK;
+                long mask = (-1L >>> (Long.SIZE - (to - (int) from))) << first;
+                if ((chunk[row] & mask) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes a frozen copy of the bitmap. The copy shares every chunk with
+     * this bitmap until one of them changes here; it must not be modified.
+     *
+     * @return A snapshot of the set bits.
+     */
+    ChunkedBitmap snapshot() {
+        Arrays.fill(shared, true);
+        return new ChunkedBitmap(keys.clone(), chunks.clone(), chunkCount);
+    }
+
+    /**
+     * Gets the number of allocated chunks.
+     *
+     * @return The number of chunks.
+     */
+    int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Creates an iterator over the set cells, chunk by chunk. The iterator
+     * must not be used after the bitmap allocated another chunk.
+     *
+     * @return An iterator over the packed set cells.
+     */
+    PrimitiveIterator.OfLong cells() {
+        return new PrimitiveIterator.OfLong() {
+            private int slot = -1; /**< Slot of the current chunk */
+            private int row = Long.SIZE; /**< Row of the current chunk, 64 to move to the next chunk */
+            private long bits; /**< Bits of the current row not yet handed out */
+
+            @Override
+            public boolean hasNext() {
+                while (bits == 0) {
+                    if (++row >= Long.SIZE) {
+                        do {
+                            if (++slot >= keys.length) {
+                                return false;
+                            }
+                        } while (keys[slot] == EMPTY);
+                        row = 0;
+                    }
+                    bits = chunks[slot][row];
+                }
+                return true;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int bit = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                long key = keys[slot];
+                return cell((int) key << CHUNK_SHIFT | bit, (int) (key >>> 32) << CHUNK_SHIFT | row);
+            }
+        };
+    }
+
+    /**
+     * Looks up the chunk at the given chunk coordinates.
+     *
+     * @param chunkX The column of the chunk.
+     * @param chunkY The row of the chunk.
+     * @return The rows of the chunk, or null if it was never allocated.
+     */
+    private long[] find(int chunkX, int chunkY) {
+        int slot = findSlot(chunkX, chunkY);
+        return slot >= 0 ? chunks[slot] : null;
+    }
+
+    /**
+     * Looks up the slot of the chunk at the given chunk coordinates.
+     *
+     * @param chunkX The column of the chunk.
+     * @param chunkY The row of the chunk.
+     * @return The slot of the chunk, or -1 if it was never allocated.
+     */
+    private int findSlot(int chunkX, int chunkY) {
+        long key = (long) chunkY << 32 | chunkX;
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            if (keys[slot] == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Gets the rows of a chunk for writing, copying the chunk first if a
+     * snapshot shares it.
+     *
+     * @param slot The slot of the chunk.
+     * @return The rows of the chunk, owned by this bitmap only.
+     */
+    private long[] writable(int slot) {
+        if (shared[slot]) {
+            chunks[slot] = chunks[slot].clone();
+            shared[slot] = false;
+        }
+        return chunks[slot];
+    }
+
+    /**
+     * Looks up the slot of the chunk at the given chunk coordinates,
+     * allocating the chunk if it does not exist yet.
+     *
+     * @param chunkX The column of the chunk.
+     * @param chunkY The row of the chunk.
+     * @return The slot of the chunk.
+     */
+    private int findOrCreate(int chunkX, int chunkY) {
+        int slot = findSlot(chunkX, chunkY);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (2 * (chunkCount + 1) > keys.length) {
+            grow();
+        }
+        chunkCount++;
+        return insert((long) chunkY << 32 | chunkX, new long[1 << CHUNK_SHIFT], false);
+    }
+
+    /**
+     * Doubles the table, keeping it at most half full.
+     */
+    private void grow() {
+        long[] oldKeys = keys;
+        long[][] oldChunks = chunks;
+        boolean[] oldShared = shared;
+        keys = new long[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        chunks = new long[keys.length][];
+        shared = new boolean[keys.length];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                insert(oldKeys[slot], oldChunks[slot], oldShared[slot]);
+            }
+        }
+    }
+
+    /**
+     * Stores a chunk in the first free slot of its probe sequence.
+     *
+     * @param key      The packed chunk coordinates.
+     * @param chunk    The rows of the chunk.
+     * @param isShared True if a snapshot references the chunk too.
+     * @return The slot the chunk was stored in.
+     */
+    private int insert(long key, long[] chunk, boolean isShared) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        chunks[slot] = chunk;
+        shared[slot] = isShared;
+        return slot;
+    }
+
+    /**
+     * Computes the home slot of a key.
+     *
+     * @param key  The packed chunk coordinates.
+     * @param mask The number of slots minus one.
+     * @return The first slot to probe.
+     */
+    private static int slot(long key, int mask) {
+        long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ hash >>> 32) & mask;
+    }
+}
@@ -5,6 +5,8 @@
 
  package battleship.factorys.gameboard;
 
+ import battleship.engine.FleetRules;
+
  /**
   * @class GameBoardFactory
   *   Abstract factory class for creating game boards in the Battleship game.
@@ -12,6 +14,27 @@
   * to provide the logic for creating a specific type of game board.
   */
  public abstract class GameBoardFactory {
+     /**
+      * Largest board size for which the map based boards are created; larger boards
+      * always get the bitset backed ones, whose storage grows by one bit per cell.
+      */
+     public static final int MAX_MAP_BOARD_SIZE = 32;
+
+     /**
+      * Largest board size for which dense boards are created; larger boards get
+      * the sparse ones, whose 64x64 chunks are only allocated where ships or
+      * shots are, so their memory does not grow with the area.
+      * Equal to {@link FleetRules#MAX_BOARD_SIZE}: up to there the
+      * {@link battleship.engine.GameEngine} keeps a dense copy of every board
+      * anyway, and a sparse board would only add to it.
+      */
+     public static final int MAX_DENSE_BOARD_SIZE = FleetRules.MAX_BOARD_SIZE;
+
+     /**
+      * Default width and height of the created boards.
+      */
+     public static final int DEFAULT_BOARD_SIZE = 10;
+
      /**
       *   Creates a game board.
       * @return A new instance of a game board implementing the {@link IGameBoard} interface.
@@ -4,14 +4,67 @@ import battleship.factorys.ships.IShip;
 import battleship.factorys.hits.IHits;
 
 import java.awt.*;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * @interface IGameBoard
  *   Interface for a game board in the Battleship game.
+ * Besides the map views, a board answers single cell queries with
+ * {@link #shipAt(int, int)}, {@link #isShot(int, int)} and {@link #isHit(int, int)},
+ * walks its ships and shots with the visitors {@link #forEachShipCell},
+ * {@link #forEachShip} and {@link #forEachHit}, and hands out an immutable
+ * {@link BoardSnapshot}. None of them copies the board.
  */
 public interface IGameBoard {
 
+    /**
+     * @interface ShipCellVisitor
+     *   Receives the cells covered by ships, one call per cell.
+     */
+    @FunctionalInterface
+    interface ShipCellVisitor {
+        /**
+         *   Visits a cell covered by a ship.
+         * @param x The x-coordinate of the cell.
+         * @param y The y-coordinate of the cell.
+         * @param ship The ship covering the cell.
+         */
+        void visit(int x, int y, IShip ship);
+    }
+
+    /**
+     * @interface ShipVisitor
+     *   Receives the ships of a board, one call per ship.
+     */
+    @FunctionalInterface
+    interface ShipVisitor {
+        /**
+         *   Visits a ship.
+         * @param x The x-coordinate of the first cell of the ship.
+         * @param y The y-coordinate of the first cell of the ship.
+         * @param length The number of cells of the ship.
+         * @param isHorizontal True if the ship extends to the right, false if down.
+         * @param ship The ship.
+         */
+        void visit(int x, int y, int length, boolean isHorizontal, IShip ship);
+    }
+
+    /**
+     * @interface HitVisitor
+     *   Receives the cells that have been shot at, one call per cell.
+     */
+    @FunctionalInterface
+    interface HitVisitor {
+        /**
+         *   Visits a cell that has been shot at.
+         * @param x The x-coordinate of the cell.
+         * @param y The y-coordinate of the cell.
+         * @param isHit True if the shot hit a ship, false if it missed.
+         */
+        void visit(int x, int y, boolean isHit);
+    }
+
     /**
      *   Places a ship on the game board.
      * @param x The x-coordinate where the ship will be placed.
@@ -27,6 +80,48 @@ public interface IGameBoard {
      */
     Map<Point, IShip> getShipLocations();
 
+    /**
+     *   Gets the ship covering a cell.
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The ship on the cell, or null if the cell holds water or lies outside the board.
+     */
+    default IShip shipAt(int x, int y) {
+        return getShipLocations().get(new Point(x, y));
+    }
+
+    /**
+     *   Calls the visitor for every cell covered by a ship, in no particular order.
+     * The board must not be modified by the visitor.
+     * @param visitor The visitor to call.
+     */
+    default void forEachShipCell(ShipCellVisitor visitor) {
+        for (Map.Entry<Point, IShip> entry : getShipLocations().entrySet()) {
+            visitor.visit(entry.getKey().x, entry.getKey().y, entry.getValue());
+        }
+    }
+
+    /**
+     *   Calls the visitor for every ship, in no particular order.
+     * The board must not be modified by the visitor.
+     * @param visitor The visitor to call.
+     */
+    default void forEachShip(ShipVisitor visitor) {
+        Map<IShip, int[]> bounds = new LinkedHashMap<>(); // minX, minY, maxY, cells per ship
+        forEachShipCell((x, y, ship) -> {
+            int[] bound = bounds.computeIfAbsent(ship,
+                    key -> new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, 0 });
+            bound[0] = Math.min(bound[0], x);
+            bound[1] = Math.min(bound[1], y);
+            bound[2] = Math.max(bound[2], y);
+            bound[3]++;
+        });
+        for (Map.Entry<IShip, int[]> entry : bounds.entrySet()) {
+            int[] bound = entry.getValue();
+            visitor.visit(bound[0], bound[1], bound[3], bound[1] == bound[2], entry.getKey());
+        }
+    }
+
     /**
      *   Checks if a ship is hit at the given coordinates.
      * @param x The x-coordinate to check.
@@ -54,4 +149,105 @@ public interface IGameBoard {
      * @return A map of hits with coordinates as keys and hits as values.
      */
     Map<Point, IHits> getHits();
+
+    /**
+     *   Calls the visitor for every cell that has been shot at, in no particular order.
+     * The board must not be modified by the visitor.
+     * @param visitor The visitor to call.
+     */
+    default void forEachHit(HitVisitor visitor) {
+        for (Map.Entry<Point, IHits> entry : getHits().entrySet()) {
+            visitor.visit(entry.getKey().x, entry.getKey().y, entry.getValue().isHit());
+        }
+    }
+
+    /**
+     *   Takes an immutable snapshot of the ships and shots on the board.
+     * Boards that track changes return the same snapshot until they are modified and
+     * share unchanged parts between snapshots.
+     * @return A snapshot of the board.
+     */
+    default BoardSnapshot snapshot() {
+        return BoardSnapshot.of(this);
+    }
+
+    /**
+     *   Checks if the given cell has been shot at.
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if a hit was placed on the cell, false otherwise.
+     */
+    default boolean isShot(int x, int y) {
+        return getHits().containsKey(new Point(x, y));
+    }
+
+    /**
+     *   Checks if a shot on the given cell hit a ship.
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell was hit, false otherwise.
+     */
+    default boolean isHit(int x, int y) {
+        IHits hit = getHits().get(new Point(x, y));
+        return hit != null && hit.isHit();
+    }
+
+    /**
+     *   Gets the number of cells that have been shot at.
+     * @return The number of hits placed on the board.
+     */
+    default int shotCount() {
+        return getHits().size();
+    }
+
+    /**
+     *   Gets the width and height of the game board.
+     * @return The size of the game board.
+     */
+    default int getBoardSize() {
+        return 10;
+    }
+
+    /**
+     *   Checks if any of the eight neighbouring cells is occupied by a ship.
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell is adjacent to a ship, false otherwise.
+     */
+    default boolean isAdjacentToShip(int x, int y) {
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                if (i == 0 && j == 0) {
+                    continue;
+                }
+                int r = y + i;
+                int c = x + j;
+                if (r >= 0 && r < getBoardSize() && c >= 0 && c < getBoardSize()
+                        && shipAt(c, r) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     *   Checks if a ship can be placed on the board without overlapping or touching other ships.
+     * @param x The x-coordinate of the starting position.
+     * @param y The y-coordinate of the starting position.
+     * @param shipSize The size of the ship.
+     * @param isHorizontal True if the ship is placed horizontally, false if vertically.
+     * @return True if the ship can be placed, false otherwise.
+     */
+    default boolean canPlaceShip(int x, int y, int shipSize, boolean isHorizontal) {
+        for (int i = 0; i < shipSize; i++) {
+            int c = isHorizontal ? x + i : x;
+            int r = isHorizontal ? y : y + i;
+
+            if (r >= getBoardSize() || c >= getBoardSize() || isAdjacentToShip(c, r)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package battleship.factorys.gameboard;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.awt.*;
@@ -12,20 +13,42 @@ import battleship.factorys.hits.*;
  *        Implements the {@link IGameBoard} interface.
  */
 public class PlayerBoard implements IGameBoard {
-    private final int BOARD_SIZE = 10;
-    /** < The size of the game board */
-    private final Map<Point, IShip> ships;
+    private static final int DEFAULT_BOARD_SIZE = 10; /**< The default size of the game board */
+    private final int boardSize; /**< The size of the game board */
+    private final Map<Point, IShip> ships; /**< A map of ship locations on the board */
 
-    /** < A map of ship locations on the board */
+    /**
+     * Constructor for PlayerBoard.
+     * Initializes the ships map of a board of the default size.
+     */
+    public PlayerBoard() {
+        this(DEFAULT_BOARD_SIZE);
+    }
 
     /**
      * Constructor for PlayerBoard.
      * Initializes the ships map.
+     * 
+     * @param boardSize The width and height of the board.
      */
-    public PlayerBoard() {
+    public PlayerBoard(int boardSize) {
+        if (boardSize <= 0) {
+            throw new IllegalArgumentException("Ungültige Spielfeldgröße: " + boardSize);
+        }
+        this.boardSize = boardSize;
         ships = new HashMap<>();
     }
 
+    /**
+     * Gets the width and height of the board.
+     * 
+     * @return The size of the board.
+     */
+    @Override
+    public int getBoardSize() {
+        return boardSize;
+    }
+
     /**
      * Places a ship on the game board.
      * 
@@ -51,12 +74,13 @@ public class PlayerBoard implements IGameBoard {
 
     /**
      * Gets the locations of all ships on the board.
+     * The returned map is a read-only view that reflects later changes.
      * 
      * @return A map of ship locations.
      */
     @Override
     public Map<Point, IShip> getShipLocations() {
-        return new HashMap<>(ships);
+        return Collections.unmodifiableMap(ships);
     }
 
     /**
@@ -82,7 +106,7 @@ public class PlayerBoard implements IGameBoard {
      * @return True if the placement is valid, false otherwise.
      */
     private boolean isValidPlacement(int x, int y, int shipSize, boolean isHorizontal) {
-        if (x < 0 || y < 0 || x >= BOARD_SIZE || y >= BOARD_SIZE) {
+        if (x < 0 || y < 0 || x >= boardSize || y >= boardSize) {
             return false; // Außerhalb des Spielfelds
         }
 
@@ -90,7 +114,7 @@ public class PlayerBoard implements IGameBoard {
             int newX = isHorizontal ? x + i : x;
             int newY = isHorizontal ? y : y + i;
 
-            if (newX >= BOARD_SIZE || newY >= BOARD_SIZE || ships.containsKey(new Point(newX, newY))) {
+            if (newX >= boardSize || newY >= boardSize || ships.containsKey(new Point(newX, newY))) {
                 return false; // Überschneidung oder außerhalb des Spielfelds
             }
         }
@@ -121,12 +145,12 @@ public class PlayerBoard implements IGameBoard {
 
     /**
      * Gets the hits on the game board.
+     * The player board does not track hits.
      * 
-     * @return A map of hits with coordinates as keys and hits as values.
+     * @return An empty map.
      */
     @Override
     public Map<Point, IHits> getHits() {
-        // TODO Auto-generated method stub
-        return null;
+        return Collections.emptyMap();
     }
 }
\ No newline at end of file
@@ -8,16 +8,61 @@ package battleship.factorys.gameboard;
 /**
  * @class PlayerBoardFactory
  *   Factory class for creating player game boards in the Battleship game.
+ * Hands out a {@link BitboardPlayerBoard} by default, the map based
+ * {@link PlayerBoard} can still be selected.
+ * Boards larger than the engine plays get a {@link SparsePlayerBoard}.
  * Extends the {@link GameBoardFactory} class.
  */
 public class PlayerBoardFactory extends GameBoardFactory {
+    private final boolean useBitboard; /**< True if bitset backed boards are created */
+    private final int boardSize; /**< The width and height of the created boards */
+
+    /**
+     *   Constructor for PlayerBoardFactory.
+     * Creates bitset backed player boards.
+     */
+    public PlayerBoardFactory() {
+        this(true);
+    }
+
+    /**
+     *   Constructor for PlayerBoardFactory.
+     * @param useBitboard True to create a {@link BitboardPlayerBoard}, false to create a {@link PlayerBoard}.
+     */
+    public PlayerBoardFactory(boolean useBitboard) {
+        this(useBitboard, DEFAULT_BOARD_SIZE);
+    }
+
+    /**
+     *   Constructor for PlayerBoardFactory.
+     * Creates bitset backed player boards of the given size.
+     * @param boardSize The width and height of the boards.
+     */
+    public PlayerBoardFactory(int boardSize) {
+        this(true, boardSize);
+    }
+
+    /**
+     *   Constructor for PlayerBoardFactory.
+     * Boards larger than {@link #MAX_MAP_BOARD_SIZE} are always bitset backed, boards
+     * larger than {@link #MAX_DENSE_BOARD_SIZE} are always sparse.
+     * @param useBitboard True to create a {@link BitboardPlayerBoard}, false to create a {@link PlayerBoard}.
+     * @param boardSize The width and height of the boards.
+     */
+    public PlayerBoardFactory(boolean useBitboard, int boardSize) {
+        this.useBitboard = useBitboard || boardSize > MAX_MAP_BOARD_SIZE;
+        this.boardSize = boardSize;
+    }
 
     /**
      *   Creates a new player game board.
-     * @return A new instance of {@link PlayerBoard}.
+     * @return A new instance of {@link BitboardPlayerBoard}, {@link PlayerBoard} or {@link SparsePlayerBoard}.
      */
     @Override
     public IGameBoard createGameBoard() {
-        return new PlayerBoard();
+        if (boardSize > MAX_DENSE_BOARD_SIZE) {
+            return new SparsePlayerBoard(boardSize);
+        }
+        return useBitboard ? new BitboardPlayerBoard(boardSize) : new PlayerBoard(boardSize);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,330 @@
+/**
+ * @file SparsePlayerBoard.java
+ *   Sparse, chunked implementation of a player's game board in the Battleship game.
+ */
+
+package battleship.factorys.gameboard;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import battleship.factorys.hits.IHits;
+import battleship.factorys.ships.IShip;
+
+/**
+ * @class SparsePlayerBoard
+ *        Represents a player's game board for very large, mostly empty oceans.
+ *        The occupancy is kept in a {@link ChunkedBitmap}, so only the 64x64
+ *        chunks that hold a ship take memory, and the ships in a list of
+ *        their placements. Hit tests, the adjacency check and placement
+ *        validation are answered with a few word lookups and do not allocate;
+ *        their cost does not depend on the size of the board.
+ *        Like {@link BitboardPlayerBoard} a ship may neither overlap nor touch
+ *        another one. The {@code Map<Point, IShip>} view required by
+ *        {@link IGameBoard} and the {@link BoardSnapshot} are built lazily and
+ *        cached until the next modification.
+ *        Implements the {@link IGameBoard} interface.
+ */
+public class SparsePlayerBoard implements IGameBoard {
+    private final int boardSize; /**< The width and height of the board */
+    private final ChunkedBitmap occupied; /**< One bit per cell holding a ship */
+    private final List<Placement> placements; /**< The ships on the board and where they are */
+    private Map<Point, IShip> shipLocationView; /**< Lazily built map view, null if outdated */
+    private BoardSnapshot snapshot; /**< Lazily taken snapshot, null if outdated */
+
+    /**
+     * Constructor for SparsePlayerBoard.
+     *
+     * @param boardSize The width and height of the board.
+     */
+    public SparsePlayerBoard(int boardSize) {
+        if (boardSize <= 0) {
+            throw new IllegalArgumentException("Ungültige Spielfeldgröße: " + boardSize);
+        }
+        this.boardSize = boardSize;
+        this.occupied = new ChunkedBitmap();
+        this.placements = new ArrayList<>();
+    }
+
+    /**
+     * Places a ship on the game board.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param ship         The ship to be placed.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @throws IllegalArgumentException if the ship placement is invalid.
+     */
+    @Override
+    public void placeShip(int x, int y, IShip ship, boolean isHorizontal) {
+        int length = ship.getShipSize();
+        if (!canPlaceShip(x, y, length, isHorizontal)) {
+            throw new IllegalArgumentException("Ungültige Schiffsplatzierung.");
+        }
+        for (int i = 0; i < length; i++) {
+            occupied.set(isHorizontal ? x + i : x, isHorizontal ? y : y + i);
+        }
+        placements.add(new Placement(ship, x, y, length, isHorizontal));
+        shipLocationView = null;
+        snapshot = null;
+    }
+
+    /**
+     * Gets the locations of all ships on the board.
+     * The returned map is a read-only view that is built on first access and
+     * reused until the board changes.
+     *
+     * @return A map of ship locations.
+     */
+    @Override
+    public Map<Point, IShip> getShipLocations() {
+        if (shipLocationView == null) {
+            Map<Point, IShip> locations = new HashMap<>();
+            for (Placement placement : placements) {
+                for (int i = 0; i < placement.length; i++) {
+                    locations.put(new Point(placement.isHorizontal ? placement.x + i : placement.x,
+                            placement.isHorizontal ? placement.y : placement.y + i), placement.ship);
+                }
+            }
+            shipLocationView = Collections.unmodifiableMap(locations);
+        }
+        return shipLocationView;
+    }
+
+    /**
+     * Gets the ship covering a cell.
+     * Only cells holding a ship look at the placements.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The ship on the cell, or null if the cell holds water or lies
+     *         outside the board.
+     */
+    @Override
+    public IShip shipAt(int x, int y) {
+        if (!isShipHit(x, y)) {
+            return null;
+        }
+        for (Placement placement : placements) {
+            int along = placement.isHorizontal ? x - placement.x : y - placement.y;
+            int across = placement.isHorizontal ? y - placement.y : x - placement.x;
+            if (across == 0 && along >= 0 && along < placement.length) {
+                return placement.ship;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Calls the visitor for every ship, in the order they were placed.
+     *
+     * @param visitor The visitor to call.
+     */
+    @Override
+    public void forEachShip(ShipVisitor visitor) {
+        for (Placement placement : placements) {
+            visitor.visit(placement.x, placement.y, placement.length, placement.isHorizontal, placement.ship);
+        }
+    }
+
+    /**
+     * Calls the visitor for every cell covered by a ship.
+     *
+     * @param visitor The visitor to call.
+     */
+    @Override
+    public void forEachShipCell(ShipCellVisitor visitor) {
+        for (Placement placement : placements) {
+            for (int i = 0; i < placement.length; i++) {
+                visitor.visit(placement.isHorizontal ? placement.x + i : placement.x,
+                        placement.isHorizontal ? placement.y : placement.y + i, placement.ship);
+            }
+        }
+    }
+
+    /**
+     * Takes an immutable snapshot of the ships on the board.
+     * The same snapshot is returned until the board changes.
+     *
+     * @return A snapshot of the board.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new BoardSnapshot(boardSize, BoardSnapshot.ShipLayer.of(this));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks if a ship is hit at the given coordinates.
+     *
+     * @param x The x-coordinate to check.
+     * @param y The y-coordinate to check.
+     * @return True if a ship is hit, false otherwise.
+     */
+    @Override
+    public boolean isShipHit(int x, int y) {
+        return isOnBoard(x, y) && occupied.get(x, y);
+    }
+
+    /**
+     * Checks if any of the eight neighbouring cells is occupied by a ship.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell is adjacent to a ship, false otherwise.
+     */
+    @Override
+    public boolean isAdjacentToShip(int x, int y) {
+        for (int r = y - 1; r <= y + 1; r++) {
+            for (int c = x - 1; c <= x + 1; c++) {
+                if ((r != y || c != x) && isShipHit(c, r)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a ship can be placed without leaving the board and without
+     * overlapping or touching another ship.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param shipSize     The size of the ship.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     * @return True if the ship can be placed, false otherwise.
+     */
+    @Override
+    public boolean canPlaceShip(int x, int y, int shipSize, boolean isHorizontal) {
+        long endX = isHorizontal ? (long) x + shipSize - 1 : x;
+        long endY = isHorizontal ? y : (long) y + shipSize - 1;
+        if (shipSize <= 0 || x < 0 || y < 0 || endX >= boardSize || endY >= boardSize) {
+            return false;
+        }
+
+        int x0 = Math.max(0, x - 1);
+        int width = (int) Math.min(boardSize - 1, endX + 1) - x0 + 1;
+        int y1 = (int) Math.min(boardSize - 1, endY + 1);
+        for (int r = Math.max(0, y - 1); r <= y1; r++) {
+            if (occupied.intersectsRun(x0, r, width)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The size of the board.
+     */
+    @Override
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Removes a ship from the game board.
+     *
+     * @param ship The ship to be removed.
+     */
+    @Override
+    public void removeShip(IShip ship) {
+        for (Iterator<Placement> it = placements.iterator(); it.hasNext();) {
+            Placement placement = it.next();
+            if (placement.ship.equals(ship)) {
+                for (int i = 0; i < placement.length; i++) {
+                    occupied.clear(placement.isHorizontal ? placement.x + i : placement.x,
+                            placement.isHorizontal ? placement.y : placement.y + i);
+                }
+                it.remove();
+                shipLocationView = null;
+                snapshot = null;
+            }
+        }
+    }
+
+    /**
+     * Places a hit on the game board.
+     * The player board does not track hits.
+     *
+     * @param x   The x-coordinate where the hit will be placed.
+     * @param y   The y-coordinate where the hit will be placed.
+     * @param hit The hit to be placed.
+     */
+    @Override
+    public void placeHit(int x, int y, IHits hit) {
+        // Hits are tracked on the targeting board
+    }
+
+    /**
+     * Gets the hits on the game board.
+     * The player board does not track hits.
+     *
+     * @return An empty map.
+     */
+    @Override
+    public Map<Point, IHits> getHits() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Gets the number of 64x64 chunks that take memory.
+     *
+     * @return The number of allocated chunks.
+     */
+    public int getChunkCount() {
+        return occupied.getChunkCount();
+    }
+
+    /**
+     * Checks if a cell lies on the board.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell is on the board, false otherwise.
+     */
+    private boolean isOnBoard(int x, int y) {
+        return x >= 0 && y >= 0 && x < boardSize && y < boardSize;
+    }
+
+    /**
+     * @class Placement
+     *        A ship together with the cells it covers.
+     */
+    private static final class Placement {
+        private final IShip ship; /**< The placed ship */
+        private final int x; /**< The x-coordinate of the first cell */
+        private final int y; /**< The y-coordinate of the first cell */
+        private final int length; /**< The number of cells */
+        private final boolean isHorizontal; /**< True if the ship extends to the right, false if down */
+
+        /**
+         * Constructor for Placement.
+         *
+         * @param ship         The placed ship.
+         * @param x            The x-coordinate of the first cell.
+         * @param y            The y-coordinate of the first cell.
+         * @param length       The number of cells.
+         * @param isHorizontal True if the ship extends to the right, false if
+         *                     down.
+         */
+        Placement(IShip ship, int x, int y, int length, boolean isHorizontal) {
+            this.ship = ship;
+            this.x = x;
+            this.y = y;
+            this.length = length;
+            this.isHorizontal = isHorizontal;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/**
+ * @file SparseTargetingBoard.java
+ *   Sparse, chunked implementation of a targeting board in the Battleship game.
+ */
+
+package battleship.factorys.gameboard;
+
+import java.awt.Point;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import battleship.factorys.hits.IHits;
+import battleship.factorys.hits.ShipHit;
+import battleship.factorys.ships.IShip;
+
+/**
+ * @class SparseTargetingBoard
+ *        Represents a targeting board for very large, mostly empty oceans.
+ *        Every shot is recorded in two {@link ChunkedBitmap}s, one for "shot"
+ *        and one for "hit", so only the 64x64 chunks that were shot at take
+ *        memory. Recording a shot into an existing chunk and the primitive
+ *        queries {@link #isShot(int, int)}, {@link #isHit(int, int)} and
+ *        {@link #shotCount()} do not allocate.
+ *        {@link #getHits()} returns a read-only view backed by the bitmaps
+ *        instead of a copy; it iterates the shots chunk by chunk, not in
+ *        row-major order, like {@link #forEachHit(HitVisitor)}.
+ *        {@link #snapshot()} shares the chunks of both bitmaps copy-on-write,
+ *        so it only costs the chunk tables and the chunks shot at later.
+ *        Implements the {@link IGameBoard} interface.
+ */
+public class SparseTargetingBoard implements IGameBoard {
+    private final int boardSize; /**< The width and height of the board */
+    private final ChunkedBitmap shots; /**< One bit per cell, set if the cell was shot at */
+    private final ChunkedBitmap hits; /**< One bit per cell, set if the shot hit a ship */
+    private int shotCount; /**< The number of cells shot at */
+    private final Map<Point, IHits> hitView; /**< Read-only map view on the bitmaps */
+    private BoardSnapshot snapshot; /**< Lazily taken snapshot, null if outdated */
+
+    /**
+     * Constructor for SparseTargetingBoard.
+     *
+     * @param boardSize The width and height of the board.
+     */
+    public SparseTargetingBoard(int boardSize) {
+        if (boardSize <= 0) {
+            throw new IllegalArgumentException("Ungültige Spielfeldgröße: " + boardSize);
+        }
+        this.boardSize = boardSize;
+        this.shots = new ChunkedBitmap();
+        this.hits = new ChunkedBitmap();
+        this.hitView = new HitView();
+    }
+
+    /**
+     * Places a hit on the board.
+     * Placing a second hit on the same cell overwrites the first one.
+     *
+     * @param x   The x-coordinate of the hit.
+     * @param y   The y-coordinate of the hit.
+     * @param hit The hit object to be placed.
+     */
+    @Override
+    public void placeHit(int x, int y, IHits hit) {
+        if (x < 0 || y < 0 || x >= boardSize || y >= boardSize) {
+            throw new IllegalArgumentException("Ungültiges Feld: " + x + "," + y);
+        }
+        if (shots.set(x, y)) {
+            shotCount++;
+        }
+        if (hit.isHit()) {
+            hits.set(x, y);
+        } else {
+            hits.clear(x, y);
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Gets the hits on the board.
+     * The returned map is a read-only view that reflects later shots.
+     *
+     * @return A map of hits on the board.
+     */
+    @Override
+    public Map<Point, IHits> getHits() {
+        return hitView;
+    }
+
+    /**
+     * Calls the visitor for every cell that has been shot at, chunk by chunk.
+     *
+     * @param visitor The visitor to call.
+     */
+    @Override
+    public void forEachHit(HitVisitor visitor) {
+        for (PrimitiveIterator.OfLong cells = shots.cells(); cells.hasNext();) {
+            long cell = cells.nextLong();
+            int x = ChunkedBitmap.cellX(cell);
+            int y = ChunkedBitmap.cellY(cell);
+            visitor.visit(x, y, hits.get(x, y));
+        }
+    }
+
+    /**
+     * Takes an immutable snapshot of the shots on the board.
+     * The same snapshot is returned until the next shot.
+     *
+     * @return A snapshot of the board.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new BoardSnapshot(boardSize, BoardSnapshot.ShipLayer.EMPTY, shots.snapshot(), hits.snapshot(),
+                    shotCount);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks if the given cell has been shot at.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if a shot was placed on the cell, false otherwise.
+     */
+    @Override
+    public boolean isShot(int x, int y) {
+        return test(shots, x, y);
+    }
+
+    /**
+     * Checks if a shot on the given cell hit a ship.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell was hit, false otherwise.
+     */
+    @Override
+    public boolean isHit(int x, int y) {
+        return test(hits, x, y);
+    }
+
+    /**
+     * Gets the number of cells that have been shot at.
+     *
+     * @return The number of shots on the board.
+     */
+    @Override
+    public int shotCount() {
+        return shotCount;
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The size of the board.
+     */
+    @Override
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the number of 64x64 chunks that take memory.
+     *
+     * @return The number of allocated chunks of both bitmaps.
+     */
+    public int getChunkCount() {
+        return shots.getChunkCount() + hits.getChunkCount();
+    }
+
+    /**
+     * Places a ship on the game board.
+     * The targeting board does not hold ships.
+     *
+     * @param x            The x-coordinate of the starting position.
+     * @param y            The y-coordinate of the starting position.
+     * @param ship         The ship to be placed.
+     * @param isHorizontal True if the ship is placed horizontally, false if
+     *                     vertically.
+     */
+    @Override
+    public void placeShip(int x, int y, IShip ship, boolean isHorizontal) {
+        // The targeting board does not hold ships
+    }
+
+    /**
+     * Gets the locations of all ships on the board.
+     *
+     * @return An empty map, the targeting board does not hold ships.
+     */
+    @Override
+    public Map<Point, IShip> getShipLocations() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Checks if a ship is hit at the given coordinates.
+     *
+     * @param x The x-coordinate to check.
+     * @param y The y-coordinate to check.
+     * @return False as this board does not track ship hits.
+     */
+    @Override
+    public boolean isShipHit(int x, int y) {
+        return false;
+    }
+
+    /**
+     * Removes a ship from the board.
+     * The targeting board does not hold ships.
+     *
+     * @param ship The ship to be removed.
+     */
+    @Override
+    public void removeShip(IShip ship) {
+        // The targeting board does not hold ships
+    }
+
+    /**
+     * Tests the bit of a cell in the given bitmap.
+     *
+     * @param bits The bitmap to test.
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     * @return True if the bit is set, false otherwise or if the cell is outside
+     *         the board.
+     */
+    private boolean test(ChunkedBitmap bits, int x, int y) {
+        if (x < 0 || y < 0 || x >= boardSize || y >= boardSize) {
+            return false;
+        }
+        return bits.get(x, y);
+    }
+
+    /**
+     * @class HitView
+     *        Read-only map view on the shot and hit bitmaps.
+     */
+    private class HitView extends AbstractMap<Point, IHits> {
+        private final Set<Map.Entry<Point, IHits>> entrySet = new EntrySet(); /**< The entry set view */
+
+        /**
+         * Gets the number of shots on the board.
+         *
+         * @return The number of entries.
+         */
+        @Override
+        public int size() {
+            return shotCount;
+        }
+
+        /**
+         * Checks if a shot was placed on the given point.
+         *
+         * @param key The point to check.
+         * @return True if the point was shot at, false otherwise.
+         */
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Point && isShot(((Point) key).x, ((Point) key).y);
+        }
+
+        /**
+         * Gets the hit placed on the given point.
+         *
+         * @param key The point to look up.
+         * @return The hit on the point, or null if it was not shot at.
+         */
+        @Override
+        public IHits get(Object key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            return isHit(((Point) key).x, ((Point) key).y) ? ShipHit.HIT : ShipHit.MISS;
+        }
+
+        /**
+         * Gets the entries of the view.
+         *
+         * @return A set view of the shots on the board.
+         */
+        @Override
+        public Set<Map.Entry<Point, IHits>> entrySet() {
+            return entrySet;
+        }
+    }
+
+    /**
+     * @class EntrySet
+     *        Set view on the shots, iterating the set bits of the shot bitmap.
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<Point, IHits>> {
+
+        /**
+         * Gets the number of shots on the board.
+         *
+         * @return The number of entries.
+         */
+        @Override
+        public int size() {
+            return shotCount;
+        }
+
+        /**
+         * Creates an iterator over the shots, chunk by chunk.
+         *
+         * @return An iterator over the shot entries.
+         */
+        @Override
+        public Iterator<Map.Entry<Point, IHits>> iterator() {
+            return new Iterator<Map.Entry<Point, IHits>>() {
+                private final PrimitiveIterator.OfLong cells = shots.cells(); /**< The shot cells */
+
+                @Override
+                public boolean hasNext() {
+                    return cells.hasNext();
+                }
+
+                @Override
+                public Map.Entry<Point, IHits> next() {
+                    long cell = cells.nextLong();
+                    int x = ChunkedBitmap.cellX(cell);
+                    int y = ChunkedBitmap.cellY(cell);
+                    IHits hit = hits.get(x, y) ? ShipHit.HIT : ShipHit.MISS;
+                    return new AbstractMap.SimpleImmutableEntry<>(new Point(x, y), hit);
+                }
+            };
+        }
+    }
+}
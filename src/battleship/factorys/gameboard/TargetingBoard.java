@@ -1,5 +1,6 @@
 package battleship.factorys.gameboard;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.awt.*;
@@ -12,15 +13,31 @@ import battleship.factorys.hits.*;
  *        Implements the {@link IGameBoard} interface.
  */
 public class TargetingBoard implements IGameBoard {
+    private static final int DEFAULT_BOARD_SIZE = 10; /**< The default size of the game board */
+    private final int boardSize; /**< The size of the game board */
     private Map<Point, IShip> ships;
     private Map<Point, Boolean> hitAttempts;
     private Map<Point, IHits> hits;
 
     /**
      * Constructor for TargetingBoard.
-     * Initializes the ships and hitAttempts maps.
+     * Initializes the ships and hitAttempts maps of a board of the default size.
      */
     public TargetingBoard() {
+        this(DEFAULT_BOARD_SIZE);
+    }
+
+    /**
+     * Constructor for TargetingBoard.
+     * Initializes the ships and hitAttempts maps.
+     * 
+     * @param boardSize The width and height of the board.
+     */
+    public TargetingBoard(int boardSize) {
+        if (boardSize <= 0) {
+            throw new IllegalArgumentException("Ungültige Spielfeldgröße: " + boardSize);
+        }
+        this.boardSize = boardSize;
         hits = new HashMap<>();
         ships = new HashMap<>();
         hitAttempts = new HashMap<>();
@@ -38,13 +55,24 @@ public class TargetingBoard implements IGameBoard {
          hits.put(point, hit);
      }
 
+    /**
+     * Gets the width and height of the board.
+     * 
+     * @return The size of the board.
+     */
+    @Override
+    public int getBoardSize() {
+        return boardSize;
+    }
+
     /**
      * Gets the hits on the board.
+     * The returned map is a read-only view that reflects later shots.
      * 
      * @return A map of hits on the board.
      */
     public Map<Point, IHits> getHits() {
-        return new HashMap<>(hits);
+        return Collections.unmodifiableMap(hits);
     }
 
     /**
@@ -63,12 +91,13 @@ public class TargetingBoard implements IGameBoard {
 
     /**
      * Gets the locations of all ships on the board.
+     * The returned map is a read-only view that reflects later changes.
      * 
      * @return A map of ship locations.
      */
     @Override
     public Map<Point, IShip> getShipLocations() {
-        return new HashMap<>(ships);
+        return Collections.unmodifiableMap(ships);
     }
 
     /**
@@ -85,11 +114,12 @@ public class TargetingBoard implements IGameBoard {
 
     /**
      * Gets the hit attempts on the board.
+     * The returned map is a read-only view that reflects later changes.
      * 
      * @return A map of hit attempts.
      */
     public Map<Point, Boolean> getHitAttempts() {
-        return new HashMap<>(hitAttempts);
+        return Collections.unmodifiableMap(hitAttempts);
     }
 
     /**
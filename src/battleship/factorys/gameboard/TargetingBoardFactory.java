@@ -8,16 +8,61 @@ package battleship.factorys.gameboard;
 /**
  * @class TargetingBoardFactory
  *   Factory class for creating targeting game boards in the Battleship game.
+ * Hands out a {@link BitsetTargetingBoard} by default, the map based
+ * {@link TargetingBoard} can still be selected.
+ * Boards larger than the engine plays get a {@link SparseTargetingBoard}.
  * Extends the {@link GameBoardFactory} class.
  */
 public class TargetingBoardFactory extends GameBoardFactory {
+    private final boolean useBitset; /**< True if bitset backed boards are created */
+    private final int boardSize; /**< The width and height of the created boards */
+
+    /**
+     *   Constructor for TargetingBoardFactory.
+     * Creates bitset backed targeting boards.
+     */
+    public TargetingBoardFactory() {
+        this(true);
+    }
+
+    /**
+     *   Constructor for TargetingBoardFactory.
+     * @param useBitset True to create a {@link BitsetTargetingBoard}, false to create a {@link TargetingBoard}.
+     */
+    public TargetingBoardFactory(boolean useBitset) {
+        this(useBitset, DEFAULT_BOARD_SIZE);
+    }
+
+    /**
+     *   Constructor for TargetingBoardFactory.
+     * Creates bitset backed targeting boards of the given size.
+     * @param boardSize The width and height of the boards.
+     */
+    public TargetingBoardFactory(int boardSize) {
+        this(true, boardSize);
+    }
+
+    /**
+     *   Constructor for TargetingBoardFactory.
+     * Boards larger than {@link #MAX_MAP_BOARD_SIZE} are always bitset backed, boards
+     * larger than {@link #MAX_DENSE_BOARD_SIZE} are always sparse.
+     * @param useBitset True to create a {@link BitsetTargetingBoard}, false to create a {@link TargetingBoard}.
+     * @param boardSize The width and height of the boards.
+     */
+    public TargetingBoardFactory(boolean useBitset, int boardSize) {
+        this.useBitset = useBitset || boardSize > MAX_MAP_BOARD_SIZE;
+        this.boardSize = boardSize;
+    }
 
     /**
      *   Creates a new targeting game board.
-     * @return A new instance of {@link TargetingBoard}.
+     * @return A new instance of {@link BitsetTargetingBoard}, {@link TargetingBoard} or {@link SparseTargetingBoard}.
      */
     @Override
     public IGameBoard createGameBoard() {
-        return new TargetingBoard();
+        if (boardSize > MAX_DENSE_BOARD_SIZE) {
+            return new SparseTargetingBoard(boardSize);
+        }
+        return useBitset ? new BitsetTargetingBoard(boardSize) : new TargetingBoard(boardSize);
     }
-}
\ No newline at end of file
+}
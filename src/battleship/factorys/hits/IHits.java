@@ -3,6 +3,8 @@ package battleship.factorys.hits;
 /**
  * @interface IHits
  *   Interface for hits in the Battleship game.
+ *   A hit is an immutable value; there are only the two instances of
+ *   {@link ShipHit}, shared by every board.
  */
 public interface IHits {
 
@@ -12,10 +14,4 @@ public interface IHits {
      */
     public boolean isHit();
 
-    /**
-     *   Sets the hit status.
-     * @param isHit True if the hit is successful, false otherwise.
-     */
-    public void setHit(boolean isHit);
-
-}
\ No newline at end of file
+}
@@ -2,28 +2,48 @@ package battleship.factorys.hits;
 
 /**
  * @class ShipHit
- *   Represents a hit on a ship in the Battleship game.
+ *   Represents the result of a shot on a cell in the Battleship game.
+ *   Only the two canonical instances {@link #HIT} and {@link #MISS} exist, so
+ *   recording a shot never allocates.
  *   Implements the {@link IHits} interface.
  */
-public class ShipHit implements IHits {
+public final class ShipHit implements IHits {
 
-    private boolean isHit; /**< Indicates if the ship is hit */
+    /**
+     * A shot that hit a ship.
+     */
+    public static final ShipHit HIT = new ShipHit(true);
 
     /**
-     *   Checks if the ship is hit.
-     * @return True if the ship is hit, false otherwise.
+     * A shot that missed.
      */
-    @Override
-    public boolean isHit() {
-        return this.isHit;
+    public static final ShipHit MISS = new ShipHit(false);
+
+    private final boolean isHit; /**< Indicates if the ship is hit */
+
+    /**
+     *   Constructor for ShipHit.
+     * @param isHit True if the ship is hit, false otherwise.
+     */
+    private ShipHit(boolean isHit) {
+        this.isHit = isHit;
     }
 
     /**
-     *   Sets the hit status of the ship.
+     *   Gets the canonical instance for a shot result.
      * @param isHit True if the ship is hit, false otherwise.
+     * @return {@link #HIT} or {@link #MISS}.
+     */
+    public static ShipHit of(boolean isHit) {
+        return isHit ? HIT : MISS;
+    }
+
+    /**
+     *   Checks if the ship is hit.
+     * @return True if the ship is hit, false otherwise.
      */
     @Override
-    public void setHit(boolean isHit) {
-        this.isHit = isHit;
+    public boolean isHit() {
+        return this.isHit;
     }
 }
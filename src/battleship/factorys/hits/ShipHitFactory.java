@@ -3,6 +3,7 @@ package battleship.factorys.hits;
 /**
  * @class ShipHitFactory
  *   Factory class for creating ship hits in the Battleship game.
+ *   Hands out the shared instances of {@link ShipHit}.
  *   Extends the {@link HitFactory} class.
  */
 public class ShipHitFactory extends HitFactory {
@@ -10,12 +11,10 @@ public class ShipHitFactory extends HitFactory {
     /**
      *   Creates a hit on a ship.
      * @param isHit True if the hit is successful, false otherwise.
-     * @return An instance of {@link IHits} representing the hit.
+     * @return {@link ShipHit#HIT} or {@link ShipHit#MISS}.
      */
     @Override
     public IHits createHit(boolean isHit) {
-        IHits hit = new ShipHit();
-        hit.setHit(isHit);
-        return hit;
+        return ShipHit.of(isHit);
     }
-}
\ No newline at end of file
+}
@@ -5,24 +5,46 @@
 
 package battleship.factorys.player;
 
+import java.nio.channels.SocketChannel;
+
 import battleship.factorys.gameboard.IGameBoard;
 
 /**
  * @class NetworkPlayer
  *   Represents a network player in the Battleship game.
+ * The player is backed by the socket channel of its connection to the game server.
  * Implements the {@link IPlayer} interface.
  */
 public class NetworkPlayer implements IPlayer {
     private IGameBoard gameBoard; /**< The game board of the player */
     private IGameBoard targetingBoard; /**< The targeting board of the player */
     private String name; /**< The name of the player */
+    private final SocketChannel channel; /**< The connection of the player, null if not connected */
 
     /**
      *   Constructor for NetworkPlayer.
      * @param name The name of the player.
      */
     public NetworkPlayer(String name) {
+        this(name, null);
+    }
+
+    /**
+     *   Constructor for NetworkPlayer.
+     * @param name The name of the player.
+     * @param channel The socket channel connected to the player.
+     */
+    public NetworkPlayer(String name, SocketChannel channel) {
         this.name = name;
+        this.channel = channel;
+    }
+
+    /**
+     *   Gets the socket channel connected to the player.
+     * @return The channel, or null if the player is not connected.
+     */
+    public SocketChannel getChannel() {
+        return channel;
     }
 
     /**
@@ -5,6 +5,8 @@
 
 package battleship.factorys.player;
 
+import java.nio.channels.SocketChannel;
+
 /**
  * @class NetworkPlayerFactory
  *   Factory class for creating network players in the Battleship game.
@@ -21,4 +23,14 @@ public class NetworkPlayerFactory extends PlayerFactory {
     public IPlayer createPlayer(String name) {
         return new NetworkPlayer(name);
     }
+
+    /**
+     *   Creates a network player connected through the given channel.
+     * @param name The name of the player.
+     * @param channel The socket channel connected to the player.
+     * @return A new instance of {@link NetworkPlayer}.
+     */
+    public NetworkPlayer createPlayer(String name, SocketChannel channel) {
+        return new NetworkPlayer(name, channel);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+/**
+ * @file AbstractShip.java
+ *   Common state of the ships in the Battleship game.
+ */
+
+package battleship.factorys.ships;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @class AbstractShip
+ *   Base class of the ships in the Battleship game.
+ * Size, name and limit come from the shared {@link ShipType}; a ship only
+ * keeps its id and its health.
+ * Implements the {@link IShip} interface.
+ */
+public abstract class AbstractShip implements IShip {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1); /**< The id of the next ship */
+
+    private final ShipType type; /**< The type of the ship */
+    private final int id; /**< The id of the ship, unique within the process */
+    private int health; /**< The number of cells not hit yet */
+
+    /**
+     *   Constructor for AbstractShip.
+     * @param type The type of the ship.
+     */
+    protected AbstractShip(ShipType type) {
+        this.type = type;
+        this.id = NEXT_ID.getAndIncrement();
+        this.health = type.getSize();
+    }
+
+    /**
+     *   Gets the type of the ship.
+     * @return The shared descriptor of the ship type.
+     */
+    @Override
+    public ShipType getShipType() {
+        return type;
+    }
+
+    /**
+     *   Gets the id of the ship.
+     * @return The id, unique within the process.
+     */
+    @Override
+    public int getShipId() {
+        return id;
+    }
+
+    /**
+     *   Gets the health of the ship.
+     * @return The number of cells not hit yet.
+     */
+    @Override
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     *   Registers a hit on a cell of the ship that was not hit before.
+     * @return True if the ship is sunk now, false otherwise.
+     */
+    @Override
+    public boolean hit() {
+        if (health > 0) {
+            health--;
+        }
+        return health == 0;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * @file FleetConfig.java
+ *   Reads fleet compositions for the Battleship game from configuration files.
+ */
+
+package battleship.factorys.ships;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import battleship.engine.FleetGenerator;
+import battleship.engine.FleetRules;
+
+/**
+ * @class FleetConfig
+ *   Reads the board size and the number of ships of every type from a
+ *   properties file, so custom fleets need no code changes. The file is read
+ *   as UTF-8; every line other than {@value #BOARD_SIZE_KEY} names a ship
+ *   type as accepted by {@link ShipRegistry#ofName(String)}:
+ * <pre>
+ * Spielfeld=12
+ * Schlachtschiff=1
+ * Kreuzer=2
+ * Zerstörer=3
+ * U-Boot=6
+ * </pre>
+ *   Ship types that are not listed are not part of the fleet, a missing
+ *   board size is the size of {@link FleetRules#STANDARD}.
+ *   A fleet must fit on the board without ships touching: the ships, each
+ *   grown by one cell to the right and below, may cover at most the board
+ *   grown the same way, and one fleet must actually be found for the rules.
+ */
+public final class FleetConfig {
+
+    /**
+     * Key of the width and height of the board.
+     */
+    public static final String BOARD_SIZE_KEY = "Spielfeld";
+
+    /**
+     * Utility class, not instantiable.
+     */
+    private FleetConfig() {
+    }
+
+    /**
+     *   Reads the fleet rules from a file.
+     * @param file The properties file.
+     * @return The rules described by the file.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file does not describe a valid fleet.
+     */
+    public static FleetRules load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return parse(properties);
+    }
+
+    /**
+     *   Builds the fleet rules from properties.
+     * @param properties The board size and the number of ships per type name.
+     * @return The rules described by the properties.
+     * @throws IllegalArgumentException if the properties do not describe a valid fleet.
+     */
+    public static FleetRules parse(Properties properties) {
+        int boardSize = FleetRules.STANDARD.getBoardSize();
+        int[] counts = new int[ShipRegistry.TYPE_COUNT];
+        int total = 0;
+        for (String key : properties.stringPropertyNames()) {
+            int value = parseCount(key, properties.getProperty(key));
+            if (key.trim().equalsIgnoreCase(BOARD_SIZE_KEY)) {
+                boardSize = value;
+                continue;
+            }
+            int type = ShipRegistry.ofName(key.trim());
+            if (type == ShipRegistry.NONE) {
+                throw new IllegalArgumentException("Unbekannter Schiffstyp: " + key);
+            }
+            counts[type] = value;
+            total += value;
+        }
+        if (boardSize < FleetRules.MIN_BOARD_SIZE || boardSize > FleetRules.MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Spielfeldgröße muss zwischen " + FleetRules.MIN_BOARD_SIZE + " und "
+                    + FleetRules.MAX_BOARD_SIZE + " liegen: " + boardSize);
+        }
+
+        int[] lengths = new int[total];
+        int ship = 0;
+        long area = 0;
+        for (int type = 0; type < counts.length; type++) {
+            for (int i = 0; i < counts[type]; i++) {
+                lengths[ship++] = ShipRegistry.getSize(type);
+                area += 2L * (ShipRegistry.getSize(type) + 1);
+            }
+        }
+        if (area > (long) (boardSize + 1) * (boardSize + 1)) {
+            throw new IllegalArgumentException("Die Flotte passt nicht auf ein Spielfeld der Größe " + boardSize + ".");
+        }
+        FleetRules rules = new FleetRules(boardSize, lengths);
+        checkPlaceable(rules);
+        return rules;
+    }
+
+    /**
+     *   Checks that a fleet can be placed under the rules, so games started
+     * with them do not fail when they generate their fleets.
+     * @param rules The rules to check.
+     * @throws IllegalArgumentException if no fleet was found for the rules.
+     */
+    private static void checkPlaceable(FleetRules rules) {
+        try {
+            new FleetGenerator(rules).generate(new SplittableRandom(0));
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Die Flotte passt nicht auf ein Spielfeld der Größe "
+                    + rules.getBoardSize() + ".", e);
+        }
+    }
+
+    /**
+     *   Parses the value of a key as a count.
+     * @param key The key, used in the error message.
+     * @param value The value to parse.
+     * @return The count, not negative.
+     * @throws IllegalArgumentException if the value is no count.
+     */
+    private static int parseCount(String key, String value) {
+        try {
+            int count = Integer.parseInt(value.trim());
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Ungültige Anzahl für " + key + ": " + value);
+    }
+}
@@ -3,44 +3,56 @@ package battleship.factorys.ships;
 /**
  * @interface IShip
  *   Interface for a ship in the Battleship game.
+ * Size, name and limit are properties of the immutable {@link ShipType};
+ * a ship adds an id and its health.
  */
 public interface IShip {
 
     /**
-     *   Gets the size of the ship.
-     * @return The size of the ship.
+     *   Gets the type of the ship.
+     * @return The shared descriptor of the ship type.
      */
-    int getShipSize();
+    ShipType getShipType();
 
     /**
-     *   Gets the limit of the ship.
-     * @return The limit of the ship.
+     *   Gets the id of the ship.
+     * @return The id, unique within the process.
      */
-    int getShipLimit();
+    int getShipId();
 
     /**
-     *   Gets the name of the ship.
-     * @return The name of the ship.
+     *   Gets the health of the ship.
+     * @return The number of cells not hit yet.
      */
-    String getShipName();
+    int getHealth();
 
     /**
-     *   Sets the size of the ship.
-     * @param size The size to set.
+     *   Registers a hit on a cell of the ship that was not hit before.
+     * @return True if the ship is sunk now, false otherwise.
      */
-    void setShipSize(int size);
+    boolean hit();
 
     /**
-     *   Sets the name of the ship.
-     * @param name The name to set.
+     *   Gets the size of the ship.
+     * @return The size of the ship.
      */
-    void setShipName(String name);
+    default int getShipSize() {
+        return getShipType().getSize();
+    }
 
     /**
-     *   Sets the limit of the ship.
-     * @param limit The limit to set.
+     *   Gets the limit of the ship.
+     * @return The limit of the ship.
      */
-    void setShipLimit(int limit);
+    default int getShipLimit() {
+        return getShipType().getLimit();
+    }
 
-    boolean isHorizontal();
-}
\ No newline at end of file
+    /**
+     *   Gets the name of the ship.
+     * @return The name of the ship.
+     */
+    default String getShipName() {
+        return getShipType().getName();
+    }
+}
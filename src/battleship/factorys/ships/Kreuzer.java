@@ -8,74 +8,14 @@ package battleship.factorys.ships;
 /**
  * @class Kreuzer
  *   Represents a cruiser in the Battleship game.
- * Implements the {@link IShip} interface.
+ * Extends the {@link AbstractShip} class.
  */
-public class Kreuzer implements IShip {
-    private int size; /**< The size of the ship */
-    private String name; /**< The name of the ship */
-    private int limit; /**< The limit of the ship */
-    private boolean isHorizontal; /**< The orientation of the ship */
+public class Kreuzer extends AbstractShip {
 
     /**
-     *   Gets the size of the ship.
-     * @return The size of the ship.
+     *   Constructor for Kreuzer.
      */
-    @Override
-    public int getShipSize() {
-        return size;
+    public Kreuzer() {
+        super(ShipType.KREUZER);
     }
-
-    /**
-     *   Gets the name of the ship.
-     * @return The name of the ship.
-     */
-    @Override
-    public String getShipName() {
-        return name;
-    }
-
-    /**
-     *   Sets the size of the ship.
-     * @param size The size to set.
-     */
-    @Override
-    public void setShipSize(int size) {
-        this.size = size;
-    }
-
-    /**
-     *   Sets the name of the ship.
-     * @param name The name to set.
-     */
-    @Override
-    public void setShipName(String name) {
-        this.name = name;
-    }
-
-    /**
-     *   Gets the limit of the ship.
-     * @return The limit of the ship.
-     */
-    @Override
-    public int getShipLimit() {
-        return limit;
-    }
-
-    /**
-     *   Sets the limit of the ship.
-     * @param limit The limit to set.
-     */
-    @Override
-    public void setShipLimit(int limit) {
-        this.limit = limit;
-    }
-
-    /**
-     *   Gets the orientation of the ship.
-     * @return The orientation of the ship.
-     */
-    @Override
-    public boolean isHorizontal() {
-        return isHorizontal;
-    }
-}
\ No newline at end of file
+}
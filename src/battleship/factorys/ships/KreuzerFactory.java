@@ -17,7 +17,7 @@ public class KreuzerFactory extends ShipFactory {
      * @return The size of the cruiser.
      */
     public int getShipSize() {
-        return 4;
+        return ShipType.KREUZER.getSize();
     }
 
     /**
@@ -25,7 +25,7 @@ public class KreuzerFactory extends ShipFactory {
      * @return The limit of the cruiser.
      */
     public int getShipLimit() {
-        return 2;
+        return ShipType.KREUZER.getLimit();
     }
 
     /**
@@ -34,10 +34,6 @@ public class KreuzerFactory extends ShipFactory {
      */
     @Override
     public IShip createShip() {
-        IShip ship = new Kreuzer();
-        ship.setShipSize(4);
-        ship.setShipName("Kreuzer");
-        ship.setShipLimit(2);
-        return ship;
+        return new Kreuzer();
     }
 }
\ No newline at end of file
@@ -17,7 +17,7 @@ public class SchlachtschiffFactory extends ShipFactory {
      * @return The size of the battleship.
      */
     public int getShipSize() {
-        return 5;
+        return ShipType.SCHLACHTSCHIFF.getSize();
     }
 
     /**
@@ -25,7 +25,7 @@ public class SchlachtschiffFactory extends ShipFactory {
      * @return The limit of the battleship.
      */
     public int getShipLimit() {
-        return 1;
+        return ShipType.SCHLACHTSCHIFF.getLimit();
     }
 
     /**
@@ -34,10 +34,6 @@ public class SchlachtschiffFactory extends ShipFactory {
      */
     @Override
     public IShip createShip() {
-        IShip ship = new Schlachtschiff();
-        ship.setShipSize(5);
-        ship.setShipName("Schlachtschiff");
-        ship.setShipLimit(1);
-        return ship;
+        return new Schlachtschiff();
     }
 }
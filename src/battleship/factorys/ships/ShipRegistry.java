@@ -0,0 +1,170 @@
+/**
+ * @file ShipRegistry.java
+ *   Table of the ship types in the Battleship game, indexed by a small int.
+ */
+
+package battleship.factorys.ships;
+
+import java.util.Arrays;
+
+import battleship.engine.FleetRules;
+
+/**
+ * @class ShipRegistry
+ *   Table of the ship types in the Battleship game.
+ * Every ship type is identified by its index, the ordinal of its
+ * {@link ShipType}, from 0 to {@link #TYPE_COUNT} - 1. Factory, size, name
+ * and the limit within a set of {@link FleetRules} of a type are array
+ * lookups by that index, so placing a ship or checking a limit neither
+ * compares strings nor goes through a map. Names are only looked up when a
+ * fleet is read from a configuration, see {@link FleetConfig}.
+ */
+public final class ShipRegistry {
+
+    /**
+     * Number of ship types, the registry indices run from 0 to
+     * {@code TYPE_COUNT - 1}.
+     */
+    public static final int TYPE_COUNT = ShipType.values().length;
+
+    /**
+     * Index returned if no ship type matches.
+     */
+    public static final int NONE = -1;
+
+    private static final ShipType[] TYPES = ShipType.values(); /**< Ship type per index */
+    private static final ShipFactory[] FACTORIES = new ShipFactory[TYPE_COUNT]; /**< Factory per index */
+    private static final int[] SIZES = new int[TYPE_COUNT]; /**< Ship size per index */
+    private static final int[] TYPE_BY_SIZE; /**< Index per ship size, NONE if no type has the size */
+
+    static {
+        FACTORIES[ShipType.SCHLACHTSCHIFF.ordinal()] = new SchlachtschiffFactory();
+        FACTORIES[ShipType.KREUZER.ordinal()] = new KreuzerFactory();
+        FACTORIES[ShipType.ZERSTÖRER.ordinal()] = new ZerstörerFactory();
+        FACTORIES[ShipType.U_BOOT.ordinal()] = new U_BootFactory();
+
+        int maxSize = 0;
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            if (FACTORIES[type] == null) {
+                throw new ExceptionInInitializerError("Keine Fabrik für " + TYPES[type]);
+            }
+            SIZES[type] = TYPES[type].getSize();
+            maxSize = Math.max(maxSize, SIZES[type]);
+        }
+        TYPE_BY_SIZE = new int[maxSize + 1];
+        Arrays.fill(TYPE_BY_SIZE, NONE);
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            TYPE_BY_SIZE[SIZES[type]] = type;
+        }
+    }
+
+    /**
+     * Utility class, not instantiable.
+     */
+    private ShipRegistry() {
+    }
+
+    /**
+     *   Gets the descriptor of a ship type.
+     * @param type The index of the ship type.
+     * @return The ship type.
+     */
+    public static ShipType getType(int type) {
+        return TYPES[type];
+    }
+
+    /**
+     *   Gets the index of the type of a ship.
+     * @param ship The ship.
+     * @return The index of its ship type.
+     */
+    public static int indexOf(IShip ship) {
+        return ship.getShipType().ordinal();
+    }
+
+    /**
+     *   Gets the factory of a ship type.
+     * @param type The index of the ship type.
+     * @return The factory creating ships of the type.
+     */
+    public static ShipFactory getFactory(int type) {
+        return FACTORIES[type];
+    }
+
+    /**
+     *   Creates a ship of a ship type.
+     * @param type The index of the ship type.
+     * @return A new ship of the type.
+     */
+    public static IShip createShip(int type) {
+        return FACTORIES[type].createShip();
+    }
+
+    /**
+     *   Gets the size of a ship type.
+     * @param type The index of the ship type.
+     * @return The number of cells a ship of the type covers.
+     */
+    public static int getSize(int type) {
+        return SIZES[type];
+    }
+
+    /**
+     *   Gets the name of a ship type.
+     * @param type The index of the ship type.
+     * @return The name shown to the players.
+     */
+    public static String getName(int type) {
+        return TYPES[type].getName();
+    }
+
+    /**
+     *   Gets the names of all ship types.
+     * @return A new array with the name of every ship type, by index.
+     */
+    public static String[] getNames() {
+        String[] names = new String[TYPE_COUNT];
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            names[type] = TYPES[type].getName();
+        }
+        return names;
+    }
+
+    /**
+     *   Gets the ship type of a size.
+     * @param size The number of cells of the ship.
+     * @return The index of the ship type, or {@link #NONE} if no type has the size.
+     */
+    public static int ofSize(int size) {
+        return size > 0 && size < TYPE_BY_SIZE.length ? TYPE_BY_SIZE[size] : NONE;
+    }
+
+    /**
+     *   Gets the ship type of a name. The name of the type, e.g. "U-Boot",
+     * and the name of its constant, e.g. "U_BOOT", are accepted regardless of
+     * case.
+     * @param name The name of the ship type.
+     * @return The index of the ship type, or {@link #NONE} if no type has the name.
+     */
+    public static int ofName(String name) {
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            if (TYPES[type].getName().equalsIgnoreCase(name) || TYPES[type].name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     *   Gets the number of ships of every type a fleet consists of.
+     * @param rules The fleet rules.
+     * @return A new array with the limit of every ship type, by index.
+     */
+    public static int[] limitsFor(FleetRules rules) {
+        int[] limits = new int[TYPE_COUNT];
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            limits[type] = rules.getLimit(SIZES[type]);
+        }
+        return limits;
+    }
+}
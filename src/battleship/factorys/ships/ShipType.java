@@ -0,0 +1,70 @@
+/**
+ * @file ShipType.java
+ *   Immutable descriptors of the ship types in the Battleship game.
+ */
+
+package battleship.factorys.ships;
+
+/**
+ * @enum ShipType
+ *   Describes a type of ship: its name, its size and how many ships of the
+ *   type a standard fleet holds. Every ship of a type shares its descriptor,
+ *   so a ship object only keeps what differs between ships.
+ */
+public enum ShipType {
+    SCHLACHTSCHIFF("Schlachtschiff", "Schlachtschiffe", 5, 1),
+    KREUZER("Kreuzer", "Kreuzer", 4, 2),
+    ZERSTÖRER("Zerstörer", "Zerstörer", 3, 3),
+    U_BOOT("U-Boot", "U-Boote", 2, 4);
+
+    private final String name; /**< The name of the ship type */
+    private final String pluralName; /**< The name of several ships of the type */
+    private final int size; /**< The number of cells a ship covers */
+    private final int limit; /**< The number of ships in a standard fleet */
+
+    /**
+     *   Constructor for ShipType.
+     * @param name The name of the ship type.
+     * @param pluralName The name of several ships of the type.
+     * @param size The number of cells a ship covers.
+     * @param limit The number of ships in a standard fleet.
+     */
+    ShipType(String name, String pluralName, int size, int limit) {
+        this.name = name;
+        this.pluralName = pluralName;
+        this.size = size;
+        this.limit = limit;
+    }
+
+    /**
+     *   Gets the name of the ship type.
+     * @return The name shown to the players.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     *   Gets the plural name of the ship type.
+     * @return The name of several ships of the type.
+     */
+    public String getPluralName() {
+        return pluralName;
+    }
+
+    /**
+     *   Gets the size of the ship type.
+     * @return The number of cells a ship covers.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     *   Gets the limit of the ship type.
+     * @return The number of ships in a standard fleet.
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -18,7 +18,7 @@ public class U_BootFactory extends ShipFactory {
      */
 
     public int getShipSize() {
-        return 2;
+        return ShipType.U_BOOT.getSize();
     }
 
     /**
@@ -27,7 +27,7 @@ public class U_BootFactory extends ShipFactory {
      */
 
     public int getShipLimit() {
-        return 4;
+        return ShipType.U_BOOT.getLimit();
     }
 
     /**
@@ -36,10 +36,6 @@ public class U_BootFactory extends ShipFactory {
      */
     @Override
     public IShip createShip() {
-        IShip ship = new U_Boot();
-        ship.setShipSize(2);
-        ship.setShipName("U-Boot");
-        ship.setShipLimit(4);
-        return ship;
+        return new U_Boot();
     }
 }
\ No newline at end of file
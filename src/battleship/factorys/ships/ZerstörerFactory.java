@@ -17,7 +17,7 @@ public class ZerstörerFactory extends ShipFactory {
      * @return The size of the destroyer.
      */
     public int getShipSize() {
-        return 3;
+        return ShipType.ZERSTÖRER.getSize();
     }
 
     /**
@@ -25,7 +25,7 @@ public class ZerstörerFactory extends ShipFactory {
      * @return The limit of the destroyer.
      */
     public int getShipLimit() {
-        return 3;
+        return ShipType.ZERSTÖRER.getLimit();
     }
 
     /**
@@ -34,10 +34,6 @@ public class ZerstörerFactory extends ShipFactory {
      */
     @Override
     public IShip createShip() {
-        IShip ship = new Zerstörer();
-        ship.setShipSize(3);
-        ship.setShipName("Zerstörer");
-        ship.setShipLimit(3);
-        return ship;
+        return new Zerstörer();
     }
 }
\ No newline at end of file
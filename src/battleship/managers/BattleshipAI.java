@@ -1,16 +1,15 @@
 package battleship.managers;
 
-import java.util.Map;
-import java.util.Random;
-import java.util.Set;
-import java.awt.Point;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
+import battleship.engine.ShotResolver;
+import battleship.engine.ShotResult;
+import battleship.engine.ai.TargetingStrategy;
 import battleship.factorys.hits.IHits;
 import battleship.factorys.hits.ShipHitFactory;
-import battleship.factorys.ships.*;
 import battleship.factorys.player.*;
 
 /**
@@ -21,11 +20,7 @@ import battleship.factorys.player.*;
  */
 public class BattleshipAI {
 
-    private Random random;
-    private final KreuzerFactory KreuzerFactory;
-    private final ZerstörerFactory ZerstörerFactory;
-    private final U_BootFactory U_BootFactory;
-    private final SchlachtschiffFactory SchlachtschiffFactory;
+    private final RandomGenerator random; // Places the ships and picks the random shots
     private List<int[]> hitPositions;
     private boolean inHuntMode = false;
     private boolean inSinkMode = false;
@@ -34,211 +29,167 @@ public class BattleshipAI {
     private final IPlayer player;
     private final IPlayer computer;
     private List<int[]> potentialDirections; // Potential directions for Sink Mode
+    private ShotResolver shotResolver; // Decides whether a shot hits
+    private TargetingStrategy targetingStrategy; // Chooses the targets, null for hunt/sink
 
     /**
      * Constructor for the BattleshipAI.
+     * Draws from an unseeded generator.
      * 
      * @param player   The human player object.
      * @param computer The computer player object.
      */
     public BattleshipAI(IPlayer player, IPlayer computer) {
+        this(player, computer, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the BattleshipAI.
+     * 
+     * @param player   The human player object.
+     * @param computer The computer player object.
+     * @param random   The generator for the ship placement and the random
+     *                 shots; the same seed places and shoots the same way.
+     */
+    public BattleshipAI(IPlayer player, IPlayer computer, RandomGenerator random) {
         this.player = player;
         this.computer = computer;
         this.hitFactory = new ShipHitFactory();
-        this.random = new Random();
+        this.random = random;
         this.hitPositions = new ArrayList<>();
         this.potentialDirections = new ArrayList<>();
-        this.KreuzerFactory = new KreuzerFactory();
-        this.ZerstörerFactory = new ZerstörerFactory();
-        this.U_BootFactory = new U_BootFactory();
-        this.SchlachtschiffFactory = new SchlachtschiffFactory();
+        this.shotResolver = (x, y) -> isHitHittingShip(x, y) ? ShotResult.HIT : ShotResult.MISS;
     }
 
     /**
-     * Maximum number of attempts allowed to place a single ship.
+     * Sets the resolver that decides whether a shot of the computer hits.
+     * By default shots are checked against the player's game board.
+     * 
+     * @param shotResolver The resolver to use for the computer's shots.
      */
-    private static final int MAX_ATTEMPTS_PER_SHIP = 100;
+    public void setShotResolver(ShotResolver shotResolver) {
+        this.shotResolver = shotResolver;
+    }
 
     /**
      * Places all ships for the computer player on the game board.
      * Ensures that ships are placed randomly and without overlapping or touching.
      */
     public void placeAllShips() {
-        boolean allShipsPlaced = false;
-
-        while (!allShipsPlaced) {
-            clearBoard();
-            try {
-                placeShip(5, "SchlachtschiffFactory");
-                placeShip(4, "KreuzerFactory");
-                placeShip(4, "KreuzerFactory");
-                placeShip(3, "ZerstörerFactory");
-                placeShip(3, "ZerstörerFactory");
-                placeShip(3, "ZerstörerFactory");
-                placeShip(2, "U_BootFactory");
-                placeShip(2, "U_BootFactory");
-                placeShip(2, "U_BootFactory");
-                placeShip(2, "U_BootFactory");
-
-                allShipsPlaced = true;
-            } catch (IllegalStateException e) {
-                System.out.println("Keine gültige Platzierung gefunden, Neustart der Platzierung...");
-            }
-        }
+        EngineBridge.placeRandomFleet(computer.getGameBoard(), random);
     }
 
     /**
-     * Places a single ship of the given size and type on the computer's game board.
+     * Sets the strategy that chooses the computer's targets.
+     * The strategy must be set before the computer's first shot.
      * 
-     * @param shipSize    The size (length) of the ship.
-     * @param factoryType The type of ship factory to use (e.g.,
-     *                    "SchlachtschiffFactory").
+     * @param targetingStrategy The strategy to use, or null for the built-in
+     *                          hunt and sink behaviour.
      */
-    private void placeShip(int shipSize, String factoryType) {
-        boolean placed = false;
-        int attempts = 0;
-
-        while (!placed && attempts < MAX_ATTEMPTS_PER_SHIP) {
-            int x = random.nextInt(10);
-            int y = random.nextInt(10);
-            boolean isHorizontal = random.nextBoolean();
-
-            if (canPlaceShip(y, x, shipSize, isHorizontal)) {
-                switch (factoryType) {
-                    case "SchlachtschiffFactory":
-                        computer.getGameBoard().placeShip(x, y, SchlachtschiffFactory.createShip(), isHorizontal);
-                        break;
-                    case "KreuzerFactory":
-                        computer.getGameBoard().placeShip(x, y, KreuzerFactory.createShip(), isHorizontal);
-                        break;
-                    case "ZerstörerFactory":
-                        computer.getGameBoard().placeShip(x, y, ZerstörerFactory.createShip(), isHorizontal);
-                        break;
-                    case "U_BootFactory":
-                        computer.getGameBoard().placeShip(x, y, U_BootFactory.createShip(), isHorizontal);
-                        break;
-                    default:
-                        break;
-                }
-                placed = true;
-            }
-            attempts++;
-        }
-
-        if (!placed) {
-            throw new IllegalStateException("Failed to place ship after " + MAX_ATTEMPTS_PER_SHIP + " attempts.");
-        }
+    public void setTargetingStrategy(TargetingStrategy targetingStrategy) {
+        this.targetingStrategy = targetingStrategy;
     }
 
     /**
-     * Checks if a ship can be placed at the given coordinates without overlapping
-     * or
-     * touching other ships.
+     * Gets the strategy that chooses the computer's targets.
      * 
-     * @param row          The starting row coordinate for the ship placement.
-     * @param col          The starting column coordinate for the ship placement.
-     * @param shipSize     The size (length) of the ship.
-     * @param isHorizontal True if the ship should be placed horizontally, false if
-     *                     vertically.
-     * @return True if the ship can be placed, false otherwise.
+     * @return The strategy, or null for the built-in hunt and sink behaviour.
      */
-    private boolean canPlaceShip(int row, int col, int shipSize, boolean isHorizontal) {
-
-        for (int i = 0; i < shipSize; i++) {
-            int r = isHorizontal ? row : row + i;
-            int c = isHorizontal ? col + i : col;
-
-            if (r >= 10 || c >= 10 || isAdjacentToShip(r, c)) {
-                return false;
-            }
-        }
-        return true;
+    public TargetingStrategy getTargetingStrategy() {
+        return targetingStrategy;
     }
 
     /**
-     * Checks if a cell at the given coordinates is adjacent to any existing ships
-     * on the
-     * computer's game board.
-     * 
-     * @param row The row coordinate of the cell.
-     * @param col The column coordinate of the cell.
-     * @return True if the cell is adjacent to a ship, false otherwise.
+     * Determines and executes the computer's next move,
+     * using the targeting strategy if one is set and the simple hunt and sink
+     * behaviour otherwise.
      */
-    private boolean isAdjacentToShip(int row, int col) {
-        Map<Point, IShip> ships = computer.getGameBoard().getShipLocations();
-        return isAdjacent(row, col, ships);
+    public void makeNextMove() {
+        applyMove(chooseNextMove(Long.MAX_VALUE));
     }
 
     /**
-     * Checks if a cell is adjacent to any ship in the given map.
+     * Chooses the computer's next target without shooting at it.
+     * Reads the boards and leaves the hunt and sink state alone, so it can
+     * run off the Event Dispatch Thread as long as the boards are not changed
+     * meanwhile; a random shot only advances the random generator. All state
+     * transitions happen in {@link #applyMove(int)}, which must be called
+     * with the chosen move before the next one is chosen. A move that is
+     * never applied leaves the AI as it was.
      * 
-     * @param row   The row of the cell.
-     * @param col   The column of the cell.
-     * @param ships The map of ship locations.
-     * @return True if the cell is adjacent to any ship, false otherwise.
+     * @param deadlineNanos The value of {@link System#nanoTime()} at which the
+     *                      targeting strategy returns its best cell so far.
+     * @return The index {@code y * boardSize + x} of the target, or -1 if every
+     *         cell has been shot at.
      */
-    private boolean isAdjacent(int row, int col, Map<Point, IShip> ships) {
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                if (i == 0 && j == 0) {
-                    continue;
-                }
-                int r = row + i;
-                int c = col + j;
-                if (r >= 0 && r < 10 && c >= 0 && c < 10 && ships.containsKey(new Point(c, r))) {
-                    return true;
-                }
-            }
+    public int chooseNextMove(long deadlineNanos) {
+        if (targetingStrategy != null) {
+            return targetingStrategy.nextTarget(deadlineNanos);
         }
-        return false;
+        int cell = chooseAimedTarget();
+        return cell >= 0 ? cell : chooseRandomTarget();
     }
 
     /**
-     * Clears the computer's game board, removing all placed ships.
+     * Shoots at the target chosen by {@link #chooseNextMove(long)} and updates
+     * the AI with the result.
+     * 
+     * @param cell The index of the target, -1 does nothing.
      */
-    private void clearBoard() {
-        Map<Point, IShip> shipLocations = computer.getGameBoard().getShipLocations();
-        Set<IShip> uniqueShips = new HashSet<>(shipLocations.values());
-        for (IShip ship : uniqueShips) {
-            computer.getGameBoard().removeShip(ship);
+    public void applyMove(int cell) {
+        if (cell < 0) {
+            return; // Every cell has been shot at
+        }
+        int boardSize = computer.getTargetingBoard().getBoardSize();
+        int col = cell % boardSize;
+        int row = cell / boardSize;
+        if (targetingStrategy != null) {
+            targetingStrategy.onShot(col, row, fire(col, row));
+            return;
         }
-        shipLocations.clear();
-    }
 
-    /**
-     * Determines and executes the computer's next move,
-     * following a simple AI strategy.
-     */
-    public void makeNextMove() {
-        if (inSinkMode) {
-            sink();
-        } else if (inHuntMode) {
-            hunt();
-        } else {
-            randomShot();
+        // The same target chooseNextMove saw, the boards have not changed since
+        boolean isRandomShot = chooseAimedTarget() < 0;
+        if (inSinkMode && chooseSinkTarget() < 0) {
+            // Ship likely sunk, switch back to hunt mode
+            inSinkMode = false;
+        }
+        if (isRandomShot) {
+            inHuntMode = false;
+        }
+
+        boolean hit = addHitToTargetBoard(col, row);
+
+        if (hit) {
+            lastHit = new int[] { col, row };
+            hitPositions.add(lastHit);
+            if (isRandomShot) {
+                inHuntMode = true;
+                potentialDirections = generatePotentialDirections(col, row);
+            } else if (hitPositions.size() == 2) {
+                inSinkMode = true;
+            }
         }
     }
 
     /**
-     * Makes a random shot on the player's board, avoiding cells that have already
-     * been hit.
+     * Chooses a random cell on the player's board that has not been shot at.
+     * 
+     * @return The index of the cell, or -1 if every cell has been shot at.
      */
-    private void randomShot() {
+    private int chooseRandomTarget() {
+        int boardSize = computer.getTargetingBoard().getBoardSize();
+        if (computer.getTargetingBoard().shotCount() >= boardSize * boardSize) {
+            return -1;
+        }
         int col, row;
 
         do {
-            col = random.nextInt(10);
-            row = random.nextInt(10);
-        } while (computer.getTargetingBoard().getHits().containsKey(new Point(col, row)));
-
-        boolean hit = addHitToTargetBoard(col, row);
+            col = random.nextInt(boardSize);
+            row = random.nextInt(boardSize);
+        } while (computer.getTargetingBoard().isShot(col, row));
 
-        if (hit) {
-            lastHit = new int[] { col, row };
-            hitPositions.add(lastHit);
-            inHuntMode = true;
-            potentialDirections = generatePotentialDirections(col, row);
-        }
+        return row * boardSize + col;
     }
 
     /**
@@ -250,10 +201,21 @@ public class BattleshipAI {
      * @return True if the shot hit a ship, false otherwise.
      */
     private boolean addHitToTargetBoard(int x, int y) {
-        boolean isHit = isHitHittingShip(x, y);
-        IHits hit = hitFactory.createHit(isHit);
+        return fire(x, y).isHit();
+    }
+
+    /**
+     * Resolves a shot and records it on the computer's targeting board.
+     * 
+     * @param x The column coordinate of the shot.
+     * @param y The row coordinate of the shot.
+     * @return The result of the shot.
+     */
+    private ShotResult fire(int x, int y) {
+        ShotResult result = shotResolver.resolve(x, y);
+        IHits hit = hitFactory.createHit(result.isHit());
         computer.getTargetingBoard().placeHit(x, y, hit);
-        return isHit;
+        return result;
     }
 
     /**
@@ -269,59 +231,49 @@ public class BattleshipAI {
     }
 
     /**
-     * Executes the "hunt" mode of the AI, where it systematically tries to find
-     * adjacent hits after a successful hit.
+     * Chooses the target of the "sink" mode, or of the "hunt" mode if the sink
+     * mode has no target left or is not active.
+     * 
+     * @return The index of the chosen cell, or -1 if a random shot is due.
      */
-    private void hunt() {
-        int col = lastHit[0];
-        int row = lastHit[1];
-
-        for (int[] direction : potentialDirections) {
-            int newCol = col + direction[0];
-            int newRow = row + direction[1];
-
-            if (tryShootingAt(newCol, newRow)) {
-                return;
+    private int chooseAimedTarget() {
+        if (inSinkMode) {
+            int cell = chooseSinkTarget();
+            if (cell >= 0) {
+                return cell;
             }
         }
-        inHuntMode = false;
-        randomShot();
-
+        return inSinkMode || inHuntMode ? chooseHuntTarget() : -1;
     }
 
     /**
-     * Attempts to shoot at the given coordinates if the cell is valid and hasn't
-     * been hit before.
+     * Chooses the target of the "hunt" mode of the AI, which systematically
+     * tries to find adjacent hits after a successful hit.
      * 
-     * @param col The column coordinate of the shot.
-     * @param row The row coordinate of the shot.
-     * @return True if the shot was attempted (whether hit or miss), false if the
-     *         cell was invalid or already hit.
+     * @return The index of the chosen cell, or -1 if every neighbour has been
+     *         shot at.
      */
-    private boolean tryShootingAt(int col, int row) {
-        if (col >= 0 && col < 10 && row >= 0 && row < 10
-                && !computer.getTargetingBoard().getHits().containsKey(new Point(col, row))) {
-            boolean hit = addHitToTargetBoard(col, row);
-
-            if (hit) {
-                lastHit = new int[] { col, row };
-                hitPositions.add(lastHit);
-
-                if (hitPositions.size() == 2) {
-                    inSinkMode = true;
-                }
+    private int chooseHuntTarget() {
+        int col = lastHit[0];
+        int row = lastHit[1];
+
+        for (int[] direction : potentialDirections) {
+            int cell = openCell(col + direction[0], row + direction[1]);
+            if (cell >= 0) {
+                return cell;
             }
-            return true;
         }
-        return false;
+        return -1;
     }
 
     /**
-     * Executes the "sink" mode of the AI, where it tries to sink a ship after
-     * finding
-     * two consecutive hits.
+     * Chooses the target of the "sink" mode of the AI, which tries to sink a
+     * ship after finding two consecutive hits.
+     * 
+     * @return The index of the chosen cell, or -1 if both ends of the line of
+     *         hits have been shot at.
      */
-    private void sink() {
+    private int chooseSinkTarget() {
         int col = lastHit[0];
         int row = lastHit[1];
 
@@ -331,22 +283,30 @@ public class BattleshipAI {
         int dCol = secondHit[0] - firstHit[0];
         int dRow = secondHit[1] - firstHit[1];
 
-        int newCol = col + dCol;
-        int newRow = row + dRow;
-
-        if (!tryShootingAt(newCol, newRow)) {
+        int cell = openCell(col + dCol, row + dRow);
+        if (cell < 0) {
             // Try shooting in the opposite direction
-            dCol = -dCol;
-            dRow = -dRow;
-            newCol = firstHit[0] + dCol;
-            newRow = firstHit[1] + dRow;
-
-            if (!tryShootingAt(newCol, newRow)) {
-                // Ship likely sunk, switch back to hunt mode
-                inSinkMode = false;
-                hunt();
-            }
+            cell = openCell(firstHit[0] - dCol, firstHit[1] - dRow);
+        }
+        return cell;
+    }
+
+    /**
+     * Checks if the given coordinates are a valid cell that hasn't been shot
+     * at before.
+     * 
+     * @param col The column coordinate of the cell.
+     * @param row The row coordinate of the cell.
+     * @return The index of the cell, or -1 if the cell is invalid or already
+     *         shot at.
+     */
+    private int openCell(int col, int row) {
+        int boardSize = computer.getTargetingBoard().getBoardSize();
+        if (col >= 0 && col < boardSize && row >= 0 && row < boardSize
+                && !computer.getTargetingBoard().isShot(col, row)) {
+            return row * boardSize + col;
         }
+        return -1;
     }
 
     /**
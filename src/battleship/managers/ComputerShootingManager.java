@@ -3,9 +3,21 @@ package battleship.managers;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.awt.Point;
 
+import battleship.engine.Fleet;
+import battleship.engine.GameEngine;
+import battleship.engine.GameSnapshot;
+import battleship.engine.GameState;
+import battleship.engine.ShotResult;
+import battleship.engine.ai.TargetingMode;
+import battleship.engine.journal.ShotJournal;
 import battleship.factorys.hits.IHits;
 import battleship.factorys.hits.ShipHitFactory;
 import battleship.factorys.player.IPlayer;
@@ -17,29 +29,153 @@ import battleship.factorys.ships.IShip;
  *        opponent.
  *        Handles player and computer shots, game over conditions, and sunk ship
  *        detection.
+ *        The rules are evaluated by a {@link GameEngine} in which the human
+ *        player has the index {@link #PLAYER} and the computer the index
+ *        {@link #COMPUTER}.
+ *        The computer's move can be chosen off the calling thread, see
+ *        {@link #computerShootAsync(long, Executor, Runnable)}.
  */
 public class ComputerShootingManager {
 
+    private static final int PLAYER = GameState.PLAYER_ONE; /**< Engine index of the human player */
+    private static final int COMPUTER = GameState.PLAYER_TWO; /**< Engine index of the computer */
+    private static final ExecutorService MOVE_EXECUTOR = createMoveExecutor(); /**< Chooses the computer's moves */
+
     private final IPlayer player;
     private final IPlayer computer;
     private final BattleshipAI battleshipAI;
+    private final SplittableRandom random; /**< The random generator of this game */
+    private TargetingMode targetingMode; /**< How the computer chooses its targets, null for hunt and sink */
     public IPlayer currentPlayer;
     public IPlayer opponentPlayer;
     private final ShipHitFactory hitFactory;
+    private GameEngine engine;
+    private ShotJournal shotJournal; /**< Receives every resolved shot, null if none */
+    private long gameId; /**< The id of this game in the shot journal */
+    private final AtomicInteger moveGeneration = new AtomicInteger(); /**< Incremented by every started or cancelled move */
+    private volatile Future<?> pendingMove; /**< The move being chosen, null if none */
+    private final List<ShootingManagerObserver> observers = new ArrayList<>(); /**< Told about every shot */
 
     /**
      * Constructor for ComputerShootingManager.
+     * The game draws from an unseeded generator.
      * 
      * @param player1  The human player object.
      * @param computer The computer player object.
      */
     public ComputerShootingManager(IPlayer player1, IPlayer computer) {
+        this(player1, computer, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for ComputerShootingManager.
+     * The starting player is drawn from the given generator, the computer's
+     * targeting gets generators split off from it, so the same seed and the
+     * same shots of the human player replay the same game.
+     * The computer hunts and sinks like the original computer player, see
+     * {@link TargetingMode#HUNT_SINK}.
+     * 
+     * @param player1  The human player object.
+     * @param computer The computer player object.
+     * @param random   The random generator of this game.
+     */
+    public ComputerShootingManager(IPlayer player1, IPlayer computer, SplittableRandom random) {
+        this(player1, computer, random, TargetingMode.HUNT_SINK);
+    }
+
+    /**
+     * Constructor for ComputerShootingManager.
+     * Like {@link #ComputerShootingManager(IPlayer, IPlayer, SplittableRandom)},
+     * with the computer targeting the way the given mode does.
+     * 
+     * @param player1       The human player object.
+     * @param computer      The computer player object.
+     * @param random        The random generator of this game.
+     * @param targetingMode How the computer chooses its targets, null for the
+     *                      built-in hunt and sink.
+     */
+    public ComputerShootingManager(IPlayer player1, IPlayer computer, SplittableRandom random,
+            TargetingMode targetingMode) {
         this.player = player1;
         this.computer = computer;
-        this.battleshipAI = new BattleshipAI(player1, computer);
+        this.random = random;
+        this.battleshipAI = new BattleshipAI(player1, computer, random.split());
         this.hitFactory = new ShipHitFactory();
         this.currentPlayer = player1;
         this.opponentPlayer = computer;
+        this.battleshipAI.setShotResolver((x, y) -> {
+            ShotResult result = getEngine().fire(COMPUTER, x, y);
+            EngineBridge.damageShip(player.getGameBoard(), x, y, result);
+            journal(COMPUTER, x, y, result);
+            notifyShotFired(computer, x, y, result);
+            return result;
+        });
+        setTargetingMode(targetingMode);
+    }
+
+    /**
+     * Adds an observer that is told about the shots of both players.
+     * 
+     * @param observer The observer to add.
+     */
+    public void addObserver(ShootingManagerObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Notifies all observers of a resolved shot.
+     * 
+     * @param shooter The player who fired the shot.
+     * @param x       The column coordinate of the shot.
+     * @param y       The row coordinate of the shot.
+     * @param result  The result of the shot.
+     */
+    private void notifyShotFired(IPlayer shooter, int x, int y, ShotResult result) {
+        for (ShootingManagerObserver observer : observers) {
+            observer.onShotFired(shooter, x, y, result);
+        }
+    }
+
+    /**
+     * Appends a resolved shot to the journal, if one is set.
+     * 
+     * @param shooter The engine index of the shooter.
+     * @param x       The column coordinate of the shot.
+     * @param y       The row coordinate of the shot.
+     * @param result  The result of the shot.
+     */
+    private void journal(int shooter, int x, int y, ShotResult result) {
+        ShotJournal journal = shotJournal;
+        if (journal != null) {
+            journal.append(gameId, shooter, x, y, result);
+        }
+    }
+
+    /**
+     * Records every shot of both players resolved from now on in a journal,
+     * from which the game can be replayed or recovered together with a
+     * snapshot of its start.
+     * 
+     * @param journal The journal, or null to stop recording.
+     * @param gameId  The id of this game in the journal, see
+     *                {@link ShotJournal#nextGameId()}.
+     */
+    public void setShotJournal(ShotJournal journal, long gameId) {
+        this.shotJournal = journal;
+        this.gameId = gameId;
+    }
+
+    /**
+     * Selects how the computer chooses its targets.
+     * Must be called before the computer's first shot.
+     * 
+     * @param mode The targeting mode, or null for the simple hunt and sink
+     *             behaviour.
+     */
+    public void setTargetingMode(TargetingMode mode) {
+        this.targetingMode = mode;
+        battleshipAI.setTargetingStrategy(mode == null ? null
+                : mode.create(EngineBridge.rulesOf(EngineBridge.toFleet(player.getGameBoard())), random.split()));
     }
 
     /**
@@ -49,6 +185,84 @@ public class ComputerShootingManager {
         battleshipAI.makeNextMove();
     }
 
+    /**
+     * Chooses the computer's next move on a background thread and executes
+     * it through the callback executor, for example
+     * {@code SwingUtilities::invokeLater}.
+     * The boards must not be changed until the move has been executed or
+     * cancelled. Starting a move cancels the pending one.
+     * 
+     * @param deadlineNanos    The value of {@link System#nanoTime()} at which
+     *                         the AI takes its best move so far.
+     * @param callbackExecutor Executes the shot and the callback.
+     * @param onDone           Called by the callback executor after the shot.
+     * @return The future of the move's choice, see
+     *         {@link #cancelComputerMove()}.
+     */
+    public Future<?> computerShootAsync(long deadlineNanos, Executor callbackExecutor, Runnable onDone) {
+        cancelComputerMove();
+        int generation = moveGeneration.get();
+        pendingMove = MOVE_EXECUTOR.submit(() -> {
+            int cell = battleshipAI.chooseNextMove(deadlineNanos);
+            callbackExecutor.execute(() -> {
+                // A cancelled move must not shoot, even if it was chosen already
+                if (moveGeneration.compareAndSet(generation, generation + 1)) {
+                    pendingMove = null;
+                    battleshipAI.applyMove(cell);
+                    onDone.run();
+                }
+            });
+        });
+        return pendingMove;
+    }
+
+    /**
+     * Cancels the move being chosen, if any. Its shot is not executed and its
+     * callback is not called.
+     */
+    public void cancelComputerMove() {
+        moveGeneration.incrementAndGet();
+        if (pendingMove != null) {
+            pendingMove.cancel(true);
+            pendingMove = null;
+        }
+    }
+
+    /**
+     * Creates the executor that chooses the computer's moves. Uses virtual
+     * threads where the runtime provides them, a pool of daemon threads
+     * otherwise.
+     * 
+     * @return The executor.
+     */
+    private static ExecutorService createMoveExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "computer-move");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Captures the game for saving: both fleets, all shots, whose turn it is
+     * and the targeting mode of the computer with the state of its strategy.
+     * The rest of the computer's knowledge follows from its shots, see
+     * {@link TargetingMode#restore}.
+     * 
+     * @return The snapshot of the game.
+     */
+    public GameSnapshot createSnapshot() {
+        if (targetingMode == null) {
+            return new GameSnapshot(getEngine().getState(), GameSnapshot.NO_STRATEGY, GameSnapshot.NO_STRATEGY);
+        }
+        return new GameSnapshot(getEngine().getState(), GameSnapshot.NO_STRATEGY, targetingMode.ordinal(),
+                new byte[0], battleshipAI.getTargetingStrategy().saveState());
+    }
+
     /**
      * Adds a hit to the player's targeting board,
      * registering it as a hit or miss on the computer's game board.
@@ -58,10 +272,32 @@ public class ComputerShootingManager {
      * @return True if the shot hit a ship, false otherwise (a miss).
      */
     public boolean addHitToTargetBoard(int x, int y) {
-        boolean isHit = isHitHittingShip(x, y);
-        IHits hit = hitFactory.createHit(isHit);
+        GameEngine engine = getEngine();
+        if (engine.isGameOver() || engine.isShot(PLAYER, x, y)) {
+            boolean isHit = isHitHittingShip(x, y);
+            player.getTargetingBoard().placeHit(x, y, hitFactory.createHit(isHit));
+            return isHit;
+        }
+        ShotResult result = engine.fire(PLAYER, x, y);
+        EngineBridge.damageShip(computer.getGameBoard(), x, y, result);
+        journal(PLAYER, x, y, result);
+        IHits hit = hitFactory.createHit(result.isHit());
         player.getTargetingBoard().placeHit(x, y, hit);
-        return isHit;
+        notifyShotFired(player, x, y, result);
+        return result.isHit();
+    }
+
+    /**
+     * Returns the engine evaluating the shooting phase, creating it from the
+     * boards of both players on first use.
+     * 
+     * @return The game engine.
+     */
+    public GameEngine getEngine() {
+        if (engine == null) {
+            engine = EngineBridge.createEngine(player, computer);
+        }
+        return engine;
     }
 
     /**
@@ -73,7 +309,7 @@ public class ComputerShootingManager {
      * @return True if the shot would hit a ship, false otherwise.
      */
     public boolean isHitHittingShip(int x, int y) {
-        return computer.getGameBoard().isShipHit(x, y);
+        return getEngine().getState().getFleet(COMPUTER).isOccupied(x, y);
     }
 
     /**
@@ -84,18 +320,7 @@ public class ComputerShootingManager {
      * @return True if the game is over, false otherwise.
      */
     public boolean isGameOver(IPlayer lastShooter) {
-        IPlayer opponent = lastShooter == player ? computer : player;
-
-        // Check if all ships of the opponent have been hit
-        for (Map.Entry<Point, IShip> entry : opponent.getGameBoard().getShipLocations().entrySet()) {
-            Point shipLocation = entry.getKey();
-            IHits hit = lastShooter.getTargetingBoard().getHits().get(shipLocation);
-
-            if (hit == null || !hit.isHit()) {
-                return false; // At least one ship cell hasn't been hit yet
-            }
-        }
-        return true; // All opponent's ships have been hit
+        return getEngine().isDefeated(lastShooter == player ? COMPUTER : PLAYER);
     }
 
     /**
@@ -108,28 +333,12 @@ public class ComputerShootingManager {
      *         or an empty list if no ship was sunk.
      */
     public List<Point> isShipSunk(int x, int y) {
-        IShip ship = getShipAt(x, y);
-        if (ship == null) {
-            return Collections.emptyList(); // No ship at the given coordinates
-        }
-
-        int shipLength = ship.getShipSize();
-        int hits = 0;
-        List<Point> shipCoordinates = new ArrayList<>();
-
-        for (Map.Entry<Point, IShip> entry : computer.getGameBoard().getShipLocations().entrySet()) {
-            if (entry.getValue().equals(ship)) {
-                shipCoordinates.add(entry.getKey());
-            }
-        }
-
-        for (Point location : shipCoordinates) {
-            if (player.getTargetingBoard().getHits().containsKey(location)) {
-                hits++;
-            }
+        Fleet fleet = getEngine().getState().getFleet(COMPUTER);
+        int id = fleet.shipAt(x, y);
+        if (!fleet.isSunk(id)) {
+            return Collections.emptyList(); // No sunk ship at the given coordinates
         }
-
-        return hits == shipLength ? shipCoordinates : Collections.emptyList();
+        return EngineBridge.shipCells(fleet, id);
     }
 
     /**
@@ -142,8 +351,7 @@ public class ComputerShootingManager {
      *         present.
      */
     public IShip getShipAt(int x, int y) {
-        Map<Point, IShip> ships = computer.getGameBoard().getShipLocations();
-        return ships.get(new Point(x, y));
+        return computer.getGameBoard().shipAt(x, y);
     }
 
     /**
@@ -154,7 +362,7 @@ public class ComputerShootingManager {
      * @return True if the coordinates have already been hit, false otherwise.
      */
     public boolean isAlreadyHit(int x, int y) {
-        return player.getTargetingBoard().getHits().containsKey(new Point(x, y));
+        return getEngine().isShot(PLAYER, x, y);
     }
 
     /**
@@ -163,13 +371,7 @@ public class ComputerShootingManager {
      * @return The IPlayer object that was selected to go first.
      */
     public IPlayer selectRandomPlayer() {
-        if (Math.random() < 0.5) {
-            this.currentPlayer = player;
-            this.opponentPlayer = computer;
-        } else {
-            this.currentPlayer = computer;
-            this.opponentPlayer = player;
-        }
+        setCurrentPlayer(getEngine().startRandom(random) == PLAYER ? player : computer);
         return currentPlayer;
     }
 
@@ -180,6 +382,8 @@ public class ComputerShootingManager {
      */
     public void setCurrentPlayer(IPlayer player) {
         this.currentPlayer = player;
+        this.opponentPlayer = player == this.player ? computer : this.player;
+        getEngine().start(player == this.player ? PLAYER : COMPUTER);
     }
 
 }
@@ -0,0 +1,217 @@
+package battleship.managers;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import battleship.engine.Fleet;
+import battleship.engine.FleetGenerator;
+import battleship.engine.FleetRules;
+import battleship.engine.GameEngine;
+import battleship.engine.GameState;
+import battleship.engine.ShotResult;
+import battleship.factorys.gameboard.BitboardPlayerBoard;
+import battleship.factorys.gameboard.IGameBoard;
+import battleship.factorys.player.IPlayer;
+import battleship.factorys.ships.IShip;
+import battleship.factorys.ships.ShipRegistry;
+
+/**
+ * @class EngineBridge
+ *        Connects the player and board objects of the user interface with the
+ *        headless {@link GameEngine}.
+ *        Copies the fleets of two players into a new engine, replays shots that
+ *        are already on their targeting boards and converts engine ships back
+ *        into board coordinates and onto game boards.
+ */
+public final class EngineBridge {
+
+    /**
+     * Utility class, not instantiable.
+     */
+    private EngineBridge() {
+    }
+
+    /**
+     * Creates an engine for the shooting phase between two players.
+     * The first player gets the index {@link GameState#PLAYER_ONE}, the
+     * second one {@link GameState#PLAYER_TWO}.
+     *
+     * @param playerOne The first player.
+     * @param playerTwo The second player.
+     * @return A new engine holding copies of both fleets, with the rules
+     *         of {@link #rulesOf(Fleet)} for the fleet of the first player.
+     */
+    public static GameEngine createEngine(IPlayer playerOne, IPlayer playerTwo) {
+        Fleet fleetOne = toFleet(playerOne.getGameBoard());
+        Fleet fleetTwo = toFleet(playerTwo.getGameBoard());
+        GameEngine engine = new GameEngine(rulesOf(fleetOne), new GameState(fleetOne, fleetTwo));
+        replayShots(engine, GameState.PLAYER_ONE, playerOne.getTargetingBoard());
+        replayShots(engine, GameState.PLAYER_TWO, playerTwo.getTargetingBoard());
+        return engine;
+    }
+
+    /**
+     * Gets the rules for a board of the given size.
+     *
+     * @param boardSize The width and height of the board.
+     * @return The rules of {@link FleetRules#forBoardSize(int)}.
+     */
+    public static FleetRules rulesFor(int boardSize) {
+        return FleetRules.forBoardSize(boardSize);
+    }
+
+    /**
+     * Gets the rules a placed fleet was built for: its board size and its
+     * ships. A fleet placed by hand or read from a configuration may differ
+     * from {@link #rulesFor(int)}.
+     *
+     * @param fleet The placed fleet.
+     * @return The rules holding exactly the ships of the fleet, or the rules
+     *         of {@link #rulesFor(int)} if the fleet is empty.
+     */
+    public static FleetRules rulesOf(Fleet fleet) {
+        FleetRules standard = rulesFor(fleet.getBoardSize());
+        if (fleet.getShipCount() == 0 || standard.isComplete(fleet)) {
+            return standard;
+        }
+        int[] lengths = new int[fleet.getShipCount()];
+        int ship = 0;
+        for (int id = 1; id <= Fleet.MAX_SHIPS && ship < lengths.length; id++) {
+            if (fleet.isShip(id)) {
+                lengths[ship++] = fleet.getShipLength(id);
+            }
+        }
+        return new FleetRules(fleet.getBoardSize(), lengths);
+    }
+
+    /**
+     * Gets the fleet generator for a board of the given size.
+     *
+     * @param boardSize The width and height of the board.
+     * @return A generator for the rules of {@link #rulesFor(int)}.
+     */
+    public static FleetGenerator generatorFor(int boardSize) {
+        return generatorFor(rulesFor(boardSize));
+    }
+
+    /**
+     * Gets the fleet generator for a set of rules.
+     *
+     * @param rules The board size and the fleet to generate.
+     * @return The shared generator for the standard rules, a new one otherwise.
+     */
+    public static FleetGenerator generatorFor(FleetRules rules) {
+        return rules == FleetRules.STANDARD ? FleetGenerator.STANDARD : new FleetGenerator(rules);
+    }
+
+    /**
+     * Replaces the ships on a game board with a randomly generated fleet.
+     *
+     * @param board  The game board to fill.
+     * @param random The random generator to draw from.
+     */
+    public static void placeRandomFleet(IGameBoard board, RandomGenerator random) {
+        placeFleet(board, generatorFor(board.getBoardSize()).generate(random));
+    }
+
+    /**
+     * Replaces the ships on a game board with the ships of a fleet.
+     *
+     * @param board The game board to fill.
+     * @param fleet The fleet to copy onto the board.
+     */
+    public static void placeFleet(IGameBoard board, Fleet fleet) {
+        for (IShip ship : board.snapshot().getShips()) {
+            board.removeShip(ship);
+        }
+        for (int id = 1; id <= Fleet.MAX_SHIPS; id++) {
+            if (fleet.isShip(id)) {
+                board.placeShip(fleet.getShipX(id), fleet.getShipY(id),
+                        createShip(fleet.getShipLength(id)), fleet.isShipHorizontal(id));
+            }
+        }
+    }
+
+    /**
+     * Creates the ship of the given length.
+     *
+     * @param length The length of the ship.
+     * @return A new ship of that length.
+     * @throws IllegalArgumentException if no ship has that length.
+     */
+    public static IShip createShip(int length) {
+        int type = ShipRegistry.ofSize(length);
+        if (type == ShipRegistry.NONE) {
+            throw new IllegalArgumentException("Kein Schiff der Länge " + length + ".");
+        }
+        return ShipRegistry.createShip(type);
+    }
+
+    /**
+     * Registers a hit on the ship of a game board that covers a cell, so the
+     * health of the board's ships follows the shots of the engine.
+     *
+     * @param board  The game board holding the ship.
+     * @param x      The column of the cell.
+     * @param y      The row of the cell.
+     * @param result The result of the engine's shot on the cell.
+     */
+    public static void damageShip(IGameBoard board, int x, int y, ShotResult result) {
+        if (result.isHit()) {
+            IShip ship = board.shipAt(x, y);
+            if (ship != null) {
+                ship.hit();
+            }
+        }
+    }
+
+    /**
+     * Copies the ships of a game board into a new fleet.
+     *
+     * @param board The game board holding the ships.
+     * @return A new fleet with the same ships.
+     */
+    public static Fleet toFleet(IGameBoard board) {
+        if (board instanceof BitboardPlayerBoard) {
+            return ((BitboardPlayerBoard) board).getFleet().copy();
+        }
+        Fleet fleet = new Fleet(board.getBoardSize());
+        board.forEachShip((x, y, length, isHorizontal, ship) -> fleet.place(x, y, length, isHorizontal));
+        return fleet;
+    }
+
+    /**
+     * Gets the cells of a ship in the order they were placed.
+     *
+     * @param fleet The fleet holding the ship.
+     * @param id    The id of the ship.
+     * @return A list of the ship's coordinates.
+     */
+    public static List<Point> shipCells(Fleet fleet, int id) {
+        int x = fleet.getShipX(id);
+        int y = fleet.getShipY(id);
+        boolean isHorizontal = fleet.isShipHorizontal(id);
+        List<Point> cells = new ArrayList<>(fleet.getShipLength(id));
+        for (int i = 0; i < fleet.getShipLength(id); i++) {
+            cells.add(new Point(isHorizontal ? x + i : x, isHorizontal ? y : y + i));
+        }
+        return cells;
+    }
+
+    /**
+     * Fires the shots already recorded on a targeting board through the engine.
+     *
+     * @param engine         The engine to update.
+     * @param shooter        The index of the shooting player.
+     * @param targetingBoard The targeting board of the shooting player.
+     */
+    private static void replayShots(GameEngine engine, int shooter, IGameBoard targetingBoard) {
+        targetingBoard.forEachHit((x, y, isHit) -> {
+            if (!engine.isGameOver() && !engine.isShot(shooter, x, y)) {
+                engine.fire(shooter, x, y);
+            }
+        });
+    }
+}
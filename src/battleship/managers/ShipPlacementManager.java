@@ -1,13 +1,15 @@
 package battleship.managers;
 
 import battleship.BattleshipGUI;
+import battleship.engine.FleetRules;
 import battleship.factorys.player.IPlayer;
 import battleship.factorys.ships.*;
+import battleship.views.BoardCanvas;
 import battleship.views.PlacementView;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 
 /**
@@ -19,19 +21,16 @@ public class ShipPlacementManager {
     private IPlayer currentPlayer;
     private final IPlayer player1;
     private final IPlayer player2;
-    private Map<String, Integer> currentPlayerShipCounts;
-    private final Map<String, Integer> shipLimits;
-    private final ZerstörerFactory zerstörerFactory;
-    private final SchlachtschiffFactory schlachtschiffFactory;
-    private final KreuzerFactory kreuzerFactory;
-    private final U_BootFactory u_BootFactory;
+    private final int[] placedShipCounts; /**< Ships placed by the current player, by ship type index */
+    private int placedShips; /**< Ships placed by the current player in total */
+    private final int[] shipLimits; /**< Ships to place, by ship type index */
     private final PlacementView placementView;
     private final BattleshipGUI battleshipGUI;
 
     /**
-     * Total number of ships to be placed by each player.
+     * The fleet each player has to place.
      */
-    private static final int TOTAL_SHIPS = 10;
+    private final FleetRules rules;
 
     /**
      * Constructor for ShipPlacementManager.
@@ -46,27 +45,11 @@ public class ShipPlacementManager {
         this.player1 = player1;
         this.player2 = player2;
         this.currentPlayer = player1;
-        this.currentPlayerShipCounts = new HashMap<>();
-        this.shipLimits = new HashMap<>();
+        this.rules = battleshipGUI.getFleetRules();
+        this.placedShipCounts = new int[ShipRegistry.TYPE_COUNT];
+        this.shipLimits = ShipRegistry.limitsFor(rules);
         this.placementView = placementView;
         this.battleshipGUI = battleshipGUI;
-
-        this.zerstörerFactory = new ZerstörerFactory();
-        this.schlachtschiffFactory = new SchlachtschiffFactory();
-        this.kreuzerFactory = new KreuzerFactory();
-        this.u_BootFactory = new U_BootFactory();
-
-        initializeShipLimits();
-    }
-
-    /**
-     * Initializes the map of ship limits for each ship type.
-     */
-    private void initializeShipLimits() {
-        shipLimits.put("Schlachtschiff", schlachtschiffFactory.getShipLimit());
-        shipLimits.put("Kreuzer", kreuzerFactory.getShipLimit());
-        shipLimits.put("Zerstörer", zerstörerFactory.getShipLimit());
-        shipLimits.put("U-Boot", u_BootFactory.getShipLimit());
     }
 
     /**
@@ -74,54 +57,38 @@ public class ShipPlacementManager {
      * 
      * @param row          The row coordinate for the starting point of the ship.
      * @param col          The column coordinate for the starting point of the ship.
-     * @param size         The size (length) of the ship.
      * @param isHorizontal True if the ship should be placed horizontally, false if
      *                     vertically.
-     * @param shipType     The type of ship to place (e.g., "Schlachtschiff").
-     * @param gridCells    The 2D array of JPanel representing the grid cells on the
-     *                     PlacementView.
+     * @param shipType     The index of the ship type in the {@link ShipRegistry}.
+     * @param board        The component painting the grid of the placement
+     *                     view.
      * @throws IllegalArgumentException If the ship placement is invalid (out of
      *                                  bounds or overlapping).
      */
-    public void placeShip(int row, int col, int size, boolean isHorizontal, String shipType, JPanel[][] gridCells) {
-        // Check for valid placement (not out of bounds and not overlapping other ships)
-        for (int i = 0; i < size; i++) {
-            int r = isHorizontal ? row : row + i;
-            int c = isHorizontal ? col + i : col;
+    public void placeShip(int row, int col, boolean isHorizontal, int shipType, BoardCanvas board) {
+        int size = ShipRegistry.getSize(shipType);
 
-            if (r >= 10 || c >= 10 || isAdjacentToShip(r, c)) {
-                throw new IllegalArgumentException("Platzierung ungültig.");
-            }
+        // Check for valid placement (not out of bounds and not overlapping other ships)
+        if (!currentPlayer.getGameBoard().canPlaceShip(col, row, size, isHorizontal)) {
+            throw new IllegalArgumentException("Platzierung ungültig.");
         }
 
         // Place the ship using the appropriate factory
-        switch (shipType) {
-            case "Schlachtschiff":
-                currentPlayer.getGameBoard().placeShip(col, row, schlachtschiffFactory.createShip(), isHorizontal);
-                break;
-            case "Kreuzer":
-                currentPlayer.getGameBoard().placeShip(col, row, kreuzerFactory.createShip(), isHorizontal);
-                break;
-            case "Zerstörer":
-                currentPlayer.getGameBoard().placeShip(col, row, zerstörerFactory.createShip(), isHorizontal);
-                break;
-            case "U-Boot":
-                currentPlayer.getGameBoard().placeShip(col, row, u_BootFactory.createShip(), isHorizontal);
-                break;
-        }
+        currentPlayer.getGameBoard().placeShip(col, row, ShipRegistry.createShip(shipType), isHorizontal);
 
         // Update the GUI to show the placed ship
         for (int i = 0; i < size; i++) {
             int r = isHorizontal ? row : row + i;
             int c = isHorizontal ? col + i : col;
-            gridCells[r][c].setBackground(Color.GRAY);
+            board.addFlags(c, r, BoardCanvas.SHIP);
         }
 
         // Update the ship count for the current player
-        currentPlayerShipCounts.put(shipType, currentPlayerShipCounts.getOrDefault(shipType, 0) + 1);
+        placedShipCounts[shipType]++;
+        placedShips++;
 
         // Check if all ships have been placed
-        if (getPlacedShipsCount() >= TOTAL_SHIPS) {
+        if (getPlacedShipsCount() >= rules.getTotalShips()) {
             if (currentPlayer == player1) {
                 // Switch to Player 2's turn
                 showConfirmationDialog("Spieler 1 hat alle Schiffe platziert. Jetzt ist Spieler 2 drann.");
@@ -141,8 +108,7 @@ public class ShipPlacementManager {
      * @return The IShip at the given location, or null if no ship is present.
      */
     public IShip getShipAt(int row, int col) {
-        Map<Point, IShip> ships = currentPlayer.getGameBoard().getShipLocations();
-        return ships.get(new Point(col, row));
+        return currentPlayer.getGameBoard().shipAt(col, row);
     }
 
     /**
@@ -151,30 +117,22 @@ public class ShipPlacementManager {
      * @param row       The row coordinate of the ship's starting point.
      * @param col       The column coordinate of the ship's starting point.
      * @param ship      The IShip object to be removed.
-     * @param gridCells The 2D array of JPanels representing the grid cells.
+     * @param board     The component painting the grid of the placement view.
      */
-    public void removeShip(int row, int col, IShip ship, JPanel[][] gridCells) {
+    public void removeShip(int row, int col, IShip ship, BoardCanvas board) {
         if (ship == null) {
             return;
         }
 
         currentPlayer.getGameBoard().removeShip(ship);
 
-        String shipName = ship.getShipName();
-        int currentCount = currentPlayerShipCounts.getOrDefault(shipName, 0);
-        int newCount = currentCount - 1;
-        currentPlayerShipCounts.put(shipName, newCount);
+        placedShipCounts[ShipRegistry.indexOf(ship)]--;
+        placedShips--;
 
         placementView.clearGrid();
 
         // Redraw the remaining ships on the grid
-        Map<Point, IShip> ships = currentPlayer.getGameBoard().getShipLocations();
-        for (Map.Entry<Point, IShip> entry : ships.entrySet()) {
-            Point point = entry.getKey();
-            int r = point.y;
-            int c = point.x;
-            gridCells[r][c].setBackground(Color.GRAY);
-        }
+        currentPlayer.getGameBoard().forEachShipCell((c, r, remaining) -> board.addFlags(c, r, BoardCanvas.SHIP));
     }
 
     /**
@@ -184,10 +142,12 @@ public class ShipPlacementManager {
         placementView.clearGrid();
         if (currentPlayer == player1) {
             currentPlayer = player2;
-            currentPlayerShipCounts.clear();
+            Arrays.fill(placedShipCounts, 0);
+            placedShips = 0;
         } else {
             currentPlayer = player1;
-            currentPlayerShipCounts.clear();
+            Arrays.fill(placedShipCounts, 0);
+            placedShips = 0;
         }
         placementView.updateLabels();
     }
@@ -210,78 +170,74 @@ public class ShipPlacementManager {
     }
 
     /**
-     * Checks if a cell at the given coordinates is adjacent to any ship on the
-     * current player's board.
+     * Checks if the current player can place another ship of the given type,
+     * based on the ship placement limits.
+     * 
+     * @param shipType The index of the ship type in the {@link ShipRegistry}.
+     * @return True if the player can place the ship, false if the limit has been
+     *         reached.
+     */
+    public boolean canPlaceShip(int shipType) {
+        return placedShipCounts[shipType] < shipLimits[shipType];
+    }
+
+    /**
+     * Returns how many ships of the given type each player places.
      * 
-     * @param row The row coordinate.
-     * @param col The column coordinate.
-     * @return True if the cell is adjacent to a ship, false otherwise.
+     * @param shipType The index of the ship type in the {@link ShipRegistry}.
+     * @return The limit of the ship type.
      */
-    private boolean isAdjacentToShip(int row, int col) {
-        Map<Point, IShip> ships = currentPlayer.getGameBoard().getShipLocations();
-        return isAdjacent(row, col, ships);
+    public int getShipLimit(int shipType) {
+        return shipLimits[shipType];
     }
 
     /**
-     * Checks if a cell at the given coordinates is adjacent to any ship in the
-     * provided map.
+     * Returns the number of ships a complete fleet consists of.
      * 
-     * @param row   The row coordinate.
-     * @param col   The column coordinate.
-     * @param ships The map of ship locations.
-     * @return True if the cell is adjacent to a ship, false otherwise.
+     * @return The total number of ships to place.
      */
-    private boolean isAdjacent(int row, int col, Map<Point, IShip> ships) {
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                // Skip the cell itself
-                if (i == 0 && j == 0) {
-                    continue;
-                }
-                int r = row + i;
-                int c = col + j;
-                // Check bounds and if a ship exists at the adjacent cell
-                if (r >= 0 && r < 10 && c >= 0 && c < 10 && ships.containsKey(new Point(c, r))) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    public int getTotalShips() {
+        return rules.getTotalShips();
     }
 
     /**
-     * Checks if the current player can place another ship of the given type,
-     * based on the ship placement limits.
+     * Describes the fleet to place in words, e.g. "ein Schlachtschiff, zwei
+     * Kreuzer, drei Zerstörer und vier U-Boote". Ship types without ships in the
+     * fleet are left out.
      * 
-     * @param shipType The type of ship to check (e.g., "Schlachtschiff").
-     * @return True if the player can place the ship, false if the limit has been
-     *         reached.
+     * @return The number of ships of every type.
      */
-    public boolean canPlaceShip(String shipType) {
-        int currentCount = currentPlayerShipCounts.getOrDefault(shipType, 0);
-        int maxCount = shipLimits.get(shipType);
-        return currentCount < maxCount;
+    public String getFleetDescription() {
+        String[] counts = { "kein", "ein", "zwei", "drei", "vier", "fünf", "sechs", "sieben", "acht", "neun",
+                "zehn", "elf", "zwölf" };
+        StringBuilder description = new StringBuilder();
+        int listed = 0;
+        int types = 0;
+        for (int limit : shipLimits) {
+            types += limit > 0 ? 1 : 0;
+        }
+        for (int type = 0; type < ShipRegistry.TYPE_COUNT; type++) {
+            int limit = shipLimits[type];
+            if (limit == 0) {
+                continue;
+            }
+            ShipType shipType = ShipRegistry.getType(type);
+            description.append(listed == 0 ? "" : listed == types - 1 ? " und " : ", ")
+                    .append(limit < counts.length ? counts[limit] : String.valueOf(limit))
+                    .append(' ').append(limit == 1 ? shipType.getName() : shipType.getPluralName());
+            listed++;
+        }
+        return description.toString();
     }
 
     /**
      * Returns the size (length) of the ship with the given type.
      * 
-     * @param shipType The type of ship (e.g., "Kreuzer").
-     * @return The size of the ship, or 0 if the ship type is invalid.
+     * @param shipType The index of the ship type in the {@link ShipRegistry}.
+     * @return The size of the ship.
      */
-    public int getShipSize(String shipType) {
-        switch (shipType) {
-            case "Schlachtschiff":
-                return schlachtschiffFactory.getShipSize();
-            case "Kreuzer":
-                return kreuzerFactory.getShipSize();
-            case "Zerstörer":
-                return zerstörerFactory.getShipSize();
-            case "U-Boot":
-                return u_BootFactory.getShipSize();
-            default:
-                return 0;
-        }
+    public int getShipSize(int shipType) {
+        return ShipRegistry.getSize(shipType);
     }
 
     /**
@@ -290,11 +246,7 @@ public class ShipPlacementManager {
      * @return The total ship count.
      */
     public int getPlacedShipsCount() {
-        int totalCount = 0;
-        for (int count : currentPlayerShipCounts.values()) {
-            totalCount += count;
-        }
-        return totalCount;
+        return placedShips;
     }
 
     /**
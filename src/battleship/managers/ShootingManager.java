@@ -6,9 +6,17 @@ import battleship.factorys.ships.IShip;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import java.awt.Point;
 
+import battleship.engine.Fleet;
+import battleship.engine.GameEngine;
+import battleship.engine.GameSnapshot;
+import battleship.engine.GameState;
+import battleship.engine.ShotResult;
+import battleship.engine.journal.ShotJournal;
+
 import battleship.factorys.gameboard.IGameBoard;
 import battleship.factorys.hits.*;
 
@@ -17,6 +25,8 @@ import battleship.factorys.hits.*;
  *        Manages the shooting phase in a Battleship game between two players.
  *        Handles player turns, shot validation, hit/miss registration, and game
  *        over detection.
+ *        The rules are evaluated by a {@link GameEngine}, this class mirrors
+ *        its results onto the boards of the players.
  */
 public class ShootingManager {
 
@@ -28,20 +38,40 @@ public class ShootingManager {
     public IGameBoard currentGameBoard;
     public IGameBoard currentTargetBoard;
     public IGameBoard currentOpponentBoard;
+    private final GameEngine engine;
+    private final RandomGenerator random; /**< Draws the starting player */
+    private ShotJournal shotJournal; /**< Receives every resolved shot, null if none */
+    private long gameId; /**< The id of this game in the shot journal */
 
     private List<ShootingManagerObserver> observers = new ArrayList<>();
 
     /**
      * Constructor for ShootingManager.
+     * The starting player is drawn from an unseeded generator.
      * 
      * @param player1 The first player.
      * @param player2 The second player.
      */
     public ShootingManager(IPlayer player1, IPlayer player2) {
+        this(player1, player2, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for ShootingManager.
+     * 
+     * @param player1 The first player.
+     * @param player2 The second player.
+     * @param random  The random generator of this game, used only on the
+     *                calling thread; the same seed draws the same starting
+     *                player.
+     */
+    public ShootingManager(IPlayer player1, IPlayer player2, RandomGenerator random) {
+        this.random = random;
         this.player1 = player1;
         this.player2 = player2;
         this.currentPlayer = player1; // Player 1 starts by default
         this.hitFactory = new ShipHitFactory();
+        this.engine = EngineBridge.createEngine(player1, player2);
 
         initialShootingBoard();
     }
@@ -73,17 +103,26 @@ public class ShootingManager {
         }
     }
 
+    /**
+     * Notifies all observers of a resolved shot.
+     * 
+     * @param shooter The player who fired the shot.
+     * @param x       The column coordinate of the shot.
+     * @param y       The row coordinate of the shot.
+     * @param result  The result of the shot.
+     */
+    private void notifyShotFired(IPlayer shooter, int x, int y, ShotResult result) {
+        for (ShootingManagerObserver observer : observers) {
+            observer.onShotFired(shooter, x, y, result);
+        }
+    }
+
     /**
      * Randomly selects a player to start the game.
      */
     public void selectRandomPlayer() {
-        if (Math.random() < 0.5) {
-            this.currentPlayer = player1;
-            this.opponentPlayer = player2;
-        } else {
-            this.currentPlayer = player2;
-            this.opponentPlayer = player1;
-        }
+        engine.startRandom(random);
+        updatePlayers();
         notifyObservers();
     }
 
@@ -97,10 +136,21 @@ public class ShootingManager {
      *         false if it was a miss.
      */
     public boolean addHitToTargetBoard(int x, int y) {
-        boolean isHit = isHitHittingShip(x, y);
-        IHits hit = hitFactory.createHit(isHit);
+        int shooter = indexOf(currentPlayer);
+        if (engine.isGameOver() || engine.isShot(shooter, x, y)) {
+            boolean isHit = isHitHittingShip(x, y);
+            currentTargetBoard.placeHit(x, y, hitFactory.createHit(isHit));
+            return isHit;
+        }
+        ShotResult result = engine.fire(shooter, x, y);
+        EngineBridge.damageShip(opponentPlayer.getGameBoard(), x, y, result);
+        if (shotJournal != null) {
+            shotJournal.append(gameId, shooter, x, y, result);
+        }
+        IHits hit = hitFactory.createHit(result.isHit());
         currentTargetBoard.placeHit(x, y, hit);
-        return isHit;
+        notifyShotFired(currentPlayer, x, y, result);
+        return result.isHit();
     }
 
     /**
@@ -112,20 +162,15 @@ public class ShootingManager {
      * @return True if the shot would hit a ship, false otherwise.
      */
     public boolean isHitHittingShip(int x, int y) {
-        return currentOpponentBoard.isShipHit(x, y);
+        return engine.getState().getFleet(indexOf(opponentPlayer)).isOccupied(x, y);
     }
 
     /**
      * Switches the turn to the next player and updates the relevant game boards.
      */
     public void switchPlayers() {
-        if (currentPlayer == player1) {
-            currentPlayer = player2;
-            opponentPlayer = player1;
-        } else {
-            currentPlayer = player1;
-            opponentPlayer = player2;
-        }
+        engine.endTurn();
+        updatePlayers();
         getCurrentPlayerBoards();
         notifyObservers();
     }
@@ -147,17 +192,7 @@ public class ShootingManager {
      * @return True if the game is over, false otherwise.
      */
     public boolean isGameOver() {
-        // Check every ship location on the opponent's board
-        for (Map.Entry<Point, IShip> entry : currentOpponentBoard.getShipLocations().entrySet()) {
-            Point shipLocation = entry.getKey();
-            IHits hit = currentTargetBoard.getHits().get(shipLocation);
-
-            if (hit == null || !hit.isHit()) {
-                return false; // At least one ship cell is not hit
-            }
-        }
-        // All ship cells have been hit, the game is over
-        return true;
+        return engine.isDefeated(indexOf(opponentPlayer));
     }
 
     /**
@@ -170,33 +205,12 @@ public class ShootingManager {
      *         or an empty list if no ship was sunk at that location.
      */
     public List<Point> isShipSunk(int x, int y) {
-        IShip ship = getShipAt(x, y);
-        if (ship == null) {
-            return Collections.emptyList(); // No ship at these coordinates
-        }
-
-        int shipLength = ship.getShipSize();
-        int hits = 0;
-        List<Point> shipCoordinates = new ArrayList<>();
-
-        // Get all coordinates occupied by the ship on the opponent's board
-        for (Map.Entry<Point, IShip> entry : currentOpponentBoard.getShipLocations().entrySet()) {
-            if (entry.getValue().equals(ship)) {
-                shipCoordinates.add(entry.getKey());
-            }
-        }
-
-        // Check if each ship coordinate has been hit on the current player's targeting
-        // board
-        for (Point location : shipCoordinates) {
-            if (currentTargetBoard.getHits().containsKey(location)) {
-                hits++;
-            }
+        Fleet opponentFleet = engine.getState().getFleet(indexOf(opponentPlayer));
+        int id = opponentFleet.shipAt(x, y);
+        if (!opponentFleet.isSunk(id)) {
+            return Collections.emptyList(); // No sunk ship at these coordinates
         }
-
-        // If all parts of the ship have been hit, return the ship coordinates,
-        // otherwise an empty list
-        return hits == shipLength ? shipCoordinates : Collections.emptyList();
+        return EngineBridge.shipCells(opponentFleet, id);
     }
 
     /**
@@ -209,8 +223,7 @@ public class ShootingManager {
      *         present.
      */
     public IShip getShipAt(int x, int y) {
-        Map<Point, IShip> ships = opponentPlayer.getGameBoard().getShipLocations();
-        return ships.get(new Point(x, y));
+        return currentOpponentBoard.shipAt(x, y);
     }
 
     /**
@@ -223,7 +236,61 @@ public class ShootingManager {
      *         otherwise.
      */
     public boolean isAlreadyHit(int x, int y) {
-        return currentTargetBoard.getHits().containsKey(new Point(x, y));
+        return engine.isShot(indexOf(currentPlayer), x, y);
+    }
+
+    /**
+     * Gets the engine evaluating the shooting phase.
+     * 
+     * @return The game engine.
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Records every shot resolved from now on in a journal, from which the
+     * game can be replayed or recovered together with a snapshot of its start.
+     * 
+     * @param journal The journal, or null to stop recording.
+     * @param gameId  The id of this game in the journal, see
+     *                {@link ShotJournal#nextGameId()}.
+     */
+    public void setShotJournal(ShotJournal journal, long gameId) {
+        this.shotJournal = journal;
+        this.gameId = gameId;
+    }
+
+    /**
+     * Captures the game for saving: both fleets, all shots and whose turn it is.
+     * 
+     * @return The snapshot of the game.
+     */
+    public GameSnapshot createSnapshot() {
+        return new GameSnapshot(engine.getState());
+    }
+
+    /**
+     * Sets the current and the opposing player from the engine's turn.
+     */
+    private void updatePlayers() {
+        if (engine.getCurrentPlayer() == GameState.PLAYER_ONE) {
+            this.currentPlayer = player1;
+            this.opponentPlayer = player2;
+        } else {
+            this.currentPlayer = player2;
+            this.opponentPlayer = player1;
+        }
+    }
+
+    /**
+     * Gets the engine index of a player.
+     * 
+     * @param player The player.
+     * @return The index of the player in the engine.
+     */
+    private int indexOf(IPlayer player) {
+        return player == player1 ? GameState.PLAYER_ONE : GameState.PLAYER_TWO;
     }
 
 }
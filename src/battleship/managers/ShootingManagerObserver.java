@@ -1,5 +1,6 @@
 package battleship.managers;
 
+import battleship.engine.ShotResult;
 import battleship.factorys.player.IPlayer;
 
 /**
@@ -7,6 +8,8 @@ import battleship.factorys.player.IPlayer;
  *            An interface for observing changes in player turns during the
  *            shooting phase
  *            managed by the ShootingManager.
+ *            Observers are also told about every shot, so they can update
+ *            their display cell by cell instead of redrawing whole boards.
  */
 public interface ShootingManagerObserver {
     /**
@@ -15,5 +18,17 @@ public interface ShootingManagerObserver {
      * @param newPlayer      The new IPlayer whose turn it is now.
      * @param opponentPlayer The IPlayer who is now the opponent.
      */
-    void onPlayerSwitched(IPlayer newPlayer, IPlayer opponentPlayer);
+    default void onPlayerSwitched(IPlayer newPlayer, IPlayer opponentPlayer) {
+    }
+
+    /**
+     * Called after a shot has been resolved by the game engine.
+     * 
+     * @param shooter The IPlayer who fired the shot.
+     * @param x       The column coordinate of the shot.
+     * @param y       The row coordinate of the shot.
+     * @param result  The result of the shot.
+     */
+    default void onShotFired(IPlayer shooter, int x, int y, ShotResult result) {
+    }
 }
@@ -1,14 +1,13 @@
 package battleship.managers;
 
 import battleship.BattleshipGUI;
+import battleship.engine.FleetRules;
 import battleship.factorys.player.IPlayer;
 import battleship.factorys.ships.*;
+import battleship.views.BoardCanvas;
 import battleship.views.SinglePlacementView;
 
 import javax.swing.*;
-import java.awt.*;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * @class SinglePlacementManager
@@ -19,19 +18,16 @@ import java.util.Map;
  */
 public class SinglePlacementManager {
     private IPlayer currentPlayer;
-    private Map<String, Integer> currentPlayerShipCounts;
-    private final Map<String, Integer> shipLimits;
-    private final ZerstörerFactory zerstörerFactory;
-    private final SchlachtschiffFactory schlachtschiffFactory;
-    private final KreuzerFactory kreuzerFactory;
-    private final U_BootFactory u_BootFactory;
+    private final int[] placedShipCounts; /**< Ships placed by the human player, by ship type index */
+    private int placedShips; /**< Ships placed by the human player in total */
+    private final int[] shipLimits; /**< Ships to place, by ship type index */
     private final SinglePlacementView placementView;
     private final BattleshipGUI battleshipGUI;
 
     /**
-     * Total number of ships to be placed by the human player.
+     * The fleet the human player has to place.
      */
-    private static final int TOTAL_SHIPS = 10;
+    private final FleetRules rules;
 
     /**
      * Constructor for SinglePlacementManager.
@@ -43,29 +39,11 @@ public class SinglePlacementManager {
     public SinglePlacementManager(IPlayer player1, SinglePlacementView placementView,
             BattleshipGUI battleshipGUI) {
         this.currentPlayer = player1;
-        this.currentPlayerShipCounts = new HashMap<>();
-        this.shipLimits = new HashMap<>();
+        this.rules = battleshipGUI.getFleetRules();
+        this.placedShipCounts = new int[ShipRegistry.TYPE_COUNT];
+        this.shipLimits = ShipRegistry.limitsFor(rules);
         this.placementView = placementView;
         this.battleshipGUI = battleshipGUI;
-
-        // Initialize factory objects
-        this.zerstörerFactory = new ZerstörerFactory();
-        this.schlachtschiffFactory = new SchlachtschiffFactory();
-        this.kreuzerFactory = new KreuzerFactory();
-        this.u_BootFactory = new U_BootFactory();
-
-        initializeShipLimits();
-    }
-
-    /**
-     * Initializes the ship limits map, specifying how many of each ship type can be
-     * placed.
-     */
-    private void initializeShipLimits() {
-        shipLimits.put("Schlachtschiff", schlachtschiffFactory.getShipLimit());
-        shipLimits.put("Kreuzer", kreuzerFactory.getShipLimit());
-        shipLimits.put("Zerstörer", zerstörerFactory.getShipLimit());
-        shipLimits.put("U-Boot", u_BootFactory.getShipLimit());
     }
 
     /**
@@ -73,55 +51,38 @@ public class SinglePlacementManager {
      * 
      * @param row          The row coordinate where the ship starts.
      * @param col          The column coordinate where the ship starts.
-     * @param size         The size (length) of the ship.
      * @param isHorizontal True for horizontal placement, false for vertical
      *                     placement.
-     * @param shipType     The type of ship (e.g., "Schlachtschiff", "Kreuzer",
-     *                     etc.).
-     * @param gridCells    The 2D array of JPanels representing the grid cells in
-     *                     the SinglePlacementView.
+     * @param shipType     The index of the ship type in the {@link ShipRegistry}.
+     * @param board        The component painting the grid of the placement
+     *                     view.
      * @throws IllegalArgumentException If the attempted placement is invalid (out
      *                                  of bounds or overlapping).
      */
-    public void placeShip(int row, int col, int size, boolean isHorizontal, String shipType, JPanel[][] gridCells) {
-        // Validate ship placement: check boundaries and overlap
-        for (int i = 0; i < size; i++) {
-            int r = isHorizontal ? row : row + i;
-            int c = isHorizontal ? col + i : col;
+    public void placeShip(int row, int col, boolean isHorizontal, int shipType, BoardCanvas board) {
+        int size = ShipRegistry.getSize(shipType);
 
-            if (r >= 10 || c >= 10 || isAdjacentToShip(r, c)) {
-                throw new IllegalArgumentException("Platzierung ungültig.");
-            }
+        // Validate ship placement: check boundaries and overlap
+        if (!currentPlayer.getGameBoard().canPlaceShip(col, row, size, isHorizontal)) {
+            throw new IllegalArgumentException("Platzierung ungültig.");
         }
 
         // Place the ship on the player's game board
-        switch (shipType) {
-            case "Schlachtschiff":
-                currentPlayer.getGameBoard().placeShip(col, row, schlachtschiffFactory.createShip(), isHorizontal);
-                break;
-            case "Kreuzer":
-                currentPlayer.getGameBoard().placeShip(col, row, kreuzerFactory.createShip(), isHorizontal);
-                break;
-            case "Zerstörer":
-                currentPlayer.getGameBoard().placeShip(col, row, zerstörerFactory.createShip(), isHorizontal);
-                break;
-            case "U-Boot":
-                currentPlayer.getGameBoard().placeShip(col, row, u_BootFactory.createShip(), isHorizontal);
-                break;
-        }
+        currentPlayer.getGameBoard().placeShip(col, row, ShipRegistry.createShip(shipType), isHorizontal);
 
         // Update the GUI to display the placed ship
         for (int i = 0; i < size; i++) {
             int r = isHorizontal ? row : row + i;
             int c = isHorizontal ? col + i : col;
-            gridCells[r][c].setBackground(Color.GRAY);
+            board.addFlags(c, r, BoardCanvas.SHIP);
         }
 
         // Increment the count of placed ships for the current player
-        currentPlayerShipCounts.put(shipType, currentPlayerShipCounts.getOrDefault(shipType, 0) + 1);
+        placedShipCounts[shipType]++;
+        placedShips++;
 
         // Check if all ships have been placed
-        if (getPlacedShipsCount() >= TOTAL_SHIPS) {
+        if (getPlacedShipsCount() >= rules.getTotalShips()) {
             switchToShootingView();
         }
     }
@@ -136,8 +97,7 @@ public class SinglePlacementManager {
      *         present.
      */
     public IShip getShipAt(int row, int col) {
-        Map<Point, IShip> ships = currentPlayer.getGameBoard().getShipLocations();
-        return ships.get(new Point(col, row));
+        return currentPlayer.getGameBoard().shipAt(col, row);
     }
 
     /**
@@ -146,9 +106,9 @@ public class SinglePlacementManager {
      * @param row       The row coordinate of the ship's starting point.
      * @param col       The column coordinate of the ship's starting point.
      * @param ship      The IShip object to be removed.
-     * @param gridCells The 2D array of JPanels representing the grid cells.
+     * @param board     The component painting the grid of the placement view.
      */
-    public void removeShip(int row, int col, IShip ship, JPanel[][] gridCells) {
+    public void removeShip(int row, int col, IShip ship, BoardCanvas board) {
         if (ship == null) {
             return; // Nothing to remove
         }
@@ -157,20 +117,14 @@ public class SinglePlacementManager {
         currentPlayer.getGameBoard().removeShip(ship);
 
         // Decrement the ship count
-        int newCount = currentPlayerShipCounts.get(ship.getShipName()) - 1;
-        currentPlayerShipCounts.put(ship.getShipName(), newCount);
+        placedShipCounts[ShipRegistry.indexOf(ship)]--;
+        placedShips--;
 
         // Clear the grid in the GUI
         placementView.clearGrid();
 
         // Redraw any remaining ships on the grid
-        Map<Point, IShip> ships = currentPlayer.getGameBoard().getShipLocations();
-        for (Map.Entry<Point, IShip> entry : ships.entrySet()) {
-            Point point = entry.getKey();
-            int r = point.y;
-            int c = point.x;
-            gridCells[r][c].setBackground(Color.GRAY);
-        }
+        currentPlayer.getGameBoard().forEachShipCell((c, r, remaining) -> board.addFlags(c, r, BoardCanvas.SHIP));
     }
 
     /**
@@ -183,79 +137,74 @@ public class SinglePlacementManager {
     }
 
     /**
-     * Checks if a cell at the given coordinates is adjacent to any ship on the
-     * current player's board.
+     * Checks if the human player can place another ship of the given type, based on
+     * placement limits.
      * 
-     * @param row The row coordinate.
-     * @param col The column coordinate.
-     * @return True if the cell is adjacent to a ship, false otherwise.
+     * @param shipType The index of the ship type in the {@link ShipRegistry}.
+     * @return True if the player can place the ship, false if the limit for that
+     *         ship type has been reached.
      */
-    private boolean isAdjacentToShip(int row, int col) {
-        Map<Point, IShip> ships = currentPlayer.getGameBoard().getShipLocations();
-        return isAdjacent(row, col, ships);
+    public boolean canPlaceShip(int shipType) {
+        return placedShipCounts[shipType] < shipLimits[shipType];
     }
 
     /**
-     * Helper function to check if a cell is adjacent to any ship in the provided
-     * map of ship locations.
+     * Returns how many ships of the given type the human player places.
      * 
-     * @param row   The row coordinate.
-     * @param col   The column coordinate.
-     * @param ships The map of ship locations.
-     * @return True if the cell is adjacent to a ship, false otherwise.
+     * @param shipType The index of the ship type in the {@link ShipRegistry}.
+     * @return The limit of the ship type.
      */
-    private boolean isAdjacent(int row, int col, Map<Point, IShip> ships) {
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                // Skip the cell itself
-                if (i == 0 && j == 0) {
-                    continue;
-                }
-                int r = row + i;
-                int c = col + j;
-                // Check if the adjacent cell is within bounds and contains a ship
-                if (r >= 0 && r < 10 && c >= 0 && c < 10 && ships.containsKey(new Point(c, r))) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    public int getShipLimit(int shipType) {
+        return shipLimits[shipType];
     }
 
     /**
-     * Checks if the human player can place another ship of the given type, based on
-     * placement limits.
+     * Returns the number of ships a complete fleet consists of.
      * 
-     * @param shipType The type of ship to check (e.g., "Schlachtschiff",
-     *                 "Kreuzer").
-     * @return True if the player can place the ship, false if the limit for that
-     *         ship type has been reached.
+     * @return The total number of ships to place.
      */
-    public boolean canPlaceShip(String shipType) {
-        int currentCount = currentPlayerShipCounts.getOrDefault(shipType, 0);
-        int maxCount = shipLimits.get(shipType);
-        return currentCount < maxCount;
+    public int getTotalShips() {
+        return rules.getTotalShips();
     }
 
     /**
-     * Returns the size (length) of the ship with the given type name.
+     * Describes the fleet to place in words, e.g. "ein Schlachtschiff, zwei
+     * Kreuzer, drei Zerstörer und vier U-Boote". Ship types without ships in the
+     * fleet are left out.
      * 
-     * @param shipType The name of the ship type (e.g., "Zerstörer").
-     * @return The size (length) of the ship, or 0 if the ship type is invalid.
+     * @return The number of ships of every type.
      */
-    public int getShipSize(String shipType) {
-        switch (shipType) {
-            case "Schlachtschiff":
-                return schlachtschiffFactory.getShipSize();
-            case "Kreuzer":
-                return kreuzerFactory.getShipSize();
-            case "Zerstörer":
-                return zerstörerFactory.getShipSize();
-            case "U-Boot":
-                return u_BootFactory.getShipSize();
-            default:
-                return 0;
+    public String getFleetDescription() {
+        String[] counts = { "kein", "ein", "zwei", "drei", "vier", "fünf", "sechs", "sieben", "acht", "neun",
+                "zehn", "elf", "zwölf" };
+        StringBuilder description = new StringBuilder();
+        int listed = 0;
+        int types = 0;
+        for (int limit : shipLimits) {
+            types += limit > 0 ? 1 : 0;
         }
+        for (int type = 0; type < ShipRegistry.TYPE_COUNT; type++) {
+            int limit = shipLimits[type];
+            if (limit == 0) {
+                continue;
+            }
+            ShipType shipType = ShipRegistry.getType(type);
+            description.append(listed == 0 ? "" : listed == types - 1 ? " und " : ", ")
+                    .append(limit < counts.length ? counts[limit] : String.valueOf(limit))
+                    .append(' ').append(limit == 1 ? shipType.getName() : shipType.getPluralName());
+            listed++;
+        }
+        return description.toString();
+    }
+
+    /**
+     * Returns the size (length) of the ship with the given type.
+     * 
+     * @param shipType The index of the ship type in the {@link ShipRegistry}.
+     * @return The size of the ship.
+     */
+    public int getShipSize(int shipType) {
+        return ShipRegistry.getSize(shipType);
     }
 
     /**
@@ -265,10 +214,6 @@ public class SinglePlacementManager {
      * @return The total number of placed ships.
      */
     public int getPlacedShipsCount() {
-        int totalCount = 0;
-        for (int count : currentPlayerShipCounts.values()) {
-            totalCount += count;
-        }
-        return totalCount;
+        return placedShips;
     }
 }
\ No newline at end of file
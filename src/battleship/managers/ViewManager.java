@@ -0,0 +1,175 @@
+package battleship.managers;
+
+import java.awt.CardLayout;
+import java.awt.Component;
+import java.awt.Container;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.swing.JPanel;
+
+import battleship.views.DisposableView;
+
+/**
+ * @class ViewManager
+ *        Owns the views of a {@link CardLayout} container and their lifecycle.
+ *        Every card name holds at most one view: showing a new view under a
+ *        name removes and disposes the view shown under that name before.
+ *        Permanent views such as the main menu survive
+ *        {@link #closeViews()}, which releases every view of the game that
+ *        was left. The number of live views and components is exposed, so a
+ *        long session can be checked for views that are never released.
+ *        Must only be used on the Event Dispatch Thread.
+ */
+public class ViewManager {
+
+    private final JPanel container; /**< The panel holding the cards */
+    private final CardLayout cardLayout; /**< The layout of the container */
+    private final Map<String, Component> views = new LinkedHashMap<>(); /**< The view per card name */
+    private final Set<String> permanentViews = new HashSet<>(); /**< Card names kept by closeViews */
+    private long disposedViews; /**< Number of views released so far */
+
+    /**
+     * Constructor for ViewManager.
+     *
+     * @param container  The panel holding the cards.
+     * @param cardLayout The layout of the container.
+     */
+    public ViewManager(JPanel container, CardLayout cardLayout) {
+        this.container = container;
+        this.cardLayout = cardLayout;
+    }
+
+    /**
+     * Adds a view that is kept for the whole session.
+     *
+     * @param name The card name of the view.
+     * @param view The view.
+     */
+    public void addPermanentView(String name, Component view) {
+        replace(name, view);
+        permanentViews.add(name);
+    }
+
+    /**
+     * Shows a view under a card name, releasing the view shown under that name
+     * before.
+     *
+     * @param name The card name of the view.
+     * @param view The new view.
+     */
+    public void show(String name, Component view) {
+        replace(name, view);
+        cardLayout.show(container, name);
+    }
+
+    /**
+     * Shows the view already registered under a card name.
+     *
+     * @param name The card name of the view.
+     */
+    public void show(String name) {
+        cardLayout.show(container, name);
+    }
+
+    /**
+     * Releases every view that is not permanent.
+     */
+    public void closeViews() {
+        views.entrySet().removeIf(entry -> {
+            if (permanentViews.contains(entry.getKey())) {
+                return false;
+            }
+            release(entry.getValue());
+            return true;
+        });
+    }
+
+    /**
+     * Gets the number of views currently held.
+     *
+     * @return The number of live views, permanent ones included.
+     */
+    public int getViewCount() {
+        return views.size();
+    }
+
+    /**
+     * Gets the number of components in the container, counted recursively.
+     * Stays constant over any number of games if views are released
+     * correctly.
+     *
+     * @return The number of live components below the container.
+     */
+    public int getComponentCount() {
+        return countComponents(container);
+    }
+
+    /**
+     * Gets the number of views released since the start of the session.
+     *
+     * @return The number of disposed views.
+     */
+    public long getDisposedViewCount() {
+        return disposedViews;
+    }
+
+    /**
+     * Gets the heap the JVM currently uses. Only comparable between two calls
+     * after a garbage collection.
+     *
+     * @return The used heap in bytes.
+     */
+    public long getUsedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Puts a view under a card name, releasing the previous one.
+     *
+     * @param name The card name.
+     * @param view The new view.
+     */
+    private void replace(String name, Component view) {
+        Component previous = views.put(name, view);
+        if (previous != null && previous != view) {
+            release(previous);
+        }
+        if (previous != view) {
+            container.add(view, name);
+        }
+    }
+
+    /**
+     * Removes a view from the container and disposes it.
+     *
+     * @param view The view to release.
+     */
+    private void release(Component view) {
+        container.remove(view);
+        if (view instanceof DisposableView) {
+            ((DisposableView) view).dispose();
+        }
+        disposedViews++;
+    }
+
+    /**
+     * Counts the components below a container.
+     *
+     * @param parent The container.
+     * @return The number of descendants of the container.
+     */
+    private static int countComponents(Container parent) {
+        int count = 0;
+        for (Component child : parent.getComponents()) {
+            count++;
+            if (child instanceof Container) {
+                count += countComponents((Container) child);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,71 @@
+package battleship.network;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+
+import battleship.factorys.player.NetworkPlayer;
+
+/**
+ * @class BlockingSession
+ *        A session running on its own thread with blocking I/O, for
+ *        {@link Transport#BLOCKING}. A malformed message closes the
+ *        connection.
+ */
+final class BlockingSession extends Session implements Runnable {
+
+    private final Connection connection; /**< The connection to the client */
+
+    /**
+     * Constructor for BlockingSession.
+     *
+     * @param server The server the session belongs to.
+     * @param player The player, backed by the accepted channel.
+     * @throws IOException if the channel cannot be configured.
+     */
+    BlockingSession(GameServer server, NetworkPlayer player) throws IOException {
+        super(server, player);
+        this.connection = new Connection(player.getChannel());
+    }
+
+    /**
+     * Reads and handles messages until the connection is closed.
+     */
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                int type = connection.read();
+                handle(type, connection, System.nanoTime());
+            }
+        } catch (EOFException | ClosedChannelException e) {
+            // the client left or the server shuts down
+        } catch (IOException e) {
+            if (!getServer().isClosed()) {
+                System.err.println(getPlayer().getName() + ": " + e.getMessage());
+            }
+        } finally {
+            close();
+            end();
+        }
+    }
+
+    @Override
+    void enqueue(int type, int... payload) throws IOException {
+        connection.queue(type, payload);
+    }
+
+    @Override
+    void flushQueue() throws IOException {
+        connection.flush();
+    }
+
+    @Override
+    void close() {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+}
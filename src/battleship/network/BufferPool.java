@@ -0,0 +1,76 @@
+package battleship.network;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @class BufferPool
+ *        Pool of direct buffers of one size, shared by the reactors of a
+ *        {@link GameServer}.
+ *        Sessions only hold a buffer while bytes are in flight, so the number
+ *        of buffers follows the number of active connections, not of open
+ *        ones. Buffers beyond the retention limit are left to the garbage
+ *        collector.
+ */
+final class BufferPool {
+
+    private final int bufferSize; /**< Capacity of every buffer */
+    private final int maxRetained; /**< Largest number of free buffers kept */
+    private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>(); /**< Buffers ready for reuse */
+    private final AtomicInteger freeCount = new AtomicInteger(); /**< Size of the free queue */
+    private final AtomicInteger allocated = new AtomicInteger(); /**< Buffers allocated so far */
+
+    /**
+     * Constructor for BufferPool.
+     *
+     * @param bufferSize  The capacity of every buffer; at least one message
+     *                    must fit.
+     * @param maxRetained The largest number of free buffers kept.
+     */
+    BufferPool(int bufferSize, int maxRetained) {
+        if (bufferSize <= Protocol.MAX_PAYLOAD) {
+            throw new IllegalArgumentException("Puffer zu klein für eine Nachricht: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * Takes a cleared buffer from the pool, allocating one if none is free.
+     *
+     * @return The buffer, ready to be written into.
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        if (buffer == null) {
+            allocated.incrementAndGet();
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        freeCount.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool.
+     *
+     * @param buffer The buffer, no longer used by its owner.
+     */
+    void release(ByteBuffer buffer) {
+        if (freeCount.incrementAndGet() <= maxRetained) {
+            buffer.clear();
+            free.offer(buffer);
+        } else {
+            freeCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the number of buffers allocated since the pool was created.
+     *
+     * @return The number of allocations.
+     */
+    int getAllocatedCount() {
+        return allocated.get();
+    }
+}
@@ -0,0 +1,174 @@
+package battleship.network;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * @class Connection
+ *        One end of a connection speaking the {@link Protocol}, on top of a
+ *        blocking {@link SocketChannel}.
+ *        Incoming bytes are read in large chunks and split into messages, so
+ *        a burst of small messages costs one system call; the payload is read
+ *        in place from the buffer. Outgoing messages
+ *        can be queued and flushed together for the same reason.
+ *        Reading is meant for a single thread; writing is synchronized, so
+ *        other threads may send at the same time, for example the thread of
+ *        the opponent in a match.
+ */
+public final class Connection implements Closeable, Frame {
+
+    private static final int BUFFER_SIZE = 4096; /**< Size of the read and write buffers */
+
+    private final SocketChannel channel; /**< The underlying channel, in blocking mode */
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE); /**< Bytes read but not consumed yet */
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE); /**< Queued outgoing messages */
+    private int frameStart; /**< Position of the payload of the last message read */
+    private int payloadLength; /**< Length of the payload of the last message read */
+
+    /**
+     * Constructor for Connection.
+     *
+     * @param channel The connected channel; it is switched to blocking mode.
+     * @throws IOException if the channel cannot be configured.
+     */
+    public Connection(SocketChannel channel) throws IOException {
+        this.channel = channel;
+        channel.configureBlocking(true);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        readBuffer.flip();
+    }
+
+    /**
+     * Gets the underlying channel.
+     *
+     * @return The socket channel.
+     */
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Reads the next message, blocking until it has arrived completely.
+     *
+     * @return The message type; the payload is available through
+     *         {@link #payload(int)} until the next call.
+     * @throws EOFException if the other side closed the connection.
+     * @throws IOException  if the channel fails or the message is malformed.
+     */
+    public int read() throws IOException {
+        int length;
+        try {
+            while ((length = Protocol.frameLength(readBuffer, readBuffer.position(), readBuffer.remaining())) < 0) {
+                fill();
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        int start = readBuffer.position();
+        frameStart = start + 1;
+        payloadLength = length - 1;
+        readBuffer.position(start + length);
+        return readBuffer.get(start) & 0xFF;
+    }
+
+    /**
+     * Gets a byte of the payload of the last message read.
+     *
+     * @param index The index in the payload.
+     * @return The unsigned value of the byte.
+     */
+    @Override
+    public int payload(int index) {
+        if (index >= payloadLength) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return readBuffer.get(frameStart + index) & 0xFF;
+    }
+
+    /**
+     * Gets the payload length of the last message read.
+     *
+     * @return The length in bytes.
+     */
+    public int payloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * Queues a message without sending it, see {@link #flush()}.
+     * A caller queueing several messages should hold the lock of this
+     * connection, so no other thread flushes in between.
+     *
+     * @param type    The message type.
+     * @param payload The payload bytes, each between 0 and 255.
+     * @throws IOException if the queue is full and cannot be flushed.
+     */
+    public synchronized void queue(int type, int... payload) throws IOException {
+        if (writeBuffer.remaining() < 1 + payload.length) {
+            flush();
+        }
+        writeBuffer.put((byte) type);
+        for (int value : payload) {
+            writeBuffer.put((byte) value);
+        }
+    }
+
+    /**
+     * Sends all queued messages.
+     *
+     * @throws IOException if the channel fails.
+     */
+    public synchronized void flush() throws IOException {
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    /**
+     * Sends a single message, together with any queued ones.
+     *
+     * @param type    The message type.
+     * @param payload The payload bytes, each between 0 and 255.
+     * @throws IOException if the channel fails.
+     */
+    public synchronized void send(int type, int... payload) throws IOException {
+        queue(type, payload);
+        flush();
+    }
+
+    /**
+     * Closes the channel.
+     *
+     * @throws IOException if closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads at least one more byte from the channel, keeping the bytes not
+     * consumed yet.
+     *
+     * @throws IOException if the channel fails or reaches its end.
+     */
+    private void fill() throws IOException {
+        readBuffer.compact();
+        try {
+            if (channel.read(readBuffer) < 0) {
+                throw new EOFException("Verbindung geschlossen.");
+            }
+        } finally {
+            readBuffer.flip();
+        }
+    }
+}
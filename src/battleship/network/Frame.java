@@ -0,0 +1,18 @@
+package battleship.network;
+
+/**
+ * @interface Frame
+ *            The payload of the message being handled, read in place from
+ *            the buffer it arrived in. Only valid until the next message is
+ *            read from the same connection.
+ */
+interface Frame {
+
+    /**
+     * Gets a byte of the payload.
+     *
+     * @param index The index in the payload.
+     * @return The unsigned value of the byte.
+     */
+    int payload(int index);
+}
@@ -0,0 +1,218 @@
+package battleship.network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import battleship.engine.Fleet;
+import battleship.engine.FleetGenerator;
+import battleship.engine.FleetRules;
+import battleship.engine.ShotResult;
+import battleship.engine.ai.TargetingMode;
+import battleship.engine.ai.TargetingStrategy;
+
+/**
+ * @class GameClient
+ *        Simulated client of a {@link GameServer} for load tests.
+ *        Plays a number of matches one after the other over a single
+ *        connection, placing a random fleet and shooting with a computer
+ *        targeting strategy. The time from sending a shot to reading its
+ *        result is recorded into a histogram shared by all clients.
+ */
+public final class GameClient implements Runnable {
+
+    private static final ShotResult[] RESULTS = ShotResult.values(); /**< Shot results by ordinal */
+
+    private final InetSocketAddress address; /**< The address of the server */
+    private final int games; /**< Number of matches to play */
+    private final TargetingMode mode; /**< Strategy of the client */
+    private final SplittableRandom random; /**< Draws the fleets and the shots */
+    private final LatencyHistogram roundTrips; /**< Receives the time from a shot to its result */
+    private int gamesPlayed; /**< Matches played to the end */
+    private int gamesWon; /**< Matches won */
+    private int gamesAborted; /**< Matches ended because the opponent left */
+    private IOException failure; /**< The error that ended the client early, if any */
+
+    /**
+     * Constructor for GameClient.
+     *
+     * @param address    The address of the server.
+     * @param games      The number of matches to play.
+     * @param mode       The targeting strategy of the client.
+     * @param seed       The seed of the random generator.
+     * @param roundTrips The histogram receiving the round trip of every shot.
+     */
+    public GameClient(InetSocketAddress address, int games, TargetingMode mode, long seed,
+            LatencyHistogram roundTrips) {
+        this.address = address;
+        this.games = games;
+        this.mode = mode;
+        this.random = new SplittableRandom(seed);
+        this.roundTrips = roundTrips;
+    }
+
+    /**
+     * Connects and plays all matches. An error ends the client and is kept,
+     * see {@link #getFailure()}.
+     */
+    @Override
+    public void run() {
+        try (Connection connection = new Connection(SocketChannel.open(address))) {
+            FleetRules rules = null;
+            FleetGenerator generator = null;
+            TargetingStrategy strategy = null;
+            while (gamesPlayed + gamesAborted < games) {
+                connection.send(Protocol.JOIN);
+                expect(connection, Protocol.START);
+                int me = connection.payload(0);
+                FleetRules announced = readRules(connection);
+                if (rules == null || rules.getBoardSize() != announced.getBoardSize()
+                        || !Arrays.equals(rules.getShipLengths(), announced.getShipLengths())) {
+                    rules = announced;
+                    generator = new FleetGenerator(rules);
+                    strategy = mode.create(rules, random);
+                } else {
+                    strategy.reset();
+                }
+                connection.send(Protocol.PLACE, encode(generator.generate(random)));
+                play(connection, me, rules.getBoardSize(), strategy);
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Gets the number of matches played to the end.
+     *
+     * @return The number of finished matches.
+     */
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Gets the number of matches won.
+     *
+     * @return The number of wins.
+     */
+    public int getGamesWon() {
+        return gamesWon;
+    }
+
+    /**
+     * Gets the number of matches ended because the opponent left.
+     *
+     * @return The number of aborted matches.
+     */
+    public int getGamesAborted() {
+        return gamesAborted;
+    }
+
+    /**
+     * Gets the error that ended the client early.
+     *
+     * @return The error, or null if all matches were played.
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Plays one match from the placement to its end.
+     *
+     * @param connection The connection to the server.
+     * @param me         The player index of the client.
+     * @param size       The board size.
+     * @param strategy   The targeting strategy, reset for this match.
+     * @throws IOException if the connection fails or the server reports an
+     *                     error.
+     */
+    private void play(Connection connection, int me, int size, TargetingStrategy strategy) throws IOException {
+        long sentAt = 0;
+        while (true) {
+            switch (connection.read()) {
+                case Protocol.TURN:
+                    if (connection.payload(0) == me) {
+                        int target = strategy.nextTarget();
+                        sentAt = System.nanoTime();
+                        connection.send(Protocol.SHOOT, target % size, target / size);
+                    }
+                    break;
+                case Protocol.RESULT:
+                    if (connection.payload(0) == me) {
+                        roundTrips.record(System.nanoTime() - sentAt);
+                        strategy.onShot(connection.payload(1), connection.payload(2),
+                                RESULTS[connection.payload(3)]);
+                    }
+                    break;
+                case Protocol.GAME_OVER:
+                    gamesPlayed++;
+                    if (connection.payload(0) == me) {
+                        gamesWon++;
+                    }
+                    return;
+                case Protocol.ERROR:
+                    if (connection.payload(0) == Protocol.ERROR_OPPONENT_LEFT) {
+                        gamesAborted++;
+                        return;
+                    }
+                    throw new IOException("Fehler vom Server: " + connection.payload(0));
+                default:
+                    throw new IOException("Unerwartete Nachricht vom Server.");
+            }
+        }
+    }
+
+    /**
+     * Reads a message and checks its type.
+     *
+     * @param connection The connection to the server.
+     * @param type       The expected message type.
+     * @throws IOException if the connection fails or another message arrives.
+     */
+    private static void expect(Connection connection, int type) throws IOException {
+        int actual = connection.read();
+        if (actual != type) {
+            throw new IOException("Unerwartete Nachricht vom Server: " + actual);
+        }
+    }
+
+    /**
+     * Reads the rules from the payload of a {@link Protocol#START}.
+     *
+     * @param connection The connection holding the message.
+     * @return The rules of the match.
+     */
+    private static FleetRules readRules(Connection connection) {
+        int[] lengths = new int[connection.payload(2)];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = connection.payload(3 + i);
+        }
+        return new FleetRules(connection.payload(1), lengths);
+    }
+
+    /**
+     * Encodes a fleet as the payload of a {@link Protocol#PLACE}.
+     *
+     * @param fleet The fleet to place.
+     * @return The payload bytes.
+     */
+    private static int[] encode(Fleet fleet) {
+        int[] payload = new int[1 + 3 * fleet.getShipCount()];
+        int count = 0;
+        for (int id = 1; id <= Fleet.MAX_SHIPS; id++) {
+            if (fleet.isShip(id)) {
+                payload[1 + 3 * count] = fleet.getShipX(id);
+                payload[2 + 3 * count] = fleet.getShipY(id);
+                payload[3 + 3 * count] = fleet.getShipLength(id)
+                        | (fleet.isShipHorizontal(id) ? Protocol.HORIZONTAL : 0);
+                count++;
+            }
+        }
+        payload[0] = count;
+        return Arrays.copyOf(payload, 1 + 3 * count);
+    }
+}
@@ -0,0 +1,295 @@
+package battleship.network;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import battleship.engine.FleetRules;
+import battleship.factorys.player.NetworkPlayer;
+import battleship.factorys.player.NetworkPlayerFactory;
+
+/**
+ * @class GameServer
+ *        Headless server hosting any number of concurrent matches over TCP.
+ *        With {@link Transport#BLOCKING} every connection is served by its
+ *        own thread running blocking I/O, a virtual thread where the runtime
+ *        provides them and a platform thread with a small stack otherwise.
+ *        With {@link Transport#SELECTOR} a few {@link Reactor}s serve all
+ *        connections with non-blocking I/O and pooled direct buffers.
+ *        Clients speak the {@link Protocol}; every client sending
+ *        {@link Protocol#JOIN} is paired with the next one, and the two play a
+ *        {@link Match}.
+ */
+public final class GameServer implements Closeable {
+
+    private static final int BACKLOG = 4096; /**< Pending connections the kernel may queue */
+    private static final long FALLBACK_STACK_SIZE = 256 * 1024; /**< Stack of a platform session thread */
+    private static final long ACCEPT_BACKOFF_MILLIS = 100; /**< Pause after a failed accept */
+    private static final int BUFFER_SIZE = 4096; /**< Capacity of a pooled buffer */
+    private static final int RETAINED_BUFFERS = 4096; /**< Free buffers kept by the pool */
+
+    private final FleetRules rules; /**< The rules of every match */
+    private final Transport transport; /**< How the connections are served */
+    private final int reactorCount; /**< Number of reactors of the selector transport */
+    private final SplittableRandom random; /**< Root of the random generators of the matches */
+    private final NetworkPlayerFactory playerFactory = new NetworkPlayerFactory(); /**< Creates the players of new connections */
+    private final ServerStats stats = new ServerStats(); /**< Counters of the server */
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet(); /**< Sessions currently connected */
+    private final AtomicLong sessionIds = new AtomicLong(); /**< Numbers the sessions for their names */
+    private ExecutorService executor; /**< Runs the blocking sessions */
+    private Reactor[] reactors; /**< Serve the selector sessions */
+    private BufferPool bufferPool; /**< Lends buffers to the selector sessions */
+    private int nextReactor; /**< The reactor receiving the next connection */
+    private ServerSocketChannel serverChannel; /**< Accepts new connections */
+    private Session waiting; /**< The session waiting for an opponent, null if none */
+    private volatile boolean isClosed; /**< True once the server is shutting down */
+
+    /**
+     * Constructor for GameServer.
+     * Serves every connection on its own thread.
+     *
+     * @param rules The rules of every match.
+     * @param seed  The seed of the random generators drawing the starting
+     *              players.
+     */
+    public GameServer(FleetRules rules, long seed) {
+        this(rules, seed, Transport.BLOCKING, 1);
+    }
+
+    /**
+     * Constructor for GameServer.
+     *
+     * @param rules     The rules of every match.
+     * @param seed      The seed of the random generators drawing the
+     *                  starting players.
+     * @param transport How the connections are served.
+     * @param reactors  The number of reactor threads of
+     *                  {@link Transport#SELECTOR}; ignored otherwise.
+     */
+    public GameServer(FleetRules rules, long seed, Transport transport, int reactors) {
+        if (rules.getBoardSize() > 0xFF || rules.getTotalShips() > 0xFF) {
+            throw new IllegalArgumentException("Regeln passen nicht in das Protokoll.");
+        }
+        if (reactors <= 0) {
+            throw new IllegalArgumentException("Ungültige Anzahl von Reaktoren: " + reactors);
+        }
+        this.rules = rules;
+        this.random = new SplittableRandom(seed);
+        this.transport = transport;
+        this.reactorCount = reactors;
+    }
+
+    /**
+     * Binds the server and starts accepting connections in the background.
+     *
+     * @param address The address to listen on; port 0 picks a free port.
+     * @throws IOException if the address cannot be bound.
+     */
+    public synchronized void start(InetSocketAddress address) throws IOException {
+        if (serverChannel != null) {
+            throw new IllegalStateException("Server läuft bereits.");
+        }
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, BACKLOG);
+        if (transport == Transport.SELECTOR) {
+            bufferPool = new BufferPool(BUFFER_SIZE, RETAINED_BUFFERS);
+            reactors = new Reactor[reactorCount];
+            for (int i = 0; i < reactorCount; i++) {
+                reactors[i] = new Reactor(this, "game-reactor-" + i);
+                reactors[i].start();
+            }
+        } else {
+            executor = newConnectionExecutor("game-session");
+        }
+        Thread acceptor = new Thread(this::acceptLoop, "game-server-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Gets the address the server listens on.
+     *
+     * @return The bound address.
+     * @throws IOException if the server is not running.
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Gets how the connections are served.
+     *
+     * @return The transport.
+     */
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Gets the number of direct buffers the selector transport has allocated.
+     *
+     * @return The number of buffers, 0 for the blocking transport.
+     */
+    public int getAllocatedBufferCount() {
+        return bufferPool == null ? 0 : bufferPool.getAllocatedCount();
+    }
+
+    /**
+     * Gets the counters of the server.
+     *
+     * @return The live statistics.
+     */
+    public ServerStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Checks if the server is shutting down.
+     *
+     * @return True once {@link #close()} has been called.
+     */
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * Stops accepting connections and closes every session.
+     *
+     * @throws IOException if the server channel cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        isClosed = true;
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        for (Session session : sessions) {
+            session.close();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (reactors != null) {
+            for (Reactor reactor : reactors) {
+                reactor.close();
+            }
+        }
+    }
+
+    /**
+     * Creates an executor running one thread per task. Uses virtual threads
+     * where the runtime provides them, daemon threads with a small stack
+     * otherwise.
+     *
+     * @param name The name of the threads.
+     * @return The executor.
+     */
+    public static ExecutorService newConnectionExecutor(String name) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(null, task, name, FALLBACK_STACK_SIZE);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Pairs a session with the waiting one, or lets it wait.
+     *
+     * @param session The session asking for a match.
+     */
+    synchronized void join(Session session) {
+        if (waiting == null || waiting == session) {
+            waiting = session;
+            return;
+        }
+        Match match = new Match(this, rules, random.split(), waiting, session);
+        waiting = null;
+        match.begin();
+    }
+
+    /**
+     * Removes a closed session, ending its match.
+     *
+     * @param session The session that ended.
+     */
+    void leave(Session session) {
+        synchronized (this) {
+            if (waiting == session) {
+                waiting = null;
+            }
+        }
+        Match match = session.getMatch();
+        if (match != null) {
+            match.leave(session);
+        }
+        if (sessions.remove(session)) {
+            stats.sessionClosed();
+        }
+    }
+
+    /**
+     * Accepts connections until the server is closed, starting a session for
+     * each.
+     */
+    private void acceptLoop() {
+        while (!isClosed) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                // usually out of file descriptors; give closing sessions time to free some
+                System.err.println("Verbindung konnte nicht angenommen werden: " + e.getMessage());
+                try {
+                    Thread.sleep(ACCEPT_BACKOFF_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                continue;
+            }
+            Session session = null;
+            try {
+                NetworkPlayer player = playerFactory.createPlayer(
+                        "Spieler " + sessionIds.incrementAndGet(), channel);
+                if (transport == Transport.SELECTOR) {
+                    Reactor reactor = reactors[nextReactor];
+                    nextReactor = (nextReactor + 1) % reactors.length;
+                    SelectorSession selectorSession = new SelectorSession(this, player, reactor, bufferPool);
+                    session = selectorSession;
+                    sessions.add(session);
+                    stats.sessionOpened();
+                    reactor.register(selectorSession);
+                } else {
+                    BlockingSession blockingSession = new BlockingSession(this, player);
+                    session = blockingSession;
+                    sessions.add(session);
+                    stats.sessionOpened();
+                    executor.execute(blockingSession);
+                }
+            } catch (IOException | RuntimeException e) {
+                if (session != null && sessions.remove(session)) {
+                    stats.sessionClosed();
+                }
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // the connection is dropped anyway
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package battleship.network;
+
+import java.util.random.RandomGenerator;
+
+import battleship.engine.FleetRules;
+import battleship.engine.GameEngine;
+import battleship.engine.GameState;
+import battleship.engine.ShotResult;
+
+/**
+ * @class Match
+ *        One game between two sessions, played on a headless
+ *        {@link GameEngine}.
+ *        The threads serving both sessions call into the match, so every
+ *        method is synchronized; the messages of one step are queued for both
+ *        players and flushed together, so a shot costs one write per
+ *        connection.
+ */
+final class Match {
+
+    /**
+     * @enum Phase
+     *       The phases of a match.
+     */
+    private enum Phase {
+        PLACING, PLAYING, OVER
+    }
+
+    private final GameServer server; /**< The server hosting the match */
+    private final GameEngine engine; /**< The rules engine of the game */
+    private final RandomGenerator random; /**< Draws the starting player */
+    private final Session[] players; /**< The session per player index */
+    private final boolean[] hasPlaced = new boolean[2]; /**< Whether a player has placed a valid fleet */
+    private Phase phase = Phase.PLACING; /**< The current phase */
+
+    /**
+     * Constructor for Match.
+     *
+     * @param server The server hosting the match.
+     * @param rules  The fleet composition and board size.
+     * @param random Draws the starting player.
+     * @param one    The session of player one.
+     * @param two    The session of player two.
+     */
+    Match(GameServer server, FleetRules rules, RandomGenerator random, Session one, Session two) {
+        this.server = server;
+        this.engine = new GameEngine(rules);
+        this.random = random;
+        this.players = new Session[] { one, two };
+    }
+
+    /**
+     * Assigns both sessions to the match and sends them the rules.
+     */
+    synchronized void begin() {
+        FleetRules rules = engine.getRules();
+        int[] lengths = rules.getShipLengths();
+        for (int player = GameState.PLAYER_ONE; player <= GameState.PLAYER_TWO; player++) {
+            int[] payload = new int[3 + lengths.length];
+            payload[0] = player;
+            payload[1] = rules.getBoardSize();
+            payload[2] = lengths.length;
+            System.arraycopy(lengths, 0, payload, 3, lengths.length);
+            players[player].setMatch(this, player);
+            players[player].send(Protocol.START, payload);
+        }
+        server.getStats().matchStarted();
+    }
+
+    /**
+     * Places the fleet of a player from the payload of a {@link Protocol#PLACE}.
+     * An invalid fleet is discarded, so the player can try again.
+     *
+     * @param session The session of the player.
+     * @param message The payload of the message.
+     */
+    synchronized void place(Session session, Frame message) {
+        int player = session.getPlayerIndex();
+        if (phase != Phase.PLACING || hasPlaced[player]) {
+            session.send(Protocol.ERROR, Protocol.ERROR_UNEXPECTED_MESSAGE);
+            return;
+        }
+        int count = message.payload(0);
+        boolean isValid = count == engine.getRules().getTotalShips();
+        for (int i = 0; isValid && i < count; i++) {
+            int x = message.payload(1 + 3 * i);
+            int y = message.payload(2 + 3 * i);
+            int length = message.payload(3 + 3 * i) & ~Protocol.HORIZONTAL;
+            boolean isHorizontal = (message.payload(3 + 3 * i) & Protocol.HORIZONTAL) != 0;
+            isValid = engine.canPlaceShip(player, x, y, length, isHorizontal);
+            if (isValid) {
+                engine.placeShip(player, x, y, length, isHorizontal);
+            }
+        }
+        if (!isValid || !engine.isFleetComplete(player)) {
+            engine.getState().getFleet(player).clear();
+            session.send(Protocol.ERROR, Protocol.ERROR_INVALID_PLACEMENT);
+            return;
+        }
+        hasPlaced[player] = true;
+        if (hasPlaced[GameState.opponentOf(player)]) {
+            phase = Phase.PLAYING;
+            int first = engine.startRandom(random);
+            broadcast(Protocol.TURN, first);
+            flushAll();
+        }
+    }
+
+    /**
+     * Fires a shot of a player and reports it to both players.
+     *
+     * @param session    The session of the shooting player.
+     * @param x          The x-coordinate of the target cell.
+     * @param y          The y-coordinate of the target cell.
+     * @param receivedAt The value of {@link System#nanoTime()} when the shot
+     *                   was read.
+     */
+    synchronized void shoot(Session session, int x, int y, long receivedAt) {
+        int player = session.getPlayerIndex();
+        if (phase != Phase.PLAYING) {
+            session.send(Protocol.ERROR, Protocol.ERROR_UNEXPECTED_MESSAGE);
+            return;
+        }
+        if (engine.getCurrentPlayer() != player) {
+            session.send(Protocol.ERROR, Protocol.ERROR_NOT_YOUR_TURN);
+            return;
+        }
+        int size = engine.getRules().getBoardSize();
+        if (x >= size || y >= size || engine.isShot(player, x, y)) {
+            session.send(Protocol.ERROR, Protocol.ERROR_INVALID_SHOT);
+            return;
+        }
+
+        ShotResult result = engine.fire(player, x, y);
+        broadcast(Protocol.RESULT, player, x, y, result.ordinal());
+        if (engine.isGameOver()) {
+            broadcast(Protocol.GAME_OVER, engine.getWinner());
+            end(true);
+        } else {
+            engine.endTurn();
+            broadcast(Protocol.TURN, engine.getCurrentPlayer());
+        }
+        flushAll();
+        server.getStats().recordTurn(System.nanoTime() - receivedAt);
+    }
+
+    /**
+     * Ends the match because a player left; the opponent is told so.
+     *
+     * @param session The session of the player who left.
+     */
+    synchronized void leave(Session session) {
+        if (phase == Phase.OVER) {
+            return;
+        }
+        Session opponent = players[GameState.opponentOf(session.getPlayerIndex())];
+        end(false);
+        opponent.send(Protocol.ERROR, Protocol.ERROR_OPPONENT_LEFT);
+    }
+
+    /**
+     * Ends the match and releases both sessions for the next one.
+     *
+     * @param isFinished True if the match was played to the end.
+     */
+    private void end(boolean isFinished) {
+        phase = Phase.OVER;
+        for (Session player : players) {
+            player.setMatch(null, player.getPlayerIndex());
+        }
+        server.getStats().matchEnded(isFinished);
+    }
+
+    /**
+     * Queues a message for both players.
+     *
+     * @param type    The message type.
+     * @param payload The payload bytes.
+     */
+    private void broadcast(int type, int... payload) {
+        for (Session player : players) {
+            player.queue(type, payload);
+        }
+    }
+
+    /**
+     * Sends the queued messages of both players.
+     */
+    private void flushAll() {
+        for (Session player : players) {
+            player.flush();
+        }
+    }
+}
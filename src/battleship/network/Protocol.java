@@ -0,0 +1,132 @@
+package battleship.network;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @class Protocol
+ *        The binary protocol between the {@link GameServer} and its clients.
+ *        Every message is one type byte followed by its payload; all values
+ *        are unsigned bytes, so a board may have at most 255 cells per side.
+ *        The payload length follows from the type, only {@link #START} and
+ *        {@link #PLACE} carry a count that decides their length:
+ *        <ul>
+ *        <li>{@link #JOIN} (client): no payload, asks for the next match.</li>
+ *        <li>{@link #START} (server): own player index, board size, number of
+ *        ships n, n ship lengths.</li>
+ *        <li>{@link #PLACE} (client): number of ships n, then per ship x, y and
+ *        the length with {@link #HORIZONTAL} set for horizontal ships.</li>
+ *        <li>{@link #TURN} (server): index of the player who shoots next.</li>
+ *        <li>{@link #SHOOT} (client): x, y.</li>
+ *        <li>{@link #RESULT} (server): shooter index, x, y, ordinal of the
+ *        {@link battleship.engine.ShotResult}.</li>
+ *        <li>{@link #GAME_OVER} (server): index of the winner.</li>
+ *        <li>{@link #ERROR} (server): one of the {@code ERROR_*} codes.</li>
+ *        </ul>
+ *        A match starts with START to both players, followed by one PLACE of
+ *        each player. The server then announces the TURN, answers every SHOOT
+ *        of the current player with a RESULT to both players and a TURN or
+ *        GAME_OVER. After GAME_OVER a client may JOIN again.
+ */
+public final class Protocol {
+
+    /** Client asks to be paired with an opponent. */
+    public static final int JOIN = 1;
+    /** Server starts a match. */
+    public static final int START = 2;
+    /** Client places its fleet. */
+    public static final int PLACE = 3;
+    /** Server announces whose turn it is. */
+    public static final int TURN = 4;
+    /** Client shoots at a cell. */
+    public static final int SHOOT = 5;
+    /** Server reports the result of a shot. */
+    public static final int RESULT = 6;
+    /** Server reports the end of the match. */
+    public static final int GAME_OVER = 7;
+    /** Server rejects a message. */
+    public static final int ERROR = 8;
+
+    /** Flag in the length byte of {@link #PLACE} for horizontal ships. */
+    public static final int HORIZONTAL = 0x80;
+
+    /** The fleet of {@link #PLACE} breaks the rules. */
+    public static final int ERROR_INVALID_PLACEMENT = 1;
+    /** A {@link #SHOOT} arrived while it was not the sender's turn. */
+    public static final int ERROR_NOT_YOUR_TURN = 2;
+    /** A {@link #SHOOT} targeted a cell off the board or shot before. */
+    public static final int ERROR_INVALID_SHOT = 3;
+    /** The opponent disconnected, the match is over without a winner. */
+    public static final int ERROR_OPPONENT_LEFT = 4;
+    /** The message was not expected at this point. */
+    public static final int ERROR_UNEXPECTED_MESSAGE = 5;
+
+    /**
+     * Largest payload of any message: a {@link #PLACE} of 255 ships.
+     */
+    static final int MAX_PAYLOAD = 1 + 3 * 255;
+
+    /**
+     * Private constructor, the protocol only has constants.
+     */
+    private Protocol() {
+    }
+
+    /**
+     * Gets the payload length of a message type with a fixed length.
+     *
+     * @param type The message type.
+     * @return The payload length in bytes, or -1 if the length depends on a
+     *         count in the payload.
+     * @throws IllegalArgumentException if the type is unknown.
+     */
+    static int fixedPayloadLength(int type) {
+        switch (type) {
+            case JOIN:
+                return 0;
+            case TURN:
+            case GAME_OVER:
+            case ERROR:
+                return 1;
+            case SHOOT:
+                return 2;
+            case RESULT:
+                return 4;
+            case START:
+            case PLACE:
+                return -1;
+            default:
+                throw new IllegalArgumentException("Unbekannter Nachrichtentyp: " + type);
+        }
+    }
+
+    /**
+     * Gets the length of the message starting at a position of a buffer,
+     * reading no more than the bytes that have arrived.
+     *
+     * @param buffer    The buffer holding the message.
+     * @param offset    The position of the type byte.
+     * @param available The number of bytes from the offset that have arrived.
+     * @return The length of the message including its type byte, or -1 if
+     *         it has not arrived completely.
+     * @throws IllegalArgumentException if the type is unknown.
+     */
+    static int frameLength(ByteBuffer buffer, int offset, int available) {
+        if (available < 1) {
+            return -1;
+        }
+        int type = buffer.get(offset) & 0xFF;
+        int length = fixedPayloadLength(type);
+        if (type == START) {
+            if (available < 4) {
+                return -1;
+            }
+            length = 3 + (buffer.get(offset + 3) & 0xFF);
+        } else if (type == PLACE) {
+            if (available < 2) {
+                return -1;
+            }
+            length = 1 + 3 * (buffer.get(offset + 1) & 0xFF);
+        }
+        return available > length ? 1 + length : -1;
+    }
+}
@@ -0,0 +1,171 @@
+package battleship.network;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * @class Reactor
+ *        One thread multiplexing many {@link SelectorSession}s with a
+ *        {@link Selector}.
+ *        New sessions and sessions closed by other threads are handed over
+ *        through queues and picked up after waking the selector, so the keys
+ *        and the incoming buffers are only touched on the reactor thread.
+ */
+final class Reactor implements Runnable, Closeable {
+
+    private final GameServer server; /**< The server the sessions belong to */
+    private final Selector selector; /**< Reports the channels ready for I/O */
+    private final Queue<SelectorSession> registrations = new ConcurrentLinkedQueue<>(); /**< Sessions to register */
+    private final Queue<SelectorSession> retirements = new ConcurrentLinkedQueue<>(); /**< Closed sessions to end */
+    private final Thread thread; /**< The reactor thread */
+    private volatile boolean isClosed; /**< True once the reactor is shutting down */
+
+    /**
+     * Constructor for Reactor. The thread is started by {@link #start()}.
+     *
+     * @param server The server the sessions belong to.
+     * @param name   The name of the reactor thread.
+     * @throws IOException if the selector cannot be opened.
+     */
+    Reactor(GameServer server, String name) throws IOException {
+        this.server = server;
+        this.selector = Selector.open();
+        this.thread = new Thread(this, name);
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts the reactor thread.
+     */
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Hands a new session to the reactor.
+     *
+     * @param session The session to serve.
+     */
+    void register(SelectorSession session) {
+        registrations.add(session);
+        selector.wakeup();
+    }
+
+    /**
+     * Hands a closed session to the reactor, which ends it.
+     *
+     * @param session The closed session.
+     */
+    void retire(SelectorSession session) {
+        retirements.add(session);
+        if (Thread.currentThread() != thread) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Wakes the selector if called from another thread, so it sees changed
+     * interest sets.
+     */
+    void wakeupIfForeign() {
+        if (Thread.currentThread() != thread) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Serves the sessions until the reactor is closed.
+     */
+    @Override
+    public void run() {
+        try {
+            while (!isClosed) {
+                selector.select(this::process);
+                registerPending();
+                retirePending();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!isClosed) {
+                System.err.println(thread.getName() + " beendet: " + e);
+            }
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                ((SelectorSession) key.attachment()).close();
+            }
+            retirePending();
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // the selector is gone anyway
+            }
+        }
+    }
+
+    /**
+     * Stops the reactor and closes its sessions.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        selector.wakeup();
+    }
+
+    /**
+     * Handles a ready channel. A failing session is closed.
+     *
+     * @param key The selection key of the channel.
+     */
+    private void process(SelectionKey key) {
+        SelectorSession session = (SelectorSession) key.attachment();
+        try {
+            if (key.isReadable()) {
+                session.onReadable();
+            }
+            if (key.isValid() && key.isWritable()) {
+                session.onWritable();
+            }
+        } catch (CancelledKeyException | ClosedChannelException e) {
+            session.close();
+        } catch (IOException e) {
+            if (!(e instanceof EOFException) && !server.isClosed()) {
+                System.err.println(session.getPlayer().getName() + ": " + e.getMessage());
+            }
+            session.close();
+        } catch (RuntimeException e) {
+            System.err.println(session.getPlayer().getName() + ": " + e);
+            session.close();
+        }
+    }
+
+    /**
+     * Registers the sessions handed over since the last round.
+     */
+    private void registerPending() {
+        SelectorSession session;
+        while ((session = registrations.poll()) != null) {
+            try {
+                session.register(selector);
+            } catch (IOException e) {
+                session.close();
+            }
+        }
+    }
+
+    /**
+     * Ends the sessions closed since the last round.
+     */
+    private void retirePending() {
+        SelectorSession session;
+        while ((session = retirements.poll()) != null) {
+            session.releaseInput();
+            session.end();
+        }
+    }
+}
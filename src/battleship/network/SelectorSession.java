@@ -0,0 +1,181 @@
+package battleship.network;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+import battleship.factorys.player.NetworkPlayer;
+
+/**
+ * @class SelectorSession
+ *        A session on a non-blocking channel, driven by a {@link Reactor},
+ *        for {@link Transport#SELECTOR}.
+ *        Messages are handled in place in the pooled buffer they were read
+ *        into. Both buffers are only held while bytes are in flight, so an
+ *        idle connection costs its channel, its selection key and this
+ *        object. The outgoing side may be used by any thread; the incoming
+ *        side only by the reactor.
+ */
+final class SelectorSession extends Session implements Frame {
+
+    private final Reactor reactor; /**< The reactor serving the session */
+    private final SocketChannel channel; /**< The non-blocking channel to the client */
+    private final BufferPool pool; /**< Lends the buffers */
+    private SelectionKey key; /**< The registration with the selector of the reactor */
+    private ByteBuffer input; /**< Bytes read but not handled yet, null if none */
+    private ByteBuffer output; /**< Queued outgoing bytes, null if none; guarded by this */
+    private int frameStart; /**< Position of the payload of the message being handled */
+
+    /**
+     * Constructor for SelectorSession.
+     *
+     * @param server  The server the session belongs to.
+     * @param player  The player, backed by the accepted channel.
+     * @param reactor The reactor serving the session.
+     * @param pool    Lends the buffers.
+     * @throws IOException if the channel cannot be configured.
+     */
+    SelectorSession(GameServer server, NetworkPlayer player, Reactor reactor, BufferPool pool) throws IOException {
+        super(server, player);
+        this.reactor = reactor;
+        this.channel = player.getChannel();
+        this.pool = pool;
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+
+    /**
+     * Registers the channel for reading. Called on the reactor thread.
+     *
+     * @param selector The selector of the reactor.
+     * @throws IOException if the channel has been closed.
+     */
+    void register(Selector selector) throws IOException {
+        key = channel.register(selector, SelectionKey.OP_READ, this);
+    }
+
+    /**
+     * Reads the bytes that have arrived and handles every complete message.
+     * Called on the reactor thread.
+     *
+     * @throws IOException if the channel fails, reaches its end or delivers a
+     *                     malformed message.
+     */
+    void onReadable() throws IOException {
+        if (input == null) {
+            input = pool.acquire();
+        }
+        if (channel.read(input) < 0) {
+            throw new EOFException("Verbindung geschlossen.");
+        }
+        input.flip();
+        try {
+            long receivedAt = System.nanoTime();
+            int length;
+            while ((length = Protocol.frameLength(input, input.position(), input.remaining())) > 0) {
+                int start = input.position();
+                frameStart = start + 1;
+                input.position(start + length);
+                handle(input.get(start) & 0xFF, this, receivedAt);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            if (input.hasRemaining()) {
+                input.compact();
+            } else {
+                releaseInput();
+            }
+        }
+    }
+
+    /**
+     * Continues sending the outgoing queue once the channel accepts bytes
+     * again. Called on the reactor thread.
+     *
+     * @throws IOException if the channel fails.
+     */
+    synchronized void onWritable() throws IOException {
+        flushQueue();
+        if (output == null) {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Returns the incoming buffer to the pool. Called on the reactor thread.
+     */
+    void releaseInput() {
+        if (input != null) {
+            pool.release(input);
+            input = null;
+        }
+    }
+
+    /**
+     * Gets a byte of the payload of the message being handled.
+     *
+     * @param index The index in the payload.
+     * @return The unsigned value of the byte.
+     */
+    @Override
+    public int payload(int index) {
+        return input.get(frameStart + index) & 0xFF;
+    }
+
+    @Override
+    synchronized void enqueue(int type, int... payload) throws IOException {
+        if (output == null) {
+            output = pool.acquire();
+        }
+        if (output.remaining() < 1 + payload.length) {
+            throw new IOException("Client liest nicht, Ausgabepuffer voll.");
+        }
+        output.put((byte) type);
+        for (int value : payload) {
+            output.put((byte) value);
+        }
+    }
+
+    @Override
+    synchronized void flushQueue() throws IOException {
+        if (output == null) {
+            return;
+        }
+        output.flip();
+        channel.write(output);
+        if (output.hasRemaining()) {
+            output.compact();
+            try {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            } catch (CancelledKeyException e) {
+                throw new IOException("Verbindung geschlossen.", e);
+            }
+            reactor.wakeupIfForeign();
+        } else {
+            pool.release(output);
+            output = null;
+        }
+    }
+
+    @Override
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+        synchronized (this) {
+            if (output != null) {
+                pool.release(output);
+                output = null;
+            }
+        }
+        reactor.retire(this);
+    }
+}
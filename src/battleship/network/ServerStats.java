@@ -0,0 +1,144 @@
+package battleship.network;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @class ServerStats
+ *        Counters of a {@link GameServer}, updated by all session threads.
+ *        The message counters only grow; a caller computes messages per
+ *        second from two readings and the time between them.
+ */
+public final class ServerStats {
+
+    private final AtomicInteger activeSessions = new AtomicInteger(); /**< Sessions currently connected */
+    private final AtomicInteger peakSessions = new AtomicInteger(); /**< Largest number of concurrent sessions */
+    private final LongAdder totalSessions = new LongAdder(); /**< Sessions accepted so far */
+    private final AtomicInteger activeMatches = new AtomicInteger(); /**< Matches currently running */
+    private final LongAdder finishedMatches = new LongAdder(); /**< Matches played to the end */
+    private final LongAdder messagesReceived = new LongAdder(); /**< Messages read from clients */
+    private final LongAdder messagesSent = new LongAdder(); /**< Messages queued for clients */
+    private final LatencyHistogram turnLatency = new LatencyHistogram(); /**< Time from a shot to its answer */
+
+    /**
+     * Counts a new session.
+     */
+    void sessionOpened() {
+        totalSessions.increment();
+        int active = activeSessions.incrementAndGet();
+        peakSessions.accumulateAndGet(active, Math::max);
+    }
+
+    /**
+     * Counts a closed session.
+     */
+    void sessionClosed() {
+        activeSessions.decrementAndGet();
+    }
+
+    /**
+     * Counts a new match.
+     */
+    void matchStarted() {
+        activeMatches.incrementAndGet();
+    }
+
+    /**
+     * Counts a match that ended.
+     *
+     * @param isFinished True if the match was played to the end, false if a
+     *                   player left.
+     */
+    void matchEnded(boolean isFinished) {
+        activeMatches.decrementAndGet();
+        if (isFinished) {
+            finishedMatches.increment();
+        }
+    }
+
+    /**
+     * Counts a received message.
+     */
+    void messageReceived() {
+        messagesReceived.increment();
+    }
+
+    /**
+     * Counts a sent message.
+     */
+    void messageSent() {
+        messagesSent.increment();
+    }
+
+    /**
+     * Records the time the server needed to answer a shot.
+     *
+     * @param nanos The time from reading the shot to sending its result.
+     */
+    void recordTurn(long nanos) {
+        turnLatency.record(nanos);
+    }
+
+    /**
+     * Gets the number of sessions currently connected.
+     *
+     * @return The number of concurrent sessions.
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Gets the largest number of sessions connected at the same time.
+     *
+     * @return The peak of concurrent sessions.
+     */
+    public int getPeakSessions() {
+        return peakSessions.get();
+    }
+
+    /**
+     * Gets the number of sessions accepted since the server started.
+     *
+     * @return The total number of sessions.
+     */
+    public long getTotalSessions() {
+        return totalSessions.sum();
+    }
+
+    /**
+     * Gets the number of matches currently running.
+     *
+     * @return The number of active matches.
+     */
+    public int getActiveMatches() {
+        return activeMatches.get();
+    }
+
+    /**
+     * Gets the number of matches played to the end.
+     *
+     * @return The number of finished matches.
+     */
+    public long getFinishedMatches() {
+        return finishedMatches.sum();
+    }
+
+    /**
+     * Gets the number of messages received and sent.
+     *
+     * @return The number of messages since the server started.
+     */
+    public long getMessages() {
+        return messagesReceived.sum() + messagesSent.sum();
+    }
+
+    /**
+     * Gets the histogram of the time the server needed to answer a shot.
+     *
+     * @return The live histogram of turn latencies.
+     */
+    public LatencyHistogram getTurnLatency() {
+        return turnLatency;
+    }
+}
@@ -0,0 +1,190 @@
+package battleship.network;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import battleship.factorys.player.NetworkPlayer;
+
+/**
+ * @class Session
+ *        The server side of one client connection.
+ *        Handles the messages of the client, handing them to the
+ *        {@link GameServer} for matchmaking or to the {@link Match} the client
+ *        plays in. A message the session cannot handle is answered with an
+ *        {@link Protocol#ERROR}. How bytes are read and written is up to the
+ *        transport: {@link BlockingSession} runs a thread per connection,
+ *        {@link SelectorSession} is driven by a {@link Reactor}.
+ */
+abstract class Session {
+
+    private final GameServer server; /**< The server the session belongs to */
+    private final NetworkPlayer player; /**< The player behind the connection */
+    private final AtomicBoolean hasEnded = new AtomicBoolean(); /**< Whether the server has been told about the end */
+    private volatile Match match; /**< The match the client plays in, null between matches */
+    private int playerIndex; /**< The index of the client in its match */
+
+    /**
+     * Constructor for Session.
+     *
+     * @param server The server the session belongs to.
+     * @param player The player, backed by the accepted channel.
+     */
+    Session(GameServer server, NetworkPlayer player) {
+        this.server = server;
+        this.player = player;
+    }
+
+    /**
+     * Gets the server the session belongs to.
+     *
+     * @return The server.
+     */
+    GameServer getServer() {
+        return server;
+    }
+
+    /**
+     * Gets the player behind the connection.
+     *
+     * @return The network player.
+     */
+    NetworkPlayer getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the match the client plays in.
+     *
+     * @return The match, or null between matches.
+     */
+    Match getMatch() {
+        return match;
+    }
+
+    /**
+     * Gets the index of the client in its match.
+     *
+     * @return The player index.
+     */
+    int getPlayerIndex() {
+        return playerIndex;
+    }
+
+    /**
+     * Enters or leaves a match.
+     *
+     * @param match       The match, or null after it ended.
+     * @param playerIndex The index of the client in the match.
+     */
+    void setMatch(Match match, int playerIndex) {
+        this.playerIndex = playerIndex;
+        this.match = match;
+    }
+
+    /**
+     * Handles a message of the client.
+     *
+     * @param type       The message type.
+     * @param frame      The payload of the message.
+     * @param receivedAt The value of {@link System#nanoTime()} when the
+     *                   message was read.
+     */
+    void handle(int type, Frame frame, long receivedAt) {
+        server.getStats().messageReceived();
+        Match current = match;
+        switch (type) {
+            case Protocol.JOIN:
+                if (current != null) {
+                    send(Protocol.ERROR, Protocol.ERROR_UNEXPECTED_MESSAGE);
+                } else {
+                    server.join(this);
+                }
+                break;
+            case Protocol.PLACE:
+                if (current == null) {
+                    send(Protocol.ERROR, Protocol.ERROR_UNEXPECTED_MESSAGE);
+                } else {
+                    current.place(this, frame);
+                }
+                break;
+            case Protocol.SHOOT:
+                if (current == null) {
+                    send(Protocol.ERROR, Protocol.ERROR_UNEXPECTED_MESSAGE);
+                } else {
+                    current.shoot(this, frame.payload(0), frame.payload(1), receivedAt);
+                }
+                break;
+            default:
+                send(Protocol.ERROR, Protocol.ERROR_UNEXPECTED_MESSAGE);
+                break;
+        }
+    }
+
+    /**
+     * Queues a message for the client. A failing connection is closed, which
+     * ends the session.
+     *
+     * @param type    The message type.
+     * @param payload The payload bytes.
+     */
+    void queue(int type, int... payload) {
+        try {
+            enqueue(type, payload);
+            server.getStats().messageSent();
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    /**
+     * Sends all queued messages. A failing connection is closed.
+     */
+    void flush() {
+        try {
+            flushQueue();
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    /**
+     * Sends a message to the client, together with any queued ones.
+     *
+     * @param type    The message type.
+     * @param payload The payload bytes.
+     */
+    void send(int type, int... payload) {
+        queue(type, payload);
+        flush();
+    }
+
+    /**
+     * Tells the server that the session has ended, at most once.
+     */
+    void end() {
+        if (hasEnded.compareAndSet(false, true)) {
+            server.leave(this);
+        }
+    }
+
+    /**
+     * Writes a message into the outgoing queue.
+     *
+     * @param type    The message type.
+     * @param payload The payload bytes.
+     * @throws IOException if the queue is full and cannot be sent.
+     */
+    abstract void enqueue(int type, int... payload) throws IOException;
+
+    /**
+     * Starts sending the outgoing queue.
+     *
+     * @throws IOException if the channel fails.
+     */
+    abstract void flushQueue() throws IOException;
+
+    /**
+     * Closes the connection; the session ends on the thread serving it.
+     */
+    abstract void close();
+}
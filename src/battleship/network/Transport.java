@@ -0,0 +1,20 @@
+package battleship.network;
+
+/**
+ * @enum Transport
+ *       How a {@link GameServer} serves its connections.
+ */
+public enum Transport {
+    /**
+     * One thread per connection with blocking I/O; virtual threads where the
+     * runtime provides them.
+     */
+    BLOCKING,
+
+    /**
+     * A few reactor threads multiplexing all connections with a
+     * {@link java.nio.channels.Selector}. An idle connection holds no thread
+     * and no buffer.
+     */
+    SELECTOR
+}
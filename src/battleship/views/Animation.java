@@ -0,0 +1,176 @@
+package battleship.views;
+
+import javax.swing.Timer;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @class Animation
+ *        The decoded frames of an animated image, shared by every component
+ *        that shows it.
+ *        All frames are decoded once by the {@link AssetCache}. A single Swing
+ *        timer advances the current frame for all viewers, so painting the
+ *        animation in many places costs no more than painting it once. Frames
+ *        scaled to a size are kept for the most recent sizes.
+ *        Apart from the constructor, instances may only be used on the Event
+ *        Dispatch Thread.
+ */
+public final class Animation {
+
+    private static final int DEFAULT_DELAY_MILLIS = 100; /**< Frame delay used when the image specifies none */
+    private static final int MAX_SCALED_SIZES = 8; /**< Number of sizes whose scaled frames are kept */
+
+    private final BufferedImage[] frames; /**< The fully composed frames in original size */
+    private final int[] delays; /**< The display time per frame in milliseconds */
+    private final List<Runnable> frameListeners = new ArrayList<>(); /**< Notified when the frame advances */
+    private final Map<Dimension, BufferedImage[]> scaledFrames; /**< Lazily scaled frames per size */
+    private final Timer clock; /**< The frame clock, running only while there are listeners */
+    private int currentFrame; /**< Index of the frame currently shown */
+
+    /**
+     * Constructor for Animation.
+     *
+     * @param frames The fully composed frames, all of the same size.
+     * @param delays The display time per frame in milliseconds; 0 for the
+     *               default.
+     */
+    Animation(BufferedImage[] frames, int[] delays) {
+        if (frames.length == 0 || frames.length != delays.length) {
+            throw new IllegalArgumentException("Animation ohne Bilder.");
+        }
+        this.frames = frames;
+        this.delays = new int[delays.length];
+        for (int i = 0; i < delays.length; i++) {
+            this.delays[i] = delays[i] > 0 ? delays[i] : DEFAULT_DELAY_MILLIS;
+        }
+        this.scaledFrames = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Dimension, BufferedImage[]> eldest) {
+                return size() > MAX_SCALED_SIZES;
+            }
+        };
+        this.clock = new Timer(this.delays[0], e -> advance());
+        this.clock.setRepeats(true);
+    }
+
+    /**
+     * Gets the width of the frames.
+     *
+     * @return The width in pixels.
+     */
+    public int getWidth() {
+        return frames[0].getWidth();
+    }
+
+    /**
+     * Gets the height of the frames.
+     *
+     * @return The height in pixels.
+     */
+    public int getHeight() {
+        return frames[0].getHeight();
+    }
+
+    /**
+     * Gets the number of frames.
+     *
+     * @return The frame count.
+     */
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /**
+     * Gets the frame currently shown, in original size.
+     *
+     * @return The current frame.
+     */
+    public Image getCurrentFrame() {
+        return frames[currentFrame];
+    }
+
+    /**
+     * Gets the frame currently shown, scaled to a size.
+     * The scaled frame is computed on first use and reused afterwards.
+     *
+     * @param width  The width of the frame in pixels.
+     * @param height The height of the frame in pixels.
+     * @return The current frame in the requested size.
+     */
+    public Image getCurrentFrame(int width, int height) {
+        if (width == getWidth() && height == getHeight()) {
+            return frames[currentFrame];
+        }
+        BufferedImage[] scaled = scaledFrames.computeIfAbsent(new Dimension(width, height),
+                size -> new BufferedImage[frames.length]);
+        if (scaled[currentFrame] == null) {
+            scaled[currentFrame] = scale(frames[currentFrame], width, height);
+        }
+        return scaled[currentFrame];
+    }
+
+    /**
+     * Registers a listener that is run on the Event Dispatch Thread whenever
+     * the frame advances. The frame clock runs while at least one listener is
+     * registered.
+     *
+     * @param listener The listener, typically repainting the animated area.
+     */
+    public void addFrameListener(Runnable listener) {
+        frameListeners.add(listener);
+        if (frames.length > 1 && !clock.isRunning()) {
+            clock.start();
+        }
+    }
+
+    /**
+     * Removes a listener registered with {@link #addFrameListener(Runnable)}.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeFrameListener(Runnable listener) {
+        frameListeners.remove(listener);
+        if (frameListeners.isEmpty()) {
+            clock.stop();
+        }
+    }
+
+    /**
+     * Advances to the next frame and notifies the listeners.
+     */
+    private void advance() {
+        currentFrame = (currentFrame + 1) % frames.length;
+        clock.setDelay(delays[currentFrame]);
+        for (Runnable listener : frameListeners.toArray(new Runnable[0])) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Scales a frame with bilinear interpolation.
+     *
+     * @param frame  The frame to scale.
+     * @param width  The target width.
+     * @param height The target height.
+     * @return The scaled copy of the frame.
+     */
+    private static BufferedImage scale(BufferedImage frame, int width, int height) {
+        BufferedImage scaled = new BufferedImage(Math.max(1, width), Math.max(1, height),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(frame, 0, 0, scaled.getWidth(), scaled.getHeight(), null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+}
@@ -0,0 +1,61 @@
+package battleship.views;
+
+import javax.swing.*;
+
+import java.awt.*;
+
+/**
+ * @class AnimationView
+ *        Component showing a shared {@link Animation} in its original size.
+ *        Replaces a {@link JLabel} with an animated {@link ImageIcon}, which
+ *        would decode the image again for every label.
+ */
+public class AnimationView extends JComponent {
+    /**
+     * SerialVersionUID for the AnimationView class.
+     */
+    private static final long serialVersionUID = -6412290367105319558L;
+
+    private final Animation animation; /**< The animation shown */
+    private final Runnable repainter = this::repaint; /**< Frame listener of the animation */
+
+    /**
+     * Constructor for AnimationView.
+     *
+     * @param animation The animation to show.
+     */
+    public AnimationView(Animation animation) {
+        this.animation = animation;
+        setPreferredSize(new Dimension(animation.getWidth(), animation.getHeight()));
+    }
+
+    /**
+     * Starts following the animation once the component is shown.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        animation.addFrameListener(repainter);
+    }
+
+    /**
+     * Stops following the animation once the component is removed.
+     */
+    @Override
+    public void removeNotify() {
+        animation.removeFrameListener(repainter);
+        super.removeNotify();
+    }
+
+    /**
+     * Paints the current frame centered in the component.
+     *
+     * @param g The Graphics object used for drawing.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        g.drawImage(animation.getCurrentFrame(), (getWidth() - animation.getWidth()) / 2,
+                (getHeight() - animation.getHeight()) / 2, null);
+    }
+}
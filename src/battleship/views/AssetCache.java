@@ -0,0 +1,233 @@
+package battleship.views;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @class AssetCache
+ *        Decodes the image resources of the views once and hands out the
+ *        shared result.
+ *        Animated GIFs are decoded into fully composed frames, so painting a
+ *        frame never touches the decoder again.
+ */
+public final class AssetCache {
+
+    /**
+     * The animated water shown on a missed cell.
+     */
+    public static final String WATER_TILE = "water_tile.gif";
+
+    /**
+     * The animated waves of the main menu.
+     */
+    public static final String WAVES = "waves.gif";
+
+    private static final String GIF_METADATA_FORMAT = "javax_imageio_gif_image_1.0"; /**< Native per-frame GIF metadata */
+    private static final String GIF_STREAM_FORMAT = "javax_imageio_gif_stream_1.0"; /**< Native GIF stream metadata */
+
+    private static final Map<String, Animation> ANIMATIONS = new ConcurrentHashMap<>(); /**< Decoded animations per resource name */
+
+    /**
+     * Private constructor, the cache only has static methods.
+     */
+    private AssetCache() {
+    }
+
+    /**
+     * Gets an animated GIF from the resources next to this class, decoding it
+     * on first use.
+     *
+     * @param name The file name of the resource, e.g. {@link #WATER_TILE}.
+     * @return The shared animation.
+     * @throws IllegalStateException if the resource is missing or cannot be
+     *                               decoded.
+     */
+    public static Animation getAnimation(String name) {
+        return ANIMATIONS.computeIfAbsent(name, AssetCache::decodeGif);
+    }
+
+    /**
+     * Decodes animated GIFs on a background thread, so the first view showing
+     * them does not wait for the decoder. A view asking for an animation that
+     * is still being decoded waits for the running decode instead of starting
+     * another one.
+     *
+     * @param names The file names of the resources.
+     */
+    public static void preload(String... names) {
+        Thread loader = new Thread(() -> {
+            for (String name : names) {
+                try {
+                    getAnimation(name);
+                } catch (IllegalStateException e) {
+                    // Reported again by the view that needs the animation
+                }
+            }
+        }, "asset-preload");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Decodes all frames of a GIF resource.
+     *
+     * @param name The file name of the resource.
+     * @return The decoded animation.
+     */
+    private static Animation decodeGif(String name) {
+        InputStream resource = AssetCache.class.getResourceAsStream(name);
+        if (resource == null) {
+            throw new IllegalStateException("Ressource nicht gefunden: " + name);
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+        if (!readers.hasNext()) {
+            throw new IllegalStateException("Kein GIF-Decoder verfügbar.");
+        }
+        ImageReader reader = readers.next();
+        try (InputStream in = resource; ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            reader.setInput(stream, false);
+            int count = reader.getNumImages(true);
+            Dimension screen = logicalScreen(reader);
+            BufferedImage canvas = new BufferedImage(screen.width, screen.height, BufferedImage.TYPE_INT_ARGB);
+            BufferedImage[] frames = new BufferedImage[count];
+            int[] delays = new int[count];
+
+            for (int i = 0; i < count; i++) {
+                BufferedImage image = reader.read(i);
+                IIOMetadata metadata = reader.getImageMetadata(i);
+                Node control = child(metadata, "GraphicControlExtension");
+                Node descriptor = child(metadata, "ImageDescriptor");
+                int left = intAttribute(descriptor, "imageLeftPosition", 0);
+                int top = intAttribute(descriptor, "imageTopPosition", 0);
+                String disposal = attribute(control, "disposalMethod", "none");
+                delays[i] = 10 * intAttribute(control, "delayTime", 0);
+
+                BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(canvas) : null;
+                Graphics2D g = canvas.createGraphics();
+                try {
+                    g.drawImage(image, left, top, null);
+                    frames[i] = copy(canvas);
+                    if ("restoreToBackgroundColor".equals(disposal)) {
+                        g.setComposite(AlphaComposite.Clear);
+                        g.fillRect(left, top, image.getWidth(), image.getHeight());
+                    } else if (previous != null) {
+                        g.setComposite(AlphaComposite.Src);
+                        g.drawImage(previous, 0, 0, null);
+                    }
+                } finally {
+                    g.dispose();
+                }
+            }
+            return new Animation(frames, delays);
+        } catch (IOException e) {
+            throw new IllegalStateException("Bild konnte nicht geladen werden: " + name, e);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Reads the size of the area all frames of a GIF are drawn on.
+     *
+     * @param reader The reader positioned on the GIF.
+     * @return The logical screen size, or the size of the first frame if the
+     *         stream does not specify one.
+     * @throws IOException if the stream cannot be read.
+     */
+    private static Dimension logicalScreen(ImageReader reader) throws IOException {
+        IIOMetadata metadata = reader.getStreamMetadata();
+        Node screen = null;
+        if (metadata != null) {
+            Node root = metadata.getAsTree(GIF_STREAM_FORMAT);
+            for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+                if ("LogicalScreenDescriptor".equals(node.getNodeName())) {
+                    screen = node;
+                }
+            }
+        }
+        int width = intAttribute(screen, "logicalScreenWidth", 0);
+        int height = intAttribute(screen, "logicalScreenHeight", 0);
+        if (width <= 0 || height <= 0) {
+            return new Dimension(reader.getWidth(0), reader.getHeight(0));
+        }
+        return new Dimension(width, height);
+    }
+
+    /**
+     * Finds a node of the native metadata of a frame.
+     *
+     * @param metadata The metadata of the frame.
+     * @param name     The name of the node.
+     * @return The node, or null if the frame has none.
+     */
+    private static Node child(IIOMetadata metadata, String name) {
+        Node root = metadata.getAsTree(GIF_METADATA_FORMAT);
+        for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads an attribute of a metadata node.
+     *
+     * @param node         The node, may be null.
+     * @param name         The name of the attribute.
+     * @param defaultValue The value if the node or attribute is missing.
+     * @return The attribute value.
+     */
+    private static String attribute(Node node, String name, String defaultValue) {
+        if (node == null) {
+            return defaultValue;
+        }
+        NamedNodeMap attributes = node.getAttributes();
+        Node attribute = attributes == null ? null : attributes.getNamedItem(name);
+        return attribute == null ? defaultValue : attribute.getNodeValue();
+    }
+
+    /**
+     * Reads an integer attribute of a metadata node.
+     *
+     * @param node         The node, may be null.
+     * @param name         The name of the attribute.
+     * @param defaultValue The value if the node or attribute is missing.
+     * @return The attribute value.
+     */
+    private static int intAttribute(Node node, String name, int defaultValue) {
+        String value = attribute(node, name, null);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    /**
+     * Copies an image.
+     *
+     * @param image The image to copy.
+     * @return An independent copy of the image.
+     */
+    private static BufferedImage copy(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,317 @@
+package battleship.views;
+
+import javax.swing.*;
+
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+
+/**
+ * @class BoardCanvas
+ *        Component that paints a whole game board grid in one pass instead of
+ *        one panel per cell.
+ *        Every cell holds a combination of flags ({@link #SHIP}, {@link #HIT},
+ *        {@link #MISS}, {@link #SUNK}, {@link #DAMAGED}) that decide how it is
+ *        painted. Changing a cell only repaints the rectangle of that cell, and
+ *        a paint pass only visits the cells inside the clip. Clicks are mapped
+ *        to cells arithmetically and passed to a {@link CellListener}.
+ *        A frame of the water animation repaints the rectangle spanned by the
+ *        misses rather than searching the cells, and cells too small for a grid
+ *        line are painted without one, so large boards stay usable.
+ */
+public class BoardCanvas extends JComponent {
+    /**
+     * SerialVersionUID for the BoardCanvas class.
+     */
+    private static final long serialVersionUID = 2871526083196312544L;
+
+    /**
+     * Flag of a cell holding a ship of the board's owner, painted gray.
+     */
+    public static final int SHIP = 1;
+
+    /**
+     * Flag of a cell whose shot hit a ship, painted red.
+     */
+    public static final int HIT = 1 << 1;
+
+    /**
+     * Flag of a cell whose shot missed, painted as water.
+     */
+    public static final int MISS = 1 << 2;
+
+    /**
+     * Flag of a cell of a sunk ship, crossed out.
+     */
+    public static final int SUNK = 1 << 3;
+
+    /**
+     * Flag of a cell of the own board the opponent shot at, framed in red.
+     */
+    public static final int DAMAGED = 1 << 4;
+
+    private static final Color DAMAGE_OVERLAY = new Color(255, 0, 0, 50); /**< Tint of a damaged cell */
+    private static final int DAMAGE_BORDER = 4; /**< Width of the frame of a damaged cell */
+    private static final Stroke SUNK_STROKE = new BasicStroke(3); /**< Stroke of the cross of a sunk cell */
+    private static final int MIN_GRID_CELL = 4; /**< Smallest cell width in pixels that gets a grid line */
+
+    private final int boardSize; /**< The width and height of the board in cells */
+    private final byte[] cells; /**< The flags per cell, index y * boardSize + x */
+    private final Animation missAnimation; /**< Animated water of a miss, shared with all boards */
+    private final Runnable missRepainter = this::repaintMisses; /**< Frame listener of the water animation */
+    private CellListener cellListener; /**< Receives the clicks, null if none */
+    private int missLeft; /**< Leftmost column holding a miss */
+    private int missTop; /**< Topmost row holding a miss */
+    private int missRight; /**< Rightmost column holding a miss, below missLeft if there is none */
+    private int missBottom; /**< Bottommost row holding a miss */
+
+    /**
+     * @interface CellListener
+     *            Receives the clicks on the cells of a board canvas.
+     */
+    public interface CellListener {
+        /**
+         * Called when a cell has been clicked.
+         *
+         * @param x The column of the cell.
+         * @param y The row of the cell.
+         */
+        void cellClicked(int x, int y);
+    }
+
+    /**
+     * Constructor for BoardCanvas.
+     *
+     * @param boardSize The width and height of the board in cells.
+     */
+    public BoardCanvas(int boardSize) {
+        this.boardSize = boardSize;
+        this.cells = new byte[boardSize * boardSize];
+        this.missAnimation = AssetCache.getAnimation(AssetCache.WATER_TILE);
+        setOpaque(true);
+        setBackground(UIManager.getColor("Panel.background"));
+        resetMisses();
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (cellListener == null || getWidth() == 0 || getHeight() == 0) {
+                    return;
+                }
+                int x = Math.min(boardSize - 1, Math.max(0, e.getX() * boardSize / getWidth()));
+                int y = Math.min(boardSize - 1, Math.max(0, e.getY() * boardSize / getHeight()));
+                cellListener.cellClicked(x, y);
+            }
+        });
+    }
+
+    /**
+     * Sets the listener that receives the clicks on the cells.
+     *
+     * @param cellListener The listener, or null to ignore clicks.
+     */
+    public void setCellListener(CellListener cellListener) {
+        this.cellListener = cellListener;
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The board size in cells.
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the flags of a cell.
+     *
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return The flags of the cell.
+     */
+    public int getFlags(int x, int y) {
+        return cells[y * boardSize + x];
+    }
+
+    /**
+     * Replaces the flags of a cell and repaints the cell if they changed.
+     *
+     * @param x     The column of the cell.
+     * @param y     The row of the cell.
+     * @param flags The new flags of the cell.
+     */
+    public void setFlags(int x, int y, int flags) {
+        int index = y * boardSize + x;
+        if (cells[index] != flags) {
+            cells[index] = (byte) flags;
+            if ((flags & MISS) != 0) {
+                missLeft = Math.min(missLeft, x);
+                missTop = Math.min(missTop, y);
+                missRight = Math.max(missRight, x);
+                missBottom = Math.max(missBottom, y);
+            }
+            repaint(cellBounds(x, y));
+        }
+    }
+
+    /**
+     * Adds flags to a cell and repaints the cell if they changed.
+     *
+     * @param x     The column of the cell.
+     * @param y     The row of the cell.
+     * @param flags The flags to add.
+     */
+    public void addFlags(int x, int y, int flags) {
+        setFlags(x, y, getFlags(x, y) | flags);
+    }
+
+    /**
+     * Replaces the flags of every cell, repainting only the cells that change.
+     *
+     * @param flags The new flags per cell, index {@code y * boardSize + x}.
+     */
+    public void setAllFlags(byte[] flags) {
+        for (int index = 0; index < cells.length; index++) {
+            if (cells[index] != flags[index]) {
+                setFlags(index % boardSize, index / boardSize, flags[index]);
+            }
+        }
+    }
+
+    /**
+     * Removes the flags of every cell and repaints the board.
+     */
+    public void clear() {
+        Arrays.fill(cells, (byte) 0);
+        resetMisses();
+        repaint();
+    }
+
+    /**
+     * Empties the rectangle spanned by the misses.
+     */
+    private void resetMisses() {
+        missLeft = boardSize;
+        missTop = boardSize;
+        missRight = -1;
+        missBottom = -1;
+    }
+
+    /**
+     * Computes the rectangle a cell is painted in.
+     *
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return The bounds of the cell in component coordinates.
+     */
+    public Rectangle cellBounds(int x, int y) {
+        int left = x * getWidth() / boardSize;
+        int top = y * getHeight() / boardSize;
+        return new Rectangle(left, top, (x + 1) * getWidth() / boardSize - left,
+                (y + 1) * getHeight() / boardSize - top);
+    }
+
+    /**
+     * Paints the cells inside the clip.
+     *
+     * @param g The Graphics object used for drawing.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (getWidth() == 0 || getHeight() == 0) {
+            return;
+        }
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int firstX = Math.max(0, clip.x * boardSize / getWidth());
+        int firstY = Math.max(0, clip.y * boardSize / getHeight());
+        int lastX = Math.min(boardSize - 1, (clip.x + clip.width) * boardSize / getWidth());
+        int lastY = Math.min(boardSize - 1, (clip.y + clip.height) * boardSize / getHeight());
+
+        Graphics2D g2d = (Graphics2D) g.create();
+        try {
+            for (int y = firstY; y <= lastY; y++) {
+                for (int x = firstX; x <= lastX; x++) {
+                    paintCell(g2d, cellBounds(x, y), cells[y * boardSize + x]);
+                }
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * Starts following the water animation once the board is shown.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        missAnimation.addFrameListener(missRepainter);
+    }
+
+    /**
+     * Stops following the water animation once the board is removed, so a
+     * discarded board is not kept alive by the shared animation.
+     */
+    @Override
+    public void removeNotify() {
+        missAnimation.removeFrameListener(missRepainter);
+        super.removeNotify();
+    }
+
+    /**
+     * Repaints the rectangle spanned by the cells showing the water of a miss.
+     * The repaint manager merges the dirty cells of a component into one
+     * rectangle anyway, so this paints the same cells without visiting every
+     * cell of the board per frame.
+     */
+    private void repaintMisses() {
+        if (missRight >= missLeft) {
+            repaint(cellBounds(missLeft, missTop).union(cellBounds(missRight, missBottom)));
+        }
+    }
+
+    /**
+     * Paints one cell.
+     *
+     * @param g      The Graphics object used for drawing.
+     * @param bounds The rectangle of the cell.
+     * @param flags  The flags of the cell.
+     */
+    private void paintCell(Graphics2D g, Rectangle bounds, int flags) {
+        if (bounds.isEmpty()) {
+            return;
+        }
+        Color fill = (flags & HIT) != 0 ? Color.RED : (flags & SHIP) != 0 ? Color.GRAY : getBackground();
+        g.setColor(fill);
+        g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+
+        if ((flags & MISS) != 0) {
+            g.drawImage(missAnimation.getCurrentFrame(bounds.width, bounds.height), bounds.x, bounds.y, null);
+        }
+
+        if ((flags & DAMAGED) != 0) {
+            g.setColor(DAMAGE_OVERLAY);
+            g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+            g.setColor(Color.RED);
+            for (int i = 0; i < DAMAGE_BORDER; i++) {
+                g.drawRect(bounds.x + i, bounds.y + i, bounds.width - 1 - 2 * i, bounds.height - 1 - 2 * i);
+            }
+        } else if (bounds.width >= MIN_GRID_CELL) {
+            g.setColor(Color.BLACK);
+            g.drawRect(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
+        }
+
+        if ((flags & SUNK) != 0) {
+            g.setColor(Color.BLACK);
+            Stroke stroke = g.getStroke();
+            g.setStroke(SUNK_STROKE);
+            g.drawLine(bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height);
+            g.drawLine(bounds.x, bounds.y + bounds.height, bounds.x + bounds.width, bounds.y);
+            g.setStroke(stroke);
+        }
+    }
+}
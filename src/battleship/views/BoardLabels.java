@@ -0,0 +1,148 @@
+package battleship.views;
+
+import javax.swing.*;
+
+import java.awt.*;
+
+/**
+ * @class BoardLabels
+ *        Component that paints the coordinates along one side of a
+ *        {@link BoardCanvas}: the columns as letters (A-Z, AA, AB, ...) or the
+ *        rows as numbers starting at 1.
+ *        Every label is centred on its cell. If the cells are too small for
+ *        every label, only every second, fifth, tenth, ... cell is labelled, so
+ *        the number of labels painted depends on the size of the component and
+ *        not on the size of the board.
+ *        The column labels are meant for the north of a {@link BorderLayout}
+ *        whose west holds the row labels; they leave out the width of the row
+ *        labels to line up with the board.
+ */
+public class BoardLabels extends JComponent {
+    /**
+     * SerialVersionUID for the BoardLabels class.
+     */
+    private static final long serialVersionUID = -3954173245717410208L;
+
+    private static final Font LABEL_FONT = new Font("Roboto", Font.BOLD, 20); /**< Font of the labels */
+    private static final int PADDING = 6; /**< Free pixels around a label */
+    private static final int[] STEPS = { 1, 2, 5 }; /**< Label every n-th cell, times powers of ten */
+
+    private final int boardSize; /**< The width and height of the board in cells */
+    private final boolean columns; /**< True for the column letters, false for the row numbers */
+    private final int leading; /**< Pixels left free before the first column */
+
+    /**
+     * Constructor for BoardLabels.
+     *
+     * @param boardSize The width and height of the board in cells.
+     * @param columns   True for the column letters, false for the row numbers.
+     */
+    private BoardLabels(int boardSize, boolean columns) {
+        this.boardSize = boardSize;
+        this.columns = columns;
+        setFont(LABEL_FONT);
+        setForeground(Color.WHITE);
+        setBackground(Color.darkGray);
+        setOpaque(true);
+        FontMetrics metrics = getFontMetrics(LABEL_FONT);
+        int rowLabelWidth = metrics.stringWidth(rowLabel(boardSize - 1)) + 2 * PADDING;
+        this.leading = columns ? rowLabelWidth : 0;
+        setPreferredSize(columns ? new Dimension(0, metrics.getHeight() + PADDING)
+                : new Dimension(rowLabelWidth, 0));
+    }
+
+    /**
+     * Creates the column labels of a board.
+     *
+     * @param boardSize The width and height of the board in cells.
+     * @return The labels A, B, C, ... of the columns.
+     */
+    public static BoardLabels columns(int boardSize) {
+        return new BoardLabels(boardSize, true);
+    }
+
+    /**
+     * Creates the row labels of a board.
+     *
+     * @param boardSize The width and height of the board in cells.
+     * @return The labels 1, 2, 3, ... of the rows.
+     */
+    public static BoardLabels rows(int boardSize) {
+        return new BoardLabels(boardSize, false);
+    }
+
+    /**
+     * Gets the label of a column.
+     *
+     * @param x The column, starting at 0.
+     * @return The letters of the column, A to Z followed by AA, AB, ...
+     */
+    public static String columnLabel(int x) {
+        StringBuilder label = new StringBuilder();
+        for (int n = x + 1; n > 0; n = (n - 1) / 26) {
+            label.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return label.toString();
+    }
+
+    /**
+     * Gets the label of a row.
+     *
+     * @param y The row, starting at 0.
+     * @return The number of the row, starting at 1.
+     */
+    public static String rowLabel(int y) {
+        return String.valueOf(y + 1);
+    }
+
+    /**
+     * Paints the labels that fit into the component.
+     *
+     * @param g The Graphics object used for drawing.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        g.setColor(getBackground());
+        g.fillRect(0, 0, getWidth(), getHeight());
+        int length = columns ? getWidth() - leading : getHeight();
+        if (length <= 0) {
+            return;
+        }
+        FontMetrics metrics = g.getFontMetrics(getFont());
+        int extent = columns
+                ? metrics.stringWidth(columnLabel(boardSize - 1)) + PADDING
+                : metrics.getHeight();
+        int step = step(extent * boardSize / length + 1);
+
+        g.setColor(getForeground());
+        g.setFont(getFont());
+        for (int i = 0; i < boardSize; i += step) {
+            int centre = (2 * i + 1) * length / (2 * boardSize);
+            if (columns) {
+                String label = columnLabel(i);
+                g.drawString(label, leading + centre - metrics.stringWidth(label) / 2,
+                        (getHeight() + metrics.getAscent() - metrics.getDescent()) / 2);
+            } else {
+                String label = rowLabel(i);
+                g.drawString(label, (getWidth() - metrics.stringWidth(label)) / 2,
+                        centre + (metrics.getAscent() - metrics.getDescent()) / 2);
+            }
+        }
+    }
+
+    /**
+     * Rounds a number of cells per label up to 1, 2 or 5 times a power of ten.
+     *
+     * @param minimum The smallest number of cells per label.
+     * @return The number of cells per label.
+     */
+    private static int step(int minimum) {
+        for (int scale = 1; ; scale *= 10) {
+            for (int step : STEPS) {
+                if (step * scale >= minimum) {
+                    return step * scale;
+                }
+            }
+        }
+    }
+}
@@ -13,11 +13,6 @@ import battleship.factorys.ships.IShip;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
 
 /**
  * @class PlacementView
@@ -29,10 +24,8 @@ public class ComputerDebugView extends JPanel {
      * 
      */
     private static final long serialVersionUID = -152661922747028345L;
-    private JPanel gridPanel;
-    /** < Panel for the grid layout */
-    private JPanel[][] gridCells;
-    /** < 2D array of grid cells */
+    private BoardCanvas board;
+    /** < Component painting the grid */
     private JPanel parentPanel;
     /** < Parent panel containing this view */
     private BattleshipAI ai;
@@ -58,7 +51,7 @@ public class ComputerDebugView extends JPanel {
             IGameBoard player2Board,
             IPlayer player1, IPlayer computer, BattleshipGUI battleshipGUI) {
         this.parentPanel = parentPanel;
-        this.ai = new BattleshipAI(player1, computer);
+        this.ai = new BattleshipAI(player1, computer, battleshipGUI.getGameRandom());
         this.computer = computer;
 
         initComponents();
@@ -75,24 +68,13 @@ public class ComputerDebugView extends JPanel {
         backButton.addActionListener(
                 e -> ((BattleshipGUI) SwingUtilities.getWindowAncestor(parentPanel)).showMainMenuView());
 
-        gridPanel = new JPanel(new GridLayout(10, 10));
-        gridPanel.setPreferredSize(new Dimension(500, 500));
-        gridCells = new JPanel[10][10];
-
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < 10; j++) {
-                JPanel cell = new JPanel();
-                cell.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-                cell.addMouseListener(new GridCellClickListener(i, j));
-                gridCells[i][j] = cell;
-                gridPanel.add(cell);
-            }
-        }
+        board = new BoardCanvas(computer.getGameBoard().getBoardSize());
+        board.setPreferredSize(new Dimension(500, 500));
 
         JPanel placementWithLabels = new JPanel(new BorderLayout());
         placementWithLabels.add(createColumnLabels(), BorderLayout.NORTH);
         placementWithLabels.add(createRowLabels(), BorderLayout.WEST);
-        placementWithLabels.add(gridPanel, BorderLayout.CENTER);
+        placementWithLabels.add(board, BorderLayout.CENTER);
         placementWithLabels.setBackground(Color.darkGray);
 
         JButton rulesButton = new JButton("Computer Schiffe platzieren");
@@ -125,106 +107,39 @@ public class ComputerDebugView extends JPanel {
     }
 
     /**
-     * Creates the column labels for the grid.
+     * Creates the column labels (A, B, C, ...) for the grid.
      * 
-     * @return A panel containing the column labels.
+     * @return The column labels, lined up with the board.
      */
-    private JPanel createColumnLabels() {
-        JPanel panel = new JPanel(new GridLayout(1, 10));
-        for (char c = 'A'; c <= 'J'; c++) {
-            JLabel label = new JLabel(String.valueOf(c), SwingConstants.CENTER);
-            label.setFont(new Font("Roboto", Font.BOLD, 20));
-            label.setForeground(Color.WHITE);
-            label.setBackground(Color.darkGray);
-            label.setOpaque(true);
-            panel.add(label);
-        }
-        return panel;
+    private JComponent createColumnLabels() {
+        return BoardLabels.columns(board.getBoardSize());
     }
 
     /**
-     * Creates the row labels for the grid.
+     * Creates the row labels (1, 2, 3, ...) for the grid.
      * 
-     * @return A panel containing the row labels.
+     * @return The row labels, lined up with the board.
      */
-    private JPanel createRowLabels() {
-        JPanel panel = new JPanel(new GridLayout(10, 1));
-        for (int i = 1; i <= 10; i++) {
-            JLabel label = new JLabel(String.valueOf(i), SwingConstants.CENTER);
-            label.setFont(new Font("Roboto", Font.BOLD, 20));
-            label.setForeground(Color.WHITE);
-            label.setBackground(Color.darkGray);
-            label.setOpaque(true);
-            panel.add(label);
-        }
-        return panel;
-    }
-
-    /**
-     * @class GridCellClickListener
-     *        Listener for grid cell clicks.
-     *        Extends {@link MouseAdapter} to handle mouse click events on grid
-     *        cells.
-     */
-    private class GridCellClickListener extends MouseAdapter {
-
-        /** < The column of the grid cell */
-
-        /**
-         * Constructor for GridCellClickListener.
-         * 
-         * @param row The row of the grid cell.
-         * @param col The column of the grid cell.
-         */
-        public GridCellClickListener(int row, int col) {
-        }
-
-        /**
-         * Handles mouse click events on grid cells.
-         * 
-         * @param e The mouse event.
-         */
-        @Override
-        public void mouseClicked(MouseEvent e) {
-        }
+    private JComponent createRowLabels() {
+        return BoardLabels.rows(board.getBoardSize());
     }
 
     /**
      * Shows the ship locations for both players.
      */
     private void drawShips() {
-        Map<Point, IShip> ships = computer.getGameBoard().getShipLocations();
-        // Log the ship locations
-
-        for (Map.Entry<Point, IShip> entry : ships.entrySet()) {
-            Point point = entry.getKey();
-            int r = point.x;
-            int c = point.y;
-            gridCells[r][c].setBackground(Color.GRAY);
-        }
+        computer.getGameBoard().forEachShipCell((x, y, ship) -> board.addFlags(x, y, BoardCanvas.SHIP));
     }
 
     /**
-     * Clears the grid by resetting the background color of all cells.
+     * Clears the grid, removing the ships from all cells.
      */
     public void clearGrid() {
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < 10; j++) {
-                gridCells[i][j].setBackground(null);
-            }
-        }
+        board.clear();
     }
 
     private void clearComputerGameboard() {
-        Map<Point, IShip> shipLocations = computer.getGameBoard().getShipLocations();
-
-        if (shipLocations.isEmpty()) {
-            return;
-        }
-
-        Set<IShip> uniqueShips = new HashSet<>(shipLocations.values());
-
-        for (IShip ship : uniqueShips) {
+        for (IShip ship : computer.getGameBoard().snapshot().getShips()) {
             computer.getGameBoard().removeShip(ship);
         }
     }
@@ -3,31 +3,29 @@ package battleship.views;
 import javax.swing.*;
 
 import battleship.BattleshipGUI;
-import battleship.factorys.ships.*;
+import battleship.engine.ShotResult;
 import battleship.managers.ComputerShootingManager;
+import battleship.managers.ShootingManagerObserver;
 import battleship.factorys.player.IPlayer;
-import battleship.factorys.hits.IHits;
 
 import java.awt.*;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 import java.util.List;
-import java.util.Map;
 
 /**
  * @class ComputerShootingView
  *        Represents the shooting view for playing against a computer opponent.
  *        Extends {@link JPanel} to create a custom panel for shooting actions.
+ *        The grids are drawn once and then updated cell by cell from the shot
+ *        events of the {@link ComputerShootingManager}.
  */
-public class ComputerShootingView extends JPanel {
+public class ComputerShootingView extends JPanel implements ShootingManagerObserver, DisposableView {
     /**
      * SerialVersionUID for the ComputerShootingView class.
      */
     private static final long serialVersionUID = -3677038397678972024L;
-    private JPanel gridPanel1;
-    private JPanel gridPanel2;
-    private JPanel[][] gridCells1;
-    private LinePanel[][] gridCells2;
+    private static final long COMPUTER_MOVE_DEADLINE_NANOS = 500_000_000L; /**< Time the computer may think about a move */
+    private BoardCanvas ownBoard;
+    private BoardCanvas targetBoard;
     private JButton nextPlayerButton;
     private ComputerShootingManager shootingManager;
     private IPlayer player;
@@ -47,7 +45,9 @@ public class ComputerShootingView extends JPanel {
      */
     public ComputerShootingView(IPlayer player, IPlayer computer, boolean isOnePlayerDebug,
             BattleshipGUI battleshipGUI) {
-        this.shootingManager = new ComputerShootingManager(player, computer);
+        this.shootingManager = new ComputerShootingManager(player, computer, battleshipGUI.getGameRandom(),
+                battleshipGUI.getTargetingMode());
+        this.shootingManager.addObserver(this);
         this.player = player;
         this.computer = computer;
         this.isOnePlayerDebug = isOnePlayerDebug;
@@ -118,31 +118,27 @@ public class ComputerShootingView extends JPanel {
     }
 
     /**
-     * Initializes the two game board grid panels, one for the player and one for
+     * Initializes the two game board grids, one for the player and one for
      * the computer.
      * 
-     * @param gbc The GridBagConstraints for positioning the panels.
+     * @param gbc The GridBagConstraints for positioning the grids.
      */
     private void initGridPanels(GridBagConstraints gbc) {
-        gridPanel1 = new JPanel(new GridLayout(10, 10));
-        gridPanel2 = new JPanel(new GridLayout(10, 10));
-        gridPanel1.setPreferredSize(new Dimension(500, 500));
-        gridPanel2.setPreferredSize(new Dimension(500, 500));
-
-        gridCells1 = new JPanel[10][10];
-        gridCells2 = new LinePanel[10][10];
-
-        initGridCells();
+        ownBoard = new BoardCanvas(player.getGameBoard().getBoardSize());
+        targetBoard = new BoardCanvas(player.getGameBoard().getBoardSize());
+        ownBoard.setPreferredSize(new Dimension(500, 500));
+        targetBoard.setPreferredSize(new Dimension(500, 500));
+        targetBoard.setCellListener(this::handleGridCellClick);
 
         JPanel gridWithLabels1 = new JPanel(new BorderLayout());
         gridWithLabels1.add(createColumnLabels(), BorderLayout.NORTH);
         gridWithLabels1.add(createRowLabels(), BorderLayout.WEST);
-        gridWithLabels1.add(gridPanel1, BorderLayout.CENTER);
+        gridWithLabels1.add(ownBoard, BorderLayout.CENTER);
 
         JPanel gridWithLabels2 = new JPanel(new BorderLayout());
         gridWithLabels2.add(createColumnLabels(), BorderLayout.NORTH);
         gridWithLabels2.add(createRowLabels(), BorderLayout.WEST);
-        gridWithLabels2.add(gridPanel2, BorderLayout.CENTER);
+        gridWithLabels2.add(targetBoard, BorderLayout.CENTER);
 
         gbc.gridx = 0;
         gbc.gridy = 2;
@@ -152,28 +148,6 @@ public class ComputerShootingView extends JPanel {
         add(gridWithLabels2, gbc);
     }
 
-    /**
-     * Initializes the individual cells within the grid panels.
-     * Adds mouse listeners to the cells on the computer's grid to handle player
-     * shots.
-     */
-    private void initGridCells() {
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < 10; j++) {
-                JPanel cell1 = new JPanel();
-                cell1.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-                gridCells1[i][j] = cell1;
-                gridPanel1.add(cell1);
-
-                LinePanel cell2 = new LinePanel();
-                cell2.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-                cell2.addMouseListener(new GridClickListener(i, j));
-                gridCells2[i][j] = cell2;
-                gridPanel2.add(cell2);
-            }
-        }
-    }
-
     /**
      * Initializes the "Next Player" button (or "Weiter" in German).
      * This button is used to trigger the computer's turn after the player has made
@@ -196,16 +170,22 @@ public class ComputerShootingView extends JPanel {
     }
 
     /**
-     * Handles the click on the "Next Player" button, executing the computer's turn.
-     * Redraws the grids and checks for game over conditions.
+     * Handles the click on the "Next Player" button, starting the computer's turn.
+     * The computer's move is chosen off the Event Dispatch Thread, see
+     * {@link #finishComputerTurn()}.
      */
     private void handleNextPlayerClick() {
-        shootingManager.computerShoot();
-        clearGrids();
-        drawShipsOnOwnBoard();
-        drawTargetBoard();
-        revalidate();
-        repaint();
+        nextPlayerButton.setEnabled(false);
+        shootingManager.computerShootAsync(System.nanoTime() + COMPUTER_MOVE_DEADLINE_NANOS,
+                SwingUtilities::invokeLater, this::finishComputerTurn);
+    }
+
+    /**
+     * Finishes the computer's turn once its shot has been made and drawn.
+     * Checks for game over conditions.
+     */
+    private void finishComputerTurn() {
+        nextPlayerButton.setEnabled(true);
 
         if (shootingManager.isGameOver(computer)) {
             handleComputerWins();
@@ -214,6 +194,45 @@ public class ComputerShootingView extends JPanel {
         }
     }
 
+    /**
+     * Cancels the computer's move if it is still being chosen.
+     * Called when the game is left before the computer has shot.
+     */
+    public void cancelComputerMove() {
+        shootingManager.cancelComputerMove();
+    }
+
+    /**
+     * Releases the view, cancelling the computer's move if it is still being
+     * chosen.
+     */
+    @Override
+    public void dispose() {
+        cancelComputerMove();
+    }
+
+    /**
+     * Handles a shot event, updating only the cells the shot changed.
+     * 
+     * @param shooter The player who fired the shot.
+     * @param x       The column coordinate of the shot.
+     * @param y       The row coordinate of the shot.
+     * @param result  The result of the shot.
+     */
+    @Override
+    public void onShotFired(IPlayer shooter, int x, int y, ShotResult result) {
+        if (shooter == computer) {
+            ownBoard.addFlags(x, y, BoardCanvas.DAMAGED);
+        } else if (result == ShotResult.MISS) {
+            drawMissMarker(y, x);
+        } else {
+            targetBoard.addFlags(x, y, BoardCanvas.HIT);
+            if (result == ShotResult.SUNK) {
+                drawLineThroughSunkShip(shootingManager.isShipSunk(x, y));
+            }
+        }
+    }
+
     /**
      * Handles the scenario where the computer wins the game.
      */
@@ -252,49 +271,31 @@ public class ComputerShootingView extends JPanel {
 
     /**
      * Handles the case where the computer starts the game,
-     * executing the computer's first shot.
+     * executing the computer's first shot off the Event Dispatch Thread.
      */
     private void handleComputerStarts() {
         clicksAllowed = false;
         JOptionPane.showMessageDialog(ComputerShootingView.this, "Der Computer beginnt!");
-        shootingManager.computerShoot();
-        clicksAllowed = true;
+        shootingManager.computerShootAsync(System.nanoTime() + COMPUTER_MOVE_DEADLINE_NANOS,
+                SwingUtilities::invokeLater, () -> clicksAllowed = true);
     }
 
     /**
-     * Creates the column labels (A-J) for the game board grids.
+     * Creates the column labels (A, B, C, ...) for the game board grids.
      * 
-     * @return A JPanel containing the column labels.
+     * @return The column labels, lined up with the board.
      */
-    private JPanel createColumnLabels() {
-        JPanel panel = new JPanel(new GridLayout(1, 10));
-        for (char c = 'A'; c <= 'J'; c++) {
-            JLabel label = new JLabel(String.valueOf(c), SwingConstants.CENTER);
-            label.setFont(new Font("Roboto", Font.BOLD, 20));
-            label.setForeground(Color.WHITE);
-            label.setBackground(Color.darkGray);
-            label.setOpaque(true);
-            panel.add(label);
-        }
-        return panel;
+    private JComponent createColumnLabels() {
+        return BoardLabels.columns(ownBoard.getBoardSize());
     }
 
     /**
-     * Creates the row labels (1-10) for the game board grids.
+     * Creates the row labels (1, 2, 3, ...) for the game board grids.
      * 
-     * @return A JPanel containing the row labels.
+     * @return The row labels, lined up with the board.
      */
-    private JPanel createRowLabels() {
-        JPanel panel = new JPanel(new GridLayout(10, 1));
-        for (int i = 1; i <= 10; i++) {
-            JLabel label = new JLabel(String.valueOf(i), SwingConstants.CENTER);
-            label.setFont(new Font("Roboto", Font.BOLD, 20));
-            label.setForeground(Color.WHITE);
-            label.setBackground(Color.darkGray);
-            label.setOpaque(true);
-            panel.add(label);
-        }
-        return panel;
+    private JComponent createRowLabels() {
+        return BoardLabels.rows(ownBoard.getBoardSize());
     }
 
     /**
@@ -302,29 +303,8 @@ public class ComputerShootingView extends JPanel {
      * the computer.
      */
     private void drawShipsOnOwnBoard() {
-        Map<Point, IShip> ships = player.getGameBoard().getShipLocations();
-        Map<Point, IHits> hits = computer.getTargetingBoard().getHits();
-
-        for (Map.Entry<Point, IShip> entry : ships.entrySet()) {
-            Point point = entry.getKey();
-            int r = point.y;
-            int c = point.x;
-            gridCells1[r][c].setBackground(Color.GRAY);
-        }
-
-        for (Map.Entry<Point, IHits> entry : hits.entrySet()) {
-            Point point = entry.getKey();
-            int r = point.y;
-            int c = point.x;
-            gridCells1[r][c].setBorder(BorderFactory.createLineBorder(Color.RED, 4));
-
-            TransparentPanel overlay = new TransparentPanel(new Color(255, 0, 0, 50));
-            overlay.setBounds(0, 0, gridCells1[r][c].getWidth(), gridCells1[r][c].getHeight());
-            gridCells1[r][c].setLayout(new BorderLayout());
-            gridCells1[r][c].add(overlay, BorderLayout.CENTER);
-            gridCells1[r][c].revalidate();
-            gridCells1[r][c].repaint();
-        }
+        player.getGameBoard().forEachShipCell((x, y, ship) -> ownBoard.addFlags(x, y, BoardCanvas.SHIP));
+        computer.getTargetingBoard().forEachHit((x, y, isHit) -> ownBoard.addFlags(x, y, BoardCanvas.DAMAGED));
     }
 
     /**
@@ -332,13 +312,9 @@ public class ComputerShootingView extends JPanel {
      * computer's grid.
      */
     private void drawTargetBoard() {
-        Map<Point, IHits> hits = player.getTargetingBoard().getHits();
-        for (Map.Entry<Point, IHits> entry : hits.entrySet()) {
-            Point point = entry.getKey();
-            int r = point.y;
-            int c = point.x;
-            if (entry.getValue().isHit()) {
-                gridCells2[r][c].setBackground(Color.RED);
+        player.getTargetingBoard().forEachHit((c, r, isHit) -> {
+            if (isHit) {
+                targetBoard.addFlags(c, r, BoardCanvas.HIT);
                 List<Point> sunkShipCoordinates = shootingManager.isShipSunk(c, r);
                 if (!sunkShipCoordinates.isEmpty()) {
                     drawLineThroughSunkShip(sunkShipCoordinates);
@@ -346,7 +322,7 @@ public class ComputerShootingView extends JPanel {
             } else {
                 drawMissMarker(r, c);
             }
-        }
+        });
     }
 
     /**
@@ -357,29 +333,7 @@ public class ComputerShootingView extends JPanel {
      * @param c The column coordinate.
      */
     private void drawMissMarker(int r, int c) {
-        try {
-            ImageIcon gifIcon = new ImageIcon(getClass().getResource("water_tile.gif"));
-            if (gifIcon.getIconWidth() == -1) {
-                return;
-            }
-
-            JLabel missLabel = new JLabel(gifIcon);
-            missLabel.setHorizontalAlignment(JLabel.CENTER);
-            missLabel.setVerticalAlignment(JLabel.CENTER);
-
-            gridCells2[r][c].setLayout(new GridBagLayout());
-            GridBagConstraints gbc = new GridBagConstraints();
-            gbc.gridx = 0;
-            gbc.gridy = 0;
-            gbc.weightx = 1.0;
-            gbc.weighty = 1.0;
-            gbc.anchor = GridBagConstraints.CENTER;
-            gridCells2[r][c].add(missLabel, gbc);
-            gridCells2[r][c].revalidate();
-            gridCells2[r][c].repaint();
-        } catch (Exception ex) {
-            ex.printStackTrace();
-        }
+        targetBoard.addFlags(c, r, BoardCanvas.MISS);
     }
 
     /**
@@ -391,199 +345,54 @@ public class ComputerShootingView extends JPanel {
      */
     private void drawLineThroughSunkShip(List<Point> coordinates) {
         for (Point point : coordinates) {
-            gridCells2[point.y][point.x].setSunk(true);
-        }
-    }
-
-    /**
-     * Clears the contents of both game board grids, resetting their visual state.
-     */
-    public void clearGrids() {
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < 10; j++) {
-                gridCells1[i][j].setBackground(null);
-                gridCells1[i][j].setBorder(BorderFactory.createLineBorder(Color.BLACK));
-                gridCells1[i][j].removeAll();
-                gridCells2[i][j].setBackground(null);
-                gridCells2[i][j].setSunk(false);
-                gridCells2[i][j].removeAll();
-            }
+            targetBoard.addFlags(point.x, point.y, BoardCanvas.SUNK);
         }
     }
 
     /**
-     * @class GridClickListener
-     *        A MouseAdapter that listens for clicks on the grid cells
-     *        and handles player shots on the computer's board.
+     * Handles a click on a cell of the computer's grid, representing a player
+     * shot.
+     * Checks for valid shots, updates the game state, and manages game over
+     * conditions.
+     * 
+     * @param col The column coordinate of the grid cell.
+     * @param row The row coordinate of the grid cell.
      */
-    private class GridClickListener extends MouseAdapter {
-        private final int row;
-        private final int col;
-
-        /**
-         * Constructor for GridClickListener.
-         *
-         * @param row The row coordinate of the grid cell.
-         * @param col The column coordinate of the grid cell.
-         */
-        public GridClickListener(int row, int col) {
-            this.row = row;
-            this.col = col;
-        }
-
-        /**
-         * Handles mouse click events on the grid cells.
-         *
-         * @param e The MouseEvent triggered by the click.
-         */
-        @Override
-        public void mouseClicked(MouseEvent e) {
-            handleGridCellClick();
-        }
-
-        /**
-         * Handles the logic for a grid cell click, representing a player shot.
-         * Checks for valid shots, updates the game state, and manages game over
-         * conditions.
-         */
-        private void handleGridCellClick() {
-            if (!clicksAllowed) {
-                return;
-            }
-            if (shootingManager.isAlreadyHit(col, row)) {
-                JOptionPane.showMessageDialog(null, "Bereits auf dieses Feld geschossen!");
-                return;
-            }
-
-            boolean hit = shootingManager.addHitToTargetBoard(col, row);
-
-            if (hit) {
-                handleHit();
-            } else {
-                handleMiss();
-            }
-
-            if (shootingManager.isGameOver(player)) {
-                handlePlayerWins();
-            } else {
-                prepareComputerTurn();
-            }
-        }
-
-        /**
-         * Handles a successful hit, updating the display and checking for sunk ships.
-         */
-        private void handleHit() {
-            gridCells2[row][col].setBackground(Color.RED);
-            List<Point> sunkShipCoordinates = shootingManager.isShipSunk(col, row);
-            if (!sunkShipCoordinates.isEmpty()) {
-                JOptionPane.showMessageDialog(null, "Schiff versenkt!");
-                drawLineThroughSunkShip(sunkShipCoordinates);
-            }
+    private void handleGridCellClick(int col, int row) {
+        if (!clicksAllowed) {
+            return;
         }
-
-        /**
-         * Handles a miss, updating the display with a miss marker.
-         */
-        private void handleMiss() {
-            drawMissMarker(row, col);
+        if (shootingManager.isAlreadyHit(col, row)) {
+            JOptionPane.showMessageDialog(null, "Bereits auf dieses Feld geschossen!");
+            return;
         }
 
-        /**
-         * Handles the case where the player wins the game.
-         */
-        private void handlePlayerWins() {
-            JOptionPane.showMessageDialog(null, "Spiel vorbei! " + player.getName() + " hat gewonnen!");
-            battleshipGUI.showMainMenuView();
+        boolean hit = shootingManager.addHitToTargetBoard(col, row);
+        if (hit && !shootingManager.isShipSunk(col, row).isEmpty()) {
+            JOptionPane.showMessageDialog(null, "Schiff versenkt!");
         }
 
-        /**
-         * Prepares the game for the computer's turn by disabling player input and
-         * enabling the "Next Player" button.
-         */
-        private void prepareComputerTurn() {
-            clicksAllowed = false;
-            nextPlayerButton.setVisible(true);
+        if (shootingManager.isGameOver(player)) {
+            handlePlayerWins();
+        } else {
+            prepareComputerTurn();
         }
     }
 
     /**
-     * @class LinePanel
-     *        A custom JPanel that can draw a line through it to visually indicate a
-     *        sunk ship.
+     * Handles the case where the player wins the game.
      */
-    class LinePanel extends JPanel {
-        /**
-         * SerialVersionUID for the LinePanel class.
-         */
-        private static final long serialVersionUID = 790697028496269236L;
-        private boolean isSunk = false;
-
-        /**
-         * Sets the sunk status of the panel.
-         * 
-         * @param isSunk True if the panel should represent a sunk ship cell, false
-         *               otherwise.
-         */
-        public void setSunk(boolean isSunk) {
-            this.isSunk = isSunk;
-            repaint();
-        }
-
-        /**
-         * Overrides the paintComponent method to draw a diagonal line through the panel
-         * if the `isSunk` flag is set to true.
-         * 
-         * @param g The Graphics object to use for drawing.
-         */
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            if (isSunk) {
-                Graphics2D g2d = (Graphics2D) g;
-                g2d.setColor(Color.BLACK);
-                g2d.setStroke(new BasicStroke(3));
-                g2d.drawLine(0, 0, getWidth(), getHeight());
-                g2d.drawLine(0, getHeight(), getWidth(), 0);
-            }
-        }
+    private void handlePlayerWins() {
+        JOptionPane.showMessageDialog(null, "Spiel vorbei! " + player.getName() + " hat gewonnen!");
+        battleshipGUI.showMainMenuView();
     }
 
     /**
-     * @class TransparentPanel
-     *        A custom JPanel that draws a semi-transparent overlay color.
-     *        Used to visually indicate hits on the player's own board.
+     * Prepares the game for the computer's turn by disabling player input and
+     * enabling the "Next Player" button.
      */
-    class TransparentPanel extends JPanel {
-        /**
-         * SerialVersionUID for the TransparentPanel class.
-         */
-        private static final long serialVersionUID = 383926842048906531L;
-        private final Color overlayColor;
-
-        /**
-         * Constructor for TransparentPanel.
-         * 
-         * @param overlayColor The Color to use for the semi-transparent overlay.
-         */
-        public TransparentPanel(Color overlayColor) {
-            this.overlayColor = overlayColor;
-            setOpaque(false);
-        }
-
-        /**
-         * Overrides the paintComponent method to draw the semi-transparent color
-         * overlay.
-         * 
-         * @param g The Graphics object used for drawing.
-         */
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            Graphics2D g2d = (Graphics2D) g.create();
-            g2d.setColor(overlayColor);
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-            g2d.dispose();
-        }
+    private void prepareComputerTurn() {
+        clicksAllowed = false;
+        nextPlayerButton.setVisible(true);
     }
 }
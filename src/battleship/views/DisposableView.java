@@ -0,0 +1,15 @@
+package battleship.views;
+
+/**
+ * @interface DisposableView
+ *            Implemented by views that hold resources beyond their component
+ *            tree, such as background tasks.
+ *            The view is disposed when it is replaced or when the game it
+ *            belongs to is left, and is not shown again afterwards.
+ */
+public interface DisposableView {
+    /**
+     * Releases the resources of the view.
+     */
+    void dispose();
+}
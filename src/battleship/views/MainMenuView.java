@@ -2,6 +2,7 @@ package battleship.views;
 
 import javax.swing.*;
 import battleship.BattleshipGUI;
+import battleship.engine.ai.TargetingMode;
 import java.awt.*;
 
 /**
@@ -14,6 +15,8 @@ public class MainMenuView extends JPanel {
      * SerialVersionUID for the MainMenuView class.
      */
     private static final long serialVersionUID = -3508847850101162469L;
+    private static final TargetingMode[] TARGETING_MODES = { TargetingMode.HUNT_SINK,
+            TargetingMode.PROBABILITY_DENSITY, TargetingMode.MONTE_CARLO }; /**< The strategies the computer opponent can use */
     private final JPanel parentPanel;
     private JButton buttonFive;
     private JButton buttonSix;
@@ -48,7 +51,7 @@ public class MainMenuView extends JPanel {
 
         gbc.gridy = 11;
         gbc.gridwidth = GridBagConstraints.REMAINDER;
-        add(new JLabel(new ImageIcon(getClass().getResource("waves.gif"))), gbc);
+        add(new AnimationView(AssetCache.getAnimation(AssetCache.WAVES)), gbc);
 
         setBackground(Color.darkGray);
     }
@@ -88,6 +91,9 @@ public class MainMenuView extends JPanel {
             ((BattleshipGUI) SwingUtilities.getWindowAncestor(parentPanel)).showSinglePlacementView();
         }), gbc);
 
+        gbc.gridy = 3;
+        add(createTargetingModeBox(), gbc);
+
         gbc.gridy = 4;
         JButton debugButton = createButton("Debug Mode", () -> {
             toggleDebugButtons();
@@ -121,6 +127,23 @@ public class MainMenuView extends JPanel {
         });
     }
 
+    /**
+     * Creates the selection of the computer opponent's strategy. The first
+     * entry is the default of {@link BattleshipGUI}.
+     * 
+     * @return The combo box selecting the targeting mode.
+     */
+    private JComboBox<String> createTargetingModeBox() {
+        String[] names = new String[TARGETING_MODES.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Computer-Strategie: " + TARGETING_MODES[i].getName();
+        }
+        JComboBox<String> targetingModeBox = new JComboBox<>(names);
+        targetingModeBox.addActionListener(e -> ((BattleshipGUI) SwingUtilities.getWindowAncestor(parentPanel))
+                .setTargetingMode(TARGETING_MODES[targetingModeBox.getSelectedIndex()]));
+        return targetingModeBox;
+    }
+
     /**
      * Toggles the visibility of the debug buttons.
      */
@@ -5,11 +5,10 @@ import battleship.factorys.gameboard.IGameBoard;
 import battleship.factorys.player.IPlayer;
 import battleship.managers.ShipPlacementManager;
 import battleship.factorys.ships.IShip;
+import battleship.factorys.ships.ShipRegistry;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 
 /**
  * @class PlacementView
@@ -21,12 +20,7 @@ public class PlacementView extends JPanel {
      * SerialVersionUID for PlacementView class.
      */
     private static final long serialVersionUID = -5028148731983685669L;
-    /**
-     * Constant for the total number of ships to be placed by each player.
-     */
-    private static final int TOTAL_SHIPS = 10;
-    private JPanel gridPanel;
-    private JPanel[][] gridCells;
+    private BoardCanvas board;
     private CardLayout cardLayout;
     private JPanel parentPanel;
     private ShipPlacementManager shipPlacementManager;
@@ -76,7 +70,7 @@ public class PlacementView extends JPanel {
         JPanel placementWithLabels = new JPanel(new BorderLayout());
         placementWithLabels.add(createColumnLabels(), BorderLayout.NORTH);
         placementWithLabels.add(createRowLabels(), BorderLayout.WEST);
-        placementWithLabels.add(gridPanel, BorderLayout.CENTER);
+        placementWithLabels.add(board, BorderLayout.CENTER);
         placementWithLabels.setBackground(Color.darkGray);
 
         instructionLabel = new JLabel(player1.getName() + ", platziere deine Schiffe.", SwingConstants.CENTER);
@@ -127,19 +121,9 @@ public class PlacementView extends JPanel {
      * Initializes the grid panel and grid cells for ship placement.
      */
     private void initGridPanel() {
-        gridPanel = new JPanel(new GridLayout(10, 10));
-        gridPanel.setPreferredSize(new Dimension(500, 500));
-        gridCells = new JPanel[10][10];
-
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < 10; j++) {
-                JPanel cell = new JPanel();
-                cell.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-                cell.addMouseListener(new GridCellClickListener(i, j));
-                gridCells[i][j] = cell;
-                gridPanel.add(cell);
-            }
-        }
+        board = new BoardCanvas(player1.getGameBoard().getBoardSize());
+        board.setPreferredSize(new Dimension(500, 500));
+        board.setCellListener((x, y) -> handleGridCellClick(y, x));
     }
 
     /**
@@ -165,7 +149,7 @@ public class PlacementView extends JPanel {
                 "3. Die Schiffe dürfen nicht diagonal platziert werden.",
                 "4. Der Spieler, der alle Schiffe des Gegners versenkt hat, gewinnt.",
                 "5. Klicke auf eine Zelle, um ein Schiff zu platzieren oder zu entfernen.",
-                "6. Jeder Spieler darf ein Schlachtschiff, zwei Kreuzer, drei Zerstörer und vier U-Boote platzieren.",
+                "6. Jeder Spieler darf " + shipPlacementManager.getFleetDescription() + " platzieren.",
                 "7. Viel Spaß!"
         };
 
@@ -181,39 +165,21 @@ public class PlacementView extends JPanel {
     }
 
     /**
-     * Creates the column labels (A-J) for the grid.
+     * Creates the column labels (A, B, C, ...) for the grid.
      * 
-     * @return A panel containing the column labels.
+     * @return The column labels, lined up with the board.
      */
-    private JPanel createColumnLabels() {
-        JPanel panel = new JPanel(new GridLayout(1, 10));
-        for (char c = 'A'; c <= 'J'; c++) {
-            JLabel label = new JLabel(String.valueOf(c), SwingConstants.CENTER);
-            label.setFont(new Font("Roboto", Font.BOLD, 20));
-            label.setForeground(Color.WHITE);
-            label.setBackground(Color.darkGray);
-            label.setOpaque(true);
-            panel.add(label);
-        }
-        return panel;
+    private JComponent createColumnLabels() {
+        return BoardLabels.columns(board.getBoardSize());
     }
 
     /**
-     * Creates the row labels (1-10) for the grid.
+     * Creates the row labels (1, 2, 3, ...) for the grid.
      * 
-     * @return A panel containing the row labels.
+     * @return The row labels, lined up with the board.
      */
-    private JPanel createRowLabels() {
-        JPanel panel = new JPanel(new GridLayout(10, 1));
-        for (int i = 1; i <= 10; i++) {
-            JLabel label = new JLabel(String.valueOf(i), SwingConstants.CENTER);
-            label.setFont(new Font("Roboto", Font.BOLD, 20));
-            label.setForeground(Color.WHITE);
-            label.setBackground(Color.darkGray);
-            label.setOpaque(true);
-            panel.add(label);
-        }
-        return panel;
+    private JComponent createRowLabels() {
+        return BoardLabels.rows(board.getBoardSize());
     }
 
     /**
@@ -226,9 +192,7 @@ public class PlacementView extends JPanel {
         shipListPanel.setLayout(new BoxLayout(shipListPanel, BoxLayout.Y_AXIS));
         shipListPanel.setBackground(Color.darkGray);
 
-        String[] shipNames = { "Schlachtschiff", "Kreuzer", "Zerstörer", "U-Boot" };
-        int[] shipCounts = { 1, 2, 3, 4 };
-        shipCountLabels = new JLabel[shipNames.length];
+        shipCountLabels = new JLabel[ShipRegistry.TYPE_COUNT];
 
         JLabel titleLabel = new JLabel("Noch zu verteilende Schiffe:");
         titleLabel.setFont(new Font("Roboto", Font.BOLD, 20));
@@ -237,8 +201,8 @@ public class PlacementView extends JPanel {
 
         shipListPanel.add(Box.createRigidArea(new Dimension(0, 10)));
 
-        for (int i = 0; i < shipNames.length; i++) {
-            createShipCountLabel(shipNames[i], shipCounts[i]);
+        for (int i = 0; i < ShipRegistry.TYPE_COUNT; i++) {
+            createShipCountLabel(i, ShipRegistry.getName(i), shipPlacementManager.getShipLimit(i));
         }
 
         return shipListPanel;
@@ -248,10 +212,11 @@ public class PlacementView extends JPanel {
      * Creates a label for a specific ship type and its count,
      * adding it to the ship list panel.
      * 
+     * @param index     The index of the ship type in the ship list.
      * @param shipName  The name of the ship type.
      * @param shipCount The initial count of ships of this type.
      */
-    private void createShipCountLabel(String shipName, int shipCount) {
+    private void createShipCountLabel(int index, String shipName, int shipCount) {
         JPanel shipPanel = new JPanel(new BorderLayout());
         shipPanel.setBackground(Color.darkGray);
 
@@ -259,7 +224,6 @@ public class PlacementView extends JPanel {
         nameLabel.setFont(new Font("Roboto", Font.BOLD, 16));
         nameLabel.setForeground(Color.WHITE);
 
-        int index = shipCount - 1;
         shipCountLabels[index] = new JLabel("x" + shipCount);
         shipCountLabels[index].setFont(new Font("Roboto", Font.BOLD, 16));
         shipCountLabels[index].setForeground(Color.WHITE);
@@ -274,168 +238,136 @@ public class PlacementView extends JPanel {
     /**
      * Updates the displayed count of a ship type in the ship list.
      * 
-     * @param shipName The name of the ship type to update.
+     * @param shipType The index of the ship type to update.
      * @param delta    The amount to change the count by (positive or negative).
      */
-    private void updateShipCount(String shipName, int delta) {
-        String[] shipNames = { "Schlachtschiff", "Kreuzer", "Zerstörer", "U-Boot" };
-        for (int i = 0; i < shipNames.length; i++) {
-            if (shipNames[i].equals(shipName)) {
-                int currentCount = Integer.parseInt(shipCountLabels[i].getText().substring(1));
-                shipCountLabels[i].setText("x" + (currentCount + delta));
-                shipListPanel.repaint();
-                shipListPanel.revalidate();
-                break;
-            }
-        }
+    private void updateShipCount(int shipType, int delta) {
+        int currentCount = Integer.parseInt(shipCountLabels[shipType].getText().substring(1));
+        shipCountLabels[shipType].setText("x" + (currentCount + delta));
+        shipListPanel.repaint();
+        shipListPanel.revalidate();
     }
 
     /**
-     * @class GridCellClickListener
-     *        Listener for grid cell clicks, handles ship placement/removal.
-     *        Extends {@link MouseAdapter} for mouse click events.
+     * Handles the logic for a grid cell click, either placing or removing a ship.
+     * Also manages the transition between player turns during placement.
+     * 
+     * @param row The row of the clicked cell.
+     * @param col The column of the clicked cell.
      */
-    private class GridCellClickListener extends MouseAdapter {
-        private final int row;
-        private final int col;
-
-        /**
-         * Constructor for GridCellClickListener.
-         * 
-         * @param row The row of the associated grid cell.
-         * @param col The column of the associated grid cell.
-         */
-        public GridCellClickListener(int row, int col) {
-            this.row = row;
-            this.col = col;
+    private void handleGridCellClick(int row, int col) {
+        IShip existingShip = shipPlacementManager.getShipAt(row, col);
+        if (existingShip != null) {
+            handleExistingShipClick(row, col, existingShip);
+            return;
         }
 
-        /**
-         * Handles a mouse click event on a grid cell.
-         * 
-         * @param e The MouseEvent triggered by the click.
-         */
-        @Override
-        public void mouseClicked(MouseEvent e) {
-            handleGridCellClick();
+        if (shipPlacementManager.getPlacedShipsCount() >= shipPlacementManager.getTotalShips()) {
+            handleMaxShipsPlaced(row, col);
+            return;
         }
 
-        /**
-         * Handles the logic for a grid cell click, either placing or removing a ship.
-         * Also manages the transition between player turns during placement.
-         */
-        private void handleGridCellClick() {
-            IShip existingShip = shipPlacementManager.getShipAt(row, col);
-            if (existingShip != null) {
-                handleExistingShipClick(existingShip);
-                return;
-            }
-
-            if (shipPlacementManager.getPlacedShipsCount() >= TOTAL_SHIPS) {
-                handleMaxShipsPlaced();
-                return;
-            }
-
-            showShipPlacementDialog();
-        }
+        showShipPlacementDialog(row, col);
+    }
 
-        /**
-         * Handles click on a cell with an existing ship, prompting for removal.
-         * 
-         * @param existingShip The IShip object currently at the clicked cell.
-         */
-        private void handleExistingShipClick(IShip existingShip) {
-            int confirm = JOptionPane.showConfirmDialog(PlacementView.this,
-                    "An dieser Stelle befindet sich bereits ein Schiff. Möchtest du es löschen?",
-                    "Schiff löschen", JOptionPane.YES_NO_OPTION);
-            if (confirm == JOptionPane.YES_OPTION) {
-                shipPlacementManager.removeShip(row, col, existingShip, gridCells);
-                SwingUtilities.invokeLater(() -> {
-                    gridCells[row][col].setBackground(null);
-                    updateShipCount(existingShip.getShipName(), 1);
-                });
-            }
+    /**
+     * Handles click on a cell with an existing ship, prompting for removal.
+     * 
+     * @param row          The row of the clicked cell.
+     * @param col          The column of the clicked cell.
+     * @param existingShip The IShip object currently at the clicked cell.
+     */
+    private void handleExistingShipClick(int row, int col, IShip existingShip) {
+        int confirm = JOptionPane.showConfirmDialog(this,
+                "An dieser Stelle befindet sich bereits ein Schiff. Möchtest du es löschen?",
+                "Schiff löschen", JOptionPane.YES_NO_OPTION);
+        if (confirm == JOptionPane.YES_OPTION) {
+            shipPlacementManager.removeShip(row, col, existingShip, board);
+            SwingUtilities.invokeLater(() -> updateShipCount(ShipRegistry.indexOf(existingShip), 1));
         }
+    }
 
-        /**
-         * Handles the case when the maximum number of ships have been placed.
-         * Transitions to the next player's turn or to the shooting phase.
-         */
-        private void handleMaxShipsPlaced() {
-            if (shipPlacementManager.getCurrentPlayer().equals("player1")) {
-                clearGrid();
-                JOptionPane.showMessageDialog(PlacementView.this,
-                        "Spieler 1 hat alle Schiffe platziert. Nun ist Spieler 2 dran.");
-            } else {
-                SwingUtilities.invokeLater(() -> {
-                    JOptionPane.showMessageDialog(PlacementView.this, "Schiffsplatzierung abgeschlossen.");
-                    cardLayout.show(parentPanel, "ShootingView");
-                });
-            }
+    /**
+     * Handles the case when the maximum number of ships have been placed.
+     * Transitions to the next player's turn or to the shooting phase.
+     * 
+     * @param row The row of the clicked cell.
+     * @param col The column of the clicked cell.
+     */
+    private void handleMaxShipsPlaced(int row, int col) {
+        if (shipPlacementManager.getCurrentPlayer().equals("player1")) {
+            clearGrid();
+            JOptionPane.showMessageDialog(this,
+                    "Spieler 1 hat alle Schiffe platziert. Nun ist Spieler 2 dran.");
+        } else {
+            SwingUtilities.invokeLater(() -> {
+                JOptionPane.showMessageDialog(this, "Schiffsplatzierung abgeschlossen.");
+                cardLayout.show(parentPanel, "ShootingView");
+            });
         }
+    }
 
-        /**
-         * Displays a dialog allowing the user to choose ship type and orientation for
-         * placement.
-         */
-        private void showShipPlacementDialog() {
-            JPanel panel = new JPanel(new GridLayout(2, 2));
-            JLabel sizeLabel = new JLabel("Wähle ein Schiff aus:");
-            String[] shipOptions = { "Schlachtschiff", "Kreuzer", "Zerstörer", "U-Boot" };
-            JComboBox<String> sizeComboBox = new JComboBox<>(shipOptions);
-            JLabel orientationLabel = new JLabel("Ausrichtung auswählen:");
-            String[] orientationOptions = { "Horizontal", "Vertikal" };
-            JComboBox<String> orientationComboBox = new JComboBox<>(orientationOptions);
-
-            panel.add(sizeLabel);
-            panel.add(sizeComboBox);
-            panel.add(orientationLabel);
-            panel.add(orientationComboBox);
-
-            int result = JOptionPane.showConfirmDialog(PlacementView.this, panel, "Schiff platzieren",
-                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
-
-            if (result == JOptionPane.OK_OPTION) {
-                handleShipPlacement(sizeComboBox, orientationComboBox);
-            }
+    /**
+     * Displays a dialog allowing the user to choose ship type and orientation for
+     * placement.
+     * 
+     * @param row The row of the clicked cell.
+     * @param col The column of the clicked cell.
+     */
+    private void showShipPlacementDialog(int row, int col) {
+        JPanel panel = new JPanel(new GridLayout(2, 2));
+        JLabel sizeLabel = new JLabel("Wähle ein Schiff aus:");
+        JComboBox<String> sizeComboBox = new JComboBox<>(ShipRegistry.getNames());
+        JLabel orientationLabel = new JLabel("Ausrichtung auswählen:");
+        String[] orientationOptions = { "Horizontal", "Vertikal" };
+        JComboBox<String> orientationComboBox = new JComboBox<>(orientationOptions);
+
+        panel.add(sizeLabel);
+        panel.add(sizeComboBox);
+        panel.add(orientationLabel);
+        panel.add(orientationComboBox);
+
+        int result = JOptionPane.showConfirmDialog(this, panel, "Schiff platzieren",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+
+        if (result == JOptionPane.OK_OPTION) {
+            handleShipPlacement(row, col, sizeComboBox, orientationComboBox);
         }
+    }
 
-        /**
-         * Handles the ship placement based on the user's selections in the dialog.
-         * 
-         * @param sizeComboBox        The combo box from which the ship type was chosen.
-         * @param orientationComboBox The combo box from which the ship orientation was
-         *                            chosen.
-         */
-        private void handleShipPlacement(JComboBox<String> sizeComboBox, JComboBox<String> orientationComboBox) {
-            String selectedShip = (String) sizeComboBox.getSelectedItem();
-            int shipSize = shipPlacementManager.getShipSize(selectedShip);
-            boolean isHorizontal = orientationComboBox.getSelectedItem().equals("Horizontal");
-
-            if (shipPlacementManager.canPlaceShip(selectedShip)) {
-                try {
-                    updateShipCount(selectedShip, -1);
-                    shipPlacementManager.placeShip(row, col, shipSize, isHorizontal, selectedShip, gridCells);
-                } catch (IllegalArgumentException ex) {
-                    SwingUtilities
-                            .invokeLater(() -> JOptionPane.showMessageDialog(PlacementView.this, ex.getMessage()));
-                }
-            } else {
-                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(PlacementView.this,
-                        "Du hast bereits das Maximum dieses Typs platziert."));
+    /**
+     * Handles the ship placement based on the user's selections in the dialog.
+     * 
+     * @param row                 The row of the clicked cell.
+     * @param col                 The column of the clicked cell.
+     * @param sizeComboBox        The combo box from which the ship type was chosen.
+     * @param orientationComboBox The combo box from which the ship orientation was
+     *                            chosen.
+     */
+    private void handleShipPlacement(int row, int col, JComboBox<String> sizeComboBox,
+            JComboBox<String> orientationComboBox) {
+        int selectedShip = sizeComboBox.getSelectedIndex();
+        boolean isHorizontal = orientationComboBox.getSelectedItem().equals("Horizontal");
+
+        if (shipPlacementManager.canPlaceShip(selectedShip)) {
+            try {
+                updateShipCount(selectedShip, -1);
+                shipPlacementManager.placeShip(row, col, isHorizontal, selectedShip, board);
+            } catch (IllegalArgumentException ex) {
+                SwingUtilities
+                        .invokeLater(() -> JOptionPane.showMessageDialog(this, ex.getMessage()));
             }
+        } else {
+            SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this,
+                    "Du hast bereits das Maximum dieses Typs platziert."));
         }
     }
 
     /**
-     * Clears the placement grid, resetting the background color of all cells.
+     * Clears the placement grid, removing the ships from all cells.
      */
     public void clearGrid() {
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < 10; j++) {
-                gridCells[i][j].setBackground(null);
-            }
-        }
+        board.clear();
     }
 
     /**
@@ -444,7 +376,7 @@ public class PlacementView extends JPanel {
      */
     private void resetShipCounts() {
         for (int i = 0; i < shipCountLabels.length; i++) {
-            shipCountLabels[i].setText("x" + (i + 1));
+            shipCountLabels[i].setText("x" + shipPlacementManager.getShipLimit(i));
         }
     }
 
@@ -4,11 +4,10 @@ import battleship.BattleshipGUI;
 import battleship.factorys.player.IPlayer;
 import battleship.managers.SinglePlacementManager;
 import battleship.factorys.ships.IShip;
+import battleship.factorys.ships.ShipRegistry;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 
 /**
  * @class SinglePlacementView
@@ -20,8 +19,7 @@ public class SinglePlacementView extends JPanel {
      * SerialVersionUID for SinglePlacementView class.
      */
     private static final long serialVersionUID = 4946862325911538781L;
-    private JPanel gridPanel;
-    private JPanel[][] gridCells;
+    private BoardCanvas board;
     private JPanel parentPanel;
     private SinglePlacementManager shipPlacementManager;
     private BattleshipGUI battleshipGUI;
@@ -62,7 +60,7 @@ public class SinglePlacementView extends JPanel {
         JPanel placementWithLabels = new JPanel(new BorderLayout());
         placementWithLabels.add(createColumnLabels(), BorderLayout.NORTH);
         placementWithLabels.add(createRowLabels(), BorderLayout.WEST);
-        placementWithLabels.add(gridPanel, BorderLayout.CENTER);
+        placementWithLabels.add(board, BorderLayout.CENTER);
         placementWithLabels.setBackground(Color.darkGray);
 
         JLabel instructionLabel = new JLabel(player1.getName() + ", platziere deine Schiffe.", SwingConstants.CENTER);
@@ -113,19 +111,9 @@ public class SinglePlacementView extends JPanel {
      * Initializes the grid panel and cells.
      */
     private void initGridPanel() {
-        gridPanel = new JPanel(new GridLayout(10, 10));
-        gridPanel.setPreferredSize(new Dimension(500, 500));
-        gridCells = new JPanel[10][10];
-
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < 10; j++) {
-                JPanel cell = new JPanel();
-                cell.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-                cell.addMouseListener(new GridCellClickListener(i, j));
-                gridCells[i][j] = cell;
-                gridPanel.add(cell);
-            }
-        }
+        board = new BoardCanvas(player1.getGameBoard().getBoardSize());
+        board.setPreferredSize(new Dimension(500, 500));
+        board.setCellListener((x, y) -> handleGridCellClick(y, x));
     }
 
     /**
@@ -162,7 +150,7 @@ public class SinglePlacementView extends JPanel {
                 "3. Die Schiffe dürfen nicht diagonal platziert werden.",
                 "4. Der Spieler, der alle Schiffe des Gegners versenkt hat, gewinnt.",
                 "5. Klicke auf eine Zelle, um ein Schiff zu platzieren oder zu entfernen.",
-                "6. Jeder Spieler darf ein Schlachtschiff, zwei Kreuzer, drei Zerstörer und vier U-Boote platzieren.",
+                "6. Jeder Spieler darf " + shipPlacementManager.getFleetDescription() + " platzieren.",
                 "7. Viel Spaß!"
         };
 
@@ -175,39 +163,21 @@ public class SinglePlacementView extends JPanel {
     }
 
     /**
-     * Creates the column labels for the grid.
-     *
-     * @return A panel containing the column labels.
+     * Creates the column labels (A, B, C, ...) for the grid.
+     * 
+     * @return The column labels, lined up with the board.
      */
-    private JPanel createColumnLabels() {
-        JPanel panel = new JPanel(new GridLayout(1, 10));
-        for (char c = 'A'; c <= 'J'; c++) {
-            JLabel label = new JLabel(String.valueOf(c), SwingConstants.CENTER);
-            label.setFont(new Font("Roboto", Font.BOLD, 20));
-            label.setForeground(Color.WHITE);
-            label.setBackground(Color.darkGray);
-            label.setOpaque(true);
-            panel.add(label);
-        }
-        return panel;
+    private JComponent createColumnLabels() {
+        return BoardLabels.columns(board.getBoardSize());
     }
 
     /**
-     * Creates the row labels for the grid.
-     *
-     * @return A panel containing the row labels.
+     * Creates the row labels (1, 2, 3, ...) for the grid.
+     * 
+     * @return The row labels, lined up with the board.
      */
-    private JPanel createRowLabels() {
-        JPanel panel = new JPanel(new GridLayout(10, 1));
-        for (int i = 1; i <= 10; i++) {
-            JLabel label = new JLabel(String.valueOf(i), SwingConstants.CENTER);
-            label.setFont(new Font("Roboto", Font.BOLD, 20));
-            label.setForeground(Color.WHITE);
-            label.setBackground(Color.darkGray);
-            label.setOpaque(true);
-            panel.add(label);
-        }
-        return panel;
+    private JComponent createRowLabels() {
+        return BoardLabels.rows(board.getBoardSize());
     }
 
     /**
@@ -220,9 +190,7 @@ public class SinglePlacementView extends JPanel {
         shipListPanel.setLayout(new BoxLayout(shipListPanel, BoxLayout.Y_AXIS));
         shipListPanel.setBackground(Color.darkGray);
 
-        String[] shipNames = { "Schlachtschiff", "Kreuzer", "Zerstörer", "U-Boot" };
-        int[] shipCounts = { 1, 2, 3, 4 };
-        shipCountLabels = new JLabel[shipNames.length];
+        shipCountLabels = new JLabel[ShipRegistry.TYPE_COUNT];
 
         JLabel titleLabel = new JLabel("Noch zu verteilende Schiffe:");
         titleLabel.setFont(new Font("Roboto", Font.BOLD, 20));
@@ -231,8 +199,8 @@ public class SinglePlacementView extends JPanel {
 
         shipListPanel.add(Box.createRigidArea(new Dimension(0, 10)));
 
-        for (int i = 0; i < shipNames.length; i++) {
-            createShipCountLabel(shipNames[i], shipCounts[i], shipListPanel);
+        for (int i = 0; i < ShipRegistry.TYPE_COUNT; i++) {
+            createShipCountLabel(i, ShipRegistry.getName(i), shipPlacementManager.getShipLimit(i), shipListPanel);
         }
 
         return shipListPanel;
@@ -241,11 +209,12 @@ public class SinglePlacementView extends JPanel {
     /**
      * Creates and adds a label for a ship type and its count.
      * 
+     * @param index         The index of the ship type in the ship list.
      * @param shipName      The name of the ship type.
      * @param shipCount     The initial count of the ship type.
      * @param shipListPanel The panel to add the label to.
      */
-    private void createShipCountLabel(String shipName, int shipCount, JPanel shipListPanel) {
+    private void createShipCountLabel(int index, String shipName, int shipCount, JPanel shipListPanel) {
         JPanel shipPanel = new JPanel(new BorderLayout());
         shipPanel.setBackground(Color.darkGray);
 
@@ -253,7 +222,6 @@ public class SinglePlacementView extends JPanel {
         nameLabel.setFont(new Font("Roboto", Font.BOLD, 16));
         nameLabel.setForeground(Color.WHITE);
 
-        int index = shipCount - 1;
         shipCountLabels[index] = new JLabel("x" + shipCount);
         shipCountLabels[index].setFont(new Font("Roboto", Font.BOLD, 16));
         shipCountLabels[index].setForeground(Color.WHITE);
@@ -268,137 +236,104 @@ public class SinglePlacementView extends JPanel {
     /**
      * Updates the displayed count of a ship type.
      * 
-     * @param shipName The name of the ship type to update.
+     * @param shipType The index of the ship type to update.
      * @param delta    The amount to change the count by.
      */
-    private void updateShipCount(String shipName, int delta) {
-        String[] shipNames = { "Schlachtschiff", "Kreuzer", "Zerstörer", "U-Boot" };
-        for (int i = 0; i < shipNames.length; i++) {
-            if (shipNames[i].equals(shipName)) {
-                int currentCount = Integer.parseInt(shipCountLabels[i].getText().substring(1));
-                shipCountLabels[i].setText("x" + (currentCount + delta));
-                break;
-            }
-        }
+    private void updateShipCount(int shipType, int delta) {
+        int currentCount = Integer.parseInt(shipCountLabels[shipType].getText().substring(1));
+        shipCountLabels[shipType].setText("x" + (currentCount + delta));
     }
 
     /**
-     * @class GridCellClickListener
-     *        Listener for grid cell clicks, handling ship placement/removal.
-     *        Extends {@link MouseAdapter} for mouse click events.
+     * Handles a grid cell click, either placing or removing a ship.
+     * 
+     * @param row The row of the clicked cell.
+     * @param col The column of the clicked cell.
      */
-    private class GridCellClickListener extends MouseAdapter {
-        private final int row;
-        private final int col;
-
-        /**
-         * Constructor for GridCellClickListener.
-         *
-         * @param row The row of the grid cell.
-         * @param col The column of the grid cell.
-         */
-        public GridCellClickListener(int row, int col) {
-            this.row = row;
-            this.col = col;
+    private void handleGridCellClick(int row, int col) {
+        IShip existingShip = shipPlacementManager.getShipAt(row, col);
+        if (existingShip != null) {
+            handleExistingShipClick(row, col, existingShip);
+            return;
         }
 
-        /**
-         * Handles mouse click events on grid cells.
-         *
-         * @param e The mouse event.
-         */
-        @Override
-        public void mouseClicked(MouseEvent e) {
-            handleGridCellClick();
-        }
-
-        /**
-         * Handles a grid cell click, either placing or removing a ship.
-         */
-        private void handleGridCellClick() {
-            IShip existingShip = shipPlacementManager.getShipAt(row, col);
-            if (existingShip != null) {
-                handleExistingShipClick(existingShip);
-                return;
-            }
-
-            showShipPlacementDialog();
-        }
+        showShipPlacementDialog(row, col);
+    }
 
-        /**
-         * Handles click on a cell with an existing ship, prompting for removal.
-         * 
-         * @param existingShip The ship currently at the clicked cell.
-         */
-        private void handleExistingShipClick(IShip existingShip) {
-            int confirm = JOptionPane.showConfirmDialog(SinglePlacementView.this,
-                    "An dieser Stelle befindet sich bereits ein Schiff. Möchtest du es löschen?",
-                    "Schiff löschen", JOptionPane.YES_NO_OPTION);
-            if (confirm == JOptionPane.YES_OPTION) {
-                shipPlacementManager.removeShip(row, col, existingShip, gridCells);
-                gridCells[row][col].setBackground(null);
-                updateShipCount(existingShip.getShipName(), 1);
-            }
+    /**
+     * Handles click on a cell with an existing ship, prompting for removal.
+     * 
+     * @param row          The row of the clicked cell.
+     * @param col          The column of the clicked cell.
+     * @param existingShip The ship currently at the clicked cell.
+     */
+    private void handleExistingShipClick(int row, int col, IShip existingShip) {
+        int confirm = JOptionPane.showConfirmDialog(this,
+                "An dieser Stelle befindet sich bereits ein Schiff. Möchtest du es löschen?",
+                "Schiff löschen", JOptionPane.YES_NO_OPTION);
+        if (confirm == JOptionPane.YES_OPTION) {
+            shipPlacementManager.removeShip(row, col, existingShip, board);
+            updateShipCount(ShipRegistry.indexOf(existingShip), 1);
         }
+    }
 
-        /**
-         * Displays a dialog to choose ship type and orientation for placement.
-         */
-        private void showShipPlacementDialog() {
-            JPanel panel = new JPanel(new GridLayout(2, 2));
-            JLabel sizeLabel = new JLabel("Wähle ein Schiff aus:");
-            String[] shipOptions = { "Schlachtschiff", "Kreuzer", "Zerstörer", "U-Boot" };
-            JComboBox<String> sizeComboBox = new JComboBox<>(shipOptions);
-            JLabel orientationLabel = new JLabel("Ausrichtung auswählen:");
-            String[] orientationOptions = { "Horizontal", "Vertikal" };
-            JComboBox<String> orientationComboBox = new JComboBox<>(orientationOptions);
-
-            panel.add(sizeLabel);
-            panel.add(sizeComboBox);
-            panel.add(orientationLabel);
-            panel.add(orientationComboBox);
-
-            int result = JOptionPane.showConfirmDialog(SinglePlacementView.this, panel, "Schiff platzieren",
-                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
-
-            if (result == JOptionPane.OK_OPTION) {
-                handleShipPlacement(sizeComboBox, orientationComboBox);
-            }
+    /**
+     * Displays a dialog to choose ship type and orientation for placement.
+     * 
+     * @param row The row of the clicked cell.
+     * @param col The column of the clicked cell.
+     */
+    private void showShipPlacementDialog(int row, int col) {
+        JPanel panel = new JPanel(new GridLayout(2, 2));
+        JLabel sizeLabel = new JLabel("Wähle ein Schiff aus:");
+        JComboBox<String> sizeComboBox = new JComboBox<>(ShipRegistry.getNames());
+        JLabel orientationLabel = new JLabel("Ausrichtung auswählen:");
+        String[] orientationOptions = { "Horizontal", "Vertikal" };
+        JComboBox<String> orientationComboBox = new JComboBox<>(orientationOptions);
+
+        panel.add(sizeLabel);
+        panel.add(sizeComboBox);
+        panel.add(orientationLabel);
+        panel.add(orientationComboBox);
+
+        int result = JOptionPane.showConfirmDialog(this, panel, "Schiff platzieren",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+
+        if (result == JOptionPane.OK_OPTION) {
+            handleShipPlacement(row, col, sizeComboBox, orientationComboBox);
         }
+    }
 
-        /**
-         * Handles the ship placement logic based on dialog selections.
-         * 
-         * @param sizeComboBox        The combo box for selecting ship type.
-         * @param orientationComboBox The combo box for selecting orientation.
-         */
-        private void handleShipPlacement(JComboBox<String> sizeComboBox, JComboBox<String> orientationComboBox) {
-            String selectedShip = (String) sizeComboBox.getSelectedItem();
-            int shipSize = shipPlacementManager.getShipSize(selectedShip);
-            boolean isHorizontal = orientationComboBox.getSelectedItem().equals("Horizontal");
-
-            if (shipPlacementManager.canPlaceShip(selectedShip)) {
-                try {
-                    shipPlacementManager.placeShip(row, col, shipSize, isHorizontal, selectedShip, gridCells);
-                    updateShipCount(selectedShip, -1);
-                } catch (IllegalArgumentException ex) {
-                    JOptionPane.showMessageDialog(SinglePlacementView.this, ex.getMessage());
-                }
-            } else {
-                JOptionPane.showMessageDialog(SinglePlacementView.this,
-                        "Du hast bereits das Maximum dieses Typs platziert.");
+    /**
+     * Handles the ship placement logic based on dialog selections.
+     * 
+     * @param row                 The row of the clicked cell.
+     * @param col                 The column of the clicked cell.
+     * @param sizeComboBox        The combo box for selecting ship type.
+     * @param orientationComboBox The combo box for selecting orientation.
+     */
+    private void handleShipPlacement(int row, int col, JComboBox<String> sizeComboBox,
+            JComboBox<String> orientationComboBox) {
+        int selectedShip = sizeComboBox.getSelectedIndex();
+        boolean isHorizontal = orientationComboBox.getSelectedItem().equals("Horizontal");
+
+        if (shipPlacementManager.canPlaceShip(selectedShip)) {
+            try {
+                shipPlacementManager.placeShip(row, col, isHorizontal, selectedShip, board);
+                updateShipCount(selectedShip, -1);
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(this, ex.getMessage());
             }
+        } else {
+            JOptionPane.showMessageDialog(this,
+                    "Du hast bereits das Maximum dieses Typs platziert.");
         }
     }
 
     /**
-     * Clears the grid by resetting the background color of all cells.
+     * Clears the grid, removing the ships from all cells.
      */
     public void clearGrid() {
-        for (int i = 0; i < 10; i++) {
-            for (int j = 0; j < 10; j++) {
-                gridCells[i][j].setBackground(null);
-            }
-        }
+        board.clear();
     }
 }